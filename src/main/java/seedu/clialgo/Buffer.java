@@ -1,6 +1,7 @@
 package seedu.clialgo;
 
 import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.storage.WorkspaceManifest;
 
 import java.awt.Desktop;
 import java.io.File;
@@ -10,6 +11,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.HashSet;
 
 /**
  * The <code>Buffer</code> contains the <code>CS2040CFiles</code> that are returned after <code>FilterCommand</code>
@@ -87,16 +89,41 @@ public class Buffer {
         }
     }
 
+    /**
+     * Deletes the files in <code>.\\export</code> which are not copies of the <code>CS2040CFiles</code> objects
+     * stored in this object.
+     */
+    private void deleteStaleFiles() {
+        HashSet<String> exportedNames = new HashSet<>();
+        for (CS2040CFile file : this.files) {
+            exportedNames.add(new File(file.getPath()).getName());
+        }
+        try {
+            File[] exportedFiles = pathToBuffer.listFiles();
+            if (exportedFiles == null) {
+                return;
+            }
+            for (File exportedFile : exportedFiles) {
+                if (!exportedNames.contains(exportedFile.getName()) && !exportedFile.delete()) {
+                    ui.printFileDeleteFail();
+                }
+            }
+        } catch (SecurityException e) {
+            ui.printSecurityDenied();
+        }
+    }
+
     /**
      * This function is called whenever <code>FilterCommand</code> or it's derivatives or <code>TopoCommand</code>
      * is executed. The <code>CS2040CFiles</code> objects that are returned in those <code>Commands</code> replaces the
-     * <code>CS2040CFiles</code> objects previously stored in this object.
+     * <code>CS2040CFiles</code> objects previously stored in this object. The files already in
+     * <code>.\\export</code> are kept until the next export, so that the copies which are still up to date do not
+     * have to be made again.
      *
      * @param filteredFiles The new <code>CS2040CFiles</code> objects to be stored in this object.
      */
     public void updateBuffer(ArrayList<CS2040CFile> filteredFiles) {
         this.files.clear();
-        deleteFiles();
         this.files.addAll(filteredFiles);
     }
 
@@ -105,12 +132,29 @@ public class Buffer {
      * if the copy fails.
      */
     public void addFilesToBuffer() {
+        addFilesToBuffer(null);
+    }
+
+    /**
+     * Copies the <code>CS2040CFiles</code> objects to the <code>.\\export</code> folder with their last modified
+     * time, skipping those whose copy is still up to date according to <code>manifest</code>. Prints an error
+     * message if the copy fails.
+     *
+     * @param manifest The <code>WorkspaceManifest</code> of the referenced files, or null to copy every file.
+     */
+    private void addFilesToBuffer(WorkspaceManifest manifest) {
         String fileDivider = "/";
         for (CS2040CFile file: this.files) {
             Path source = Paths.get(CURRENT_DIRECTORY_PATH + file.getPath());
             Path target = Paths.get(this.pathToBuffer + fileDivider + file.getPath());
             try {
-                Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+                if (manifest != null && manifest.isCopyUpToDate(file.getPath(), target.toFile())) {
+                    continue;
+                }
+                Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+                if (manifest != null) {
+                    manifest.refresh(file.getPath());
+                }
             } catch (IOException e) {
                 ui.printFileMissing();
             } catch (SecurityException e) {
@@ -125,8 +169,25 @@ public class Buffer {
      * is then opened if a file explorer application is available to use.
      */
     public void exportBuffer() {
-        deleteFiles();
-        addFilesToBuffer();
+        exportBuffer(null);
+    }
+
+    /**
+     * Deletes the files in <code>.\\export</code> which are no longer stored in this object, then copies the
+     * <code>CS2040CFiles</code> objects stored in this object whose copy is not up to date according to
+     * <code>manifest</code> into <code>.\\export</code>. <code>.\\export</code> is then opened if a file
+     * explorer application is available to use.
+     *
+     * @param manifest The <code>WorkspaceManifest</code> of the referenced files, or null to delete and copy every
+     *                 file again.
+     */
+    public void exportBuffer(WorkspaceManifest manifest) {
+        if (manifest == null) {
+            deleteFiles();
+        } else {
+            deleteStaleFiles();
+        }
+        addFilesToBuffer(manifest);
         Desktop desktop = Desktop.getDesktop();
         try {
             desktop.open(this.pathToBuffer);
@@ -2,7 +2,18 @@ package seedu.clialgo;
 
 import seedu.clialgo.command.Command;
 import seedu.clialgo.logic.TopicManager;
+import seedu.clialgo.storage.BPlusTreeIndex;
+import seedu.clialgo.storage.DurabilityPolicy;
 import seedu.clialgo.storage.FileManager;
+import seedu.clialgo.storage.MaintenanceScheduler;
+import seedu.clialgo.storage.PersistenceWorker;
+import seedu.clialgo.storage.Snapshot;
+import seedu.clialgo.storage.StorageBackend;
+import seedu.clialgo.storage.WorkingDirectoryWatcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 //@@author heejet
 /**
@@ -14,6 +25,9 @@ public class CLIAlgo {
     /** The path of the folder used to store information in CLIAlgo. */
     private static final String DATA_PATH = "./data";
 
+    /** The launch option used to print the time taken to load each topic. */
+    private static final String TIMING_OPTION = "--timing";
+
     /** An object to handle the user interaction. */
     private final Ui ui;
 
@@ -29,32 +43,193 @@ public class CLIAlgo {
     /** An object to store files that the user wants to export */
     private final Buffer buffer;
 
-    public CLIAlgo() {
+    /**
+     * Constructor for the <code>CLIAlgo</code> object, which stores its data with the <code>StorageBackend</code>
+     * chosen in the launch options.
+     *
+     * @param options The launch options.
+     */
+    public CLIAlgo(List<String> options) {
         ui = new Ui();
+        ui.printWelcomeMessage();
         topicManager = new TopicManager();
-        fileManager = new FileManager(DATA_PATH, topicManager.getTopicNames());
+        fileManager = new FileManager(DATA_PATH, topicManager.getTopicNames(), getStorageBackend(options));
         parser = new Parser();
         buffer = Buffer.getInstance();
-        ui.printWelcomeMessage();
+        // Makes sure every change is written to the data files even if CLIAlgo is closed without the exit command
+        Runtime.getRuntime().addShutdownHook(new Thread(fileManager::close));
+    }
+
+    /**
+     * Gets the <code>StorageBackend</code> chosen with the storage launch option. Data is stored in binary data
+     * files by default.
+     *
+     * @param options The launch options.
+     * @return The <code>StorageBackend</code> to use.
+     */
+    private StorageBackend getStorageBackend(List<String> options) {
+        StorageBackend backend = StorageBackend.BINARY;
+        for (String option : options) {
+            if (!option.startsWith(StorageBackend.OPTION_PREFIX)) {
+                continue;
+            }
+            String value = option.substring(StorageBackend.OPTION_PREFIX.length());
+            StorageBackend parsedBackend = StorageBackend.parse(value);
+            if (parsedBackend == null) {
+                ui.printInvalidStorageBackend(value);
+            } else {
+                backend = parsedBackend;
+            }
+        }
+        return backend;
+    }
+
+    /**
+     * Loads the data stored within CLIAlgo. Each topic is only read from its data file when it is first needed.
+     * The .txt and .cpp files in the workspace manifest are checked, reading only those which have changed.
+     *
+     * @param isLoadTimeShown Whether the time taken to load each topic is printed.
+     */
+    private void initialize(boolean isLoadTimeShown) {
+        fileManager.initializeLazily();
+        topicManager.initialize(fileManager, fileManager.getNameIndex());
+        fileManager.loadWorkspaceManifest();
+        if (isLoadTimeShown) {
+            ui.printLoadTimes(fileManager.getLoadTimes());
+        }
+    }
+
+    /**
+     * Sets when changes are committed to the data files, using the durability launch options given. Changes are
+     * committed after every command by default.
+     *
+     * @param options The launch options.
+     */
+    private void setDurabilityPolicy(List<String> options) {
+        boolean isSynced = options.contains(DurabilityPolicy.SYNC_OPTION);
+        DurabilityPolicy durabilityPolicy = DurabilityPolicy.everyCommand(isSynced);
+        for (String option : options) {
+            if (!option.startsWith(DurabilityPolicy.OPTION_PREFIX)) {
+                continue;
+            }
+            String value = option.substring(DurabilityPolicy.OPTION_PREFIX.length());
+            DurabilityPolicy parsedPolicy = DurabilityPolicy.parse(value, isSynced);
+            if (parsedPolicy == null) {
+                ui.printInvalidDurabilityPolicy(value);
+            } else {
+                durabilityPolicy = parsedPolicy;
+            }
+        }
+        fileManager.setDurabilityPolicy(durabilityPolicy);
+    }
+
+    /**
+     * Keeps the index of all <code>CS2040CFile</code> names on the disk if the name index cache launch option is
+     * given, with a page cache of the given number of KiB. The name index is kept on the heap otherwise.
+     *
+     * @param options The launch options.
+     */
+    private void setNameIndexCache(List<String> options) {
+        for (String option : options) {
+            if (!option.startsWith(BPlusTreeIndex.OPTION_PREFIX)) {
+                continue;
+            }
+            String value = option.substring(BPlusTreeIndex.OPTION_PREFIX.length());
+            try {
+                long cacheKibibytes = Long.parseLong(value);
+                if (cacheKibibytes <= 0 || cacheKibibytes > Long.MAX_VALUE / 1024) {
+                    throw new NumberFormatException();
+                }
+                fileManager.useDiskNameIndex(cacheKibibytes * 1024);
+            } catch (NumberFormatException e) {
+                ui.printInvalidNameIndexCache(value);
+            }
+        }
+    }
+
+    /**
+     * Compacts and verifies the stored data in the background, once every number of seconds given with the
+     * maintenance interval launch option. The background maintenance is off if the option is not given or the
+     * interval is 0.
+     *
+     * @param options The launch options.
+     */
+    private void startMaintenance(List<String> options) {
+        long intervalSeconds = 0;
+        for (String option : options) {
+            if (!option.startsWith(MaintenanceScheduler.OPTION_PREFIX)) {
+                continue;
+            }
+            String value = option.substring(MaintenanceScheduler.OPTION_PREFIX.length());
+            try {
+                long parsedSeconds = Long.parseLong(value);
+                if (parsedSeconds < 0 || parsedSeconds > Long.MAX_VALUE / 1000) {
+                    throw new NumberFormatException();
+                }
+                intervalSeconds = parsedSeconds;
+            } catch (NumberFormatException e) {
+                ui.printInvalidMaintenanceInterval(value);
+            }
+        }
+        if (intervalSeconds > 0) {
+            fileManager.startMaintenance(intervalSeconds * 1000);
+        }
     }
 
-    private void initialize() {
-        fileManager.initialize();
-        topicManager.initialize(fileManager.decodeAll());
+    /**
+     * Watches the working directory for .txt and .cpp files being created or deleted if the watch launch option is
+     * given.
+     *
+     * @param options The launch options.
+     */
+    private void startWatching(List<String> options) {
+        if (options.contains(WorkingDirectoryWatcher.OPTION) && !fileManager.startWatching()) {
+            ui.printWatchUnavailable();
+        }
     }
 
-    /** Continuously reads in the user input until the exit command is executed */
+    /**
+     * Continuously reads in the user input until the exit command is executed. The background maintenance pauses
+     * while each command is parsed and run, but not while waiting for the user input. If the working directory is
+     * watched, the changes to it are applied before each command is parsed, and new files are offered to be added
+     * after it runs.
+     */
     private void run() {
         while (true) {
             String fullCommand = ui.getUserInput();
-            Command command = parser.parse(fullCommand, topicManager);
-            command.execute(topicManager, ui, fileManager, buffer);
+            fileManager.beginCommand();
+            try {
+                fileManager.applyWorkingDirectoryChanges(topicManager);
+                Command command = parser.parse(fullCommand, topicManager);
+                command.execute(topicManager, ui, fileManager, buffer);
+                ArrayList<String> newFiles = fileManager.takeNewWorkingDirectoryFiles(topicManager);
+                if (!newFiles.isEmpty()) {
+                    ui.printNewFilesFound(newFiles);
+                }
+            } finally {
+                fileManager.endCommand();
+            }
         }
     }
 
     public static void main(String[] args) {
-        CLIAlgo cliAlgo = new CLIAlgo();
-        cliAlgo.initialize();
+        List<String> options = Arrays.asList(args);
+        CLIAlgo cliAlgo = new CLIAlgo(options);
+        boolean isLoadTimeShown = options.contains(TIMING_OPTION);
+        cliAlgo.setDurabilityPolicy(options);
+        cliAlgo.setNameIndexCache(options);
+        if (options.contains(PersistenceWorker.OPTION)) {
+            cliAlgo.fileManager.startWriteBehind();
+        }
+        if (options.contains(FileManager.PERSIST_TEST_MODE_OPTION)) {
+            cliAlgo.fileManager.persistTestMode();
+        }
+        if (options.contains(Snapshot.OPTION)) {
+            cliAlgo.fileManager.enableSnapshot();
+        }
+        cliAlgo.initialize(isLoadTimeShown);
+        cliAlgo.startMaintenance(options);
+        cliAlgo.startWatching(options);
         cliAlgo.run();
     }
 }
@@ -6,17 +6,24 @@ import seedu.clialgo.command.ExitCommand;
 import seedu.clialgo.command.ExitTestModeCommand;
 import seedu.clialgo.command.ExportCommand;
 import seedu.clialgo.command.FilterCommand;
+import seedu.clialgo.command.FindCommand;
 import seedu.clialgo.command.HelpCommand;
 import seedu.clialgo.command.InvalidCommand;
 import seedu.clialgo.command.InvalidTopicCommand;
 import seedu.clialgo.command.InvalidImportanceCommand;
 import seedu.clialgo.command.InvalidFilterCommand;
 import seedu.clialgo.command.ListCommand;
+import seedu.clialgo.command.MoveCommand;
 import seedu.clialgo.command.RemoveCommand;
+import seedu.clialgo.command.RescanCommand;
+import seedu.clialgo.command.SearchCommand;
+import seedu.clialgo.command.StatusCommand;
 import seedu.clialgo.command.TestModeCommand;
 import seedu.clialgo.command.TopoCommand;
+import seedu.clialgo.command.UpdateCommand;
 import seedu.clialgo.exceptions.parser.EmptyFieldException;
 import seedu.clialgo.exceptions.parser.NullInputException;
+import seedu.clialgo.file.CS2040CFile;
 import seedu.clialgo.logic.TopicManager;
 
 import java.util.ArrayList;
@@ -34,12 +41,18 @@ public class Parser implements StringManipulation {
     public static final String TOPIC_MARKER = "t/";
     public static final String KEYWORD_MARKER = "k/";
     public static final String IMPORTANCE_MARKER = "i/";
+    //@@author
+    public static final String TOP_MARKER = "top/";
+    public static final String RANGE_SEPARATOR = "-";
+    public static final String QUERY_MARKER = "q/";
+    //@@author heejet
     public static final String WHITE_SPACE = " ";
 
     /** List of valid commands */
     private static final ArrayList<String> COMMANDS = new ArrayList<>(
             Arrays.asList("help", "add", "remove", "filter", "exit", "list", "start-test-mode", "exit-test-mode",
-                    "export", "topo")
+                    "export", "topo", "fork-test-mode", "update", "move", "status", "rescan", "find",
+                    "search")
     );
 
     /** List of valid keywords */
@@ -47,6 +60,12 @@ public class Parser implements StringManipulation {
             Arrays.asList("topic", "importance")
     );
 
+    //@@author
+    /** The only keyword which can be filtered with an importance range and a limit */
+    private static final String IMPORTANCE_KEYWORD = "importance";
+
+    //@@author heejet
+
     /**
      * Checks if the input string is a valid command.
      *
@@ -208,6 +227,71 @@ public class Parser implements StringManipulation {
         return new RemoveCommand(cs2040cFileName);
     }
 
+    //@@author
+    /**
+     * Returns an <code>UpdateCommand</code> object that changes the importance of a CS2040CFile when executed.
+     * Returns <code>InvalidImportanceCommand</code> when the importance is not in the valid range.
+     * Returns <code>InvalidCommand</code> when the user does not follow the input format in the user guide.
+     *
+     * @param description String containing the name of the CS2040CFile and its new importance.
+     * @return a Command object that changes the importance of a CS2040CFile when executed.
+     */
+    private Command prepareUpdateCommand(String description) {
+        if (description == null) {
+            return new InvalidCommand();
+        }
+        String cs2040cFileName;
+        String importanceField = "";
+        try {
+            String cs2040cFileNameWithNameMarker = StringManipulation.getFirstWord(description, IMPORTANCE_MARKER);
+            importanceField = StringManipulation.removeFirstWord(description, IMPORTANCE_MARKER);
+            if (importanceField == null || !isCorrectMarker(cs2040cFileNameWithNameMarker, NAME_MARKER)) {
+                return new InvalidCommand();
+            }
+            cs2040cFileName = StringManipulation.removeMarker(cs2040cFileNameWithNameMarker, NAME_MARKER);
+            if (!isValidImportance(importanceField)) {
+                return new InvalidImportanceCommand(importanceField);
+            }
+        } catch (NullInputException | EmptyFieldException | IndexOutOfBoundsException e) {
+            return new InvalidCommand();
+        } catch (NumberFormatException e) {
+            return new InvalidImportanceCommand(importanceField);
+        }
+        return new UpdateCommand(cs2040cFileName, Integer.parseInt(importanceField));
+    }
+
+    /**
+     * Returns a <code>MoveCommand</code> object that tags a CS2040CFile to a different topic when executed.
+     * Returns <code>InvalidTopicCommand</code> when the topic is not a valid topic.
+     * Returns <code>InvalidCommand</code> when the user does not follow the input format in the user guide.
+     *
+     * @param description String containing the name of the CS2040CFile and its new topic.
+     * @param topics The topic manager class containing all topics in CLIAlgo.
+     * @return a Command object that tags a CS2040CFile to a different topic when executed.
+     */
+    private Command prepareMoveCommand(String description, TopicManager topics) {
+        if (description == null) {
+            return new InvalidCommand();
+        }
+        String cs2040cFileName;
+        String topicName;
+        try {
+            String cs2040cFileNameWithNameMarker = StringManipulation.getFirstWord(description, TOPIC_MARKER);
+            topicName = StringManipulation.removeFirstWord(description, TOPIC_MARKER);
+            if (topicName == null || !isCorrectMarker(cs2040cFileNameWithNameMarker, NAME_MARKER)) {
+                return new InvalidCommand();
+            }
+            if (!topics.isValidTopic(topicName)) {
+                return new InvalidTopicCommand(topicName);
+            }
+            cs2040cFileName = StringManipulation.removeMarker(cs2040cFileNameWithNameMarker, NAME_MARKER);
+        } catch (NullInputException | EmptyFieldException | IndexOutOfBoundsException e) {
+            return new InvalidCommand();
+        }
+        return new MoveCommand(cs2040cFileName, topicName);
+    }
+
+    //@@author heejet
     /**
      * Returns a <code>FilterCommand</code> object that lists CS2040CFiles according a certain criteria.
      * Returns <code>InvalidCommand</code> when the user does not follow the input format in the user guide.
@@ -222,9 +306,20 @@ public class Parser implements StringManipulation {
         }
         String keyWord;
         String topicName;
+        //@@author
+        String rangeField;
+        String limitField;
+        //@@author heejet
         try {
-            String fullKeyWord = StringManipulation.getFirstWord(description, TOPIC_MARKER);
-            topicName = StringManipulation.removeFirstWord(description, TOPIC_MARKER);
+            //@@author
+            String descriptionWithoutLimit = StringManipulation.getFirstWord(description, TOP_MARKER);
+            limitField = StringManipulation.removeFirstWord(description, TOP_MARKER);
+            String descriptionWithoutOptions = StringManipulation.getFirstWord(descriptionWithoutLimit,
+                    IMPORTANCE_MARKER);
+            rangeField = StringManipulation.removeFirstWord(descriptionWithoutLimit, IMPORTANCE_MARKER);
+            //@@author heejet
+            String fullKeyWord = StringManipulation.getFirstWord(descriptionWithoutOptions, TOPIC_MARKER);
+            topicName = StringManipulation.removeFirstWord(descriptionWithoutOptions, TOPIC_MARKER);
             if (fullKeyWord.equals("") || !isCorrectMarker(fullKeyWord, KEYWORD_MARKER)) {
                 return new InvalidCommand();
             }
@@ -240,9 +335,66 @@ public class Parser implements StringManipulation {
         } catch (NullInputException | EmptyFieldException e) {
             return new InvalidCommand();
         }
+        //@@author
+        if (rangeField != null || limitField != null) {
+            return prepareFilterByImportanceCommand(keyWord, topicName, rangeField, limitField);
+        }
+        //@@author heejet
         return new FilterCommand(keyWord, topicName);
     }
 
+    //@@author
+    /**
+     * Returns a <code>FilterCommand</code> object that lists the most important CS2040CFiles in an importance range.
+     * Returns <code>InvalidImportanceCommand</code> when the range is not a valid importance or a valid range of
+     * importance, such as `8` or `8-10`.
+     * Returns <code>InvalidCommand</code> when the keyword is not `importance` or the limit is not a positive integer.
+     *
+     * @param keyWord The keyword to filter by.
+     * @param topicName The topic to filter, or null for every topic.
+     * @param rangeField String containing the importance range, or null for every importance.
+     * @param limitField String containing the maximum number of CS2040CFiles to list, or null for no limit.
+     * @return a Command object that lists the most important CS2040CFiles in an importance range.
+     */
+    private Command prepareFilterByImportanceCommand(String keyWord, String topicName, String rangeField,
+            String limitField) {
+        if (!keyWord.equals(IMPORTANCE_KEYWORD)) {
+            return new InvalidCommand();
+        }
+        int minImportance = CS2040CFile.MIN_IMPORTANCE;
+        int maxImportance = CS2040CFile.MAX_IMPORTANCE;
+        int limit = Integer.MAX_VALUE;
+        try {
+            if (rangeField != null) {
+                String[] bounds = rangeField.split(RANGE_SEPARATOR, -1);
+                String lowerBound = bounds[0].trim();
+                String upperBound = bounds[bounds.length - 1].trim();
+                if (bounds.length > 2 || !isValidImportance(lowerBound) || !isValidImportance(upperBound)) {
+                    return new InvalidImportanceCommand(rangeField);
+                }
+                minImportance = Integer.parseInt(lowerBound);
+                maxImportance = Integer.parseInt(upperBound);
+                if (minImportance > maxImportance) {
+                    return new InvalidImportanceCommand(rangeField);
+                }
+            }
+        } catch (NumberFormatException e) {
+            return new InvalidImportanceCommand(rangeField);
+        }
+        try {
+            if (limitField != null) {
+                limit = Integer.parseInt(limitField);
+            }
+        } catch (NumberFormatException e) {
+            return new InvalidCommand();
+        }
+        if (limit <= 0) {
+            return new InvalidCommand();
+        }
+        return new FilterCommand(keyWord, topicName, minImportance, maxImportance, limit);
+    }
+    //@@author heejet
+
     /**
      * @return A <code>Command</code> object that list out the CS2040CFiles stored in CLIAlgo.
      */
@@ -253,6 +405,78 @@ public class Parser implements StringManipulation {
         return new ListCommand();
     }
 
+    //@@author
+    /**
+     * @return A <code>Command</code> object that shows what the background maintenance has found.
+     */
+    private Command prepareStatusCommand(String description) {
+        if (description != null) {
+            return new InvalidCommand();
+        }
+        return new StatusCommand();
+    }
+
+    /**
+     * @return A <code>Command</code> object that checks which referenced .txt and .cpp files have changed.
+     */
+    private Command prepareRescanCommand(String description) {
+        if (description != null) {
+            return new InvalidCommand();
+        }
+        return new RescanCommand();
+    }
+
+    /**
+     * Returns a <code>FindCommand</code> object that lists the CS2040CFiles whose name starts with a prefix.
+     * Returns <code>InvalidCommand</code> when the user does not follow the input format in the user guide.
+     *
+     * @param description String containing the prefix of the names.
+     * @return a Command object that lists the CS2040CFiles whose name starts with a prefix.
+     */
+    private Command prepareFindCommand(String description) {
+        if (description == null) {
+            return new InvalidCommand();
+        }
+        String prefix;
+        try {
+            if (!isCorrectMarker(description, NAME_MARKER)) {
+                return new InvalidCommand();
+            }
+            prefix = StringManipulation.removeMarker(description, NAME_MARKER);
+        } catch (NullInputException | EmptyFieldException | IndexOutOfBoundsException e) {
+            return new InvalidCommand();
+        }
+        return new FindCommand(prefix);
+    }
+
+    /**
+     * Returns a <code>SearchCommand</code> object that lists the CS2040CFiles whose file contains the words and
+     * phrases of a query. Returns <code>InvalidCommand</code> when the user does not follow the input format in the
+     * user guide.
+     *
+     * @param description String containing the query.
+     * @return a Command object that lists the CS2040CFiles whose file matches a query.
+     */
+    private Command prepareSearchCommand(String description) {
+        if (description == null) {
+            return new InvalidCommand();
+        }
+        String query;
+        try {
+            if (!isCorrectMarker(description, QUERY_MARKER)) {
+                return new InvalidCommand();
+            }
+            query = StringManipulation.removeMarker(description, QUERY_MARKER);
+        } catch (NullInputException | EmptyFieldException | IndexOutOfBoundsException e) {
+            return new InvalidCommand();
+        }
+        if (query.isEmpty()) {
+            return new InvalidCommand();
+        }
+        return new SearchCommand(query);
+    }
+
+    //@@author heejet
     /**
      * @return A <code>Command</code> object that exits CLIAlgo.
      */
@@ -270,6 +494,13 @@ public class Parser implements StringManipulation {
         return new TestModeCommand();
     }
 
+    /**
+     * @return A <code>Command</code> object that starts test mode with a copy of the data outside of test mode.
+     */
+    private Command prepareForkTestModeCommand() {
+        return new TestModeCommand(true);
+    }
+
     /**
      * @return A <code>Command</code> object that ends test mode.
      */
@@ -329,6 +560,10 @@ public class Parser implements StringManipulation {
             return prepareAddCommand(description, topics);
         case "remove":
             return prepareRemoveCommand(description);
+        case "update":
+            return prepareUpdateCommand(description);
+        case "move":
+            return prepareMoveCommand(description, topics);
         case "filter":
             return prepareFilterCommand(description, topics);
         case "list":
@@ -337,10 +572,20 @@ public class Parser implements StringManipulation {
             return prepareTestModeCommand();
         case "exit-test-mode":
             return prepareExitTestModeCommand();
+        case "fork-test-mode":
+            return prepareForkTestModeCommand();
         case "export":
             return prepareExport(description);
         case "topo":
             return prepareTopoCommand(description);
+        case "status":
+            return prepareStatusCommand(description);
+        case "rescan":
+            return prepareRescanCommand(description);
+        case "find":
+            return prepareFindCommand(description);
+        case "search":
+            return prepareSearchCommand(description);
         default:
             return prepareExitCommand(description);
         }
@@ -2,8 +2,13 @@ package seedu.clialgo;
 
 import seedu.clialgo.file.CS2040CFile;
 import seedu.clialgo.file.Code;
+import seedu.clialgo.storage.MaintenanceReport;
+import seedu.clialgo.storage.WorkspaceManifest;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Scanner;
 
@@ -78,10 +83,16 @@ public class Ui {
         System.out.println();
         System.out.println("[add]: add CS2040CFile");
         System.out.println("[remove]: remove CS2040CFile");
+        System.out.println("[update]: change the importance of a CS2040CFile");
+        System.out.println("[move]: tag a CS2040CFile to another topic");
         System.out.println("[list]: displays all CS2040CFiles");
+        System.out.println("[find]: finds CS2040CFiles by the start of their name");
+        System.out.println("[search]: finds CS2040CFiles by the contents of their .txt/.cpp file");
         System.out.println("[filter]: filters CS2040CFiles by topic");
         System.out.println("[topo]: displays all CS2040CFiles before the selected topic");
         System.out.println("[export]: places CS2040CFiles sorted by filter/topo in a file");
+        System.out.println("[status]: shows what the background maintenance has found");
+        System.out.println("[rescan]: checks which .txt/.cpp files have changed");
         System.out.println("[exit]: close the application");
         System.out.println();
         System.out.println("For more help on a specific command, type `help c/COMMAND_TYPE`.");
@@ -193,6 +204,21 @@ public class Ui {
         printDivider();
     }
 
+    //@@author
+    /**
+     * Prints feedback to user that no CS2040CFile has an importance in the range filtered.
+     *
+     * @param minImportance The lowest importance filtered.
+     * @param maxImportance The highest importance filtered.
+     */
+    public void printFilterNoMatchingImportance(int minImportance, int maxImportance) {
+        printDivider();
+        System.out.println("There are no files with an importance from " + minImportance + " to " + maxImportance
+                + "!");
+        printDivider();
+    }
+    //@@author nikkiDEEE
+
     /**
      * Prints the requirements for using the 'add' command.
      * To be called when userInput.equals("help c/add").
@@ -227,6 +253,80 @@ public class Ui {
         printDivider();
     }
 
+    //@@author
+    /**
+     * Prints the requirements for using the 'update' command.
+     * To be called when userInput.equals("help c/update").
+     */
+    public void printHelpUpdate() {
+        printDivider();
+        System.out.println("Change the importance of a CS2040CFile using:");
+        System.out.println();
+        System.out.println("    `update n/NAME i/IMPORTANCE`");
+        System.out.println();
+        System.out.println("NAME: String name of the CS2040CFile file.");
+        System.out.println("IMPORTANCE: int level of importance on a scale of 1-10.");
+        System.out.println();
+        System.out.println("The record is only changed in place when CLIAlgo is started with `--storage=slotted`.");
+        System.out.println("Otherwise, a new record is appended and the old one is dropped on compaction.");
+        printDivider();
+    }
+
+    /**
+     * Prints the requirements for using the 'move' command.
+     * To be called when userInput.equals("help c/move").
+     */
+    public void printHelpMove() {
+        printDivider();
+        System.out.println("Tag a CS2040CFile to another topic using:");
+        System.out.println();
+        System.out.println("    `move n/NAME t/TOPIC`");
+        System.out.println();
+        System.out.println("NAME: String name of the CS2040CFile file.");
+        System.out.println("TOPIC: String topic that NAME will be tagged to.");
+        System.out.println();
+        System.out.println("Valid TOPIC's are 'SORTING', 'LINKED_LIST', 'GRAPH_STRUCTURES',");
+        System.out.println("'BINARY_HEAP', 'HASH_TABLE', 'GRAPH_TRAVERSAL', 'BINARY_SEARCH_TREE',");
+        System.out.println("'SS_SHORTEST_PATH', 'UNION_FIND_DS' and 'MINIMUM_SPANNING_TREE'.");
+        System.out.println();
+        System.out.println("The record is only changed in place when CLIAlgo is started with `--storage=slotted`.");
+        System.out.println("Otherwise, a new record is appended and the old one is dropped on compaction.");
+        printDivider();
+    }
+
+    /**
+     * Prints a message indicating that the importance of a CS2040CFile was changed.
+     *
+     * @param name The name of the CS2040CFile.
+     * @param importance The new importance of the CS2040CFile.
+     */
+    public void printUpdateSuccess(String name, int importance) {
+        printDivider();
+        System.out.println("Successfully changed the importance of " + name + " to " + importance + ".");
+        printDivider();
+    }
+
+    /**
+     * Prints a message indicating that a CS2040CFile was tagged to another topic.
+     *
+     * @param name The name of the CS2040CFile.
+     * @param topic The topic the CS2040CFile is now tagged to.
+     */
+    public void printMoveSuccess(String name, String topic) {
+        printDivider();
+        System.out.println("Successfully moved " + name + " into " + topic + ".");
+        printDivider();
+    }
+
+    /** Prints an error message if no CS2040CFile of the name given to `update` or `move` exists. */
+    public void printEditNameNotFound() {
+        printDivider();
+        System.out.println("Unsuccessful! A CS2040CFile of that name does not exist.");
+        System.out.println("Type 'list' to see the CS2040CFiles you can change.");
+        printDivider();
+    }
+    //@@author nikkiDEEE
+
     /**
      * Prints the requirements for using the 'list' command.
      * To be called when userInput.equals("help c/list").
@@ -264,9 +364,12 @@ public class Ui {
         System.out.println("Filter by topic/importance and topic name using:");
         System.out.println();
         System.out.println("    `filter k/KEYWORD [t/TOPIC]`");
+        System.out.println("    `filter k/importance [t/TOPIC] [i/MIN-MAX] [top/COUNT]`");
         System.out.println();
         System.out.println("KEYWORD: String keyword has to be either `topic` or `importance`.");
         System.out.println("TOPIC: String topic chosen from list below (optional field).");
+        System.out.println("MIN-MAX: Importance range from 1 to 10, such as `8-10` or `8` (optional field).");
+        System.out.println("COUNT: Positive integer number of most important files shown (optional field).");
         System.out.println();
         System.out.println("Valid TOPIC's are 'SORTING', 'LINKED_LIST', 'GRAPH_STRUCTURES',");
         System.out.println("'BINARY_HEAP', 'HASH_TABLE', 'GRAPH_TRAVERSAL', 'BINARY_SEARCH_TREE',");
@@ -338,6 +441,16 @@ public class Ui {
         printDivider();
     }
 
+    //@@author
+    /** Prints a message indicating the start of test mode with a copy of the data outside of test mode. */
+    public void printForkTestModeStart() {
+        printDivider();
+        System.out.println("Starting test mode with a copy of your CS2040CFiles.");
+        System.out.println("Changes made in test mode will not affect your CS2040CFiles.");
+        printDivider();
+    }
+
+    //@@author nikkiDEEE
     /** Prints a message indicating the end of test mode. */
     public void printTestModeEnd() {
         printDivider();
@@ -345,6 +458,13 @@ public class Ui {
         printDivider();
     }
 
+    /** Prints an error message when test mode is started while it is already on. */
+    public void printTestModeStartFail() {
+        printDivider();
+        System.out.println("Unsuccessful, test mode has already been started.");
+        printDivider();
+    }
+
     /** Prints an error message when test mode exit failed. */
     public void printTestModeEndFail() {
         printDivider();
@@ -525,16 +645,392 @@ public class Ui {
     }
 
     public void printCorruptedFileDiscarded(int corruptCount, String name) {
+        printCorruptedFileDiscarded(corruptCount, name, ".txt");
+    }
+
+    /**
+     * Prints a message informing the user that corrupted entries in a data file were discarded.
+     *
+     * @param corruptCount The number of corrupted entries.
+     * @param name The name of the data file, without the extension.
+     * @param fileExtension The extension of the data file.
+     */
+    public void printCorruptedFileDiscarded(int corruptCount, String name, String fileExtension) {
         printDivider();
         if (corruptCount == 1) {
-            System.out.println(corruptCount + " corrupted save entry detected in " + name + ".txt.");
+            System.out.println(corruptCount + " corrupted save entry detected in " + name + fileExtension + ".");
         } else {
-            System.out.println(corruptCount + " corrupted entries detected in " + name + ".txt.");
+            System.out.println(corruptCount + " corrupted entries detected in " + name + fileExtension + ".");
         }
         System.out.println("Note that the corrupted entries are discarded!");
         printDivider();
     }
 
+    /**
+     * Prints a message informing the user that corrupted entries in a data file were skipped and moved to its
+     * quarantine file.
+     *
+     * @param corruptCount The number of corrupted entries.
+     * @param name The name of the data file, without the extension.
+     * @param fileExtension The extension of the data file.
+     * @param quarantineFileName The name of the quarantine file.
+     */
+    public void printCorruptedRecordsQuarantined(int corruptCount, String name, String fileExtension,
+            String quarantineFileName) {
+        printDivider();
+        if (corruptCount == 1) {
+            System.out.println(corruptCount + " corrupted save entry detected in " + name + fileExtension + ".");
+        } else {
+            System.out.println(corruptCount + " corrupted entries detected in " + name + fileExtension + ".");
+        }
+        System.out.println("All other entries were kept. The corrupted entries were moved to "
+                + quarantineFileName + ".");
+        printDivider();
+    }
+
+    /**
+     * Prints the time taken to load the data file of each topic that has been loaded.
+     *
+     * @param loadTimes The time taken in nanoseconds for each topic.
+     */
+    public void printLoadTimes(LinkedHashMap<String, Long> loadTimes) {
+        printDivider();
+        if (loadTimes.isEmpty()) {
+            System.out.println("No topics were loaded at startup, each topic is loaded when first needed.");
+        }
+        for (Map.Entry<String, Long> entry : loadTimes.entrySet()) {
+            double milliseconds = entry.getValue() / 1_000_000.0;
+            System.out.printf("%s loaded in %.2f ms%n", entry.getKey(), milliseconds);
+        }
+        printDivider();
+    }
+
+    /**
+     * Prints a message informing the user that the durability launch option given is invalid.
+     *
+     * @param value The value of the durability launch option.
+     */
+    public void printInvalidDurabilityPolicy(String value) {
+        printDivider();
+        System.out.println("\"" + value + "\" is not a valid durability policy, changes will be saved after every "
+                + "command.");
+        System.out.println("Valid policies are: command, interval:<milliseconds> and exit.");
+        printDivider();
+    }
+
+    /**
+     * Prints a message informing the user that the value of the storage launch option is invalid.
+     *
+     * @param value The value of the storage launch option.
+     */
+    public void printInvalidStorageBackend(String value) {
+        printDivider();
+        System.out.println("\"" + value + "\" is not a valid storage backend, binary data files will be used.");
+        System.out.println("Valid backends are: memory, text, binary, lsm and slotted.");
+        printDivider();
+    }
+
+    /**
+     * Prints a message informing the user that a segment file is corrupted and was moved aside without being loaded.
+     *
+     * @param fileName The name of the segment file.
+     * @param quarantineFileName The name the segment file was moved to.
+     */
+    public void printCorruptedSegmentQuarantined(String fileName, String quarantineFileName) {
+        printDivider();
+        System.out.println("The data file " + fileName + " is corrupted, so the entries in it were not loaded.");
+        System.out.println("It was moved to " + quarantineFileName + ".");
+        printDivider();
+    }
+
+    /**
+     * Prints a message informing the user that part of a segment file is corrupted and could not be read.
+     *
+     * @param fileName The name of the segment file.
+     */
+    public void printCorruptedSegmentBlock(String fileName) {
+        printDivider();
+        System.out.println("Part of the data file " + fileName + " is corrupted and could not be read.");
+        System.out.println("Some CS2040CFiles may be missing.");
+        printDivider();
+    }
+
+    /**
+     * Prints a message informing the user that the size given for the name index cache is invalid.
+     *
+     * @param value The size given, in KiB.
+     */
+    public void printInvalidNameIndexCache(String value) {
+        printDivider();
+        System.out.println("\"" + value + "\" is not a valid name index cache size, the name index will be kept in "
+                + "memory.");
+        System.out.println("The size must be a positive number of KiB.");
+        printDivider();
+    }
+
+    /**
+     * Prints a message informing the user that the name of a CS2040CFile is too long to be stored.
+     *
+     * @param name The name of the CS2040CFile.
+     * @param maxBytes The largest number of bytes a name can take up.
+     */
+    public void printNameTooLong(String name, int maxBytes) {
+        printDivider();
+        System.out.println("Unsuccessful! The name " + name + " is too long to be stored.");
+        System.out.println("Names can be at most " + maxBytes + " bytes long.");
+        printDivider();
+    }
+
+    /**
+     * Prints the requirements for using the 'status' command.
+     * To be called when userInput.equals("help c/status").
+     */
+    public void printHelpStatus() {
+        printDivider();
+        System.out.println("Show what the background maintenance of the saved data has found using:");
+        System.out.println();
+        System.out.println("    `status`");
+        System.out.println();
+        System.out.println("Command should only contain one word (i.e. no extensions).");
+        printDivider();
+    }
+
+    /**
+     * Prints the requirements for using the 'find' command.
+     * To be called when userInput.equals("help c/find").
+     */
+    public void printHelpFind() {
+        printDivider();
+        System.out.println("Find CS2040CFiles by the start of their name using:");
+        System.out.println();
+        System.out.println("    `find n/PREFIX`");
+        System.out.println();
+        System.out.println("PREFIX: Start of the names of the CS2040CFiles, in any case.");
+        printDivider();
+    }
+
+    /**
+     * Prints the requirements for using the 'search' command.
+     * To be called when userInput.equals("help c/search").
+     */
+    public void printHelpSearch() {
+        printDivider();
+        System.out.println("Find CS2040CFiles by the contents of their .txt/.cpp file using:");
+        System.out.println();
+        System.out.println("    `search q/QUERY`");
+        System.out.println();
+        System.out.println("QUERY: Words the file must all contain, in any case. Put words in \"double quotes\"");
+        System.out.println("to find them next to each other, and separate alternatives with OR.");
+        System.out.println("CS2040CFiles whose file contains the query most often are listed first.");
+        printDivider();
+    }
+
+    /**
+     * Prints the requirements for using the 'rescan' command.
+     * To be called when userInput.equals("help c/rescan").
+     */
+    public void printHelpRescan() {
+        printDivider();
+        System.out.println("Check which .txt/.cpp files of your CS2040CFiles have changed or gone missing using:");
+        System.out.println();
+        System.out.println("    `rescan`");
+        System.out.println();
+        System.out.println("Only files whose size or last modified time changed are read again.");
+        System.out.println("Command should only contain one word (i.e. no extensions).");
+        printDivider();
+    }
+
+    /**
+     * Prints what the 'rescan' command found.
+     *
+     * @param fileCount The number of referenced files checked.
+     * @param statusCounts The number of referenced files found in each <code>WorkspaceManifest.Status</code>.
+     * @param changedNames The names of the CS2040CFiles whose file has changed contents.
+     * @param missingNames The names of the CS2040CFiles whose file is missing.
+     */
+    public void printRescanResult(int fileCount, EnumMap<WorkspaceManifest.Status, Integer> statusCounts,
+            ArrayList<String> changedNames, ArrayList<String> missingNames) {
+        int touchedCount = statusCounts.getOrDefault(WorkspaceManifest.Status.TOUCHED, 0);
+        int changedCount = statusCounts.getOrDefault(WorkspaceManifest.Status.CHANGED, 0);
+        int addedCount = statusCounts.getOrDefault(WorkspaceManifest.Status.ADDED, 0);
+        printDivider();
+        System.out.println("Checked " + fileCount + " .txt/.cpp files:");
+        System.out.println("Unchanged: " + statusCounts.getOrDefault(WorkspaceManifest.Status.UNCHANGED, 0));
+        System.out.println("Read again: " + (touchedCount + changedCount + addedCount) + " (" + changedCount
+                + " with changed contents, " + addedCount + " read for the first time)");
+        if (!changedNames.isEmpty()) {
+            System.out.println("Changed files: " + String.join(", ", changedNames));
+        }
+        if (missingNames.isEmpty()) {
+            System.out.println("Missing .txt/.cpp files: none");
+        } else {
+            System.out.println("Missing .txt/.cpp files: " + String.join(", ", missingNames));
+        }
+        printDivider();
+    }
+
+    /**
+     * Prints a message informing the user that the time between background maintenance passes is invalid.
+     *
+     * @param value The invalid number of seconds given.
+     */
+    public void printInvalidMaintenanceInterval(String value) {
+        printDivider();
+        System.out.println("\"" + value + "\" is not a valid maintenance interval and will be ignored.");
+        System.out.println("The interval must be a whole number of seconds, or 0 to turn the maintenance off.");
+        printDivider();
+    }
+
+    /** Prints a message informing the user that the background maintenance is turned off. */
+    public void printMaintenanceOff() {
+        printDivider();
+        System.out.println("Background maintenance is off.");
+        System.out.println("Start CLIAlgo with --maintenance-interval=SECONDS to turn it on.");
+        printDivider();
+    }
+
+    /**
+     * Prints the progress of the background maintenance and what its last finished pass found.
+     *
+     * @param isPassRunning Whether a pass is in progress.
+     * @param checkedTopicCount The number of topics checked so far by the pass in progress.
+     * @param topicCount The number of topics checked by each pass.
+     * @param passCount The number of passes which have finished.
+     * @param report The report of the last finished pass, or null if no pass has finished.
+     */
+    public void printMaintenanceStatus(boolean isPassRunning, int checkedTopicCount, int topicCount, int passCount,
+            MaintenanceReport report) {
+        printDivider();
+        if (isPassRunning) {
+            System.out.println("A maintenance pass is in progress, " + checkedTopicCount + " of " + topicCount
+                    + " topics checked. It pauses while commands run.");
+        } else {
+            System.out.println("No maintenance pass is in progress.");
+        }
+        System.out.println("Passes finished: " + passCount);
+        if (report == null) {
+            printDivider();
+            return;
+        }
+        System.out.println();
+        System.out.println("The last pass checked " + report.getTopicCount() + " topics in "
+                + (report.getFinishMillis() - report.getStartMillis()) + " ms:");
+        System.out.println("Compacted data files: " + report.getCompactedFileCount() + " ("
+                + report.getReclaimedBytes() + " bytes reclaimed)");
+        System.out.println("Damaged records: " + report.getCorruptedRecordCount() + " ("
+                + report.getRepairedRecordCount() + " repaired)");
+        if (report.getMissingFiles().isEmpty()) {
+            System.out.println("Missing .txt/.cpp files: none");
+        } else {
+            System.out.println("Missing .txt/.cpp files: " + String.join(", ", report.getMissingFiles()));
+        }
+        if (!report.getFailedTopics().isEmpty()) {
+            System.out.println("Topics that could not be checked: " + String.join(", ", report.getFailedTopics()));
+        }
+        printDivider();
+    }
+
+    /** Prints a message informing the user that the working directory cannot be watched. */
+    public void printWatchUnavailable() {
+        printDivider();
+        System.out.println("The working directory cannot be watched on this system.");
+        System.out.println("New and deleted .txt/.cpp files will not be noticed until CLIAlgo is restarted.");
+        printDivider();
+    }
+
+    /**
+     * Prints the .txt and .cpp files which have appeared in the working directory and are not in CLIAlgo yet,
+     * together with the command which adds each of them.
+     *
+     * @param fileNames The names of the new files with their extensions.
+     */
+    public void printNewFilesFound(ArrayList<String> fileNames) {
+        printDivider();
+        System.out.println("New files found in the working directory:");
+        for (String fileName : fileNames) {
+            String name = fileName.substring(0, fileName.lastIndexOf('.'));
+            System.out.println(fileName + " -> add n/" + name + " t/TOPIC_NAME");
+        }
+        printDivider();
+    }
+
+    /**
+     * Prints the CS2040CFiles whose name starts with the prefix searched for, with the topic of each.
+     *
+     * @param prefix The prefix searched for.
+     * @param cs2040cFiles The CS2040CFiles found.
+     */
+    public void printFindResult(String prefix, ArrayList<CS2040CFile> cs2040cFiles) {
+        printDivider();
+        System.out.println("Here are the CS2040CFiles starting with `" + prefix + "`:");
+        printDivider();
+        int serialNumber = SERIAL_NUMBER_START;
+        for (CS2040CFile cs2040cFile : cs2040cFiles) {
+            String cs2040cFileType = cs2040cFile instanceof Code ? CODE_LABEL : NOTE_LABEL;
+            System.out.println(serialNumber + ". " + cs2040cFileType + cs2040cFile.getName() + " ["
+                    + cs2040cFile.getTopic() + "]");
+            ++serialNumber;
+        }
+        printDivider();
+    }
+
+    /**
+     * Prints a message informing the user that no CS2040CFile name starts with the prefix searched for.
+     *
+     * @param prefix The prefix searched for.
+     */
+    public void printFindNoMatch(String prefix) {
+        printDivider();
+        System.out.println("There are no CS2040CFiles starting with `" + prefix + "`!");
+        printDivider();
+    }
+
+    /**
+     * Prints the CS2040CFiles whose file matches the query searched for, with the topic of each.
+     *
+     * @param query The query searched for.
+     * @param cs2040cFiles The CS2040CFiles found, the best match first.
+     */
+    public void printSearchResult(String query, ArrayList<CS2040CFile> cs2040cFiles) {
+        printDivider();
+        System.out.println("Here are the CS2040CFiles whose file matches `" + query + "`:");
+        printDivider();
+        int serialNumber = SERIAL_NUMBER_START;
+        for (CS2040CFile cs2040cFile : cs2040cFiles) {
+            String cs2040cFileType = cs2040cFile instanceof Code ? CODE_LABEL : NOTE_LABEL;
+            System.out.println(serialNumber + ". " + cs2040cFileType + cs2040cFile.getName() + " ["
+                    + cs2040cFile.getTopic() + "]");
+            ++serialNumber;
+        }
+        printDivider();
+    }
+
+    /**
+     * Prints a message informing the user that no CS2040CFile has a file matching the query searched for.
+     *
+     * @param query The query searched for.
+     */
+    public void printSearchNoMatch(String query) {
+        printDivider();
+        System.out.println("There are no CS2040CFiles whose file matches `" + query + "`!");
+        printDivider();
+    }
+
+    /**
+     * Prints the commands with the names of CS2040CFiles similar to a name which does not exist.
+     *
+     * @param commandWord The command keyed in by the user.
+     * @param names The similar names, the most similar first.
+     */
+    public void printSuggestions(String commandWord, ArrayList<String> names) {
+        printDivider();
+        System.out.println("Did you mean:");
+        for (String name : names) {
+            System.out.println(commandWord + " n/" + name);
+        }
+        printDivider();
+    }
+
     public static void printDeleteSuccess() {
         System.out.println("Delete successful.");
     }
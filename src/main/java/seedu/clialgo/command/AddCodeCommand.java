@@ -6,6 +6,7 @@ import seedu.clialgo.Ui;
 import seedu.clialgo.file.Code;
 import seedu.clialgo.storage.FileManager;
 
+import java.io.File;
 import java.util.Objects;
 
 public class AddCodeCommand extends AddCommand {
@@ -35,17 +36,21 @@ public class AddCodeCommand extends AddCommand {
         String codePath = name + CODE_FILE_EXTENSION;
         fileManager.recreateAll();
         Code newCode = new Code(name, codePath, topic, importance);
-        boolean isAddedToFile = fileManager.addEntry(name, newCode);
+        newCode.updateFileAttributes(new File(CURRENT_DIRECTORY_PATH + codePath));
+        boolean isAdded = topicManager.addCS2040CFile(name, topic, newCode);
 
-        if (!isAddedToFile) {
+        if (!isAdded) {
+            new InvalidCommand().execute(topicManager, ui, fileManager, buffer);
             return;
         }
 
-        boolean isAdded = topicManager.addCS2040CFile(name, topic, newCode);
+        boolean isAddedToFile = fileManager.addEntry(name, newCode);
 
-        if (!isAdded) {
-            new InvalidCommand().execute(topicManager, ui, fileManager, buffer);
+        if (!isAddedToFile) {
+            topicManager.removeCS2040CFile(name, topic);
+            return;
         }
+        fileManager.indexContents(name, codePath);
     }
 
     /**
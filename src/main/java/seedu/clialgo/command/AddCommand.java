@@ -1,10 +1,10 @@
 package seedu.clialgo.command;
 
 import java.util.Objects;
-import java.io.File;
 
 import seedu.clialgo.Buffer;
 import seedu.clialgo.FileType;
+import seedu.clialgo.file.ReferencedFileVerifier;
 import seedu.clialgo.logic.TopicManager;
 import seedu.clialgo.storage.FileManager;
 import seedu.clialgo.Ui;
@@ -62,23 +62,16 @@ public class AddCommand extends Command {
         return this.topic;
     }
 
+    //@@author
     /**
-     * Checks if the file exists as a .txt or .cpp.
+     * Checks if the file exists as a .txt or .cpp, using the cached listing of the current directory.
      *
      * @return A <code>FileType</code> enum that determines whether the file DOESNOTEXIST, is a TXT or CPP file.
      */
     public FileType checkFileType() {
-        String pathInTxt = this.name + NOTE_FILE_EXTENSION;
-        String pathInCpp = this.name + CODE_FILE_EXTENSION;
-
-        if (new File(CURRENT_DIRECTORY_PATH + pathInTxt).isFile()) {
-            return FileType.TXT;
-        } else if (new File(CURRENT_DIRECTORY_PATH + pathInCpp).isFile()) {
-            return FileType.CPP;
-        } else {
-            return FileType.DOESNOTEXIST;
-        }
+        return ReferencedFileVerifier.getInstance().getFileType(CURRENT_DIRECTORY_PATH, name);
     }
+    //@@author ong-ck
 
     /**
      * An overridden method to execute the user command to add new CS2040CFiles into CLIAlgo.
@@ -91,9 +84,10 @@ public class AddCommand extends Command {
     @Override
     public void execute(TopicManager topicManager, Ui ui, FileManager fileManager, Buffer buffer) {
         boolean isTestModeOn = topicManager.getIsTestModeOn();
+        FileType fileType = checkFileType();
 
         // Check if the file exists
-        if ((checkFileType() == FileType.DOESNOTEXIST) && !isTestModeOn) {
+        if ((fileType == FileType.DOESNOTEXIST) && !isTestModeOn) {
             ui.printFileDoesNotExist();
             return;
         }
@@ -109,11 +103,11 @@ public class AddCommand extends Command {
             return;
         }
 
-        if (checkFileType() == FileType.TXT) {
+        if (fileType == FileType.TXT) {
             new AddNoteCommand(name, topic, importance).execute(topicManager, ui, fileManager, buffer);
-        } else if (checkFileType() == FileType.CPP) {
+        } else if (fileType == FileType.CPP) {
             new AddCodeCommand(name, topic, importance).execute(topicManager, ui, fileManager, buffer);
-        } else if (checkFileType() == FileType.DOESNOTEXIST && isTestModeOn) {
+        } else if (fileType == FileType.DOESNOTEXIST && isTestModeOn) {
             new AddNoteCommand(name, topic, importance).execute(topicManager, ui, fileManager, buffer);
         }
 
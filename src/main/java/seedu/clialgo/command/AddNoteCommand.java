@@ -6,6 +6,7 @@ import seedu.clialgo.Ui;
 import seedu.clialgo.storage.FileManager;
 import seedu.clialgo.file.Note;
 
+import java.io.File;
 import java.util.Objects;
 
 public class AddNoteCommand extends AddCommand {
@@ -34,19 +35,23 @@ public class AddNoteCommand extends AddCommand {
         String notePath = name + NOTE_FILE_EXTENSION;
         fileManager.recreateAll();
         Note newNote = new Note(name, notePath, topic, importance);
-        boolean isAddedToFile = fileManager.addEntry(name, newNote);
-
-        //  Check if note is successfully added to data file
-        if (!isAddedToFile) {
-            return;
-        }
-
+        newNote.updateFileAttributes(new File(CURRENT_DIRECTORY_PATH + notePath));
         boolean isAdded = topicManager.addCS2040CFile(name, topic, newNote);
 
         // Check if added -> execute invalid command if note is not added
         if (!isAdded) {
             new InvalidCommand().execute(topicManager, ui, fileManager, buffer);
+            return;
+        }
+
+        boolean isAddedToFile = fileManager.addEntry(name, newNote);
+
+        //  Check if note is successfully added to data file -> undo the addition if it is not
+        if (!isAddedToFile) {
+            topicManager.removeCS2040CFile(name, topic);
+            return;
         }
+        fileManager.indexContents(name, notePath);
     }
 
     /**
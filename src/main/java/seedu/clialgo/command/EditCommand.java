@@ -0,0 +1,75 @@
+package seedu.clialgo.command;
+
+import seedu.clialgo.Buffer;
+import seedu.clialgo.Ui;
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.TopicManager;
+import seedu.clialgo.storage.FileManager;
+
+import java.util.ArrayList;
+
+/**
+ * Represents an executable command from the user which changes a stored CS2040CFile without removing it and adding it
+ * again. Each subclass decides what is changed, and the change is made to a copy of the CS2040CFile so that the
+ * original can be put back if saving the change fails.
+ */
+public abstract class EditCommand extends Command {
+    protected final String name;
+
+    /**
+     * Constructor for a command to change a CS2040CFile.
+     *
+     * @param name Name of the CS2040CFile.
+     */
+    public EditCommand(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Applies the change of this command to <code>cs2040cFile</code>.
+     *
+     * @param cs2040cFile The copy of the CS2040CFile to change.
+     */
+    protected abstract void applyChange(CS2040CFile cs2040cFile);
+
+    /**
+     * Prints the message shown after the change of this command is saved.
+     *
+     * @param ui The <code>Ui</code> object which handles outputs to the user.
+     * @param cs2040cFile The changed CS2040CFile.
+     */
+    protected abstract void printSuccess(Ui ui, CS2040CFile cs2040cFile);
+
+    /**
+     * Changes the CS2040CFile named <code>name</code> in the <code>TopicManager</code>, then saves the change through
+     * the <code>FileManager</code>, undoing the change if it cannot be saved.
+     *
+     * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
+     * @param ui The <code>Ui</code> object which handles outputs to the user.
+     * @param fileManager The <code>FileManager</code> object responsible for saving information in CLIAlgo.
+     * @param buffer The <code>Buffer</code> object responsible for exporting filtered files.
+     */
+    @Override
+    public void execute(TopicManager topicManager, Ui ui, FileManager fileManager, Buffer buffer) {
+        CS2040CFile cs2040cFile = topicManager.getCS2040CFile(name);
+        if (cs2040cFile == null) {
+            ui.printEditNameNotFound();
+            return;
+        }
+        CS2040CFile changedCS2040CFile = cs2040cFile.copy();
+        applyChange(changedCS2040CFile);
+        String topicName = cs2040cFile.getTopic();
+        topicManager.replaceCS2040CFile(name, topicName, changedCS2040CFile);
+
+        if (!fileManager.updateEntry(name, topicName, changedCS2040CFile)) {
+            topicManager.replaceCS2040CFile(name, changedCS2040CFile.getTopic(), cs2040cFile);
+            return;
+        }
+        buffer.updateBuffer(new ArrayList<>());
+        printSuccess(ui, changedCS2040CFile);
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -12,7 +12,7 @@ import seedu.clialgo.Ui;
  */
 public class ExitCommand extends Command {
     /**
-     * This method closes the scanner and closes the program.
+     * This method saves the name directory of CLIAlgo, closes the scanner and closes the program.
      *
      * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
      * @param ui The <code>Ui</code> object which handles outputs to the user.
@@ -21,6 +21,7 @@ public class ExitCommand extends Command {
      */
     @Override
     public void execute (TopicManager topicManager, Ui ui, FileManager fileManager, Buffer buffer) {
+        fileManager.close();
         ui.printExitMessage();
         ui.closeScanner();
         System.exit(0);
@@ -9,7 +9,8 @@ import seedu.clialgo.storage.FileManager;
 public class ExportCommand extends Command {
 
     /**
-     * Exports the files currently stored in the buffer
+     * Exports the files currently stored in the buffer, copying only those which changed since they were last
+     * exported.
      *
      * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
      * @param ui The <code>Ui</code> object which handles outputs to the user.
@@ -22,7 +23,8 @@ public class ExportCommand extends Command {
             return;
         }
         ui.printExportSuccess();
-        buffer.exportBuffer();
+        buffer.exportBuffer(fileManager.getWorkspaceManifest());
+        fileManager.saveWorkspaceManifest();
     }
     /**
      * An overridden method that checks for equality of <code>ExportCommand </code> objects.
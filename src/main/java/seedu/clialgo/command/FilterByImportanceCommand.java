@@ -1,14 +1,12 @@
 package seedu.clialgo.command;
 
 import seedu.clialgo.Buffer;
-import seedu.clialgo.logic.Topic;
 import seedu.clialgo.logic.TopicManager;
 import seedu.clialgo.Ui;
 import seedu.clialgo.file.CS2040CFile;
 import seedu.clialgo.storage.FileManager;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.Objects;
 
 //@@author nikkiDEEE
@@ -18,13 +16,6 @@ import java.util.Objects;
  */
 public class FilterByImportanceCommand extends FilterCommand {
 
-    /** Comparator to sort CS2040CFiles in decreasing order of importance */
-    public Comparator<CS2040CFile> importanceLevel = (cs2040cFile1, cs2040cFile2) -> {
-        int cs2040cFile1Importance = cs2040cFile1.getImportance();
-        int cs2040cFile2Importance = cs2040cFile2.getImportance();
-        return cs2040cFile2Importance - cs2040cFile1Importance;
-    };
-
     /**
      * Constructor for command to filter CS2040CFiles by importance.
      *
@@ -35,32 +26,65 @@ public class FilterByImportanceCommand extends FilterCommand {
         super(keyWord, topic);
     }
 
+    //@@author
+    /**
+     * Constructor for command to filter the <code>limit</code> most important CS2040CFiles with an importance from
+     * <code>minImportance</code> to <code>maxImportance</code>.
+     *
+     * @param keyWord The keyword to filter by.
+     * @param topic The topic that this file is tagged to.
+     * @param minImportance The lowest importance of the CS2040CFiles to show.
+     * @param maxImportance The highest importance of the CS2040CFiles to show.
+     * @param limit The maximum number of CS2040CFiles to show.
+     */
+    public FilterByImportanceCommand(String keyWord, String topic, int minImportance, int maxImportance, int limit) {
+        super(keyWord, topic, minImportance, maxImportance, limit);
+    }
+    //@@author nikkiDEEE
+
     /**
-     * This method prints all the CS2040CFiles stored across all non-empty topics in CLIAlgo.
+     * This method prints the CS2040CFiles stored across all non-empty topics in CLIAlgo which are in the importance
+     * range, in decreasing order of importance and up to the limit.
      *
      * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
      * @param ui The <code>Ui</code> object which handles outputs to the user.
+     * @return The CS2040CFiles printed, in the order they were printed.
      */
-    public void printAllTopics(TopicManager topicManager, Ui ui) {
-        ArrayList<CS2040CFile> cs2040cFiles = topicManager.getAllFilesAsFiles();
+    public ArrayList<CS2040CFile> printAllTopics(TopicManager topicManager, Ui ui) {
+        //@@author
+        ArrayList<CS2040CFile> cs2040cFiles = topicManager.getCS2040CFilesByImportance(null, minImportance,
+                maxImportance, limit);
+        if (cs2040cFiles.isEmpty()) {
+            ui.printFilterNoMatchingImportance(minImportance, maxImportance);
+            return cs2040cFiles;
+        }
+        //@@author nikkiDEEE
         ui.printFilterSuccess();
-        cs2040cFiles.sort(importanceLevel);
         ui.printAllFilesWithImportance(cs2040cFiles);
+        return cs2040cFiles;
     }
 
     /**
-     * This method prints all the CS2040CFile stored in a single specified topic.
+     * This method prints the CS2040CFile stored in a single specified topic which are in the importance range, in
+     * decreasing order of importance and up to the limit.
      *
      * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
      * @param ui The <code>Ui</code> object which handles outputs to the user.
+     * @return The CS2040CFiles printed, in the order they were printed.
      */
-    public void printSingleTopic(TopicManager topicManager, Ui ui) {
-        Topic selectedTopic = topicManager.getOneTopic(this.topic);
-        ArrayList<CS2040CFile> cs2040cFiles = selectedTopic.getCS2040CFilesAsArray();
+    public ArrayList<CS2040CFile> printSingleTopic(TopicManager topicManager, Ui ui) {
+        //@@author
+        ArrayList<CS2040CFile> cs2040cFiles = topicManager.getCS2040CFilesByImportance(this.topic, minImportance,
+                maxImportance, limit);
+        if (cs2040cFiles.isEmpty()) {
+            ui.printFilterNoMatchingImportance(minImportance, maxImportance);
+            return cs2040cFiles;
+        }
+        //@@author nikkiDEEE
         ui.printFilterSuccess();
         ui.printWithBox(this.topic);
-        cs2040cFiles.sort(importanceLevel);
         ui.printAllFilesWithImportance(cs2040cFiles);
+        return cs2040cFiles;
     }
 
     /**
@@ -82,8 +106,7 @@ public class FilterByImportanceCommand extends FilterCommand {
             return;
         }
         if (this.topic == null) {
-            printAllTopics(topicManager, ui);
-            buffer.updateBuffer(topicManager.getAllFilesAsFiles());
+            buffer.updateBuffer(printAllTopics(topicManager, ui));
             return;
         }
         if (!topicManager.isValidTopic(this.topic)) {
@@ -95,10 +118,7 @@ public class FilterByImportanceCommand extends FilterCommand {
             buffer.updateBuffer(new ArrayList<>());
             return;
         }
-        printSingleTopic(topicManager, ui);
-        Topic topic = topicManager.getOneTopic(this.topic);
-        ArrayList<CS2040CFile> files = topic.getCS2040CFilesAsArray();
-        buffer.updateBuffer(files);
+        buffer.updateBuffer(printSingleTopic(topicManager, ui));
     }
 
     /**
@@ -112,6 +132,7 @@ public class FilterByImportanceCommand extends FilterCommand {
         FilterByImportanceCommand otherFilterByImportanceCommand = (FilterByImportanceCommand) otherCommand;
 
         return Objects.equals(this.keyWord, otherFilterByImportanceCommand.keyWord) &&
-                Objects.equals(this.topic, otherFilterByImportanceCommand.topic);
+                Objects.equals(this.topic, otherFilterByImportanceCommand.topic) &&
+                super.equals(otherCommand);
     }
 }
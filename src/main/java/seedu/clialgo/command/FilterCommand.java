@@ -19,11 +19,36 @@ public class FilterCommand extends Command {
     private static final String IMPORTANCE_KEYWORD = "importance";
     protected final String keyWord;
     protected final String topic;
+    //@@author
+    protected final int minImportance;
+    protected final int maxImportance;
+    protected final int limit;
+    //@@author heejet
 
     public FilterCommand(String keyWord, String topic) {
+        this(keyWord, topic, CS2040CFile.MIN_IMPORTANCE, CS2040CFile.MAX_IMPORTANCE, Integer.MAX_VALUE);
+    }
+
+    //@@author
+    /**
+     * Constructor for command to filter CS2040CFiles, showing only the <code>limit</code> most important
+     * CS2040CFiles with an importance from <code>minImportance</code> to <code>maxImportance</code>. The range and
+     * limit only apply when filtering by importance.
+     *
+     * @param keyWord The keyword to filter by.
+     * @param topic The topic to filter, or null for every topic.
+     * @param minImportance The lowest importance of the CS2040CFiles to show.
+     * @param maxImportance The highest importance of the CS2040CFiles to show.
+     * @param limit The maximum number of CS2040CFiles to show.
+     */
+    public FilterCommand(String keyWord, String topic, int minImportance, int maxImportance, int limit) {
         this.keyWord = keyWord;
         this.topic = topic;
+        this.minImportance = minImportance;
+        this.maxImportance = maxImportance;
+        this.limit = limit;
     }
+    //@@author heejet
 
     /**
      * Checks the keyword and executes the correct variant of <code>FilterCommand</code>.
@@ -48,7 +73,8 @@ public class FilterCommand extends Command {
         if (keyWord.equals(TOPIC_KEYWORD)) {
             new FilterByTopicCommand(keyWord, topic).execute(topicManager, ui, fileManager, buffer);
         } else if (keyWord.equals(IMPORTANCE_KEYWORD)) {
-            new FilterByImportanceCommand(keyWord, topic).execute(topicManager, ui, fileManager, buffer);
+            new FilterByImportanceCommand(keyWord, topic, minImportance, maxImportance, limit)
+                    .execute(topicManager, ui, fileManager, buffer);
         } else {
             new InvalidFilterCommand().execute(topicManager, ui, fileManager, buffer);
         }
@@ -60,6 +86,9 @@ public class FilterCommand extends Command {
 
         boolean isSameKeyword = Objects.equals(this.keyWord, otherFilterCommand.keyWord);
         boolean isSameTopic = Objects.equals(this.topic, otherFilterCommand.topic);
-        return isSameKeyword && isSameTopic;
+        //@@author
+        boolean isSameRange = this.minImportance == otherFilterCommand.minImportance
+                && this.maxImportance == otherFilterCommand.maxImportance && this.limit == otherFilterCommand.limit;
+        return isSameKeyword && isSameTopic && isSameRange;
     }
 }
@@ -0,0 +1,57 @@
+package seedu.clialgo.command;
+
+import seedu.clialgo.Buffer;
+import seedu.clialgo.Ui;
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.TopicManager;
+import seedu.clialgo.storage.FileManager;
+
+import java.util.ArrayList;
+import java.util.Objects;
+
+/**
+ * Represents an executable command from the user. A <code>FindCommand</code> object prints every CS2040CFile whose
+ * name starts with a prefix, ignoring case.
+ */
+public class FindCommand extends Command {
+    private final String prefix;
+
+    /**
+     * Constructor for command to find CS2040CFiles by the start of their name.
+     *
+     * @param prefix The start of the names of the CS2040CFiles.
+     */
+    public FindCommand(String prefix) {
+        this.prefix = prefix;
+    }
+
+    /**
+     * Prints every CS2040CFile whose name starts with <code>prefix</code>, in alphabetical order, found with the radix
+     * tree of names in <code>topicManager</code>.
+     *
+     * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
+     * @param ui The <code>Ui</code> object which handles outputs to the user.
+     * @param fileManager The <code>FileManager</code> object responsible for saving information in CLIAlgo.
+     * @param buffer The <code>Buffer</code> object responsible for exporting filtered files.
+     */
+    @Override
+    public void execute(TopicManager topicManager, Ui ui, FileManager fileManager, Buffer buffer) {
+        ArrayList<CS2040CFile> cs2040cFiles = new ArrayList<>();
+        for (String name : topicManager.getCS2040CFileNamesStartingWith(prefix, Integer.MAX_VALUE)) {
+            cs2040cFiles.add(topicManager.getCS2040CFile(name));
+        }
+        if (cs2040cFiles.isEmpty()) {
+            ui.printFindNoMatch(prefix);
+            return;
+        }
+        ui.printFindResult(prefix, cs2040cFiles);
+    }
+
+    @Override
+    public boolean equals(Command otherCommand) {
+        if (!(otherCommand instanceof FindCommand)) {
+            return false;
+        }
+        return Objects.equals(this.prefix, ((FindCommand) otherCommand).prefix);
+    }
+}
@@ -52,6 +52,12 @@ public class HelpCommand extends Command {
         case "remove":
             ui.printHelpRemove();
             return;
+        case "update":
+            ui.printHelpUpdate();
+            return;
+        case "move":
+            ui.printHelpMove();
+            return;
         case "filter":
             ui.printHelpFilter();
             return;
@@ -61,6 +67,18 @@ public class HelpCommand extends Command {
         case "export":
             ui.printHelpExport();
             return;
+        case "status":
+            ui.printHelpStatus();
+            return;
+        case "rescan":
+            ui.printHelpRescan();
+            return;
+        case "find":
+            ui.printHelpFind();
+            return;
+        case "search":
+            ui.printHelpSearch();
+            return;
         case "list":
             ui.printHelpList();
             return;
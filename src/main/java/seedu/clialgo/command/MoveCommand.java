@@ -0,0 +1,50 @@
+package seedu.clialgo.command;
+
+import seedu.clialgo.Ui;
+import seedu.clialgo.file.CS2040CFile;
+
+import java.util.Objects;
+
+/**
+ * Represents an executable command from the user. A <code>MoveCommand</code> object tags a stored CS2040CFile to a
+ * different topic when the execute method is called.
+ */
+public class MoveCommand extends EditCommand {
+    private final String topic;
+
+    /**
+     * Constructor for command to tag a CS2040CFile to a different topic.
+     *
+     * @param name Name of the CS2040CFile.
+     * @param topic The topic that the CS2040CFile is moved to.
+     */
+    public MoveCommand(String name, String topic) {
+        super(name);
+        this.topic = topic;
+    }
+
+    @Override
+    protected void applyChange(CS2040CFile cs2040cFile) {
+        cs2040cFile.setTopic(topic);
+    }
+
+    @Override
+    protected void printSuccess(Ui ui, CS2040CFile cs2040cFile) {
+        ui.printMoveSuccess(name, cs2040cFile.getTopic());
+    }
+
+    /**
+     * An overridden method that checks for equality of <code>MoveCommand</code> objects.
+     *
+     * @param otherCommand The other <code>MoveCommand</code> object to be checked against.
+     * @return A boolean value to determine whether the <code>MoveCommand</code> objects are equal.
+     */
+    @Override
+    public boolean equals(Command otherCommand) {
+        if (!(otherCommand instanceof MoveCommand)) {
+            return false;
+        }
+        MoveCommand otherMoveCommand = (MoveCommand) otherCommand;
+        return Objects.equals(this.name, otherMoveCommand.name) && Objects.equals(this.topic, otherMoveCommand.topic);
+    }
+}
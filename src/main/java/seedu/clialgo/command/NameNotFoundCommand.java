@@ -5,6 +5,7 @@ import seedu.clialgo.logic.TopicManager;
 import seedu.clialgo.storage.FileManager;
 import seedu.clialgo.Ui;
 
+import java.util.ArrayList;
 
 /**
  * Represents an executable command. A <code>NameNotFoundCommand</code> object is created whenever the user enters a
@@ -12,10 +13,48 @@ import seedu.clialgo.Ui;
  * <code>Command</code> object.
  */
 public class NameNotFoundCommand extends Command {
+    /** The largest number of edits between the name keyed in and a name suggested instead. */
+    public static final int MAX_SUGGESTION_DISTANCE = 2;
+    public static final int MAX_SUGGESTIONS = 3;
+    private static final String REMOVE_COMMAND = "remove";
+
+    private final String name;
+
+    /** Constructor for command to inform the user that a name does not exist, without suggesting other names. */
+    public NameNotFoundCommand() {
+        this(null);
+    }
+
+    /**
+     * Constructor for command to inform the user that <code>name</code> does not exist, suggesting the names of
+     * CS2040CFiles similar to it.
+     *
+     * @param name The name keyed in by the user.
+     */
+    public NameNotFoundCommand(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Prints the commands with the names of at most <code>MAX_SUGGESTIONS</code> CS2040CFiles within
+     * <code>MAX_SUGGESTION_DISTANCE</code> edits of <code>name</code>, if there are any.
+     *
+     * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
+     * @param ui The <code>Ui</code> object which handles outputs to the user.
+     * @param commandWord The command the user keyed in, such as `remove`.
+     * @param name The name keyed in by the user.
+     */
+    public static void printSuggestions(TopicManager topicManager, Ui ui, String commandWord, String name) {
+        ArrayList<String> similarNames = topicManager.getSimilarCS2040CFileNames(name, MAX_SUGGESTION_DISTANCE,
+                MAX_SUGGESTIONS);
+        if (!similarNames.isEmpty()) {
+            ui.printSuggestions(commandWord, similarNames);
+        }
+    }
 
     /**
      * This method informs the user that they have keyed in a command that does not contain any existing name of any
-     * CS2040CFiles.
+     * CS2040CFiles, and suggests similar names if the name keyed in is known.
      *
      * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
      * @param ui The <code>Ui</code> object which handles outputs to the user.
@@ -24,6 +63,9 @@ public class NameNotFoundCommand extends Command {
      */
     public void execute(TopicManager topicManager, Ui ui, FileManager fileManager, Buffer buffer) {
         ui.printNameNotFoundCommand();
+        if (name != null) {
+            printSuggestions(topicManager, ui, REMOVE_COMMAND, name);
+        }
     }
 
     /**
@@ -44,7 +44,7 @@ public class RemoveCommand extends Command {
         }
 
         if (!topicManager.isRepeatedCS2040CFile(this.name)) {
-            new NameNotFoundCommand().execute(topicManager, ui, fileManager, buffer);
+            new NameNotFoundCommand(this.name).execute(topicManager, ui, fileManager, buffer);
             return;
         }
 
@@ -58,12 +58,14 @@ public class RemoveCommand extends Command {
             return;
         }
 
-        fileManager.recreateAll();
         boolean isDeletedInFile = fileManager.deleteEntry(name, topicName);
 
         if (!isDeletedInFile) {
             return;
         }
+        //@@author
+        fileManager.getContentIndex().remove(name);
+        //@@author nicholas132000
         buffer.updateBuffer(new ArrayList<>());
         ui.printRemoveSuccess(name);
     }
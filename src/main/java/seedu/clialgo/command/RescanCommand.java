@@ -0,0 +1,102 @@
+package seedu.clialgo.command;
+
+import seedu.clialgo.Buffer;
+import seedu.clialgo.Ui;
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.TopicManager;
+import seedu.clialgo.storage.FileManager;
+import seedu.clialgo.storage.WorkspaceManifest;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Represents an executable command from the user. A <code>RescanCommand</code> object checks the .txt or .cpp file
+ * of every stored CS2040CFile against the workspace manifest, reading only the files whose size or last modified
+ * time changed. The files are found through the full-text index, which holds the name and path of every
+ * CS2040CFile, so a <code>Topic</code> is only loaded if one of its files changed or is missing.
+ */
+public class RescanCommand extends Command {
+    /**
+     * Refreshes the entry of every referenced file in the manifest, marks the CS2040CFiles whose file is missing as
+     * dangling, and saves the new size and last modified time of each changed file with its CS2040CFile. The
+     * contents of the changed files are then indexed again. The CS2040CFiles of unchanged files are only marked as
+     * no longer dangling if their <code>Topic</code> is already loaded, as loading a <code>Topic</code> checks its
+     * files anyway.
+     *
+     * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
+     * @param ui The <code>Ui</code> object which handles outputs to the user.
+     * @param fileManager The <code>FileManager</code> object responsible for saving information in CLIAlgo.
+     * @param buffer The <code>Buffer</code> object responsible for exporting filtered files.
+     */
+    @Override
+    public void execute(TopicManager topicManager, Ui ui, FileManager fileManager, Buffer buffer) {
+        WorkspaceManifest manifest = fileManager.getWorkspaceManifest();
+        EnumMap<WorkspaceManifest.Status, Integer> statusCounts = new EnumMap<>(WorkspaceManifest.Status.class);
+        ArrayList<String> paths = new ArrayList<>();
+        ArrayList<String> changedNames = new ArrayList<>();
+        ArrayList<String> missingNames = new ArrayList<>();
+        // Only loads every Topic if the index file was missing or corrupted
+        fileManager.rebuildContentIndexIfNeeded(topicManager);
+        for (Map.Entry<String, String> indexedPath : fileManager.getContentIndex().getIndexedPaths().entrySet()) {
+            String name = indexedPath.getKey();
+            String path = indexedPath.getValue();
+            paths.add(path);
+            WorkspaceManifest.Status status = manifest.refresh(path);
+            statusCounts.merge(status, 1, Integer::sum);
+            if (status == WorkspaceManifest.Status.MISSING) {
+                missingNames.add(name);
+                setDangling(topicManager.getCS2040CFile(name), true);
+                continue;
+            }
+            if (status == WorkspaceManifest.Status.CHANGED) {
+                changedNames.add(name);
+            }
+            boolean isRead = fileManager.refreshContents(name, path);
+            if (status == WorkspaceManifest.Status.UNCHANGED && !isRead) {
+                setDangling(topicManager.getLoadedCS2040CFile(name), false);
+                continue;
+            }
+            CS2040CFile cs2040cFile = topicManager.getCS2040CFile(name);
+            if (cs2040cFile != null) {
+                cs2040cFile.setDangling(false);
+                updateFileAttributes(topicManager, fileManager, cs2040cFile, manifest.getEntry(path));
+            }
+        }
+        manifest.retainAll(paths);
+        fileManager.saveWorkspaceManifest();
+        fileManager.saveContentIndex();
+        ui.printRescanResult(paths.size(), statusCounts, changedNames, missingNames);
+    }
+
+    private void setDangling(CS2040CFile cs2040cFile, boolean isDangling) {
+        if (cs2040cFile != null) {
+            cs2040cFile.setDangling(isDangling);
+        }
+    }
+
+    /**
+     * Saves the size and last modified time recorded in <code>entry</code> with <code>cs2040cFile</code>, if they
+     * differ from the ones it stores.
+     */
+    private void updateFileAttributes(TopicManager topicManager, FileManager fileManager, CS2040CFile cs2040cFile,
+            WorkspaceManifest.Entry entry) {
+        if (entry.getSize() == cs2040cFile.getFileSize() && entry.getLastModified() == cs2040cFile.getLastModified()) {
+            return;
+        }
+        CS2040CFile changedCS2040CFile = cs2040cFile.copy();
+        changedCS2040CFile.setFileAttributes(entry.getSize(), entry.getLastModified());
+        String name = cs2040cFile.getName();
+        String topicName = cs2040cFile.getTopic();
+        topicManager.replaceCS2040CFile(name, topicName, changedCS2040CFile);
+        if (!fileManager.updateEntry(name, topicName, changedCS2040CFile)) {
+            topicManager.replaceCS2040CFile(name, topicName, cs2040cFile);
+        }
+    }
+
+    @Override
+    public boolean equals(Command otherCommand) {
+        return otherCommand instanceof RescanCommand;
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.clialgo.command;
+
+import seedu.clialgo.Buffer;
+import seedu.clialgo.Ui;
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.TopicManager;
+import seedu.clialgo.storage.FileManager;
+
+import java.util.ArrayList;
+import java.util.Objects;
+
+/**
+ * Represents an executable command from the user. A <code>SearchCommand</code> object prints every CS2040CFile whose
+ * .txt or .cpp file contains the words and phrases of a query, found with the full-text index of their contents.
+ */
+public class SearchCommand extends Command {
+    private final String query;
+
+    /**
+     * Constructor for command to search the contents of the files of the CS2040CFiles.
+     *
+     * @param query The words and quoted phrases to search for, with alternatives separated by `OR`.
+     */
+    public SearchCommand(String query) {
+        this.query = query;
+    }
+
+    /**
+     * Prints the CS2040CFiles matching <code>query</code> in the full-text index, the ones whose file contains the
+     * query most often first. The index is kept up to date as CS2040CFiles are added, removed and rescanned, so only
+     * the index is read, unless its file was missing and it has to be rebuilt first.
+     *
+     * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
+     * @param ui The <code>Ui</code> object which handles outputs to the user.
+     * @param fileManager The <code>FileManager</code> object responsible for saving information in CLIAlgo.
+     * @param buffer The <code>Buffer</code> object responsible for exporting filtered files.
+     */
+    @Override
+    public void execute(TopicManager topicManager, Ui ui, FileManager fileManager, Buffer buffer) {
+        fileManager.rebuildContentIndexIfNeeded(topicManager);
+        ArrayList<CS2040CFile> cs2040cFiles = new ArrayList<>();
+        for (String name : fileManager.getContentIndex().search(query)) {
+            CS2040CFile cs2040cFile = topicManager.getCS2040CFile(name);
+            if (cs2040cFile != null) {
+                cs2040cFiles.add(cs2040cFile);
+            }
+        }
+        if (cs2040cFiles.isEmpty()) {
+            ui.printSearchNoMatch(query);
+            return;
+        }
+        ui.printSearchResult(query, cs2040cFiles);
+    }
+
+    @Override
+    public boolean equals(Command otherCommand) {
+        if (!(otherCommand instanceof SearchCommand)) {
+            return false;
+        }
+        return Objects.equals(this.query, ((SearchCommand) otherCommand).query);
+    }
+}
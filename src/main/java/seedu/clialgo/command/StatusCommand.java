@@ -0,0 +1,39 @@
+package seedu.clialgo.command;
+
+import seedu.clialgo.Buffer;
+import seedu.clialgo.Ui;
+import seedu.clialgo.logic.TopicManager;
+import seedu.clialgo.storage.FileManager;
+import seedu.clialgo.storage.MaintenanceScheduler;
+
+/**
+ * Represents an executable command from the user. A <code>StatusCommand</code> object shows the progress of the
+ * background maintenance and what its last finished pass found.
+ */
+public class StatusCommand extends Command {
+    /**
+     * Prints the progress of the background maintenance and what its last finished pass found, without waiting for
+     * the pass in progress, if any.
+     *
+     * @param topicManager The <code>TopicManager</code> object which handles all CS2040CFiles stored in CLIAlgo.
+     * @param ui The <code>Ui</code> object which handles outputs to the user.
+     * @param fileManager The <code>FileManager</code> object responsible for saving information in CLIAlgo.
+     * @param buffer The <code>Buffer</code> object responsible for exporting filtered files.
+     */
+    @Override
+    public void execute(TopicManager topicManager, Ui ui, FileManager fileManager, Buffer buffer) {
+        MaintenanceScheduler maintenanceScheduler = fileManager.getMaintenanceScheduler();
+        if (maintenanceScheduler == null) {
+            ui.printMaintenanceOff();
+            return;
+        }
+        ui.printMaintenanceStatus(maintenanceScheduler.isPassRunning(), maintenanceScheduler.getCheckedTopicCount(),
+                maintenanceScheduler.getTopicCount(), maintenanceScheduler.getPassCount(),
+                maintenanceScheduler.getLastReport());
+    }
+
+    @Override
+    public boolean equals(Command otherCommand) {
+        return otherCommand instanceof StatusCommand;
+    }
+}
@@ -10,6 +10,23 @@ import seedu.clialgo.storage.FileManager;
  * exiting test mode.
  */
 public class TestModeCommand extends Command {
+    private final boolean isForked;
+
+    /**
+     * Constructor for the command to start test mode without any CS2040CFiles.
+     */
+    public TestModeCommand() {
+        this(false);
+    }
+
+    /**
+     * Constructor for the command to start test mode.
+     *
+     * @param isForked Whether test mode starts with a copy of the CS2040CFiles from outside of test mode.
+     */
+    public TestModeCommand(boolean isForked) {
+        this.isForked = isForked;
+    }
 
     /**
      * An overridden method to begin the application in test mode.
@@ -20,6 +37,16 @@ public class TestModeCommand extends Command {
      * @param buffer The <code>Buffer</code> object responsible for exporting filtered files.
      */
     public void execute(TopicManager topicManager, Ui ui, FileManager fileManager, Buffer buffer) {
+        if (topicManager.getIsTestModeOn()) {
+            ui.printTestModeStartFail();
+            return;
+        }
+        if (isForked) {
+            ui.printForkTestModeStart();
+            fileManager.forkTestMode();
+            topicManager.testModeFork(fileManager.getNameIndex());
+            return;
+        }
         ui.printTestModeStart();
         fileManager.testMode();
         topicManager.testModeStart();
@@ -27,6 +54,6 @@ public class TestModeCommand extends Command {
 
     @Override
     public boolean equals(Command otherCommand) {
-        return otherCommand instanceof TestModeCommand;
+        return otherCommand instanceof TestModeCommand && ((TestModeCommand) otherCommand).isForked == isForked;
     }
 }
@@ -19,6 +19,10 @@ import java.util.Objects;
  * print the topologically sorted CS2040CFiles after a specific target CS2040CFile.
  */
 public class TopoCommand extends Command {
+    //@@author
+    private static final String TOPO_COMMAND = "topo";
+    //@@author ong-ck
+
     /** Store the names of CS2040CFiles in topological order. */
     private LinkedHashMap<String, ArrayList<String>> topoSortedCS2040CFiles;
 
@@ -109,6 +113,9 @@ public class TopoCommand extends Command {
         // Check if cs2040cFileName is valid
         if (!topicManager.isRepeatedCS2040CFile(name)) {
             ui.printFileDoesNotExist();
+            //@@author
+            NameNotFoundCommand.printSuggestions(topicManager, ui, TOPO_COMMAND, name);
+            //@@author ong-ck
             return;
         }
 
@@ -0,0 +1,50 @@
+package seedu.clialgo.command;
+
+import seedu.clialgo.Ui;
+import seedu.clialgo.file.CS2040CFile;
+
+import java.util.Objects;
+
+/**
+ * Represents an executable command from the user. An <code>UpdateCommand</code> object changes the importance of a
+ * stored CS2040CFile when the execute method is called.
+ */
+public class UpdateCommand extends EditCommand {
+    private final int importance;
+
+    /**
+     * Constructor for command to change the importance of a CS2040CFile.
+     *
+     * @param name Name of the CS2040CFile.
+     * @param importance The new importance of the CS2040CFile.
+     */
+    public UpdateCommand(String name, int importance) {
+        super(name);
+        this.importance = importance;
+    }
+
+    @Override
+    protected void applyChange(CS2040CFile cs2040cFile) {
+        cs2040cFile.setImportance(importance);
+    }
+
+    @Override
+    protected void printSuccess(Ui ui, CS2040CFile cs2040cFile) {
+        ui.printUpdateSuccess(name, cs2040cFile.getImportance());
+    }
+
+    /**
+     * An overridden method that checks for equality of <code>UpdateCommand</code> objects.
+     *
+     * @param otherCommand The other <code>UpdateCommand</code> object to be checked against.
+     * @return A boolean value to determine whether the <code>UpdateCommand</code> objects are equal.
+     */
+    @Override
+    public boolean equals(Command otherCommand) {
+        if (!(otherCommand instanceof UpdateCommand)) {
+            return false;
+        }
+        UpdateCommand otherUpdateCommand = (UpdateCommand) otherCommand;
+        return Objects.equals(this.name, otherUpdateCommand.name) && this.importance == otherUpdateCommand.importance;
+    }
+}
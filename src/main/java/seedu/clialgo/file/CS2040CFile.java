@@ -1,12 +1,25 @@
 package seedu.clialgo.file;
 
+import java.io.File;
+
 public abstract class CS2040CFile {
     public static final int DEFAULT_IMPORTANCE = 5;
+    public static final int MIN_IMPORTANCE = 1;
+    public static final int MAX_IMPORTANCE = 10;
     protected String name;
     protected String path;
     protected String topic;
     protected int importance;
 
+    /** Size in bytes of the file when it was last checked, or 0 if unknown. */
+    protected long fileSize;
+
+    /** Last modified time of the file when it was last checked, or 0 if unknown. */
+    protected long lastModified;
+
+    /** Whether the file was missing when last checked by the <code>ReferencedFileVerifier</code>. Not stored. */
+    protected volatile boolean isDangling;
+
     /**
      * Constructor for <code>CS2040CFile</code> object (with user-defined importance).
      *
@@ -83,5 +96,49 @@ public abstract class CS2040CFile {
      */
     public abstract void setImportance(int importance);
 
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Sets the size and last modified time of the file as they were when the file was last checked.
+     *
+     * @param fileSize The size of the file in bytes.
+     * @param lastModified The last modified time of the file.
+     */
+    public void setFileAttributes(long fileSize, long lastModified) {
+        this.fileSize = fileSize;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Records the current size and last modified time of the file. Both are recorded as 0 if the file does not
+     * exist.
+     *
+     * @param file The <code>File</code> which this object represents.
+     */
+    public void updateFileAttributes(File file) {
+        setFileAttributes(file.length(), file.lastModified());
+    }
+
+    public boolean isDangling() {
+        return isDangling;
+    }
+
+    public void setDangling(boolean isDangling) {
+        this.isDangling = isDangling;
+    }
+
+    /**
+     * Creates a copy of this file which can be changed without changing this object.
+     *
+     * @return The copy of this file.
+     */
+    public abstract CS2040CFile copy();
+
     public abstract boolean equals(Object object);
 }
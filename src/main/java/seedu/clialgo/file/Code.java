@@ -73,6 +73,14 @@ public class Code extends CS2040CFile {
         return this.importance;
     }
 
+    @Override
+    public Code copy() {
+        Code copiedCode = new Code(name, path, topic, importance);
+        copiedCode.setFileAttributes(fileSize, lastModified);
+        copiedCode.setDangling(isDangling);
+        return copiedCode;
+    }
+
     public boolean equals(Object object) {
         if (this == object) {
             return true;
@@ -80,6 +80,14 @@ public class Note extends CS2040CFile {
         this.importance = importance;
     }
 
+    @Override
+    public Note copy() {
+        Note copiedNote = new Note(name, path, topic, importance);
+        copiedNote.setFileAttributes(fileSize, lastModified);
+        copiedNote.setDangling(isDangling);
+        return copiedNote;
+    }
+
     public boolean equals(Object object) {
         if (this == object) {
             return true;
@@ -0,0 +1,190 @@
+package seedu.clialgo.file;
+
+import seedu.clialgo.FileType;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Object which checks whether the .txt and .cpp files referenced by <code>CS2040CFiles</code> exist. Instead of
+ * probing each file, every directory is listed once and the names in it are cached until the last modified time of
+ * the directory changes, which happens whenever a file is created, deleted or renamed inside it.
+ * <p>
+ * <code>CS2040CFiles</code> can also be verified on a low-priority background thread, which marks the ones whose
+ * file is missing as dangling in place, so that no command waits for the file system.
+ */
+public class ReferencedFileVerifier {
+    /**
+     * A listing taken within this many milliseconds of the last modified time of its directory is never reused, as
+     * a file created in the same tick of a coarse file system clock would not change that time.
+     */
+    static final long RACY_MILLIS = 2000;
+
+    private static ReferencedFileVerifier verifier = null;
+    private final ConcurrentHashMap<String, Listing> listings;
+    private final ExecutorService executor;
+    private int listingCount;
+
+    /**
+     * The names in a directory, and the last modified time of the directory when they were listed.
+     */
+    private static class Listing {
+        private final long lastModified;
+        private final long listedMillis;
+        private final Set<String> names;
+
+        private Listing(long lastModified, long listedMillis, Set<String> names) {
+            this.lastModified = lastModified;
+            this.listedMillis = listedMillis;
+            this.names = names;
+        }
+
+        private boolean isValid(long lastModified) {
+            return lastModified != 0 && this.lastModified == lastModified
+                    && listedMillis - lastModified >= RACY_MILLIS;
+        }
+    }
+
+    /**
+     * Constructor for the <code>ReferencedFileVerifier</code> object. Only used directly by tests, as every other
+     * caller shares the object returned by <code>getInstance</code>.
+     */
+    ReferencedFileVerifier() {
+        this.listings = new ConcurrentHashMap<>();
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "file-verifier");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the same <code>ReferencedFileVerifier</code> object whenever there is an attempt to instantiate one,
+     * so that every caller shares the same cached listings.
+     *
+     * @return The Singleton <code>ReferencedFileVerifier</code> object.
+     */
+    public static synchronized ReferencedFileVerifier getInstance() {
+        if (verifier == null) {
+            verifier = new ReferencedFileVerifier();
+        }
+        return verifier;
+    }
+
+    /**
+     * Gets the names of the entries in <code>directory</code>, listing it again only if it has changed since it
+     * was last listed.
+     *
+     * @param directory The directory to list.
+     * @return The names of the entries in <code>directory</code>, which is empty if it cannot be listed.
+     */
+    private Set<String> getNames(File directory) {
+        String key = directory.getAbsolutePath();
+        long lastModified = directory.lastModified();
+        Listing listing = listings.get(key);
+        if (listing != null && listing.isValid(lastModified)) {
+            return listing.names;
+        }
+        String[] names = directory.list();
+        Set<String> nameSet = names == null ? Set.of() : new HashSet<>(Arrays.asList(names));
+        listings.put(key, new Listing(lastModified, System.currentTimeMillis(), nameSet));
+        synchronized (this) {
+            listingCount += 1;
+        }
+        return nameSet;
+    }
+
+    /**
+     * Gets the names of the entries in the directory containing <code>file</code>, listing each directory at most
+     * once for all the calls sharing <code>batch</code>.
+     */
+    private Set<String> getNames(File file, HashMap<String, Set<String>> batch) {
+        File directory = file.getAbsoluteFile().getParentFile();
+        if (directory == null) {
+            return Set.of();
+        }
+        return batch.computeIfAbsent(directory.getPath(), path -> getNames(directory));
+    }
+
+    /**
+     * Checks if the file at <code>path</code> exists.
+     *
+     * @param path The path to the file.
+     * @return true if the file exists and false otherwise.
+     */
+    public boolean exists(String path) {
+        File file = new File(path);
+        return getNames(file, new HashMap<>()).contains(file.getName());
+    }
+
+    /**
+     * Checks if a file named <code>name</code> exists in <code>directoryPath</code> as a .txt or .cpp file, with
+     * a single listing of the directory.
+     *
+     * @param directoryPath The path to the directory.
+     * @param name The name of the file without its extension.
+     * @return A <code>FileType</code> enum that determines whether the file DOESNOTEXIST, is a TXT or CPP file.
+     */
+    public FileType getFileType(String directoryPath, String name) {
+        Set<String> names = getNames(new File(directoryPath));
+        if (names.contains(name + ".txt")) {
+            return FileType.TXT;
+        } else if (names.contains(name + ".cpp")) {
+            return FileType.CPP;
+        }
+        return FileType.DOESNOTEXIST;
+    }
+
+    /**
+     * Checks the file of every <code>CS2040CFile</code> in <code>cs2040cFiles</code>, listing each directory at
+     * most once, and marks each <code>CS2040CFile</code> as dangling if its file is missing.
+     *
+     * @param cs2040cFiles The <code>CS2040CFiles</code> to check.
+     * @return The <code>CS2040CFiles</code> whose file is missing.
+     */
+    public ArrayList<CS2040CFile> verify(Collection<CS2040CFile> cs2040cFiles) {
+        HashMap<String, Set<String>> batch = new HashMap<>();
+        ArrayList<CS2040CFile> danglingFiles = new ArrayList<>();
+        for (CS2040CFile cs2040cFile : cs2040cFiles) {
+            File file = new File(cs2040cFile.getPath());
+            boolean isDangling = !getNames(file, batch).contains(file.getName());
+            cs2040cFile.setDangling(isDangling);
+            if (isDangling) {
+                danglingFiles.add(cs2040cFile);
+            }
+        }
+        return danglingFiles;
+    }
+
+    /**
+     * Checks the file of every <code>CS2040CFile</code> in <code>cs2040cFiles</code> on the background thread, as
+     * <code>verify</code> does. The <code>CS2040CFiles</code> are copied into a new list first, so the collection
+     * can be changed once this returns.
+     *
+     * @param cs2040cFiles The <code>CS2040CFiles</code> to check.
+     */
+    public void verifyInBackground(Collection<CS2040CFile> cs2040cFiles) {
+        ArrayList<CS2040CFile> copiedFiles = new ArrayList<>(cs2040cFiles);
+        if (!copiedFiles.isEmpty()) {
+            executor.execute(() -> verify(copiedFiles));
+        }
+    }
+
+    /**
+     * Gets the number of times a directory has been listed, rather than answered from the cache.
+     *
+     * @return The number of listings taken.
+     */
+    synchronized int getListingCount() {
+        return listingCount;
+    }
+}
@@ -0,0 +1,153 @@
+package seedu.clialgo.logic;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * <code>Map</code> which starts out with the same entries as a base <code>Map</code> without copying any of them.
+ * Every change is kept separately from the base <code>Map</code>, which is never modified, so creating a
+ * <code>ForkedMap</code> takes constant time no matter how large the base <code>Map</code> is.
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the values.
+ */
+public class ForkedMap<K, V> extends AbstractMap<K, V> {
+    private final Map<K, V> base;
+
+    /** Entries which were added or replaced since the fork. */
+    private final HashMap<K, V> changes;
+
+    /** Keys of the base <code>Map</code> which were removed or replaced since the fork. */
+    private final HashSet<Object> hiddenBaseKeys;
+
+    /**
+     * Constructor for a <code>ForkedMap</code> with the same entries as <code>base</code>.
+     *
+     * @param base The <code>Map</code> forked, which must not be modified while this object is in use.
+     */
+    public ForkedMap(Map<K, V> base) {
+        this.base = base;
+        this.changes = new HashMap<>();
+        this.hiddenBaseKeys = new HashSet<>();
+    }
+
+    private boolean isInBase(Object key) {
+        return !hiddenBaseKeys.contains(key) && base.containsKey(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return changes.containsKey(key) || isInBase(key);
+    }
+
+    @Override
+    public V get(Object key) {
+        if (changes.containsKey(key)) {
+            return changes.get(key);
+        }
+        return isInBase(key) ? base.get(key) : null;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        V oldValue = get(key);
+        if (base.containsKey(key)) {
+            hiddenBaseKeys.add(key);
+        }
+        changes.put(key, value);
+        return oldValue;
+    }
+
+    @Override
+    public V remove(Object key) {
+        V oldValue = get(key);
+        changes.remove(key);
+        if (base.containsKey(key)) {
+            hiddenBaseKeys.add(key);
+        }
+        return oldValue;
+    }
+
+    @Override
+    public void clear() {
+        changes.clear();
+        hiddenBaseKeys.addAll(base.keySet());
+    }
+
+    @Override
+    public int size() {
+        return base.size() - hiddenBaseKeys.size() + changes.size();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new ForkedIterator();
+            }
+
+            @Override
+            public int size() {
+                return ForkedMap.this.size();
+            }
+        };
+    }
+
+    /**
+     * Iterates over the changed entries, followed by the entries of the base <code>Map</code> which are still
+     * visible.
+     */
+    private class ForkedIterator implements Iterator<Entry<K, V>> {
+        private final Iterator<Entry<K, V>> changedEntries = new ArrayList<>(changes.entrySet()).iterator();
+        private final Iterator<Entry<K, V>> baseEntries = base.entrySet().iterator();
+        private Entry<K, V> next;
+        private Entry<K, V> last;
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+            if (changedEntries.hasNext()) {
+                next = changedEntries.next();
+                return true;
+            }
+            while (baseEntries.hasNext()) {
+                Entry<K, V> entry = baseEntries.next();
+                if (!hiddenBaseKeys.contains(entry.getKey())) {
+                    next = new SimpleImmutableEntry<>(entry);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = next;
+            next = null;
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            K key = last.getKey();
+            last = null;
+            ForkedMap.this.remove(key);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package seedu.clialgo.logic;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * BK-tree of the lowercase names of all <code>CS2040CFiles</code> under the Levenshtein distance, each mapped to the
+ * name of the <code>CS2040CFile</code> as it was typed. Each child of a node is kept under its distance from that
+ * node, so by the triangle inequality, a search for the names within a small distance of a query only has to visit
+ * the children whose distance is close to that of their parent from the query, instead of every name.
+ * <p>
+ * A removed name is only marked as removed, as a BK-tree cannot unlink a node without rebuilding everything below
+ * it. The whole tree is rebuilt from the remaining names once more names are marked as removed than are left.
+ */
+public class NameBkTree {
+    private Node root;
+    private int size;
+    private int removedCount;
+
+    /** A node of the tree, holding one name. */
+    private static class Node {
+        private final String key;
+        /** The name this node maps to, or null if the name has been removed. */
+        private String value;
+        private HashMap<Integer, Node> children;
+
+        private Node(String key, String value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Gets the Levenshtein distance between two strings, which is the least number of characters to insert, delete
+     * or substitute to turn one into the other.
+     *
+     * @param first The first string.
+     * @param second The second string.
+     * @return The Levenshtein distance.
+     */
+    static int getDistance(String first, String second) {
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j += 1) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i += 1) {
+            currentRow[0] = i;
+            for (int j = 1; j <= second.length(); j += 1) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(Math.min(currentRow[j - 1] + 1, previousRow[j] + 1),
+                        previousRow[j - 1] + substitutionCost);
+            }
+            int[] row = previousRow;
+            previousRow = currentRow;
+            currentRow = row;
+        }
+        return previousRow[second.length()];
+    }
+
+    /**
+     * Maps <code>key</code> to <code>value</code>, replacing the value it was mapped to before, if any.
+     *
+     * @param key The lowercase name of the <code>CS2040CFile</code>.
+     * @param value The name of the <code>CS2040CFile</code>.
+     */
+    public void put(String key, String value) {
+        assert value != null;
+        if (root == null) {
+            root = new Node(key, value);
+            size += 1;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = getDistance(key, node.key);
+            if (distance == 0) {
+                if (node.value == null) {
+                    size += 1;
+                    removedCount -= 1;
+                }
+                node.value = value;
+                return;
+            }
+            if (node.children == null) {
+                node.children = new HashMap<>();
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(key, value));
+                size += 1;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Finds the node holding <code>key</code>, whether or not its name has been removed.
+     *
+     * @return The node, or null if <code>key</code> was never added since the tree was last rebuilt.
+     */
+    private Node findNode(String key) {
+        Node node = root;
+        while (node != null) {
+            int distance = getDistance(key, node.key);
+            if (distance == 0) {
+                return node;
+            }
+            node = node.children == null ? null : node.children.get(distance);
+        }
+        return null;
+    }
+
+    /**
+     * Removes <code>key</code> from this tree, rebuilding the tree if more names are marked as removed than are left.
+     *
+     * @param key The lowercase name of the <code>CS2040CFile</code>.
+     * @return true if <code>key</code> was removed and false if it was not in this tree.
+     */
+    public boolean remove(String key) {
+        Node node = findNode(key);
+        if (node == null || node.value == null) {
+            return false;
+        }
+        node.value = null;
+        size -= 1;
+        removedCount += 1;
+        if (removedCount > size) {
+            rebuild();
+        }
+        return true;
+    }
+
+    /** Builds the tree again from the names which have not been removed. */
+    private void rebuild() {
+        ArrayList<Node> nodes = new ArrayList<>();
+        ArrayDeque<Node> nodesToVisit = new ArrayDeque<>();
+        if (root != null) {
+            nodesToVisit.push(root);
+        }
+        while (!nodesToVisit.isEmpty()) {
+            Node node = nodesToVisit.pop();
+            if (node.value != null) {
+                nodes.add(node);
+            }
+            if (node.children != null) {
+                nodesToVisit.addAll(node.children.values());
+            }
+        }
+        root = null;
+        size = 0;
+        removedCount = 0;
+        for (Node node : nodes) {
+            put(node.key, node.value);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the values of at most <code>limit</code> keys within <code>maxDistance</code> of <code>query</code>,
+     * visiting only the children whose distance from their parent is within <code>maxDistance</code> of the
+     * distance from their parent to <code>query</code>.
+     *
+     * @param query The lowercase name to find similar names to.
+     * @param maxDistance The largest Levenshtein distance from <code>query</code> of the keys found.
+     * @param limit The maximum number of values to get.
+     * @return The values, in increasing distance of their keys from <code>query</code>, then in ascending order of
+     *         their keys.
+     */
+    public ArrayList<String> getValuesWithinDistance(String query, int maxDistance, int limit) {
+        ArrayList<ArrayList<Node>> nodesByDistance = new ArrayList<>();
+        for (int distance = 0; distance <= maxDistance; distance += 1) {
+            nodesByDistance.add(new ArrayList<>());
+        }
+        ArrayDeque<Node> nodesToVisit = new ArrayDeque<>();
+        if (root != null) {
+            nodesToVisit.push(root);
+        }
+        while (!nodesToVisit.isEmpty()) {
+            Node node = nodesToVisit.pop();
+            int distance = getDistance(query, node.key);
+            if (distance <= maxDistance && node.value != null) {
+                nodesByDistance.get(distance).add(node);
+            }
+            if (node.children == null) {
+                continue;
+            }
+            for (int childDistance = Math.max(1, distance - maxDistance); childDistance <= distance + maxDistance;
+                    childDistance += 1) {
+                Node child = node.children.get(childDistance);
+                if (child != null) {
+                    nodesToVisit.push(child);
+                }
+            }
+        }
+        ArrayList<String> values = new ArrayList<>();
+        for (ArrayList<Node> nodes : nodesByDistance) {
+            nodes.sort((first, second) -> first.key.compareTo(second.key));
+            for (Node node : nodes) {
+                if (values.size() >= limit) {
+                    return values;
+                }
+                values.add(node.value);
+            }
+        }
+        return values;
+    }
+}
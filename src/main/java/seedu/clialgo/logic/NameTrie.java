@@ -0,0 +1,277 @@
+package seedu.clialgo.logic;
+
+import java.util.ArrayList;
+
+/**
+ * Compressed trie, or radix tree, of the lowercase names of all <code>CS2040CFiles</code>, each mapped to the name of
+ * the <code>CS2040CFile</code> as it was typed. Each edge is labelled with a whole run of characters, so a chain of
+ * nodes with a single child is stored as one node, and the children of each node are kept in ascending order of the
+ * first character of their label.
+ * <p>
+ * Finding every name starting with a prefix takes time proportional to the length of the prefix plus the length of
+ * the names found, however many names there are in total.
+ */
+public class NameTrie implements PrefixIndex {
+    private final Node root;
+    private int size;
+
+    /** A node of the trie, reached from its parent by the characters in <code>label</code>. */
+    private static class Node {
+        private String label;
+        /** The name this node maps to, or null if no key ends at this node. */
+        private String value;
+        private ArrayList<Node> children = new ArrayList<>();
+
+        private Node(String label, String value) {
+            this.label = label;
+            this.value = value;
+        }
+
+        /**
+         * Finds the position of the child whose label starts with <code>firstCharacter</code> with a binary search.
+         *
+         * @return The position of the child, or <code>-(insertion point) - 1</code> if there is no such child.
+         */
+        private int findChild(char firstCharacter) {
+            int low = 0;
+            int high = children.size() - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                char middleCharacter = children.get(middle).label.charAt(0);
+                if (middleCharacter < firstCharacter) {
+                    low = middle + 1;
+                } else if (middleCharacter > firstCharacter) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -(low + 1);
+        }
+
+        /** Merges this node with its only child, if no key ends at this node. */
+        private void mergeWithOnlyChild() {
+            if (value != null || children.size() != 1) {
+                return;
+            }
+            Node child = children.get(0);
+            label = label + child.label;
+            value = child.value;
+            children = child.children;
+        }
+    }
+
+    /** Constructor that initializes an empty <code>NameTrie</code>. */
+    public NameTrie() {
+        this.root = new Node("", null);
+    }
+
+    /**
+     * Gets the length of the longest common prefix of <code>label</code> and <code>key</code> from
+     * <code>keyStart</code>.
+     */
+    private static int getCommonPrefixLength(String label, String key, int keyStart) {
+        int maxLength = Math.min(label.length(), key.length() - keyStart);
+        int length = 0;
+        while (length < maxLength && label.charAt(length) == key.charAt(keyStart + length)) {
+            length += 1;
+        }
+        return length;
+    }
+
+    /**
+     * Maps <code>key</code> to <code>value</code>, replacing the value it was mapped to before, if any.
+     *
+     * @param key The lowercase name of the <code>CS2040CFile</code>.
+     * @param value The name of the <code>CS2040CFile</code>.
+     */
+    public void put(String key, String value) {
+        assert value != null;
+        Node node = root;
+        int keyStart = 0;
+        while (keyStart < key.length()) {
+            int position = node.findChild(key.charAt(keyStart));
+            if (position < 0) {
+                node.children.add(-position - 1, new Node(key.substring(keyStart), value));
+                size += 1;
+                return;
+            }
+            Node child = node.children.get(position);
+            int commonLength = getCommonPrefixLength(child.label, key, keyStart);
+            if (commonLength < child.label.length()) {
+                // Splits the edge to the child where the key leaves it
+                Node middle = new Node(child.label.substring(0, commonLength), null);
+                child.label = child.label.substring(commonLength);
+                middle.children.add(child);
+                node.children.set(position, middle);
+                child = middle;
+            }
+            node = child;
+            keyStart += commonLength;
+        }
+        if (node.value == null) {
+            size += 1;
+        }
+        node.value = value;
+    }
+
+    /**
+     * Finds the node at which <code>key</code> ends, and the parent of that node.
+     *
+     * @return The parent and the node, or null if no node ends exactly at <code>key</code>.
+     */
+    private Node[] findExactNode(String key) {
+        Node parent = null;
+        Node node = root;
+        int keyStart = 0;
+        while (keyStart < key.length()) {
+            int position = node.findChild(key.charAt(keyStart));
+            if (position < 0) {
+                return null;
+            }
+            Node child = node.children.get(position);
+            if (!key.startsWith(child.label, keyStart)) {
+                return null;
+            }
+            parent = node;
+            node = child;
+            keyStart += child.label.length();
+        }
+        return new Node[] {parent, node};
+    }
+
+    /**
+     * Gets the value <code>key</code> is mapped to.
+     *
+     * @param key The lowercase name of the <code>CS2040CFile</code>.
+     * @return The name of the <code>CS2040CFile</code>, or null if <code>key</code> is not in this trie.
+     */
+    public String get(String key) {
+        Node[] nodes = findExactNode(key);
+        return nodes == null ? null : nodes[1].value;
+    }
+
+    /**
+     * Removes <code>key</code> from this trie, merging the nodes left with a single child so that the trie stays
+     * compressed.
+     *
+     * @param key The lowercase name of the <code>CS2040CFile</code>.
+     * @return true if <code>key</code> was removed and false if it was not in this trie.
+     */
+    public boolean remove(String key) {
+        Node[] nodes = findExactNode(key);
+        if (nodes == null || nodes[1].value == null) {
+            return false;
+        }
+        Node parent = nodes[0];
+        Node node = nodes[1];
+        node.value = null;
+        size -= 1;
+        if (node == root) {
+            return true;
+        }
+        if (node.children.isEmpty()) {
+            parent.children.remove(parent.findChild(node.label.charAt(0)));
+            if (parent != root) {
+                parent.mergeWithOnlyChild();
+            }
+        } else {
+            node.mergeWithOnlyChild();
+        }
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** Removes every key from this trie. */
+    public void clear() {
+        root.value = null;
+        root.children = new ArrayList<>();
+        size = 0;
+    }
+
+    /**
+     * Finds the highest node whose key starts with <code>prefix</code>, and appends the key of that node to
+     * <code>path</code>.
+     *
+     * @return The node, or null if no key starts with <code>prefix</code>.
+     */
+    private Node findPrefixNode(String prefix, StringBuilder path) {
+        Node node = root;
+        int prefixStart = 0;
+        while (prefixStart < prefix.length()) {
+            int position = node.findChild(prefix.charAt(prefixStart));
+            if (position < 0) {
+                return null;
+            }
+            Node child = node.children.get(position);
+            int commonLength = getCommonPrefixLength(child.label, prefix, prefixStart);
+            if (commonLength < child.label.length() && prefixStart + commonLength < prefix.length()) {
+                return null;
+            }
+            // The prefix may end inside the label, in which case every key below the child still starts with it
+            path.append(child.label);
+            node = child;
+            prefixStart += child.label.length();
+        }
+        return node;
+    }
+
+    /**
+     * Adds the keys, or the values if <code>isValue</code> is true, of <code>node</code> and the nodes below it to
+     * <code>results</code> in ascending order of key, until <code>results</code> holds <code>limit</code> of them.
+     * <code>path</code> holds the key of <code>node</code> and is restored before returning.
+     */
+    private static void collect(Node node, StringBuilder path, boolean isValue, int limit,
+            ArrayList<String> results) {
+        if (results.size() >= limit) {
+            return;
+        }
+        if (node.value != null) {
+            results.add(isValue ? node.value : path.toString());
+        }
+        for (Node child : node.children) {
+            int pathLength = path.length();
+            path.append(child.label);
+            collect(child, path, isValue, limit, results);
+            path.setLength(pathLength);
+            if (results.size() >= limit) {
+                return;
+            }
+        }
+    }
+
+    private ArrayList<String> collectWithPrefix(String prefix, boolean isValue, int limit) {
+        ArrayList<String> results = new ArrayList<>();
+        StringBuilder path = new StringBuilder();
+        Node node = findPrefixNode(prefix, path);
+        if (node != null && limit > 0) {
+            collect(node, path, isValue, limit, results);
+        }
+        return results;
+    }
+
+    /**
+     * Gets every key of this trie which starts with <code>prefix</code>.
+     *
+     * @param prefix The prefix of the keys.
+     * @return The keys starting with <code>prefix</code>, in ascending order.
+     */
+    @Override
+    public ArrayList<String> getKeysWithPrefix(String prefix) {
+        return collectWithPrefix(prefix, false, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Gets the values of at most <code>limit</code> keys of this trie which start with <code>prefix</code>.
+     *
+     * @param prefix The prefix of the keys.
+     * @param limit The maximum number of values to get.
+     * @return The values, in ascending order of their keys.
+     */
+    public ArrayList<String> getValuesWithPrefix(String prefix, int limit) {
+        return collectWithPrefix(prefix, true, limit);
+    }
+}
@@ -0,0 +1,18 @@
+package seedu.clialgo.logic;
+
+import java.util.ArrayList;
+
+/**
+ * Interface for indexes of <code>CS2040CFile</code> names which can find every name starting with a prefix without
+ * going through all the names.
+ */
+public interface PrefixIndex {
+
+    /**
+     * Gets every key of this index which starts with <code>prefix</code>.
+     *
+     * @param prefix The prefix of the keys.
+     * @return The keys starting with <code>prefix</code>, in ascending order.
+     */
+    ArrayList<String> getKeysWithPrefix(String prefix);
+}
@@ -4,18 +4,32 @@ import seedu.clialgo.file.CS2040CFile;
 import seedu.clialgo.file.Code;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Objects;
 import java.util.Map;
+import java.util.TreeMap;
 
 
 /**
  * The <code>Topic</code> object handles the operations of the CS2040CFiles within a specific topic.
  */
 public class Topic {
+    /** Shown after the name of a <code>CS2040CFile</code> whose .txt or .cpp file was found to be missing. */
+    public static final String DANGLING_LABEL = " (file missing)";
     private final String topicName;
     private final HashMap<String, CS2040CFile> cs2040cFiles;
 
+    /**
+     * The CS2040CFiles of each importance, sorted by name, or null until they are first needed. Sorting by name keeps
+     * the order of a bucket the same whether it was built from <code>cs2040cFiles</code>, whose order is not defined,
+     * or filled one CS2040CFile at a time. They are kept up to date by <code>addCS2040CFile</code> and
+     * <code>removeCS2040CFile</code>, which the <code>StorageEngine</code> also goes through, so
+     * <code>cs2040cFiles</code> must not be changed in any other way.
+     */
+    private ArrayList<TreeMap<String, CS2040CFile>> importanceBuckets;
+
     /**
      * Constructor that initializes an empty <code>Topic</code> object.
      *
@@ -59,7 +73,8 @@ public class Topic {
     }
 
     /**
-     * Obtains all the CS2040CFiles inside the <code>Topic</code> object.
+     * Obtains all the CS2040CFiles inside the <code>Topic</code> object. The HashMap must only be read, as
+     * CS2040CFiles are added and removed with <code>addCS2040CFile</code> and <code>removeCS2040CFile</code>.
      *
      * @return A HashMap of all the cs2040CFiles inside this <code>Topic</code> object.
      */
@@ -88,6 +103,11 @@ public class Topic {
             } else {
                 cs2040cFileNameWithLabel = String.format("[NOTE] " + cs2040cFileName);
             }
+            //@@author
+            if (entry.getValue().isDangling()) {
+                cs2040cFileNameWithLabel += DANGLING_LABEL;
+            }
+            //@@author heejet
 
             topicCS2040CFiles.add(cs2040cFileNameWithLabel);
         }
@@ -103,6 +123,10 @@ public class Topic {
      */
     public void addCS2040CFile(String name, CS2040CFile cs2040cFile) {
         cs2040cFiles.put(name, cs2040cFile);
+        if (importanceBuckets != null) {
+            removeFromBuckets(name);
+            getBucket(cs2040cFile.getImportance()).put(name, cs2040cFile);
+        }
     }
 
     /**
@@ -112,6 +136,9 @@ public class Topic {
      */
     public boolean removeCS2040CFile(String name) {
         this.cs2040cFiles.remove(name);
+        if (importanceBuckets != null) {
+            removeFromBuckets(name);
+        }
         return true;
     }
 
@@ -119,6 +146,53 @@ public class Topic {
         return new ArrayList<>(cs2040cFiles.values());
     }
 
+    /**
+     * Gets the bucket of the CS2040CFiles of <code>importance</code>. Importances outside the valid range, which
+     * can only come from a damaged data file, share the bucket of the nearest valid importance.
+     */
+    private TreeMap<String, CS2040CFile> getBucket(int importance) {
+        int boundedImportance = Math.max(CS2040CFile.MIN_IMPORTANCE, Math.min(CS2040CFile.MAX_IMPORTANCE, importance));
+        return importanceBuckets.get(boundedImportance - CS2040CFile.MIN_IMPORTANCE);
+    }
+
+    private void removeFromBuckets(String name) {
+        for (TreeMap<String, CS2040CFile> bucket : importanceBuckets) {
+            if (bucket.remove(name) != null) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Builds the importance buckets from <code>cs2040cFiles</code> if they have not been built yet.
+     */
+    private void indexImportance() {
+        if (importanceBuckets != null) {
+            return;
+        }
+        importanceBuckets = new ArrayList<>();
+        for (int i = CS2040CFile.MIN_IMPORTANCE; i <= CS2040CFile.MAX_IMPORTANCE; i += 1) {
+            importanceBuckets.add(new TreeMap<>());
+        }
+        for (Map.Entry<String, CS2040CFile> entry : cs2040cFiles.entrySet()) {
+            getBucket(entry.getValue().getImportance()).put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Gets the CS2040CFiles of <code>importance</code> in this <code>Topic</code> by name, without copying them.
+     *
+     * @param importance The importance of the CS2040CFiles.
+     * @return An unmodifiable view of the CS2040CFiles of <code>importance</code>.
+     */
+    public Collection<CS2040CFile> getCS2040CFilesOfImportance(int importance) {
+        if (importance < CS2040CFile.MIN_IMPORTANCE || importance > CS2040CFile.MAX_IMPORTANCE) {
+            return Collections.emptyList();
+        }
+        indexImportance();
+        return Collections.unmodifiableCollection(getBucket(importance).values());
+    }
+
     /**
      * A method that checks for equality of <code>Topic</code> objects.
      *
@@ -0,0 +1,29 @@
+package seedu.clialgo.logic;
+
+/**
+ * Interface for objects which can load a single <code>Topic</code> from storage when it is first needed, so that the
+ * <code>TopicManager</code> does not have to read every <code>Topic</code> at startup.
+ */
+public interface TopicLoader {
+
+    /**
+     * Loads the <code>Topic</code> named <code>topicName</code> with all of its <code>CS2040CFiles</code>.
+     *
+     * @param topicName The name of the <code>Topic</code> to load.
+     * @return The loaded <code>Topic</code>.
+     */
+    Topic loadTopic(String topicName);
+
+    /**
+     * Loads the <code>Topic</code> named <code>topicName</code> to be changed. A loader which shares its
+     * <code>Topics</code> with the data outside of test mode returns a copy which only test mode uses, so that the
+     * <code>TopicManager</code> does not copy it again. By default, the <code>Topic</code> is loaded with
+     * <code>loadTopic</code>.
+     *
+     * @param topicName The name of the <code>Topic</code> to load.
+     * @return The loaded <code>Topic</code>, which may be changed.
+     */
+    default Topic loadTopicToModify(String topicName) {
+        return loadTopic(topicName);
+    }
+}
@@ -4,7 +4,9 @@ import seedu.clialgo.file.CS2040CFile;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -26,18 +28,35 @@ public class TopicManager {
     );
 
     /** General Hashmap to check for duplicate names. */
-    private HashMap<String, String> allCS2040CFiles;
+    private Map<String, String> allCS2040CFiles;
 
     /** Data Structure to hold all the topics */
     private HashMap<String, Topic> topics;
 
     /** A Data Structure to keep track of all the CS240CFile in CLIAlgo and the topic they are tagged to. */
-    private HashMap<String, String> allCS2040CFilesOutsideTestMode;
+    private Map<String, String> allCS2040CFilesOutsideTestMode;
 
     /** Test mode */
     private HashMap<String, Topic> topicsOutsideTestMode;
     private boolean isTestModeOn;
 
+    /** Names of the topics in <code>topics</code> which are still shared with the data outside of test mode. */
+    private HashSet<String> sharedTopicNames = new HashSet<>();
+    private boolean isForked;
+
+    /** Loads the topics which are not in <code>topics</code> yet, or null if all topics are always loaded. */
+    private TopicLoader topicLoader;
+
+    /**
+     * The lowercase names of all CS2040CFiles in a radix tree and in a BK-tree, built from <code>allCS2040CFiles</code>
+     * when first needed. Both are dropped whenever a CS2040CFile is added or removed, and are only used while
+     * <code>allCS2040CFiles</code> is the map they were built from.
+     */
+    private NameTrie nameTrie;
+    private Map<String, String> nameTrieSource;
+    private NameBkTree nameBkTree;
+    private Map<String, String> nameBkTreeSource;
+
     /**
      * Constructor that initializes a <code>TopicManager</code> object that contains a HashMap of all the names of the
      * topics in CLIAlgo as keys, with a corresponding <code>Topic</code> object as value. Also initializes a HashSet
@@ -65,7 +84,7 @@ public class TopicManager {
 
     /** Checks if a specified topic has no CS2040CFiles stored in it. */
     public boolean isTopicEmpty(String topic) {
-        return topics.get(topic).isEmpty();
+        return getTopic(topic).isEmpty();
     }
 
     /** Checks if a given CS2040CFile name has been used before. */
@@ -85,6 +104,7 @@ public class TopicManager {
      * @return A HashMap containing all the topics in CLIAlgo.
      */
     public HashMap<String, Topic> getTopics() {
+        loadAllTopics();
         return this.topics;
     }
 
@@ -103,6 +123,144 @@ public class TopicManager {
         return this.allCS2040CFiles.get(cs2040cFileName.toLowerCase());
     }
 
+    //@@author
+    /**
+     * Gets the lowercase names of all <code>CS2040CFiles</code> starting with <code>prefix</code>, without loading any
+     * <code>Topic</code>. Uses the <code>PrefixIndex</code> if the names are indexed by one.
+     *
+     * @param prefix The prefix of the names, in any case.
+     * @return The lowercase names starting with <code>prefix</code>, in ascending order.
+     */
+    public ArrayList<String> getCS2040CFileNamesWithPrefix(String prefix) {
+        String prefixLowerCase = prefix.toLowerCase();
+        if (allCS2040CFiles instanceof PrefixIndex) {
+            return ((PrefixIndex) allCS2040CFiles).getKeysWithPrefix(prefixLowerCase);
+        }
+        ArrayList<String> names = new ArrayList<>();
+        for (String name : allCS2040CFiles.keySet()) {
+            if (name.startsWith(prefixLowerCase)) {
+                names.add(name);
+            }
+        }
+        Collections.sort(names);
+        return names;
+    }
+
+    /**
+     * Drops the radix tree and the BK-tree of the names of all CS2040CFiles, so that they are built again from
+     * <code>allCS2040CFiles</code> the next time they are needed.
+     */
+    private void invalidateNameTrees() {
+        nameTrie = null;
+        nameBkTree = null;
+    }
+
+    /**
+     * Gets the radix tree of the lowercase names of all CS2040CFiles, building it from <code>allCS2040CFiles</code>
+     * first if it has been dropped or was built from another map. No <code>Topic</code> is loaded.
+     */
+    private NameTrie getNameTrie() {
+        if (nameTrie != null && nameTrieSource == allCS2040CFiles) {
+            return nameTrie;
+        }
+        NameTrie names = new NameTrie();
+        for (String name : allCS2040CFiles.keySet()) {
+            names.put(name, name);
+        }
+        nameTrie = names;
+        nameTrieSource = allCS2040CFiles;
+        return nameTrie;
+    }
+
+    /**
+     * Gets the BK-tree of the lowercase names of all CS2040CFiles, building it from <code>allCS2040CFiles</code>
+     * first if it has been dropped or was built from another map. No <code>Topic</code> is loaded.
+     */
+    private NameBkTree getNameBkTree() {
+        if (nameBkTree != null && nameBkTreeSource == allCS2040CFiles) {
+            return nameBkTree;
+        }
+        NameBkTree names = new NameBkTree();
+        for (String name : allCS2040CFiles.keySet()) {
+            names.put(name, name);
+        }
+        nameBkTree = names;
+        nameBkTreeSource = allCS2040CFiles;
+        return nameBkTree;
+    }
+
+    /**
+     * Gets the names of CS2040CFiles as they were added from their lowercase names. Only the <code>Topics</code>
+     * containing them are loaded, each once.
+     *
+     * @param lowercaseNames The lowercase names of stored CS2040CFiles.
+     * @return The names as they were added, in the same order.
+     */
+    private ArrayList<String> getNamesAsAdded(ArrayList<String> lowercaseNames) {
+        HashMap<String, HashMap<String, String>> namesOfTopics = new HashMap<>();
+        ArrayList<String> names = new ArrayList<>();
+        for (String lowercaseName : lowercaseNames) {
+            String topicName = allCS2040CFiles.get(lowercaseName);
+            if (topicName == null) {
+                continue;
+            }
+            String name = namesOfTopics.computeIfAbsent(topicName, this::getNamesOfTopic).get(lowercaseName);
+            if (name != null) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+
+    /** Gets the names of the CS2040CFiles of <code>topicName</code> as they were added, keyed by lowercase name. */
+    private HashMap<String, String> getNamesOfTopic(String topicName) {
+        HashMap<String, String> names = new HashMap<>();
+        Topic topic = getTopic(topicName);
+        if (topic != null) {
+            for (String name : topic.getC2040CFiles().keySet()) {
+                names.put(name.toLowerCase(), name);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Gets the names of at most <code>limit</code> CS2040CFiles within <code>maxDistance</code> edits of
+     * <code>cs2040cFileName</code>, ignoring case, from a BK-tree of the names, so that not every name is compared.
+     * Only the <code>Topics</code> of the names found are loaded.
+     *
+     * @param cs2040cFileName The name to find similar names to, in any case.
+     * @param maxDistance The largest number of characters inserted, deleted or substituted.
+     * @param limit The maximum number of names to get.
+     * @return The names as they were added, the most similar first.
+     */
+    public ArrayList<String> getSimilarCS2040CFileNames(String cs2040cFileName, int maxDistance, int limit) {
+        return getNamesAsAdded(getNameBkTree().getValuesWithinDistance(cs2040cFileName.toLowerCase(), maxDistance,
+                limit));
+    }
+
+    /**
+     * Gets the names of at most <code>limit</code> CS2040CFiles starting with <code>prefix</code>, ignoring case, from
+     * the <code>PrefixIndex</code> if the names are indexed by one, or else from a radix tree of the names. Once the
+     * radix tree has been built, takes time proportional to the length of <code>prefix</code> plus the length of the
+     * names found. Only the <code>Topics</code> of the names found are loaded.
+     *
+     * @param prefix The prefix of the names, in any case.
+     * @param limit The maximum number of names to get.
+     * @return The names as they were added, in ascending order of their lowercase names.
+     */
+    public ArrayList<String> getCS2040CFileNamesStartingWith(String prefix, int limit) {
+        ArrayList<String> lowercaseNames;
+        if (allCS2040CFiles instanceof PrefixIndex) {
+            lowercaseNames = getCS2040CFileNamesWithPrefix(prefix);
+            lowercaseNames.subList(Math.min(limit, lowercaseNames.size()), lowercaseNames.size()).clear();
+        } else {
+            lowercaseNames = getNameTrie().getValuesWithPrefix(prefix.toLowerCase(), limit);
+        }
+        return getNamesAsAdded(lowercaseNames);
+    }
+    //@@author heejet
+
     /**
      * Gets all CS2040CFiles stored in CLIAlgo and stores it in an ArrayList.
      *
@@ -110,6 +268,7 @@ public class TopicManager {
      */
     public ArrayList<String> getAllCS2040CFiles() {
         ArrayList<String> toPrintCS2040CFiles = new ArrayList<>();
+        loadAllTopics();
         for (Map.Entry<String, Topic> entry : topics.entrySet()) {
             Topic currentTopic = entry.getValue();
             ArrayList<String> currentTopicCS2040CFiles = currentTopic.getAllCS2040CFilesInTopicToPrint();
@@ -125,7 +284,7 @@ public class TopicManager {
      * @return An ArrayList containing names of all the CS2040CFiles stored in the specified topic.
      */
     public ArrayList<String> getCS2040CFilesByTopicToPrint(String topic) {
-        Topic currentTopic = topics.get(topic);
+        Topic currentTopic = getTopic(topic);
         return currentTopic.getAllCS2040CFilesInTopicToPrint();
     }
 
@@ -136,6 +295,7 @@ public class TopicManager {
      */
     public HashMap<String, ArrayList<String>> getAllCS2040CFilesGroupedByTopicToPrint() {
         HashMap<String, ArrayList<String>> toPrintCS2040CFiles = new HashMap<>();
+        loadAllTopics();
         for (Map.Entry<String, Topic> entry : topics.entrySet()) {
             Topic currentTopic = entry.getValue();
             if (currentTopic.isEmpty()) {
@@ -161,7 +321,7 @@ public class TopicManager {
 
         for (String topicName : TOPO_ORDER) {
             // Check which topic contains that particular CS2040CFile
-            if ((topics.get(topicName).isInsideTopic(cs2040cFileName))) {
+            if ((getTopic(topicName).isInsideTopic(cs2040cFileName))) {
                 isPartOfTopoOrder = true;
             }
 
@@ -178,6 +338,7 @@ public class TopicManager {
     //@@author nicholas132000
     public ArrayList<CS2040CFile> getAllFilesAsFiles() {
         ArrayList<CS2040CFile> files = new ArrayList<>();
+        loadAllTopics();
         for (Topic topic: topics.values()) {
             files.addAll(topic.getC2040CFiles().values());
         }
@@ -185,10 +346,95 @@ public class TopicManager {
     }
 
     public Topic getOneTopic(String topicName) {
-        return topics.get(topicName);
+        return getTopic(topicName);
     }
 
     //@@author lohjooh
+    /**
+     * Gets the CS2040CFiles with an importance from <code>minImportance</code> to <code>maxImportance</code> in
+     * decreasing order of importance, from the importance buckets of each <code>Topic</code>, so that no sorting is
+     * needed and the buckets outside the range are never visited. CS2040CFiles of the same importance are ordered by
+     * <code>Topic</code>, then by name. Stops as soon as <code>limit</code> CS2040CFiles are found.
+     *
+     * @param topicName The name of the only <code>Topic</code> to get the CS2040CFiles of, or null for every
+     *                  <code>Topic</code>.
+     * @param minImportance The lowest importance of the CS2040CFiles to get.
+     * @param maxImportance The highest importance of the CS2040CFiles to get.
+     * @param limit The maximum number of CS2040CFiles to get.
+     * @return An ArrayList of at most <code>limit</code> CS2040CFiles.
+     */
+    public ArrayList<CS2040CFile> getCS2040CFilesByImportance(String topicName, int minImportance, int maxImportance,
+            int limit) {
+        ArrayList<Topic> selectedTopics = new ArrayList<>();
+        for (String name : TOPIC_NAMES) {
+            if ((topicName == null || topicName.equals(name)) && getTopic(name) != null) {
+                selectedTopics.add(getTopic(name));
+            }
+        }
+        ArrayList<CS2040CFile> files = new ArrayList<>();
+        int highestImportance = Math.min(maxImportance, CS2040CFile.MAX_IMPORTANCE);
+        int lowestImportance = Math.max(minImportance, CS2040CFile.MIN_IMPORTANCE);
+        for (int importance = highestImportance; importance >= lowestImportance; importance -= 1) {
+            for (Topic topic : selectedTopics) {
+                for (CS2040CFile cs2040cFile : topic.getCS2040CFilesOfImportance(importance)) {
+                    if (files.size() >= limit) {
+                        return files;
+                    }
+                    files.add(cs2040cFile);
+                }
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Gets the <code>Topic</code> named <code>topicName</code>, loading it with <code>topicLoader</code> first if it
+     * has not been loaded yet.
+     *
+     * @param topicName The name of the <code>Topic</code>.
+     * @return The <code>Topic</code> named <code>topicName</code>.
+     */
+    private Topic getTopic(String topicName) {
+        Topic topic = topics.get(topicName);
+        if (topic == null && topicLoader != null) {
+            topic = topicLoader.loadTopic(topicName);
+            topics.put(topicName, topic);
+            if (isForked) {
+                sharedTopicNames.add(topicName);
+            }
+        }
+        return topic;
+    }
+
+    /**
+     * Gets the <code>Topic</code> named <code>topicName</code> to be modified. If the <code>Topic</code> is still
+     * shared with the data outside of test mode, it is first replaced by a copy which only test mode uses. The copy
+     * is taken from <code>topicLoader</code>, whose forked storage already makes one, so that the <code>Topic</code>
+     * is only copied once. Without a <code>topicLoader</code>, the <code>Topic</code> is copied here.
+     *
+     * @param topicName The name of the <code>Topic</code>.
+     * @return The <code>Topic</code> named <code>topicName</code>, which is not shared.
+     */
+    private Topic getTopicToModify(String topicName) {
+        Topic topic = getTopic(topicName);
+        if (sharedTopicNames.remove(topicName)) {
+            topic = topicLoader != null ? topicLoader.loadTopicToModify(topicName)
+                    : new Topic(topicName, new HashMap<>(topic.getC2040CFiles()));
+            topics.put(topicName, topic);
+        }
+        return topic;
+    }
+
+    /** Loads every <code>Topic</code> that has not been loaded yet. */
+    private void loadAllTopics() {
+        if (topicLoader == null || topics.size() == TOPIC_NAMES.size()) {
+            return;
+        }
+        for (String topicName : TOPIC_NAMES) {
+            getTopic(topicName);
+        }
+    }
+
     /**
      * Initializes the <code>topics</code> and <code>allCS2040CFile</code> of this object by taking in input from the
      * <code>FileManager</code> object.
@@ -197,6 +443,7 @@ public class TopicManager {
      */
     public void initialize(HashMap<String, Topic> topics) {
         this.topics = topics;
+        this.topicLoader = null;
         for (Map.Entry<String, Topic> entry : topics.entrySet()) {
             Topic topic = entry.getValue();
             if (topic.isEmpty()) {
@@ -208,6 +455,35 @@ public class TopicManager {
         }
     }
 
+    /**
+     * Initializes the <code>topics</code> and <code>allCS2040CFile</code> of this object with the output of the
+     * <code>FileManager</code> object, reusing the index of names that the <code>FileManager</code> built while
+     * reading the data files instead of going through every <code>CS2040CFile</code> again.
+     *
+     * @param topics The output obtained from the <code>FileManager</code> by calling <code>decodeAll</code>.
+     * @param nameIndex The output obtained from the <code>FileManager</code> by calling <code>getNameIndex</code>.
+     */
+    public void initialize(HashMap<String, Topic> topics, Map<String, String> nameIndex) {
+        this.topics = topics;
+        this.topicLoader = null;
+        this.allCS2040CFiles = nameIndex;
+    }
+
+    /**
+     * Initializes this object without loading any <code>Topic</code>. Each <code>Topic</code> is only loaded with
+     * <code>topicLoader</code> when it is first needed, while <code>nameIndex</code> is used to answer which
+     * <code>CS2040CFiles</code> exist and which <code>Topic</code> they belong to.
+     *
+     * @param topicLoader The object used to load each <code>Topic</code>.
+     * @param nameIndex The lowercase names of all stored <code>CS2040CFiles</code> mapped to the name of their
+     *                  <code>Topic</code>.
+     */
+    public void initialize(TopicLoader topicLoader, Map<String, String> nameIndex) {
+        this.topics = new HashMap<>();
+        this.topicLoader = topicLoader;
+        this.allCS2040CFiles = nameIndex;
+    }
+
     //@@author ong-ck
     /**
      * Adds a new CS2040CFile into the specific <code>Topic</code> object
@@ -226,13 +502,16 @@ public class TopicManager {
         }
 
         // Adds CS2040CFile into topic hashmap
-        topics.get(topicName).addCS2040CFile(cs2040cFileName, cs2040cFile);
+        getTopicToModify(topicName).addCS2040CFile(cs2040cFileName, cs2040cFile);
 
-        assert topics.get(topicName).isInsideTopic(cs2040cFileName);
+        assert getTopic(topicName).isInsideTopic(cs2040cFileName);
 
         // Keep track of name of CS2040CFile added
         String cs2040cFileNameLowerCase = cs2040cFileName.toLowerCase();
         allCS2040CFiles.put(cs2040cFileNameLowerCase, topicName);
+        //@@author
+        invalidateNameTrees();
+        //@@author ong-ck
 
         return true;
     }
@@ -250,7 +529,7 @@ public class TopicManager {
             return false;
         }
 
-        Topic topic = topics.get(topicName);
+        Topic topic = getTopicToModify(topicName);
         boolean isInsideTopic = topic.isInsideTopic(cs2040cFileName);
 
         if (!isInsideTopic) {
@@ -258,17 +537,70 @@ public class TopicManager {
         }
 
         // Removes CS2040CFile into topic hashmap
-        topics.get(topicName).removeCS2040CFile(cs2040cFileName);
+        topic.removeCS2040CFile(cs2040cFileName);
 
-        assert !topics.get(topicName).isInsideTopic(cs2040cFileName);
+        assert !topic.isInsideTopic(cs2040cFileName);
 
         // Updates hashmap of CS2040CFiles present
         String cs2040cFileNameLowerCase = cs2040cFileName.toLowerCase();
         allCS2040CFiles.remove(cs2040cFileNameLowerCase);
+        //@@author
+        invalidateNameTrees();
+        //@@author nicholas132000
         return true;
     }
 
     //@@author lohjooh
+    /**
+     * Gets the CS2040CFile named <code>cs2040cFileName</code>.
+     *
+     * @param cs2040cFileName Name of the CS2040CFile.
+     * @return The CS2040CFile, or null if no CS2040CFile of that name is stored.
+     */
+    public CS2040CFile getCS2040CFile(String cs2040cFileName) {
+        String topicName = getTopicOfCS2040CFile(cs2040cFileName);
+        if (topicName == null) {
+            return null;
+        }
+        return getTopic(topicName).getC2040CFiles().get(cs2040cFileName);
+    }
+
+    /**
+     * Gets the CS2040CFile named <code>cs2040cFileName</code> only if its <code>Topic</code> is already loaded.
+     *
+     * @param cs2040cFileName Name of the CS2040CFile.
+     * @return The CS2040CFile, or null if its <code>Topic</code> is not loaded yet or no CS2040CFile of that name is
+     *         stored.
+     */
+    public CS2040CFile getLoadedCS2040CFile(String cs2040cFileName) {
+        String topicName = getTopicOfCS2040CFile(cs2040cFileName);
+        Topic topic = topicName == null ? null : topics.get(topicName);
+        if (topic == null) {
+            return null;
+        }
+        return topic.getC2040CFiles().get(cs2040cFileName);
+    }
+
+    /**
+     * Replaces a CS2040CFile with <code>cs2040cFile</code>, which may be tagged to a different <code>Topic</code>. The
+     * CS2040CFile replaced is not changed, so that it can be put back if saving the change fails.
+     *
+     * @param cs2040cFileName Name of the CS2040CFile.
+     * @param oldTopicName The name of the <code>Topic</code> the CS2040CFile is currently tagged to.
+     * @param cs2040cFile The CS2040CFile to replace it with.
+     * @return true if the CS2040CFile was replaced and false if it is not inside <code>oldTopicName</code>.
+     */
+    public boolean replaceCS2040CFile(String cs2040cFileName, String oldTopicName, CS2040CFile cs2040cFile) {
+        Topic oldTopic = getTopicToModify(oldTopicName);
+        if (!oldTopic.isInsideTopic(cs2040cFileName)) {
+            return false;
+        }
+        oldTopic.removeCS2040CFile(cs2040cFileName);
+        getTopicToModify(cs2040cFile.getTopic()).addCS2040CFile(cs2040cFileName, cs2040cFile);
+        allCS2040CFiles.put(cs2040cFileName.toLowerCase(), cs2040cFile.getTopic());
+        return true;
+    }
+
     /**
      * Resets <code>topics</code> and <code>allCS2040CFiles</code> when test mode starts. Stores the data outside of
      * test mode separately.
@@ -284,6 +616,32 @@ public class TopicManager {
         this.isTestModeOn = true;
     }
 
+    /**
+     * Starts test mode with the same <code>topics</code> and <code>allCS2040CFiles</code> as outside of test mode,
+     * without copying any <code>CS2040CFile</code>. Each <code>Topic</code> is only copied when it is first changed
+     * in test mode, so that the data outside of test mode is left as it was.
+     */
+    public void testModeFork() {
+        testModeFork(new ForkedMap<>(allCS2040CFiles));
+    }
+
+    /**
+     * Starts test mode like <code>testModeFork()</code>, but keeps the names of the CS2040CFiles in
+     * <code>forkedNameIndex</code>, the name index of the forked storage. This way, the names corrected by the
+     * storage when it first loads a <code>Topic</code> in test mode are seen here too.
+     *
+     * @param forkedNameIndex The name index forked from <code>allCS2040CFiles</code>, which only test mode changes.
+     */
+    public void testModeFork(Map<String, String> forkedNameIndex) {
+        this.topicsOutsideTestMode = topics;
+        this.allCS2040CFilesOutsideTestMode = allCS2040CFiles;
+        allCS2040CFiles = forkedNameIndex;
+        topics = new HashMap<>(topicsOutsideTestMode);
+        sharedTopicNames.addAll(topics.keySet());
+        this.isForked = true;
+        this.isTestModeOn = true;
+    }
+
     /**
      * Retrieves the <code>topics</code> and <code>allCS2040CFiles</code> data from before the start of test mode when
      * test mode ends such that the state before the start of test mode is restored.
@@ -291,6 +649,8 @@ public class TopicManager {
     public void testModeEnd() {
         this.allCS2040CFiles = allCS2040CFilesOutsideTestMode;
         this.topics = topicsOutsideTestMode;
+        sharedTopicNames.clear();
+        this.isForked = false;
         this.isTestModeOn = false;
     }
 
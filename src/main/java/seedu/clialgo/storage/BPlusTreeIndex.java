@@ -0,0 +1,542 @@
+package seedu.clialgo.storage;
+
+import seedu.clialgo.logic.PrefixIndex;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Index of the lowercase names of all <code>CS2040CFiles</code>, mapped to the name of their <code>Topic</code>, kept
+ * in a B+tree in an index file instead of on the heap. The index file is made of fixed-size pages, of which at most
+ * <code>cachedPageCount</code> are kept in memory, the least recently used page being written back and dropped first.
+ * <p>
+ * The index file records whether it was closed cleanly, together with a fingerprint of the data files it was built
+ * from. An index file which was not closed cleanly, or whose fingerprint no longer matches, has to be rebuilt.
+ * Entries are removed without merging pages, as names are seldom removed in bulk.
+ */
+public class BPlusTreeIndex extends AbstractMap<String, String> implements PrefixIndex {
+    /** The launch option used to keep the name index on the disk, with a page cache of the given size in KiB. */
+    public static final String OPTION_PREFIX = "--btree-cache=";
+
+    public static final String FILE_NAME = "names.idx";
+    public static final int PAGE_SIZE = 4096;
+    private static final int MIN_CACHED_PAGE_COUNT = 16;
+    private static final byte[] MAGIC = {'C', 'L', 'I', 'B'};
+    private static final byte FORMAT_VERSION = 1;
+    private static final byte LEAF = 1;
+    private static final byte INTERNAL = 2;
+    private static final int NODE_HEADER_LENGTH = Byte.BYTES + Short.BYTES + Integer.BYTES;
+    private static final int MAX_ENTRY_LENGTH = PAGE_SIZE / 4;
+    private static final int NO_PAGE = -1;
+
+    private final RandomAccessFile file;
+    private final LinkedHashMap<Integer, Node> cache;
+    private int rootPage;
+    private int pageCount;
+    private long size;
+    private long fingerprint;
+    private boolean isClean;
+
+    /** A page of the B+tree, holding either entries and a link to the next leaf, or keys and child pages. */
+    private static class Node {
+        private final int page;
+        private final boolean isLeaf;
+        private final ArrayList<String> keys = new ArrayList<>();
+        private final ArrayList<String> values = new ArrayList<>();
+        private final ArrayList<Integer> children = new ArrayList<>();
+        private int nextLeaf = NO_PAGE;
+        private boolean isDirty;
+
+        private Node(int page, boolean isLeaf) {
+            this.page = page;
+            this.isLeaf = isLeaf;
+        }
+
+        private static int encodedLength(String string) {
+            return Short.BYTES + string.getBytes(StandardCharsets.UTF_8).length;
+        }
+
+        private int encodedLength() {
+            int length = NODE_HEADER_LENGTH;
+            for (String key : keys) {
+                length += encodedLength(key);
+            }
+            for (String value : values) {
+                length += encodedLength(value);
+            }
+            return length + children.size() * Integer.BYTES;
+        }
+
+        /** Finds the position of <code>key</code>, or where it would be inserted as a negative number minus 1. */
+        private int search(String key) {
+            return Collections.binarySearch(keys, key);
+        }
+
+        /** Finds the index of the child page which may hold <code>key</code>. */
+        private int childIndex(String key) {
+            int position = search(key);
+            return position >= 0 ? position + 1 : -position - 1;
+        }
+    }
+
+    /** The separator key and the new page produced by splitting a node. */
+    private static class Split {
+        private final String separator;
+        private final int rightPage;
+
+        private Split(String separator, int rightPage) {
+            this.separator = separator;
+            this.rightPage = rightPage;
+        }
+    }
+
+    /**
+     * Opens the index file, creating an empty index if it does not exist or is not a valid index file.
+     *
+     * @param indexFile The index file.
+     * @param cacheBytes The largest number of bytes of pages to keep in memory.
+     * @throws IOException Thrown when the index file cannot be opened.
+     */
+    public BPlusTreeIndex(File indexFile, long cacheBytes) throws IOException {
+        this.file = new RandomAccessFile(indexFile, "rw");
+        int cachedPageCount = (int) Math.max(MIN_CACHED_PAGE_COUNT,
+                Math.min(Integer.MAX_VALUE, cacheBytes / PAGE_SIZE));
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Node> eldest) {
+                if (size() <= cachedPageCount) {
+                    return false;
+                }
+                writeNode(eldest.getValue());
+                return true;
+            }
+        };
+        if (!readHeader()) {
+            reset();
+        }
+    }
+
+    /**
+     * Reads the header page of the index file.
+     *
+     * @return true if the index file holds a valid header and false otherwise.
+     * @throws IOException Thrown when the index file cannot be read.
+     */
+    private boolean readHeader() throws IOException {
+        if (file.length() < PAGE_SIZE) {
+            return false;
+        }
+        byte[] header = new byte[PAGE_SIZE];
+        file.seek(0);
+        file.readFully(header);
+        ByteBuffer buffer = ByteBuffer.wrap(header);
+        byte[] magic = new byte[MAGIC.length];
+        buffer.get(magic);
+        if (!Arrays.equals(magic, MAGIC) || buffer.get() != FORMAT_VERSION) {
+            return false;
+        }
+        rootPage = buffer.getInt();
+        pageCount = buffer.getInt();
+        size = buffer.getLong();
+        fingerprint = buffer.getLong();
+        isClean = buffer.get() == 1;
+        return rootPage > 0 && rootPage < pageCount && (long) pageCount * PAGE_SIZE <= file.length();
+    }
+
+    private void writeHeader() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(PAGE_SIZE);
+        buffer.put(MAGIC).put(FORMAT_VERSION).putInt(rootPage).putInt(pageCount).putLong(size).putLong(fingerprint);
+        buffer.put((byte) (isClean ? 1 : 0));
+        file.seek(0);
+        file.write(buffer.array());
+    }
+
+    /**
+     * Empties the index, leaving a single empty leaf as the root.
+     *
+     * @throws IOException Thrown when the index file cannot be written.
+     */
+    private void reset() throws IOException {
+        cache.clear();
+        file.setLength(0);
+        pageCount = 1;
+        size = 0;
+        fingerprint = 0;
+        isClean = false;
+        rootPage = newNode(true).page;
+        writeHeader();
+    }
+
+    /**
+     * Checks if the index file was closed cleanly after being built from data files with <code>fingerprint</code>,
+     * in which case its entries can be trusted.
+     *
+     * @param fingerprint The fingerprint of the current data files.
+     * @return true if the index matches the data files and false if it has to be rebuilt.
+     */
+    public synchronized boolean isValidFor(long fingerprint) {
+        return isClean && this.fingerprint == fingerprint;
+    }
+
+    /**
+     * Marks the index file as not closed cleanly before its first change, so that it is rebuilt if the program
+     * crashes before <code>close</code>.
+     */
+    private void beginChange() {
+        if (!isClean) {
+            return;
+        }
+        isClean = false;
+        try {
+            writeHeader();
+            file.getFD().sync();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Node newNode(boolean isLeaf) {
+        Node node = new Node(pageCount, isLeaf);
+        pageCount += 1;
+        node.isDirty = true;
+        cache.put(node.page, node);
+        return node;
+    }
+
+    private void markDirty(Node node) {
+        node.isDirty = true;
+        cache.put(node.page, node);
+    }
+
+    private void writeNode(Node node) {
+        if (!node.isDirty) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(PAGE_SIZE);
+        buffer.put(node.isLeaf ? LEAF : INTERNAL).putShort((short) node.keys.size()).putInt(node.nextLeaf);
+        for (int i = 0; i < node.keys.size(); i++) {
+            putString(buffer, node.keys.get(i));
+            if (node.isLeaf) {
+                putString(buffer, node.values.get(i));
+            }
+        }
+        for (int child : node.children) {
+            buffer.putInt(child);
+        }
+        try {
+            file.seek((long) node.page * PAGE_SIZE);
+            file.write(buffer.array());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        node.isDirty = false;
+    }
+
+    private static void putString(ByteBuffer buffer, String string) {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        buffer.putShort((short) bytes.length).put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets the node stored in <code>page</code>, reading it from the index file if it is not cached.
+     *
+     * @param page The page of the node.
+     * @return The node.
+     */
+    private Node getNode(int page) {
+        Node node = cache.get(page);
+        if (node != null) {
+            return node;
+        }
+        byte[] bytes = new byte[PAGE_SIZE];
+        try {
+            file.seek((long) page * PAGE_SIZE);
+            file.readFully(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        node = new Node(page, buffer.get() == LEAF);
+        int keyCount = buffer.getShort() & 0xFFFF;
+        node.nextLeaf = buffer.getInt();
+        for (int i = 0; i < keyCount; i++) {
+            node.keys.add(getString(buffer));
+            if (node.isLeaf) {
+                node.values.add(getString(buffer));
+            }
+        }
+        for (int i = 0; !node.isLeaf && i <= keyCount; i++) {
+            node.children.add(buffer.getInt());
+        }
+        cache.put(page, node);
+        return node;
+    }
+
+    /** Finds the leaf which may hold <code>key</code>. */
+    private Node findLeaf(String key) {
+        Node node = getNode(rootPage);
+        while (!node.isLeaf) {
+            node = getNode(node.children.get(node.childIndex(key)));
+        }
+        return node;
+    }
+
+    @Override
+    public synchronized String get(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        Node leaf = findLeaf((String) key);
+        int position = leaf.search((String) key);
+        return position >= 0 ? leaf.values.get(position) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public synchronized String put(String key, String value) {
+        if (Node.encodedLength(key) + Node.encodedLength(value) > MAX_ENTRY_LENGTH) {
+            throw new IllegalArgumentException("Name is too long to be indexed");
+        }
+        String oldValue = get(key);
+        if (value.equals(oldValue)) {
+            return oldValue;
+        }
+        beginChange();
+        Split split = insert(rootPage, key, value);
+        if (split != null) {
+            Node newRoot = newNode(false);
+            newRoot.keys.add(split.separator);
+            newRoot.children.add(rootPage);
+            newRoot.children.add(split.rightPage);
+            rootPage = newRoot.page;
+        }
+        if (oldValue == null) {
+            size += 1;
+        }
+        return oldValue;
+    }
+
+    /**
+     * Inserts <code>key</code> into the subtree rooted at <code>page</code>, splitting nodes which no longer fit in a
+     * page on the way back up.
+     *
+     * @return The <code>Split</code> of the node at <code>page</code>, or null if it did not have to be split.
+     */
+    private Split insert(int page, String key, String value) {
+        Node node = getNode(page);
+        if (node.isLeaf) {
+            int position = node.search(key);
+            if (position >= 0) {
+                node.values.set(position, value);
+            } else {
+                node.keys.add(-position - 1, key);
+                node.values.add(-position - 1, value);
+            }
+            markDirty(node);
+            return node.encodedLength() > PAGE_SIZE ? splitLeaf(node) : null;
+        }
+        int childIndex = node.childIndex(key);
+        Split childSplit = insert(node.children.get(childIndex), key, value);
+        if (childSplit == null) {
+            return null;
+        }
+        node.keys.add(childIndex, childSplit.separator);
+        node.children.add(childIndex + 1, childSplit.rightPage);
+        markDirty(node);
+        return node.encodedLength() > PAGE_SIZE ? splitInternal(node) : null;
+    }
+
+    private Split splitLeaf(Node node) {
+        Node right = newNode(true);
+        int middle = node.keys.size() / 2;
+        right.keys.addAll(node.keys.subList(middle, node.keys.size()));
+        right.values.addAll(node.values.subList(middle, node.values.size()));
+        node.keys.subList(middle, node.keys.size()).clear();
+        node.values.subList(middle, node.values.size()).clear();
+        right.nextLeaf = node.nextLeaf;
+        node.nextLeaf = right.page;
+        markDirty(node);
+        return new Split(right.keys.get(0), right.page);
+    }
+
+    private Split splitInternal(Node node) {
+        Node right = newNode(false);
+        int middle = node.keys.size() / 2;
+        String separator = node.keys.get(middle);
+        right.keys.addAll(node.keys.subList(middle + 1, node.keys.size()));
+        right.children.addAll(node.children.subList(middle + 1, node.children.size()));
+        node.keys.subList(middle, node.keys.size()).clear();
+        node.children.subList(middle + 1, node.children.size()).clear();
+        markDirty(node);
+        return new Split(separator, right.page);
+    }
+
+    @Override
+    public synchronized String remove(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        Node leaf = findLeaf((String) key);
+        int position = leaf.search((String) key);
+        if (position < 0) {
+            return null;
+        }
+        beginChange();
+        leaf.keys.remove(position);
+        String oldValue = leaf.values.remove(position);
+        markDirty(leaf);
+        size -= 1;
+        return oldValue;
+    }
+
+    @Override
+    public synchronized void clear() {
+        try {
+            reset();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized int size() {
+        return (int) Math.min(Integer.MAX_VALUE, size);
+    }
+
+    @Override
+    public synchronized ArrayList<String> getKeysWithPrefix(String prefix) {
+        ArrayList<String> keys = new ArrayList<>();
+        Node leaf = findLeaf(prefix);
+        while (true) {
+            for (String key : leaf.keys) {
+                if (key.compareTo(prefix) < 0) {
+                    continue;
+                }
+                if (!key.startsWith(prefix)) {
+                    return keys;
+                }
+                keys.add(key);
+            }
+            if (leaf.nextLeaf == NO_PAGE) {
+                return keys;
+            }
+            leaf = getNode(leaf.nextLeaf);
+        }
+    }
+
+    /**
+     * Iterates over the entries in ascending order of key, one leaf at a time, so that only the entries of the
+     * current leaf are copied. Removing entries while iterating is supported, as leaves are never merged.
+     */
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, String>> iterator() {
+                return new LeafIterator();
+            }
+
+            @Override
+            public int size() {
+                return BPlusTreeIndex.this.size();
+            }
+        };
+    }
+
+    private class LeafIterator implements Iterator<Entry<String, String>> {
+        private Iterator<Entry<String, String>> leafEntries = Collections.emptyIterator();
+        private int nextLeaf;
+        private String lastKey;
+
+        private LeafIterator() {
+            synchronized (BPlusTreeIndex.this) {
+                Node node = getNode(rootPage);
+                while (!node.isLeaf) {
+                    node = getNode(node.children.get(0));
+                }
+                nextLeaf = node.page;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            synchronized (BPlusTreeIndex.this) {
+                while (!leafEntries.hasNext() && nextLeaf != NO_PAGE) {
+                    Node leaf = getNode(nextLeaf);
+                    ArrayList<Entry<String, String>> entries = new ArrayList<>();
+                    for (int i = 0; i < leaf.keys.size(); i++) {
+                        entries.add(new SimpleImmutableEntry<>(leaf.keys.get(i), leaf.values.get(i)));
+                    }
+                    leafEntries = entries.iterator();
+                    nextLeaf = leaf.nextLeaf;
+                }
+                return leafEntries.hasNext();
+            }
+        }
+
+        @Override
+        public Entry<String, String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Entry<String, String> entry = leafEntries.next();
+            lastKey = entry.getKey();
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            if (lastKey == null) {
+                throw new IllegalStateException();
+            }
+            BPlusTreeIndex.this.remove(lastKey);
+            lastKey = null;
+        }
+    }
+
+    /**
+     * Writes every changed page back to the index file and marks it as closed cleanly.
+     *
+     * @param fingerprint The fingerprint of the data files the index now matches.
+     * @throws IOException Thrown when the index file cannot be written.
+     */
+    public synchronized void close(long fingerprint) throws IOException {
+        try {
+            for (Node node : cache.values()) {
+                writeNode(node);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        file.getFD().sync();
+        this.fingerprint = fingerprint;
+        isClean = true;
+        writeHeader();
+        file.getFD().sync();
+        file.close();
+    }
+}
@@ -0,0 +1,367 @@
+package seedu.clialgo.storage;
+
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.file.Code;
+import seedu.clialgo.file.Note;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.zip.CRC32;
+
+/**
+ * <code>RecordCodec</code> which stores records in a compact, versioned binary format. A data file starts with
+ * <code>MAGIC</code> followed by a version byte. Each record is a 4-byte length followed by a payload made up of a
+ * type tag, the name of the <code>CS2040CFile</code> and, unless the record is a tombstone, the index of its topic in
+ * <code>topicNames</code> and its importance as single bytes followed by the size and last modified time of its file.
+ * The path is not stored as it is always the name followed by the extension implied by the type tag. Records are
+ * decoded directly from the contents of the data file, without copying each payload first.
+ * <p>
+ * Since version 3, each record starts with <code>RECORD_MARKER</code> and ends with the CRC32 checksum of its length
+ * and payload. A damaged record is detected by its checksum and skipped by searching for the next marker that starts
+ * a record with a valid checksum, so the records after it are not lost. Data files of version 1, which do not store
+ * the size and last modified time, and of version 2, which do not store checksums, can still be read.
+ */
+public class BinaryCodec implements RecordCodec {
+    public static final String FILE_EXTENSION = ".bin";
+    public static final byte FORMAT_VERSION = 3;
+    private static final byte FIRST_FORMAT_VERSION = 1;
+    private static final byte FIRST_CHECKSUMMED_VERSION = 3;
+    private static final byte[] RECORD_MARKER = {(byte) 0xC5, (byte) 0x5C};
+    private static final int RECORD_OVERHEAD = RECORD_MARKER.length + Integer.BYTES + Integer.BYTES;
+    private static final byte[] MAGIC = {'C', 'L', 'I', 'A'};
+    private static final int MAX_RECORD_LENGTH = 1 << 17;
+    private static final byte TOMBSTONE_TAG = 0;
+    private static final byte NOTE_TAG = 1;
+    private static final byte CODE_TAG = 2;
+    private static final String NOTE_FILE_EXTENSION = ".txt";
+    private static final String CODE_FILE_EXTENSION = ".cpp";
+    private static final int UTF_LENGTH_BYTES = 2;
+
+    private final ArrayList<String> topicNames;
+    private byte currentVersion;
+    private String currentName;
+    private CS2040CFile currentCS2040CFile;
+    private byte[] nameBytes;
+    private byte[] currentRecord;
+    private final CRC32 checksum;
+
+    /**
+     * Constructor for the <code>BinaryCodec</code> object.
+     *
+     * @param topicNames The names of all valid topics. The index of a topic in this list is stored in place of its
+     *                   name, so the order of this list must not change between runs.
+     */
+    public BinaryCodec(ArrayList<String> topicNames) {
+        assert topicNames.size() <= 0xFF : "Topic id must fit in a byte";
+        this.topicNames = topicNames;
+        this.currentVersion = FORMAT_VERSION;
+        this.nameBytes = new byte[UTF_LENGTH_BYTES + Byte.MAX_VALUE];
+        this.checksum = new CRC32();
+    }
+
+    @Override
+    public RecordCodec copy() {
+        return new BinaryCodec(topicNames);
+    }
+
+    @Override
+    public String getFileExtension() {
+        return FILE_EXTENSION;
+    }
+
+    @Override
+    public byte[] encodeHeader() {
+        byte[] header = new byte[MAGIC.length + 1];
+        System.arraycopy(MAGIC, 0, header, 0, MAGIC.length);
+        header[MAGIC.length] = FORMAT_VERSION;
+        return header;
+    }
+
+    /**
+     * Reads and checks the header at the start of a data file. If the header is not valid, the position of
+     * <code>buffer</code> is moved back to its start and the data file is read as the current version, so that any
+     * intact records in it can still be found by their <code>RECORD_MARKER</code>.
+     *
+     * @param buffer The contents of the data file, positioned at its start.
+     * @return true if the header is valid and false if the data file is corrupted or of an unsupported version.
+     */
+    @Override
+    public boolean isValidHeader(ByteBuffer buffer) {
+        currentVersion = FORMAT_VERSION;
+        if (!buffer.hasRemaining()) {
+            return true;
+        }
+        int start = buffer.position();
+        boolean isValid = buffer.remaining() >= MAGIC.length + 1;
+        for (int i = 0; i < MAGIC.length && isValid; i++) {
+            isValid = buffer.get() == MAGIC[i];
+        }
+        if (isValid) {
+            byte version = buffer.get();
+            isValid = version >= FIRST_FORMAT_VERSION && version <= FORMAT_VERSION;
+            currentVersion = isValid ? version : FORMAT_VERSION;
+        }
+        if (!isValid) {
+            buffer.position(start);
+        }
+        return isValid;
+    }
+
+    @Override
+    public boolean isUpgradeNeeded() {
+        return currentVersion != FORMAT_VERSION;
+    }
+
+    /**
+     * Surrounds a payload with <code>RECORD_MARKER</code>, its length and the checksum of both to form a complete
+     * record.
+     *
+     * @param payload The payload of the record.
+     * @return The record as an array of bytes.
+     */
+    private byte[] toRecord(ByteArrayOutputStream payload) {
+        ByteArrayOutputStream record = new ByteArrayOutputStream(RECORD_OVERHEAD + payload.size());
+        try {
+            DataOutputStream output = new DataOutputStream(record);
+            output.write(RECORD_MARKER);
+            output.writeInt(payload.size());
+            payload.writeTo(output);
+            checksum.reset();
+            checksum.update(record.toByteArray(), RECORD_MARKER.length, Integer.BYTES + payload.size());
+            output.writeInt((int) checksum.getValue());
+        } catch (IOException e) {
+            throw new AssertionError("Writing to a byte array never fails", e);
+        }
+        return record.toByteArray();
+    }
+
+    @Override
+    public byte[] encodeRecord(String name, CS2040CFile cs2040cFile) {
+        int topicId = topicNames.indexOf(cs2040cFile.getTopic());
+        assert topicId >= 0 : "Topic must be a valid topic";
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        try {
+            DataOutputStream output = new DataOutputStream(payload);
+            output.writeByte(cs2040cFile instanceof Code ? CODE_TAG : NOTE_TAG);
+            output.writeUTF(name);
+            output.writeByte(topicId);
+            output.writeByte(cs2040cFile.getImportance());
+            output.writeLong(cs2040cFile.getFileSize());
+            output.writeLong(cs2040cFile.getLastModified());
+        } catch (IOException e) {
+            throw new AssertionError("Writing to a byte array never fails", e);
+        }
+        return toRecord(payload);
+    }
+
+    @Override
+    public byte[] encodeTombstone(String name) {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        try {
+            DataOutputStream output = new DataOutputStream(payload);
+            output.writeByte(TOMBSTONE_TAG);
+            output.writeUTF(name);
+        } catch (IOException e) {
+            throw new AssertionError("Writing to a byte array never fails", e);
+        }
+        return toRecord(payload);
+    }
+
+    /**
+     * Reads a <code>String</code> written with <code>DataOutputStream.writeUTF</code>. Names made up only of ASCII
+     * characters, which are stored unchanged in modified UTF-8, are decoded directly.
+     *
+     * @param buffer The buffer positioned at the start of the <code>String</code>.
+     * @return The <code>String</code> read.
+     * @throws IOException Thrown when the <code>String</code> is not valid modified UTF-8.
+     * @throws BufferUnderflowException Thrown when the <code>String</code> is truncated.
+     */
+    private String readUtf(ByteBuffer buffer) throws IOException, BufferUnderflowException {
+        int length = buffer.getShort() & 0xFFFF;
+        if (nameBytes.length < UTF_LENGTH_BYTES + length) {
+            nameBytes = new byte[UTF_LENGTH_BYTES + length];
+        }
+        buffer.position(buffer.position() - UTF_LENGTH_BYTES);
+        buffer.get(nameBytes, 0, UTF_LENGTH_BYTES + length);
+        boolean isAscii = true;
+        for (int i = UTF_LENGTH_BYTES; i < UTF_LENGTH_BYTES + length && isAscii; i++) {
+            isAscii = nameBytes[i] > 0;
+        }
+        if (isAscii) {
+            return new String(nameBytes, UTF_LENGTH_BYTES, length, StandardCharsets.US_ASCII);
+        }
+        return new DataInputStream(new ByteArrayInputStream(nameBytes, 0, UTF_LENGTH_BYTES + length)).readUTF();
+    }
+
+    /**
+     * Decodes the payload of a single record, which ends at the limit of <code>buffer</code>.
+     *
+     * @param buffer The buffer positioned at the start of the payload, without the length prefix.
+     * @param topicName The name of the <code>Topic</code> which the data file belongs to.
+     * @return The <code>RecordStatus</code> describing the payload.
+     */
+    private RecordStatus decodePayload(ByteBuffer buffer, String topicName) {
+        try {
+            byte tag = buffer.get();
+            String name = readUtf(buffer);
+            if (tag == TOMBSTONE_TAG) {
+                currentName = name;
+                currentCS2040CFile = null;
+                return RecordStatus.TOMBSTONE;
+            }
+            int topicId = buffer.get() & 0xFF;
+            int importance = buffer.get();
+            long fileSize = 0;
+            long lastModified = 0;
+            if (currentVersion > FIRST_FORMAT_VERSION) {
+                fileSize = buffer.getLong();
+                lastModified = buffer.getLong();
+            }
+            if (topicId >= topicNames.size() || !topicNames.get(topicId).equals(topicName)) {
+                return RecordStatus.CORRUPTED;
+            }
+            if (tag == NOTE_TAG) {
+                currentCS2040CFile = new Note(name, name + NOTE_FILE_EXTENSION, topicName, importance);
+            } else if (tag == CODE_TAG) {
+                currentCS2040CFile = new Code(name, name + CODE_FILE_EXTENSION, topicName, importance);
+            } else {
+                return RecordStatus.CORRUPTED;
+            }
+            currentCS2040CFile.setFileAttributes(fileSize, lastModified);
+            currentName = name;
+        } catch (IOException | BufferUnderflowException e) {
+            return RecordStatus.CORRUPTED;
+        }
+        return RecordStatus.RECORD;
+    }
+
+    /**
+     * Checks if a complete record of the current version, with a valid checksum, starts at <code>start</code>.
+     *
+     * @param buffer The contents of the data file.
+     * @param start The index in <code>buffer</code> to check.
+     * @return The length of the payload of the record, or -1 if there is no valid record at <code>start</code>.
+     */
+    private int getValidPayloadLength(ByteBuffer buffer, int start) {
+        int limit = buffer.limit();
+        if (limit - start < RECORD_OVERHEAD) {
+            return -1;
+        }
+        for (int i = 0; i < RECORD_MARKER.length; i++) {
+            if (buffer.get(start + i) != RECORD_MARKER[i]) {
+                return -1;
+            }
+        }
+        int lengthStart = start + RECORD_MARKER.length;
+        int length = buffer.getInt(lengthStart);
+        if (length < 0 || length > MAX_RECORD_LENGTH || length > limit - start - RECORD_OVERHEAD) {
+            return -1;
+        }
+        ByteBuffer checkedBytes = buffer.duplicate();
+        checkedBytes.limit(lengthStart + Integer.BYTES + length).position(lengthStart);
+        checksum.reset();
+        checksum.update(checkedBytes);
+        return (int) checksum.getValue() == buffer.getInt(lengthStart + Integer.BYTES + length) ? length : -1;
+    }
+
+    /**
+     * Moves the position of <code>buffer</code> to the first valid record found at or after <code>start</code>, or
+     * to its limit if there is none.
+     */
+    private void skipToNextRecord(ByteBuffer buffer, int start) {
+        int limit = buffer.limit();
+        for (int i = start; i < limit; i++) {
+            if (buffer.get(i) == RECORD_MARKER[0] && getValidPayloadLength(buffer, i) >= 0) {
+                buffer.position(i);
+                return;
+            }
+        }
+        buffer.position(limit);
+    }
+
+    /**
+     * Reads the next record from <code>buffer</code> and moves the position of <code>buffer</code> past it. If the
+     * record is damaged, the position of <code>buffer</code> is moved to the next valid record instead, or to its
+     * limit if the data file is of a version without checksums, so that the bytes skipped can be set aside.
+     *
+     * @param buffer The contents of the data file, positioned at the start of the next record.
+     * @param topicName The name of the <code>Topic</code> which the data file belongs to.
+     * @return The <code>RecordStatus</code> describing what was read.
+     */
+    @Override
+    public RecordStatus readRecord(ByteBuffer buffer, String topicName) {
+        if (!buffer.hasRemaining()) {
+            return RecordStatus.END;
+        }
+        int recordStart = buffer.position();
+        boolean isChecksummed = currentVersion >= FIRST_CHECKSUMMED_VERSION;
+        int length = isChecksummed ? getValidPayloadLength(buffer, recordStart) : getLegacyPayloadLength(buffer);
+        if (length < 0) {
+            if (isChecksummed) {
+                skipToNextRecord(buffer, recordStart + 1);
+            } else {
+                buffer.position(buffer.limit());
+            }
+            return RecordStatus.CORRUPTED;
+        }
+        int limit = buffer.limit();
+        int payloadStart = recordStart + (isChecksummed ? RECORD_MARKER.length : 0) + Integer.BYTES;
+        int payloadEnd = payloadStart + length;
+        int recordEnd = payloadEnd + (isChecksummed ? Integer.BYTES : 0);
+        buffer.limit(payloadEnd).position(payloadStart);
+        RecordStatus status = decodePayload(buffer, topicName);
+        if (status == RecordStatus.RECORD && currentVersion == FORMAT_VERSION) {
+            currentRecord = new byte[recordEnd - recordStart];
+            buffer.limit(recordEnd).position(recordStart);
+            buffer.get(currentRecord);
+        } else {
+            currentRecord = null;
+        }
+        buffer.limit(limit);
+        buffer.position(recordEnd);
+        return status;
+    }
+
+    /**
+     * Reads the length of the next record in a data file of a version without checksums.
+     *
+     * @param buffer The contents of the data file, positioned at the start of the next record.
+     * @return The length of the payload of the record, or -1 if the record is truncated.
+     */
+    private int getLegacyPayloadLength(ByteBuffer buffer) {
+        if (buffer.remaining() < Integer.BYTES) {
+            return -1;
+        }
+        int length = buffer.getInt(buffer.position());
+        if (length < 0 || length > MAX_RECORD_LENGTH || length > buffer.remaining() - Integer.BYTES) {
+            return -1;
+        }
+        return length;
+    }
+
+    @Override
+    public byte[] encodedRecord() {
+        // Records of older versions are encoded again so that they are written back in the current version
+        if (currentRecord == null) {
+            return encodeRecord(currentName, currentCS2040CFile);
+        }
+        return currentRecord;
+    }
+
+    @Override
+    public String decodedName() {
+        return currentName;
+    }
+
+    @Override
+    public CS2040CFile processedCS2040CFile() {
+        return currentCS2040CFile;
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.clialgo.storage;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Object representing a Bloom filter over a set of keys. A Bloom filter can tell for certain that a key is not in the
+ * set, so that looking it up in a <code>Segment</code> can be skipped, while a key that might be in the set has to
+ * be looked up to be sure. About 1% of the keys which are not in the set are reported as possibly being in it.
+ */
+public class BloomFilter {
+    private static final int BITS_PER_KEY = 10;
+    private static final int HASH_COUNT = 7;
+
+    private final long[] words;
+    private final long bitCount;
+
+    /**
+     * Constructor for an empty <code>BloomFilter</code> sized for <code>expectedKeyCount</code> keys.
+     *
+     * @param expectedKeyCount The number of keys that will be added.
+     */
+    public BloomFilter(int expectedKeyCount) {
+        this(new long[(int) Math.max(1, ((long) expectedKeyCount * BITS_PER_KEY + Long.SIZE - 1) / Long.SIZE)]);
+    }
+
+    private BloomFilter(long[] words) {
+        this.words = words;
+        this.bitCount = (long) words.length * Long.SIZE;
+    }
+
+    /**
+     * Hashes <code>key</code> into 64 bits, of which each half is used as a separate hash.
+     *
+     * @param key The key to hash.
+     * @return The 64-bit hash of <code>key</code>.
+     */
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        // Mixes the bits so that keys which only differ at the end do not share the upper half of the hash
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * Adds <code>key</code> to the set.
+     *
+     * @param key The key to add.
+     */
+    public void add(String key) {
+        long hash = hash(key);
+        int firstHash = (int) hash;
+        int secondHash = (int) (hash >>> 32);
+        for (int i = 0; i < HASH_COUNT; i++) {
+            long bit = Math.floorMod(firstHash + (long) i * secondHash, bitCount);
+            words[(int) (bit / Long.SIZE)] |= 1L << (bit % Long.SIZE);
+        }
+    }
+
+    /**
+     * Checks if <code>key</code> might have been added to the set.
+     *
+     * @param key The key to check.
+     * @return false if <code>key</code> was definitely not added and true otherwise.
+     */
+    public boolean mightContain(String key) {
+        long hash = hash(key);
+        int firstHash = (int) hash;
+        int secondHash = (int) (hash >>> 32);
+        for (int i = 0; i < HASH_COUNT; i++) {
+            long bit = Math.floorMod(firstHash + (long) i * secondHash, bitCount);
+            if ((words[(int) (bit / Long.SIZE)] & (1L << (bit % Long.SIZE))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes this <code>BloomFilter</code> so that it can be read back with <code>readFrom</code>.
+     *
+     * @param output The output to write to.
+     * @throws IOException Thrown when <code>output</code> cannot be written.
+     */
+    public void writeTo(DataOutput output) throws IOException {
+        output.writeInt(words.length);
+        for (long word : words) {
+            output.writeLong(word);
+        }
+    }
+
+    /**
+     * Reads a <code>BloomFilter</code> written with <code>writeTo</code>.
+     *
+     * @param input The input to read from.
+     * @return The <code>BloomFilter</code> read.
+     * @throws IOException Thrown when <code>input</code> cannot be read or does not hold a valid
+     *                     <code>BloomFilter</code>.
+     */
+    public static BloomFilter readFrom(DataInput input) throws IOException {
+        int wordCount = input.readInt();
+        if (wordCount <= 0) {
+            throw new IOException("Invalid Bloom filter size");
+        }
+        long[] words = new long[wordCount];
+        for (int i = 0; i < wordCount; i++) {
+            words[i] = input.readLong();
+        }
+        return new BloomFilter(words);
+    }
+}
@@ -0,0 +1,752 @@
+package seedu.clialgo.storage;
+
+import seedu.clialgo.Ui;
+import seedu.clialgo.file.CS2040CFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Object representing the full-text index of the contents of the .txt and .cpp files referenced by the
+ * <code>CS2040CFiles</code>. Each file is split into lowercase terms made of letters, digits and underscores, and
+ * the inverted index maps each term to its posting list, which holds the id of every document containing the term
+ * with the positions of the term in it. A query only looks at the posting lists of its own terms, starting from the
+ * rarest one, so it takes time proportional to the documents containing its terms rather than to every file.
+ * <p>
+ * The index is kept up to date as <code>CS2040CFiles</code> are added and removed and as the rescan finds changed
+ * files, so a query never has to look at every <code>CS2040CFile</code>. A document records the size and last
+ * modified time of its file when it was read, and <code>update</code> reads it again once the
+ * <code>WorkspaceManifest</code> records different ones. The index file starts with <code>MAGIC</code>, a version and
+ * a CRC32 checksum of the rest of the file, and is ignored if any of them do not match. Like the
+ * <code>NameDirectory</code>, the index file is deleted once it is loaded and saved again on exit, so that an index
+ * left behind by a crash is never trusted. If it is missing, <code>isRebuildNeeded</code> is true until
+ * <code>update</code> has read every file again.
+ */
+public class ContentIndex {
+    public static final String FILE_NAME = "search.bin";
+
+    /** The word which separates the alternatives of a query */
+    public static final String OR_OPERATOR = "OR";
+
+    /** Terms longer than this are not indexed, as they are unlikely to be searched for. */
+    static final int MAX_TERM_LENGTH = 64;
+
+    private static final byte[] MAGIC = {'C', 'L', 'I', 'S'};
+    private static final int FORMAT_VERSION = 1;
+    private static final char PHRASE_QUOTE = '"';
+    private static final long UNREADABLE = -1;
+    private static final int INITIAL_POSTING_CAPACITY = 4;
+
+    private final File file;
+    private final HashMap<String, Document> documents;
+    private final HashMap<String, PostingList> postingLists;
+    private int nextDocumentId;
+    private boolean isLoaded;
+    private boolean isChanged;
+    private boolean isRebuildNeeded;
+
+    /** The contents of one referenced file, as indexed under the name of its <code>CS2040CFile</code>. */
+    private static class Document {
+        /** Greater than the id of every document indexed before this one, so posting lists stay sorted by id. */
+        private final int id;
+        private final String name;
+        private final String path;
+        private final long size;
+        private final long lastModified;
+        /** The posting lists of the terms in the file, which this document is removed from with the file. */
+        private final ArrayList<PostingList> postingLists = new ArrayList<>();
+
+        private Document(int id, String name, String path, long size, long lastModified) {
+            this.id = id;
+            this.name = name;
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+    }
+
+    /** The documents containing one term in ascending order of id, each with the positions of the term in it. */
+    private static class PostingList {
+        private final String term;
+        private Document[] documents;
+        private int[][] positions;
+        private int size;
+
+        private PostingList(String term, int capacity) {
+            this.term = term;
+            this.documents = new Document[capacity];
+            this.positions = new int[capacity][];
+        }
+
+        /** Adds <code>document</code>, which must have a greater id than every document in this list. */
+        private void add(Document document, int[] documentPositions) {
+            assert size == 0 || documents[size - 1].id < document.id;
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            documents[size] = document;
+            positions[size] = documentPositions;
+            size += 1;
+        }
+
+        /**
+         * Finds the position of <code>document</code> in this list with a binary search on the ids.
+         *
+         * @return The position, or -1 if <code>document</code> does not contain the term.
+         */
+        private int find(Document document) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int middleId = documents[middle].id;
+                if (middleId < document.id) {
+                    low = middle + 1;
+                } else if (middleId > document.id) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Gets the positions of the term in <code>document</code>.
+         *
+         * @return The positions in ascending order, or null if <code>document</code> does not contain the term.
+         */
+        private int[] getPositions(Document document) {
+            int index = find(document);
+            return index < 0 ? null : positions[index];
+        }
+
+        private void remove(Document document) {
+            int index = find(document);
+            assert index >= 0;
+            System.arraycopy(documents, index + 1, documents, index, size - index - 1);
+            System.arraycopy(positions, index + 1, positions, index, size - index - 1);
+            size -= 1;
+            documents[size] = null;
+            positions[size] = null;
+        }
+    }
+
+    /**
+     * Constructor for the <code>ContentIndex</code> object. The index file is not read until <code>load</code> is
+     * called.
+     *
+     * @param file The index file, or null if the index is only kept in memory.
+     */
+    public ContentIndex(File file) {
+        this.file = file;
+        this.documents = new HashMap<>();
+        this.postingLists = new HashMap<>();
+    }
+
+    /**
+     * Splits <code>text</code> into lowercase terms, each made of a run of letters, digits and underscores.
+     *
+     * @param text The text to split.
+     * @return The terms, in the order they appear in <code>text</code>.
+     */
+    static ArrayList<String> tokenize(String text) {
+        ArrayList<String> terms = new ArrayList<>();
+        StringBuilder term = new StringBuilder();
+        for (int i = 0; i <= text.length(); i += 1) {
+            char character = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(character) || character == '_') {
+                term.append(Character.toLowerCase(character));
+            } else if (term.length() > 0) {
+                terms.add(term.toString());
+                term.setLength(0);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Loads the index file if its checksum is valid. Otherwise, the index is left empty and needs to be rebuilt with
+     * <code>update</code>, unless it is only kept in memory, in which case it starts out as empty as the data it
+     * indexes.
+     *
+     * @return true if the index file was loaded and false if it is missing or corrupted.
+     */
+    public boolean load() {
+        clear();
+        isLoaded = true;
+        isRebuildNeeded = file != null;
+        if (file == null || !file.isFile()) {
+            return false;
+        }
+        try {
+            ByteBuffer input = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+            byte[] magic = new byte[MAGIC.length];
+            input.get(magic);
+            if (!Arrays.equals(magic, MAGIC) || input.getInt() != FORMAT_VERSION) {
+                return false;
+            }
+            long expectedChecksum = input.getLong();
+            CRC32 checksum = new CRC32();
+            checksum.update(input.array(), input.position(), input.remaining());
+            if (checksum.getValue() != expectedChecksum) {
+                return false;
+            }
+            readBody(input);
+            isChanged = false;
+            isRebuildNeeded = false;
+            return true;
+        } catch (IOException | RuntimeException e) {
+            clear();
+            return false;
+        }
+    }
+
+    /**
+     * Reads the documents, then the posting list of each term, in which each document is stored as the difference
+     * between its position in the documents read and that of the document before it, and each position of the term
+     * as the difference from the position before it.
+     */
+    private void readBody(ByteBuffer input) throws IOException {
+        Document[] documentsRead = new Document[readVarInt(input)];
+        for (int i = 0; i < documentsRead.length; i += 1) {
+            documentsRead[i] = new Document(nextDocumentId, readString(input), readString(input), input.getLong(),
+                    input.getLong());
+            nextDocumentId += 1;
+            documents.put(documentsRead[i].name.toLowerCase(), documentsRead[i]);
+        }
+        int termCount = readVarInt(input);
+        for (int i = 0; i < termCount; i += 1) {
+            String term = readString(input);
+            int postingCount = readVarInt(input);
+            PostingList postingList = new PostingList(term, Math.max(postingCount, 1));
+            int documentIndex = -1;
+            for (int j = 0; j < postingCount; j += 1) {
+                documentIndex += readVarInt(input);
+                int[] positions = new int[readVarInt(input)];
+                int position = 0;
+                for (int k = 0; k < positions.length; k += 1) {
+                    position += readVarInt(input);
+                    positions[k] = position;
+                }
+                postingList.add(documentsRead[documentIndex], positions);
+                documentsRead[documentIndex].postingLists.add(postingList);
+            }
+            postingLists.put(term, postingList);
+        }
+    }
+
+    /** Writes <code>value</code>, which is not negative, in as few bytes as it needs, 7 bits at a time. */
+    private static void writeVarInt(DataOutputStream output, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            output.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.writeByte(value);
+    }
+
+    private static int readVarInt(ByteBuffer input) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int part = input.get() & 0xFF;
+            value |= (part & 0x7F) << shift;
+            if ((part & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    /** Writes the length of <code>value</code> in UTF-8, then <code>value</code> in UTF-8. */
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(output, bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(ByteBuffer input) throws IOException {
+        byte[] bytes = new byte[readVarInt(input)];
+        input.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Saves the index to the index file if it has changed since it was loaded or last saved.
+     *
+     * @throws IOException Thrown when the index file cannot be written.
+     */
+    public void save() throws IOException {
+        if (file == null || !isChanged) {
+            return;
+        }
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(body);
+        ArrayList<Document> documentsById = new ArrayList<>(documents.values());
+        documentsById.sort((first, second) -> Integer.compare(first.id, second.id));
+        HashMap<Document, Integer> documentIndexes = new HashMap<>();
+        writeVarInt(output, documentsById.size());
+        for (Document document : documentsById) {
+            documentIndexes.put(document, documentIndexes.size());
+            writeString(output, document.name);
+            writeString(output, document.path);
+            output.writeLong(document.size);
+            output.writeLong(document.lastModified);
+        }
+        writeVarInt(output, postingLists.size());
+        for (PostingList postingList : postingLists.values()) {
+            writeString(output, postingList.term);
+            writeVarInt(output, postingList.size);
+            int previousIndex = -1;
+            for (int i = 0; i < postingList.size; i += 1) {
+                int documentIndex = documentIndexes.get(postingList.documents[i]);
+                writeVarInt(output, documentIndex - previousIndex);
+                previousIndex = documentIndex;
+                writeVarInt(output, postingList.positions[i].length);
+                int previousPosition = 0;
+                for (int position : postingList.positions[i]) {
+                    writeVarInt(output, position - previousPosition);
+                    previousPosition = position;
+                }
+            }
+        }
+        output.flush();
+
+        CRC32 checksum = new CRC32();
+        byte[] bodyBytes = body.toByteArray();
+        checksum.update(bodyBytes);
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            Files.createDirectories(parent.toPath());
+        }
+        try (DataOutputStream fileOutput = new DataOutputStream(new FileOutputStream(file))) {
+            fileOutput.write(MAGIC);
+            fileOutput.writeInt(FORMAT_VERSION);
+            fileOutput.writeLong(checksum.getValue());
+            fileOutput.write(bodyBytes);
+        }
+        isChanged = false;
+    }
+
+    /**
+     * Deletes the index file, so that it is not trusted if CLIAlgo stops before <code>save</code> is called. The
+     * index is then saved by the next call to <code>save</code> even if it does not change.
+     */
+    public void invalidate() {
+        if (file != null && file.exists() && !file.delete()) {
+            Ui.printDeleteFail();
+        }
+        isChanged = true;
+    }
+
+    /**
+     * Copies this index into a new index which is only kept in memory, so that the copy can be changed without
+     * changing this index.
+     *
+     * @return The copy.
+     */
+    public ContentIndex copy() {
+        ContentIndex copiedIndex = new ContentIndex(null);
+        copiedIndex.isLoaded = true;
+        copiedIndex.isRebuildNeeded = isRebuildNeeded;
+        copiedIndex.nextDocumentId = nextDocumentId;
+        HashMap<Document, Document> copiedDocuments = new HashMap<>();
+        for (Map.Entry<String, Document> entry : documents.entrySet()) {
+            Document document = entry.getValue();
+            Document copiedDocument = new Document(document.id, document.name, document.path, document.size,
+                    document.lastModified);
+            copiedDocuments.put(document, copiedDocument);
+            copiedIndex.documents.put(entry.getKey(), copiedDocument);
+        }
+        for (PostingList postingList : postingLists.values()) {
+            PostingList copiedList = new PostingList(postingList.term, Math.max(1, postingList.size));
+            for (int i = 0; i < postingList.size; i += 1) {
+                // The positions of a document are never changed once indexed, so they are shared
+                Document copiedDocument = copiedDocuments.get(postingList.documents[i]);
+                copiedList.add(copiedDocument, postingList.positions[i]);
+                copiedDocument.postingLists.add(copiedList);
+            }
+            copiedIndex.postingLists.put(postingList.term, copiedList);
+        }
+        return copiedIndex;
+    }
+
+    private void clear() {
+        documents.clear();
+        postingLists.clear();
+        nextDocumentId = 0;
+    }
+
+    /**
+     * Removes the contents of the file of the <code>CS2040CFile</code> named <code>name</code> from the index.
+     *
+     * @param name The name of the <code>CS2040CFile</code>, in any case.
+     * @return true if the contents were removed and false if they were not in the index.
+     */
+    public boolean remove(String name) {
+        Document document = documents.remove(name.toLowerCase());
+        if (document == null) {
+            return false;
+        }
+        for (PostingList postingList : document.postingLists) {
+            postingList.remove(document);
+            if (postingList.size == 0) {
+                postingLists.remove(postingList.term);
+            }
+        }
+        isChanged = true;
+        return true;
+    }
+
+    /**
+     * Reads the file at <code>path</code> and indexes its contents under <code>name</code>, replacing the contents
+     * indexed under <code>name</code> before, if any. A file which cannot be read is indexed as being empty.
+     *
+     * @param name The name of the <code>CS2040CFile</code>.
+     * @param path The path to the file of the <code>CS2040CFile</code>.
+     */
+    public void index(String name, String path) {
+        remove(name);
+        Path filePath = Paths.get(path);
+        long size = UNREADABLE;
+        long lastModified = UNREADABLE;
+        HashMap<String, int[]> termPositions = new HashMap<>();
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            String text = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+            termPositions = getTermPositions(tokenize(text));
+            size = attributes.size();
+            lastModified = attributes.lastModifiedTime().toMillis();
+        } catch (IOException | SecurityException e) {
+            // Includes the file not existing, which is indexed again once the manifest records it
+        }
+        Document document = new Document(nextDocumentId, name, path, size, lastModified);
+        nextDocumentId += 1;
+        documents.put(name.toLowerCase(), document);
+        for (Map.Entry<String, int[]> termPosition : termPositions.entrySet()) {
+            PostingList postingList = postingLists.computeIfAbsent(termPosition.getKey(),
+                    term -> new PostingList(term, INITIAL_POSTING_CAPACITY));
+            postingList.add(document, termPosition.getValue());
+            document.postingLists.add(postingList);
+        }
+        isChanged = true;
+    }
+
+    /**
+     * Gets the positions of each term in <code>terms</code>, counting the occurrences of each term first so that
+     * its positions can be filled into an array of the right size.
+     */
+    private static HashMap<String, int[]> getTermPositions(ArrayList<String> terms) {
+        HashMap<String, int[]> termPositions = new HashMap<>();
+        for (String term : terms) {
+            if (term.length() <= MAX_TERM_LENGTH) {
+                // Holds the number of occurrences until the positions are filled in
+                termPositions.computeIfAbsent(term, key -> new int[1])[0] += 1;
+            }
+        }
+        for (Map.Entry<String, int[]> termPosition : termPositions.entrySet()) {
+            termPosition.setValue(new int[termPosition.getValue()[0]]);
+        }
+        HashMap<String, Integer> filledCounts = new HashMap<>();
+        for (int position = 0; position < terms.size(); position += 1) {
+            int[] positions = termPositions.get(terms.get(position));
+            if (positions != null) {
+                positions[filledCounts.merge(terms.get(position), 1, Integer::sum) - 1] = position;
+            }
+        }
+        return termPositions;
+    }
+
+    /**
+     * Brings the index up to date with <code>cs2040cFiles</code>. The file of a <code>CS2040CFile</code> is read if
+     * it is not indexed yet, if its path changed, or if <code>manifest</code> records a different size or last
+     * modified time for it than when it was indexed. The contents of <code>CS2040CFiles</code> which no longer exist
+     * are removed.
+     *
+     * @param cs2040cFiles Every <code>CS2040CFile</code> stored in CLIAlgo.
+     * @param manifest The <code>WorkspaceManifest</code> of the referenced files.
+     * @return The number of files which were read.
+     */
+    public int update(Collection<CS2040CFile> cs2040cFiles, WorkspaceManifest manifest) {
+        HashSet<String> keys = new HashSet<>();
+        int indexedCount = 0;
+        for (CS2040CFile cs2040cFile : cs2040cFiles) {
+            keys.add(cs2040cFile.getName().toLowerCase());
+            if (refresh(cs2040cFile.getName(), cs2040cFile.getPath(), manifest)) {
+                indexedCount += 1;
+            }
+        }
+        for (String key : new ArrayList<>(documents.keySet())) {
+            if (!keys.contains(key)) {
+                remove(key);
+            }
+        }
+        isRebuildNeeded = false;
+        return indexedCount;
+    }
+
+    /**
+     * Reads the file at <code>path</code> again and indexes its contents under <code>name</code> if it is not
+     * indexed yet, if its path changed, or if <code>manifest</code> records a different size or last modified time
+     * for it than when it was indexed.
+     *
+     * @param name The name of the <code>CS2040CFile</code>.
+     * @param path The path to the file of the <code>CS2040CFile</code>.
+     * @param manifest The <code>WorkspaceManifest</code> of the referenced files.
+     * @return true if the file was read and false if its contents were already up to date.
+     */
+    public boolean refresh(String name, String path, WorkspaceManifest manifest) {
+        Document document = documents.get(name.toLowerCase());
+        if (document != null && document.name.equals(name) && document.path.equals(path)
+                && !isOutdated(document, manifest.getEntry(path))) {
+            return false;
+        }
+        index(name, path);
+        return true;
+    }
+
+    /**
+     * Reads again every indexed file for which <code>manifest</code> records a different size or last modified time
+     * than when it was indexed, such as the files found to have changed when CLIAlgo starts. Only the indexed
+     * documents are compared, so no <code>CS2040CFile</code> has to be loaded.
+     *
+     * @param manifest The <code>WorkspaceManifest</code> of the referenced files.
+     * @return The number of files which were read.
+     */
+    public int refreshChanged(WorkspaceManifest manifest) {
+        ArrayList<Document> outdatedDocuments = new ArrayList<>();
+        for (Document document : documents.values()) {
+            if (isOutdated(document, manifest.getEntry(document.path))) {
+                outdatedDocuments.add(document);
+            }
+        }
+        for (Document document : outdatedDocuments) {
+            index(document.name, document.path);
+        }
+        return outdatedDocuments.size();
+    }
+
+    private static boolean isOutdated(Document document, WorkspaceManifest.Entry entry) {
+        return entry != null && (entry.getSize() != document.size || entry.getLastModified() != document.lastModified);
+    }
+
+    /**
+     * Gets the name and path of every indexed <code>CS2040CFile</code>, which the index holds whether or not the
+     * <code>Topic</code> of the <code>CS2040CFile</code> is loaded.
+     *
+     * @return A LinkedHashMap of the name of each indexed <code>CS2040CFile</code> to the path to its file.
+     */
+    public LinkedHashMap<String, String> getIndexedPaths() {
+        LinkedHashMap<String, String> indexedPaths = new LinkedHashMap<>();
+        for (Document document : documents.values()) {
+            indexedPaths.put(document.name, document.path);
+        }
+        return indexedPaths;
+    }
+
+    /**
+     * Checks if the index file was missing or corrupted when it was loaded, in which case the index does not hold the
+     * contents of the <code>CS2040CFiles</code> stored before and has to be rebuilt with <code>update</code>.
+     *
+     * @return true if the index has to be rebuilt and false otherwise.
+     */
+    public boolean isRebuildNeeded() {
+        return isRebuildNeeded;
+    }
+
+    /**
+     * Checks if <code>load</code> has been called, whether or not the index file could be read.
+     *
+     * @return true if the index has been loaded and false otherwise.
+     */
+    public boolean isLoaded() {
+        return isLoaded;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public int getTermCount() {
+        return postingLists.size();
+    }
+
+    /**
+     * Splits <code>query</code> into its alternatives, separated by <code>OR_OPERATOR</code>, each of which is a
+     * list of phrases. A phrase is either the terms between a pair of <code>PHRASE_QUOTE</code>, or the terms of a
+     * single word, so that a word such as "union-find" has to match as a phrase.
+     */
+    private static ArrayList<ArrayList<ArrayList<String>>> parseQuery(String query) {
+        ArrayList<ArrayList<ArrayList<String>>> alternatives = new ArrayList<>();
+        ArrayList<ArrayList<String>> phrases = new ArrayList<>();
+        int start = 0;
+        while (start < query.length()) {
+            char character = query.charAt(start);
+            if (Character.isWhitespace(character)) {
+                start += 1;
+                continue;
+            }
+            int end;
+            String word;
+            if (character == PHRASE_QUOTE) {
+                end = query.indexOf(PHRASE_QUOTE, start + 1);
+                end = end < 0 ? query.length() : end;
+                word = query.substring(start + 1, end);
+                end += 1;
+            } else {
+                end = start;
+                while (end < query.length() && !Character.isWhitespace(query.charAt(end))
+                        && query.charAt(end) != PHRASE_QUOTE) {
+                    end += 1;
+                }
+                word = query.substring(start, end);
+                if (word.equals(OR_OPERATOR)) {
+                    alternatives.add(phrases);
+                    phrases = new ArrayList<>();
+                    start = end;
+                    continue;
+                }
+            }
+            ArrayList<String> phrase = tokenize(word);
+            if (!phrase.isEmpty()) {
+                phrases.add(phrase);
+            }
+            start = end;
+        }
+        alternatives.add(phrases);
+        alternatives.removeIf(ArrayList::isEmpty);
+        return alternatives;
+    }
+
+    /**
+     * Gets the posting lists of the terms of <code>phrase</code>.
+     *
+     * @return The posting lists in the order of the terms, or null if any term is in no document.
+     */
+    private PostingList[] getPostingLists(ArrayList<String> phrase) {
+        PostingList[] phrasePostingLists = new PostingList[phrase.size()];
+        for (int i = 0; i < phrase.size(); i += 1) {
+            phrasePostingLists[i] = postingLists.get(phrase.get(i));
+            if (phrasePostingLists[i] == null) {
+                return null;
+            }
+        }
+        return phrasePostingLists;
+    }
+
+    /** Gets the shortest of <code>phrasePostingLists</code>, which is the most documents a phrase can be found in. */
+    private static PostingList getShortest(PostingList[] phrasePostingLists) {
+        PostingList shortest = phrasePostingLists[0];
+        for (PostingList postingList : phrasePostingLists) {
+            if (postingList.size < shortest.size) {
+                shortest = postingList;
+            }
+        }
+        return shortest;
+    }
+
+    /**
+     * Counts the occurrences of a phrase in <code>document</code>, which are the positions of its first term
+     * followed by each of its other terms in turn.
+     */
+    private static int countOccurrences(Document document, PostingList[] phrasePostingLists) {
+        int[][] positions = new int[phrasePostingLists.length][];
+        for (int i = 0; i < phrasePostingLists.length; i += 1) {
+            positions[i] = phrasePostingLists[i].getPositions(document);
+            if (positions[i] == null) {
+                return 0;
+            }
+        }
+        int occurrenceCount = 0;
+        for (int start : positions[0]) {
+            boolean isOccurrence = true;
+            for (int i = 1; i < positions.length && isOccurrence; i += 1) {
+                isOccurrence = Arrays.binarySearch(positions[i], start + i) >= 0;
+            }
+            if (isOccurrence) {
+                occurrenceCount += 1;
+            }
+        }
+        return occurrenceCount;
+    }
+
+    /**
+     * Adds the number of occurrences of the phrases of <code>alternative</code> to the score of each document
+     * containing all of them. The documents are taken from the shortest posting list of all the terms, and only
+     * those are looked up in the other posting lists.
+     */
+    private void scoreAlternative(ArrayList<ArrayList<String>> alternative, HashMap<Document, Integer> scores) {
+        ArrayList<PostingList[]> phrasePostingLists = new ArrayList<>();
+        for (ArrayList<String> phrase : alternative) {
+            PostingList[] postingListsOfPhrase = getPostingLists(phrase);
+            if (postingListsOfPhrase == null) {
+                return;
+            }
+            phrasePostingLists.add(postingListsOfPhrase);
+        }
+        phrasePostingLists.sort((first, second) -> Integer.compare(getShortest(first).size,
+                getShortest(second).size));
+        PostingList shortest = getShortest(phrasePostingLists.get(0));
+        for (int i = 0; i < shortest.size; i += 1) {
+            Document document = shortest.documents[i];
+            int score = 0;
+            for (PostingList[] postingListsOfPhrase : phrasePostingLists) {
+                int occurrenceCount = countOccurrences(document, postingListsOfPhrase);
+                if (occurrenceCount == 0) {
+                    score = 0;
+                    break;
+                }
+                score += occurrenceCount;
+            }
+            if (score > 0) {
+                scores.merge(document, score, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * Finds the <code>CS2040CFiles</code> whose file contains every word and quoted phrase of any alternative of
+     * <code>query</code>, where the alternatives are separated by <code>OR_OPERATOR</code>. Words are matched
+     * ignoring case.
+     *
+     * @param query The words and quoted phrases to search for.
+     * @return The names of the <code>CS2040CFiles</code>, in descending order of the number of times the words and
+     *         phrases occur in their file, then in alphabetical order.
+     */
+    public ArrayList<String> search(String query) {
+        HashMap<Document, Integer> scores = new HashMap<>();
+        for (ArrayList<ArrayList<String>> alternative : parseQuery(query)) {
+            scoreAlternative(alternative, scores);
+        }
+        ArrayList<Map.Entry<Document, Integer>> results = new ArrayList<>(scores.entrySet());
+        results.sort((first, second) -> {
+            int scoreComparison = Integer.compare(second.getValue(), first.getValue());
+            if (scoreComparison != 0) {
+                return scoreComparison;
+            }
+            return first.getKey().name.compareToIgnoreCase(second.getKey().name);
+        });
+        ArrayList<String> names = new ArrayList<>();
+        for (Map.Entry<Document, Integer> result : results) {
+            names.add(result.getKey().name);
+        }
+        return names;
+    }
+}
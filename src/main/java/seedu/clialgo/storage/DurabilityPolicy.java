@@ -0,0 +1,106 @@
+package seedu.clialgo.storage;
+
+/**
+ * Object representing when the records appended to a <code>SingleFile</code> are committed to its data file. Records
+ * can be committed after every command, in groups once every <code>intervalMillis</code> milliseconds, or only when
+ * CLIAlgo exits. Each commit is a single write to the data file, optionally followed by a sync to the disk.
+ */
+public class DurabilityPolicy {
+    /** The launch option used to choose the durability policy, for example <code>--durability=interval:200</code>. */
+    public static final String OPTION_PREFIX = "--durability=";
+
+    /** The launch option used to sync the data file to the disk after every commit. */
+    public static final String SYNC_OPTION = "--fsync";
+
+    private static final String EVERY_COMMAND_NAME = "command";
+    private static final String INTERVAL_NAME = "interval:";
+    private static final String ON_EXIT_NAME = "exit";
+
+    /** The moments at which records can be committed. */
+    public enum Mode {
+        EVERY_COMMAND, INTERVAL, ON_EXIT
+    }
+
+    private final Mode mode;
+    private final long intervalMillis;
+    private final boolean isSynced;
+
+    private DurabilityPolicy(Mode mode, long intervalMillis, boolean isSynced) {
+        this.mode = mode;
+        this.intervalMillis = intervalMillis;
+        this.isSynced = isSynced;
+    }
+
+    /** Creates a <code>DurabilityPolicy</code> which commits every record as soon as it is appended. */
+    public static DurabilityPolicy everyCommand(boolean isSynced) {
+        return new DurabilityPolicy(Mode.EVERY_COMMAND, 0, isSynced);
+    }
+
+    /** Creates a <code>DurabilityPolicy</code> which commits the records appended once every interval. */
+    public static DurabilityPolicy interval(long intervalMillis, boolean isSynced) {
+        assert intervalMillis > 0 : "Interval must be positive";
+        return new DurabilityPolicy(Mode.INTERVAL, intervalMillis, isSynced);
+    }
+
+    /** Creates a <code>DurabilityPolicy</code> which only commits the records appended when CLIAlgo exits. */
+    public static DurabilityPolicy onExit(boolean isSynced) {
+        return new DurabilityPolicy(Mode.ON_EXIT, 0, isSynced);
+    }
+
+    /**
+     * Creates the <code>DurabilityPolicy</code> described by the value of the <code>OPTION_PREFIX</code> launch
+     * option, which is one of <code>command</code>, <code>interval:N</code> where N is a number of milliseconds, or
+     * <code>exit</code>.
+     *
+     * @param value The value of the launch option, without <code>OPTION_PREFIX</code>.
+     * @param isSynced Whether each commit is synced to the disk.
+     * @return The <code>DurabilityPolicy</code> described, or null if <code>value</code> is invalid.
+     */
+    public static DurabilityPolicy parse(String value, boolean isSynced) {
+        if (value.equals(EVERY_COMMAND_NAME)) {
+            return everyCommand(isSynced);
+        }
+        if (value.equals(ON_EXIT_NAME)) {
+            return onExit(isSynced);
+        }
+        if (!value.startsWith(INTERVAL_NAME)) {
+            return null;
+        }
+        try {
+            long intervalMillis = Long.parseLong(value.substring(INTERVAL_NAME.length()));
+            return intervalMillis > 0 ? interval(intervalMillis, isSynced) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks if the records appended since <code>firstPendingMillis</code> have to be committed now.
+     *
+     * @param firstPendingMillis The time at which the oldest uncommitted record was appended.
+     * @param currentMillis The current time.
+     * @return true if the records have to be committed and false otherwise.
+     */
+    public boolean isCommitDue(long firstPendingMillis, long currentMillis) {
+        switch (mode) {
+        case EVERY_COMMAND:
+            return true;
+        case INTERVAL:
+            return currentMillis - firstPendingMillis >= intervalMillis;
+        default:
+            return false;
+        }
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    public boolean isSynced() {
+        return isSynced;
+    }
+}
@@ -4,15 +4,39 @@ import seedu.clialgo.FileType;
 import seedu.clialgo.file.Code;
 import seedu.clialgo.file.CS2040CFile;
 import seedu.clialgo.file.Note;
+import seedu.clialgo.file.ReferencedFileVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 /**
- * Object that processes a <code>String</code> passed to it and returns a <code>CS2040CFile</code> representing the
- * information in the <code>String</code>.
+ * Object that processes a <code>String</code>, or the UTF-8 bytes of one, passed to it and returns a
+ * <code>CS2040CFile</code> representing the information in the <code>String</code>.
  */
 public class FileDecoder {
+    private static final String NOTE_FILE_EXTENSION = ".txt";
+    private static final String CODE_FILE_EXTENSION = ".cpp";
+
+    /** Number of fields in an encoded <code>CS2040CFile</code>. */
+    private static final int FIELD_COUNT = 7;
+
+    /** Number of fields in an encoded <code>CS2040CFile</code> written before the kind, size and time were stored. */
+    private static final int LEGACY_FIELD_COUNT = 4;
+
+    /** Maximum number of digits in a number field, so that parsing it can never overflow a <code>long</code>. */
+    private static final int MAX_DIGITS = 18;
+
+    private static final byte[] NOTE_KIND_BYTES = FileEncoder.NOTE_KIND.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] CODE_KIND_BYTES = FileEncoder.CODE_KIND.getBytes(StandardCharsets.UTF_8);
+
     private CS2040CFile currentCS2040CFile;
     private String currentName;
     private final String separator;
+    private final byte[] separatorBytes;
+    private final int[] fieldStarts;
+    private final int[] fieldEnds;
+    private String currentTopicName;
+    private byte[] currentTopicBytes;
 
     /**
      * Constructor for the fileDecoder object
@@ -21,37 +45,62 @@ public class FileDecoder {
      */
     public FileDecoder (String separator) {
         this.separator = separator;
+        this.separatorBytes = separator.getBytes(StandardCharsets.UTF_8);
+        this.fieldStarts = new int[FIELD_COUNT];
+        this.fieldEnds = new int[FIELD_COUNT];
     }
 
     public FileType checkFileType() {
-        String currentDirectory = "./";
-        String noteFileExtension = ".txt";
-        String codeFileExtension = ".cpp";
-        String pathInTxt =  currentDirectory + this.currentName + noteFileExtension;
-        String pathInCpp = currentDirectory + this.currentName + codeFileExtension;
+        return ReferencedFileVerifier.getInstance().getFileType("./", currentName);
+    }
 
-        if (new java.io.File(pathInTxt).isFile()) {
+    /**
+     * Determines the kind of a <code>CS2040CFile</code> stored in the original 4-field format from the extension of
+     * its path. Only if the path has neither extension is the file system checked.
+     *
+     * @param pathToCS2040CFile The path stored in the encoded <code>CS2040CFile</code>.
+     * @return The <code>FileType</code> of the <code>CS2040CFile</code>.
+     */
+    private FileType getLegacyFileType(String pathToCS2040CFile) {
+        if (pathToCS2040CFile.endsWith(NOTE_FILE_EXTENSION)) {
             return FileType.TXT;
-        } else if (new java.io.File(pathInCpp).isFile()) {
+        } else if (pathToCS2040CFile.endsWith(CODE_FILE_EXTENSION)) {
+            return FileType.CPP;
+        }
+        return checkFileType();
+    }
+
+    /**
+     * Converts the kind stored in an encoded <code>CS2040CFile</code> to a <code>FileType</code>.
+     *
+     * @param kind The kind stored in the encoded <code>CS2040CFile</code>.
+     * @return The <code>FileType</code> of the <code>CS2040CFile</code>.
+     */
+    private FileType getFileType(String kind) {
+        if (kind.equals(FileEncoder.NOTE_KIND)) {
+            return FileType.TXT;
+        } else if (kind.equals(FileEncoder.CODE_KIND)) {
             return FileType.CPP;
-        } else {
-            return FileType.DOESNOTEXIST;
         }
+        return FileType.DOESNOTEXIST;
     }
 
     //@@author lohjooh
     /**
      * Converts an encoded <code>CS2040CFile</code> from a <code>String</code> and stores the name of the
      * <code>CS2040CFile</code> and the <code>CS2040CFile</code> itself in this object. If there are any missing or
-     * corrupted fields, the <code>CS2040CFile</code> object is deemed corrupted.
+     * corrupted fields, the <code>CS2040CFile</code> object is deemed corrupted. The file system is not checked, so
+     * a <code>CS2040CFile</code> whose file has since been deleted is still decoded.
      *
      * @param encodedCS2040CFile The encoded <code>String</code> that represents a <code>CS2040CFile</code>.
      * @return true if there are any wrong entries or <code>isCorrupted</code> otherwise.
      */
     public boolean decodeString (String encodedCS2040CFile, String topicName) {
         try {
-            int maxFields = 4;
-            String[] splitCS2040CFile = encodedCS2040CFile.split(separator, maxFields);
+            String[] splitCS2040CFile = encodedCS2040CFile.split(separator, FIELD_COUNT);
+            if (splitCS2040CFile.length != FIELD_COUNT && splitCS2040CFile.length != LEGACY_FIELD_COUNT) {
+                return true;
+            }
             String pathToCS2040CFile = splitCS2040CFile[1];
             String topicOfCS2040CFile = splitCS2040CFile[2];
             int importanceOfCS2040CFile = Integer.parseInt(splitCS2040CFile[3]);
@@ -59,21 +108,206 @@ public class FileDecoder {
                 return true;
             }
             this.currentName = splitCS2040CFile[0];
-            if (checkFileType() == FileType.CPP) {
-                currentCS2040CFile = new Code(this.currentName, pathToCS2040CFile, topicOfCS2040CFile,
-                        importanceOfCS2040CFile);
-            } else if (checkFileType() == FileType.TXT) {
-                currentCS2040CFile = new Note(this.currentName, pathToCS2040CFile, topicOfCS2040CFile,
-                        importanceOfCS2040CFile);
+            long fileSize = 0;
+            long lastModified = 0;
+            FileType fileType;
+            if (splitCS2040CFile.length == LEGACY_FIELD_COUNT) {
+                fileType = getLegacyFileType(pathToCS2040CFile);
             } else {
-                return true;
+                fileType = getFileType(splitCS2040CFile[4]);
+                fileSize = Long.parseLong(splitCS2040CFile[5]);
+                lastModified = Long.parseLong(splitCS2040CFile[6]);
             }
+            return isCreationFailed(pathToCS2040CFile, topicOfCS2040CFile, importanceOfCS2040CFile, fileType,
+                    fileSize, lastModified);
         } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
             return true;
         }
+    }
+
+    /**
+     * Converts an encoded <code>CS2040CFile</code> from the UTF-8 bytes of a record in the same way as
+     * <code>decodeString</code>, but without converting the record to a <code>String</code> first. The fields are
+     * found with a byte-level search for the separator, the topic and kind are compared as bytes and the numbers are
+     * parsed directly from the bytes, so only the name and path are decoded into <code>Strings</code>.
+     *
+     * @param record The array containing the record.
+     * @param offset The index of the first byte of the record in <code>record</code>.
+     * @param length The number of bytes in the record, without the line terminator.
+     * @param topicName The name of the <code>Topic</code> which the record belongs to.
+     * @return true if there are any wrong entries or <code>isCorrupted</code> otherwise.
+     */
+    public boolean decodeBytes(byte[] record, int offset, int length, String topicName) {
+        int fieldCount = splitFields(record, offset, offset + length);
+        if (fieldCount != FIELD_COUNT && fieldCount != LEGACY_FIELD_COUNT) {
+            return true;
+        }
+        if (!isFieldEqual(record, 2, getTopicBytes(topicName))) {
+            return true;
+        }
+        try {
+            long importance = parseNumber(record, fieldStarts[3], fieldEnds[3]);
+            if (importance != (int) importance) {
+                return true;
+            }
+            this.currentName = decodeField(record, 0);
+            String pathToCS2040CFile = decodeField(record, 1);
+            long fileSize = 0;
+            long lastModified = 0;
+            FileType fileType;
+            if (fieldCount == LEGACY_FIELD_COUNT) {
+                fileType = getLegacyFileType(pathToCS2040CFile);
+            } else {
+                fileType = getFileType(record);
+                fileSize = parseNumber(record, fieldStarts[5], fieldEnds[5]);
+                lastModified = parseNumber(record, fieldStarts[6], fieldEnds[6]);
+            }
+            return isCreationFailed(pathToCS2040CFile, topicName, (int) importance, fileType, fileSize,
+                    lastModified);
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Creates the <code>CS2040CFile</code> named <code>currentName</code> and stores it in this object.
+     *
+     * @return true if the <code>CS2040CFile</code> could not be created as its kind is unknown and false otherwise.
+     */
+    private boolean isCreationFailed(String pathToCS2040CFile, String topicName, int importance,
+            FileType fileType, long fileSize, long lastModified) {
+        if (fileType == FileType.CPP) {
+            currentCS2040CFile = new Code(this.currentName, pathToCS2040CFile, topicName, importance);
+        } else if (fileType == FileType.TXT) {
+            currentCS2040CFile = new Note(this.currentName, pathToCS2040CFile, topicName, importance);
+        } else {
+            return true;
+        }
+        currentCS2040CFile.setFileAttributes(fileSize, lastModified);
         return false;
     }
 
+    /**
+     * Finds the index of the next separator in <code>bytes</code>, searching from <code>start</code> until
+     * <code>end</code>.
+     *
+     * @return The index of the first byte of the separator or -1 if there is none.
+     */
+    private int indexOfSeparator(byte[] bytes, int start, int end) {
+        int lastStart = end - separatorBytes.length;
+        for (int i = start; i <= lastStart; i++) {
+            if (bytes[i] == separatorBytes[0]
+                    && Arrays.equals(bytes, i, i + separatorBytes.length, separatorBytes, 0, separatorBytes.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Splits a record into at most <code>FIELD_COUNT</code> fields, storing the bounds of each field in
+     * <code>fieldStarts</code> and <code>fieldEnds</code>. Like <code>String.split</code> with a limit, the last
+     * field contains the rest of the record.
+     *
+     * @return The number of fields found.
+     */
+    private int splitFields(byte[] record, int start, int end) {
+        int fieldCount = 0;
+        int fieldStart = start;
+        int separatorIndex = indexOfSeparator(record, fieldStart, end);
+        while (separatorIndex >= 0 && fieldCount < FIELD_COUNT - 1) {
+            fieldStarts[fieldCount] = fieldStart;
+            fieldEnds[fieldCount] = separatorIndex;
+            fieldCount += 1;
+            fieldStart = separatorIndex + separatorBytes.length;
+            separatorIndex = indexOfSeparator(record, fieldStart, end);
+        }
+        fieldStarts[fieldCount] = fieldStart;
+        fieldEnds[fieldCount] = end;
+        return fieldCount + 1;
+    }
+
+    private String decodeField(byte[] record, int field) {
+        return new String(record, fieldStarts[field], fieldEnds[field] - fieldStarts[field], StandardCharsets.UTF_8);
+    }
+
+    private boolean isFieldEqual(byte[] record, int field, byte[] expected) {
+        return Arrays.equals(record, fieldStarts[field], fieldEnds[field], expected, 0, expected.length);
+    }
+
+    /**
+     * Gets the UTF-8 bytes of <code>topicName</code>, which are only encoded again when the topic changes.
+     */
+    private byte[] getTopicBytes(String topicName) {
+        if (!topicName.equals(currentTopicName)) {
+            currentTopicName = topicName;
+            currentTopicBytes = topicName.getBytes(StandardCharsets.UTF_8);
+        }
+        return currentTopicBytes;
+    }
+
+    /**
+     * Converts the kind stored in the fifth field of an encoded <code>CS2040CFile</code> to a <code>FileType</code>.
+     */
+    private FileType getFileType(byte[] record) {
+        if (isFieldEqual(record, 4, NOTE_KIND_BYTES)) {
+            return FileType.TXT;
+        } else if (isFieldEqual(record, 4, CODE_KIND_BYTES)) {
+            return FileType.CPP;
+        }
+        return FileType.DOESNOTEXIST;
+    }
+
+    /**
+     * Parses a decimal number with an optional sign directly from its ASCII digits.
+     *
+     * @throws NumberFormatException Thrown when the bytes are not a number of at most <code>MAX_DIGITS</code> digits.
+     */
+    private static long parseNumber(byte[] bytes, int start, int end) throws NumberFormatException {
+        boolean isNegative = start < end && bytes[start] == '-';
+        int digitStart = start < end && (isNegative || bytes[start] == '+') ? start + 1 : start;
+        if (digitStart == end || end - digitStart > MAX_DIGITS) {
+            throw new NumberFormatException();
+        }
+        long value = 0;
+        for (int i = digitStart; i < end; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException();
+            }
+            value = value * 10 + digit;
+        }
+        return isNegative ? -value : value;
+    }
+
+    /**
+     * Checks if an encoded record read from a data file is a tombstone created by
+     * <code>FileEncoder.encodeTombstone</code>.
+     *
+     * @param record The array containing the record.
+     * @param offset The index of the first byte of the record in <code>record</code>.
+     * @param length The number of bytes in the record, without the line terminator.
+     * @return true if the record is a tombstone and false otherwise.
+     */
+    public boolean isTombstone(byte[] record, int offset, int length) {
+        int separatorEnd = offset + separatorBytes.length;
+        return length >= separatorBytes.length
+                && Arrays.equals(record, offset, separatorEnd, separatorBytes, 0, separatorBytes.length);
+    }
+
+    /**
+     * Extracts the name of the deleted <code>CS2040CFile</code> from a tombstone.
+     *
+     * @param record The array containing the tombstone.
+     * @param offset The index of the first byte of the tombstone in <code>record</code>.
+     * @param length The number of bytes in the tombstone, without the line terminator.
+     * @return The name of the deleted <code>CS2040CFile</code>.
+     */
+    public String decodeTombstone(byte[] record, int offset, int length) {
+        return new String(record, offset + separatorBytes.length, length - separatorBytes.length,
+                StandardCharsets.UTF_8);
+    }
+
     public String decodedName () {
         return currentName;
     }
@@ -1,6 +1,7 @@
 package seedu.clialgo.storage;
 
 import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.file.Code;
 
 //@@author lohjooh
 /**
@@ -8,6 +9,8 @@ import seedu.clialgo.file.CS2040CFile;
  * written to the .txt file which the <code>CS2040CFile</code> has the <code>CS2040CFile.tag</code> of.
  */
 public class FileEncoder {
+    public static final String NOTE_KIND = "NOTE";
+    public static final String CODE_KIND = "CODE";
 
     protected final String separator;
 
@@ -21,14 +24,29 @@ public class FileEncoder {
     }
 
     /**
-     * Encodes a CS2040CFile into an encoded <code>String</code>.
+     * Encodes a CS2040CFile into an encoded <code>String</code>. Besides the name, path, topic and importance, the
+     * kind of the <code>CS2040CFile</code> and the size and last modified time of its file are stored so that it can
+     * be decoded without checking the file system.
      *
      * @param name The name of the <code>CS2040CFile</code>.
      * @param cs2040cFile The <code>CS2040CFile</code> object processed.
      * @return Returns a processed string.
      */
     public String encodeCS2040CFile(String name, CS2040CFile cs2040cFile) {
+        String kind = cs2040cFile instanceof Code ? CODE_KIND : NOTE_KIND;
         return name + separator + cs2040cFile.getPath() + separator + cs2040cFile.getTopic()
-                + separator + cs2040cFile.getImportance();
+                + separator + cs2040cFile.getImportance() + separator + kind
+                + separator + cs2040cFile.getFileSize() + separator + cs2040cFile.getLastModified();
+    }
+
+    /**
+     * Encodes a tombstone marking the <code>CS2040CFile</code> named <code>name</code> as deleted. As no name is
+     * empty, a tombstone is the only kind of record that starts with the <code>separator</code>.
+     *
+     * @param name The name of the deleted <code>CS2040CFile</code>.
+     * @return Returns the encoded tombstone.
+     */
+    public String encodeTombstone(String name) {
+        return separator + name;
     }
 }
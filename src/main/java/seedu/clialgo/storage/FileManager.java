@@ -1,93 +1,414 @@
 package seedu.clialgo.storage;
 
 import seedu.clialgo.logic.Topic;
+import seedu.clialgo.logic.TopicLoader;
+import seedu.clialgo.logic.TopicManager;
 import seedu.clialgo.Ui;
 import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.file.ReferencedFileVerifier;
 
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
 
 //@@author lohjooh
 /**
- * Object containing all the raw data for the application, able to update each .txt file which stores the information
- * of the <code>CS2040CFile</code> in each <code>Topic</code>, where the .txt files are named in the convention of
- * <code>topicName</code>.txt.
+ * Object containing all the raw data for the application, which stores the <code>CS2040CFiles</code> in each
+ * <code>Topic</code> through a <code>StorageEngine</code>. Test mode is served by a separate
+ * <code>MemoryStorageEngine</code>, unless it is persisted, in which case a <code>StorageEngine</code> of the same
+ * kind is created in a folder meant to store testdata.
  */
-public class FileManager {
-    private final FileEncoder encoder;
-    private final FileDecoder decoder;
-    private final String initialPath;
+public class FileManager implements TopicLoader {
+    public static final String SEPARATOR = "&@";
+
+    /** The launch option used to store the data of test mode on the disk like the data outside test mode. */
+    public static final String PERSIST_TEST_MODE_OPTION = "--persist-test-mode";
+
     private final String testModePath = "./testdata";
+    private final Function<String, StorageEngine> engineFactory;
     private final ArrayList<String> topicNames;
-    private final Ui ui;
-    private HashMap<String, SingleFile> topicRawData;
-    private HashMap<String, SingleFile> topicRawDataOutsideTestMode;
-    private String path;
+    private StorageEngine engine;
+    private StorageEngine engineOutsideTestMode;
+    private DurabilityPolicy durabilityPolicy;
+    private boolean isWriteBehind;
+    private boolean isTestModePersisted;
+    private long nameIndexCacheBytes;
+    private MaintenanceScheduler maintenanceScheduler;
+    private WorkingDirectoryWatcher workingDirectoryWatcher;
+    private final WorkspaceManifest workspaceManifest;
+    private ContentIndex contentIndex;
+    private ContentIndex contentIndexOutsideTestMode;
+    private boolean isClosed;
 
     /**
-     * Constructor for class containing <code>codeDecoder</code>, <code>codeEncoder</code> and raw data from the
-     * .txt file stored as strings.
+     * Constructor for class containing the raw data from the .txt files, encoded in the original text format.
      */
     public FileManager(String path, ArrayList<String> topicNames) {
-        this.path = path;
-        this.initialPath = path;
-        this.ui = new Ui();
-        String separator = "&@";
-        this.topicRawData = new HashMap<>();
+        this(path, topicNames, new TextCodec(SEPARATOR));
+    }
+
+    /**
+     * Constructor for class containing the <code>RecordCodec</code> used to encode the data files and the raw data
+     * from the data files.
+     */
+    public FileManager(String path, ArrayList<String> topicNames, RecordCodec codec) {
+        this(path, topicNames, folder -> new LogStorageEngine(folder, topicNames, codec));
+    }
+
+    /**
+     * Constructor for class containing the raw data stored by a <code>StorageEngine</code> of the kind
+     * <code>backend</code>.
+     */
+    public FileManager(String path, ArrayList<String> topicNames, StorageBackend backend) {
+        this(path, topicNames, folder -> backend.createEngine(folder, topicNames));
+    }
+
+    private FileManager(String path, ArrayList<String> topicNames, Function<String, StorageEngine> engineFactory) {
+        this.engineFactory = engineFactory;
         this.topicNames = topicNames;
-        this.encoder = new FileEncoder(separator);
-        this.decoder = new FileDecoder(separator);
+        this.engine = engineFactory.apply(path);
+        this.durabilityPolicy = DurabilityPolicy.everyCommand(false);
+        // Nothing is written next to a StorageEngine which only keeps its data in memory
+        this.workspaceManifest = new WorkspaceManifest(engine.isDiskBacked()
+                ? new File(path, WorkspaceManifest.FILE_NAME) : null);
+        this.contentIndex = new ContentIndex(engine.isDiskBacked() ? new File(path, ContentIndex.FILE_NAME) : null);
+    }
+
+    /**
+     * Loads every <code>Topic</code> from the <code>StorageEngine</code> and indexes the names of all
+     * <code>CS2040CFiles</code>.
+     */
+    public void initialize() {
+        engine.initialize();
+    }
+
+    /**
+     * Loads the index of all <code>CS2040CFile</code> names from the <code>StorageEngine</code>, leaving each
+     * <code>Topic</code> to be loaded with <code>loadTopic</code> when it is first needed, if the
+     * <code>StorageEngine</code> supports it.
+     */
+    public void initializeLazily() {
+        engine.initializeLazily();
+    }
+
+    /**
+     * Saves every <code>Topic</code> to a <code>Snapshot</code> when this object is closed, and restores every
+     * <code>Topic</code> from it in the next call to <code>initializeLazily</code>. Must be called before
+     * <code>initializeLazily</code>.
+     */
+    public void enableSnapshot() {
+        engine.enableSnapshot();
+    }
+
+    /**
+     * Loads the <code>Topic</code> named <code>topicName</code> from the <code>StorageEngine</code>. Outside test
+     * mode, the files of its <code>CS2040CFiles</code> are then checked in the background, and the ones whose file
+     * is missing are marked as dangling.
+     *
+     * @param topicName The name of the <code>Topic</code>.
+     * @return The loaded <code>Topic</code>.
+     */
+    @Override
+    public Topic loadTopic(String topicName) {
+        Topic topic = engine.loadTopic(topicName);
+        if (engineOutsideTestMode == null && topic != null) {
+            ReferencedFileVerifier.getInstance().verifyInBackground(topic.getC2040CFiles().values());
+        }
+        return topic;
+    }
+
+    /**
+     * Loads the <code>Topic</code> named <code>topicName</code> to be changed. In fork test mode, this is the copy
+     * which only test mode uses.
+     *
+     * @param topicName The name of the <code>Topic</code>.
+     * @return The loaded <code>Topic</code>, which may be changed.
+     */
+    @Override
+    public Topic loadTopicToModify(String topicName) {
+        return engine.loadTopicToModify(topicName);
+    }
+
+    /**
+     * Sets when the changes to the <code>StorageEngine</code>, including that of test mode, are written to the disk.
+     *
+     * @param durabilityPolicy The <code>DurabilityPolicy</code> used for all data files.
+     */
+    public void setDurabilityPolicy(DurabilityPolicy durabilityPolicy) {
+        this.durabilityPolicy = durabilityPolicy;
+        engine.setDurabilityPolicy(durabilityPolicy);
+    }
+
+    /**
+     * Starts a dedicated persistence thread which writes the changes to the <code>StorageEngine</code>, including
+     * that of test mode, so that adding and removing <code>CS2040CFiles</code> only waits for the in-memory changes.
+     */
+    public void startWriteBehind() {
+        isWriteBehind = true;
+        engine.startWriteBehind();
+    }
+
+    /**
+     * Keeps the index of all <code>CS2040CFile</code> names on the disk, including that of test mode, with at most
+     * <code>cacheBytes</code> of it in memory. Must be called before <code>initializeLazily</code>.
+     *
+     * @param cacheBytes The largest number of bytes of the name index to keep in memory.
+     */
+    public void useDiskNameIndex(long cacheBytes) {
+        nameIndexCacheBytes = cacheBytes;
+        engine.useDiskNameIndex(cacheBytes);
+    }
+
+    /**
+     * Starts compacting and verifying the stored data, including that of test mode, in the background once every
+     * <code>intervalMillis</code>. The background work pauses while a command runs between
+     * <code>beginCommand</code> and <code>endCommand</code>.
+     *
+     * @param intervalMillis The time between passes in milliseconds.
+     */
+    public void startMaintenance(long intervalMillis) {
+        maintenanceScheduler = new MaintenanceScheduler(topicNames, this::scrub,
+                MaintenanceScheduler.DEFAULT_STEP_PAUSE_MILLIS);
+        maintenanceScheduler.start(intervalMillis);
     }
 
     /**
-     * Creates a <code>SingleFile</code> object and creates a .txt file if the .txt does not exist.
+     * Compacts and verifies the stored data of <code>topicName</code> in the current <code>StorageEngine</code>.
      *
-     * @param name Name of the .txt file.
-     * @return The SingleFile object created.
+     * @param topicName The name of the <code>Topic</code> to scrub.
+     * @param report The <code>MaintenanceReport</code> of the current pass.
+     */
+    public void scrub(String topicName, MaintenanceReport report) {
+        engine.scrub(topicName, report);
+    }
+
+    /**
+     * Marks the start of a command, pausing the background maintenance, if any, until <code>endCommand</code>.
+     */
+    public void beginCommand() {
+        if (maintenanceScheduler != null) {
+            maintenanceScheduler.beginCommand();
+        }
+    }
+
+    /**
+     * Marks the end of a command started with <code>beginCommand</code>.
      */
-    public SingleFile createSingleFile(String name) {
-        String fileDivider = "/";
-        String noteFileExtension = ".txt";
-        String pathToFile = path + fileDivider + name + noteFileExtension;
-        File file = new File(pathToFile);
-        SingleFile newFile = new SingleFile(file, name, decoder);
+    public void endCommand() {
+        if (maintenanceScheduler != null) {
+            maintenanceScheduler.endCommand();
+        }
+    }
+
+    /**
+     * Loads the manifest of the referenced .txt and .cpp files and hashes again the files in it whose size or last
+     * modified time has changed since CLIAlgo was last closed.
+     */
+    public void loadWorkspaceManifest() {
+        workspaceManifest.load();
+        workspaceManifest.refreshAll();
+    }
+
+    public WorkspaceManifest getWorkspaceManifest() {
+        return workspaceManifest;
+    }
+
+    /**
+     * Saves the manifest of the referenced .txt and .cpp files if it has changed.
+     *
+     * @return true if the manifest is saved and false if it cannot be written.
+     */
+    public boolean saveWorkspaceManifest() {
         try {
-            if (file.createNewFile()) {
-                newFile.setFile(file);
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        } catch (SecurityException e) {
-            ui.printSecurityDenied();
+            workspaceManifest.save();
+            return true;
+        } catch (IOException | SecurityException e) {
+            return false;
         }
-        return newFile;
     }
 
     /**
-     * Creates all the <code>SingleFiles</code> corresponding to each valid <code>Topic</code>. If the .txt file does
-     * not exist, it creates a blank .txt file with <code>topicNames</code>.txt. For all the <code>SingleFiles</code>,
-     * reads the <code>File</code> corresponding to it.
+     * Gets the full-text index of the contents of the referenced .txt and .cpp files, loading it when it is first
+     * needed so that starting CLIAlgo does not wait for it. The files which the manifest records as changed since
+     * they were indexed are read again once it is loaded. The index file is deleted once loaded and saved again on
+     * exit, so that an index which missed changes made before a crash is rebuilt instead of trusted.
+     *
+     * @return The <code>ContentIndex</code> of the current mode.
      */
-    public void initialize() {
-        createFolder();
-        for (String string : topicNames) {
-            topicRawData.put(string, createSingleFile(string));
-        }
-        for (SingleFile singleFile : topicRawData.values()) {
-            try {
-                singleFile.readFile();
-            } catch (FileNotFoundException e) {
-                singleFile.recreateFile();
+    public ContentIndex getContentIndex() {
+        if (!contentIndex.isLoaded()) {
+            contentIndex.load();
+            contentIndex.invalidate();
+            contentIndex.refreshChanged(workspaceManifest);
+        }
+        return contentIndex;
+    }
+
+    /**
+     * Records the file of a new <code>CS2040CFile</code> in the manifest outside test mode, so that later changes to
+     * it are noticed, and indexes its contents.
+     *
+     * @param name The name of the <code>CS2040CFile</code>.
+     * @param path The path to the file of the <code>CS2040CFile</code>.
+     */
+    public void indexContents(String name, String path) {
+        if (engineOutsideTestMode == null) {
+            workspaceManifest.refresh(path);
+        }
+        getContentIndex().index(name, path);
+    }
+
+    /**
+     * Indexes the contents of the file of a <code>CS2040CFile</code> again if the manifest records that it changed
+     * since it was indexed, or if it is not indexed yet.
+     *
+     * @param name The name of the <code>CS2040CFile</code>.
+     * @param path The path to the file of the <code>CS2040CFile</code>.
+     * @return true if the file was read and false if its contents were already up to date.
+     */
+    public boolean refreshContents(String name, String path) {
+        return getContentIndex().refresh(name, path, workspaceManifest);
+    }
+
+    /**
+     * Rebuilds the full-text index from every <code>CS2040CFile</code> in <code>topicManager</code> if the index file
+     * was missing or corrupted, reading only the files which are not indexed yet. Otherwise, the index is already
+     * kept up to date by adding, removing and rescanning <code>CS2040CFiles</code>, so nothing is done and no
+     * <code>Topic</code> is loaded.
+     *
+     * @param topicManager The <code>TopicManager</code> containing the <code>CS2040CFiles</code>.
+     * @return The number of files which were read.
+     */
+    public int rebuildContentIndexIfNeeded(TopicManager topicManager) {
+        ContentIndex index = getContentIndex();
+        if (!index.isRebuildNeeded()) {
+            return 0;
+        }
+        return index.update(topicManager.getAllFilesAsFiles(), workspaceManifest);
+    }
+
+    /**
+     * Saves the full-text index, including that from before the start of test mode, if it has changed. The index
+     * of test mode is only kept in memory.
+     *
+     * @return true if the index is saved and false if it cannot be written.
+     */
+    public boolean saveContentIndex() {
+        try {
+            contentIndex.save();
+            if (contentIndexOutsideTestMode != null) {
+                contentIndexOutsideTestMode.save();
             }
+            return true;
+        } catch (IOException | SecurityException e) {
+            return false;
         }
     }
 
+    /**
+     * Watches the working directory for .txt and .cpp files being created or deleted, so that the changes can be
+     * applied with <code>applyWorkingDirectoryChanges</code>.
+     *
+     * @return true if the working directory is being watched and false if it cannot be watched.
+     */
+    public boolean startWatching() {
+        WorkingDirectoryWatcher watcher = new WorkingDirectoryWatcher(Paths.get("."));
+        try {
+            watcher.start();
+        } catch (IOException | RuntimeException e) {
+            return false;
+        }
+        workingDirectoryWatcher = watcher;
+        return true;
+    }
+
+    /**
+     * Marks the <code>CS2040CFiles</code> in <code>topicManager</code> whose file has been deleted or created in the
+     * working directory since the last call as dangling or present, if the working directory is being watched.
+     *
+     * @param topicManager The <code>TopicManager</code> containing the <code>CS2040CFiles</code>.
+     */
+    public void applyWorkingDirectoryChanges(TopicManager topicManager) {
+        if (workingDirectoryWatcher != null) {
+            workingDirectoryWatcher.applyChanges(topicManager);
+        }
+    }
+
+    /**
+     * Gets the .txt and .cpp files created in the working directory which are not in <code>topicManager</code> and
+     * have not been returned before.
+     *
+     * @param topicManager The <code>TopicManager</code> containing the <code>CS2040CFiles</code>.
+     * @return The names of the new files, which is empty if the working directory is not being watched.
+     */
+    public ArrayList<String> takeNewWorkingDirectoryFiles(TopicManager topicManager) {
+        if (workingDirectoryWatcher == null) {
+            return new ArrayList<>();
+        }
+        return workingDirectoryWatcher.takeNewFiles(topicManager);
+    }
+
+    /**
+     * Gets the <code>MaintenanceScheduler</code> running the background maintenance.
+     *
+     * @return The <code>MaintenanceScheduler</code>, or null if the background maintenance is off.
+     */
+    public MaintenanceScheduler getMaintenanceScheduler() {
+        return maintenanceScheduler;
+    }
+
+    /**
+     * Waits until the persistence thread, if any, has written every change made so far.
+     */
+    public void drainWrites() {
+        engine.drainWrites();
+    }
+
+    /**
+     * Writes every change to the <code>StorageEngine</code> that has not been written yet.
+     */
+    public void commitAll() {
+        engine.commitAll();
+    }
+
+    /**
+     * Stops the background maintenance, if any, then closes the <code>StorageEngine</code> of test mode, if it is
+     * on, and the <code>StorageEngine</code> from before the start of test mode, writing every change that has not
+     * been written yet. Only the first call has any effect.
+     */
+    public synchronized void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        if (maintenanceScheduler != null) {
+            maintenanceScheduler.stop();
+        }
+        if (workingDirectoryWatcher != null) {
+            workingDirectoryWatcher.stop();
+        }
+        // The manifest only saves work, as every referenced file is hashed again if it cannot be written
+        saveWorkspaceManifest();
+        saveContentIndex();
+        engine.close();
+        if (engineOutsideTestMode != null) {
+            engineOutsideTestMode.close();
+        }
+    }
+
+    public Map<String, String> getNameIndex() {
+        return engine.getNameIndex();
+    }
+
+    public LinkedHashMap<String, Long> getLoadTimes() {
+        return engine.getLoadTimes();
+    }
+
     /**
      * Deletes folder at <code>pathToFolder</code> and all the files within.
      * @param pathToFolder The <code>File</code> representing the folder to delete.
@@ -113,141 +434,160 @@ public class FileManager {
     }
 
     /**
-     * Creates a folder at <code>path</code>.
-     */
-    public void createFolder() {
-        try {
-            Path directory = Paths.get(path);
-            Files.createDirectories(directory);
-        } catch (IOException e) {
-            ui.printFolderCreateError();
-        } catch (SecurityException e) {
-            ui.printSecurityDenied();
-        }
-    }
-
-    /**
-     * Process a <code>CS2040CFile</code> and add it to the stored data in the <code>SingleFile</code> object and
-     * append the processed <code>CS2040CFile</code> as a <code>String</code> to the .txt file. If the file does not
-     * exist, <code>IOException</code> is caught and the file would be recreated from the existing data .
+     * Process a <code>CS2040CFile</code> and add it to the <code>StorageEngine</code>. The name of the
+     * <code>CS2040CFile</code> is also added to the name index.
      *
      * @param name The name of the CS2040CFile.
      * @param cs2040cFile The <code>CS2040CFile</code> being added.
      * @return true if executed successfully and false if execution failed.
      */
     public boolean addEntry(String name, CS2040CFile cs2040cFile) {
-        SingleFile singleFile = topicRawData.get(cs2040cFile.getTopic());
-        try {
-            String encodedCS2040CFile = encoder.encodeCS2040CFile(name , cs2040cFile);
-            singleFile.writeCS2040CFileToFile(name, encodedCS2040CFile, cs2040cFile);
-        } catch (IOException e) {
-            ui.printFileWriteError();
-            singleFile.recreateFile();
-            return false;
-        } catch (SecurityException e) {
-            ui.printSecurityDenied();
-        }
-        return true;
+        return engine.addEntry(name, cs2040cFile);
     }
 
     /**
-     * Deletes <code>CS2040CFile</code> with <code>cs2040cFileName</code> in <code>topicName</code>.txt and rewrite the
-     * .txt file. If the file does not exist, <code>IOException</code> is caught and the file would be recreated.
+     * Deletes <code>CS2040CFile</code> with <code>cs2040cFileName</code> of <code>topicName</code> from the
+     * <code>StorageEngine</code>. The name of the <code>CS2040CFile</code> is also removed from the name index.
      *
      * @param cs2040cFileName The name of the <code>CS2040CFile</code> being deleted.
      * @return true if executed successfully and false if execution failed.
      */
-    public boolean deleteEntry (String cs2040cFileName, String topicName) {
-        SingleFile singleFile = topicRawData.get(topicName);
-        try {
-            singleFile.deleteEntry(cs2040cFileName);
-        } catch (IOException e) {
-            ui.printFileWriteError();
-            singleFile.recreateFile();
-            return false;
-        } catch (SecurityException e) {
-            ui.printSecurityDenied();
-        }
-        return true;
+    public boolean deleteEntry(String cs2040cFileName, String topicName) {
+        return engine.deleteEntry(cs2040cFileName, topicName);
     }
 
     /**
-     * Deletes all stored raw data in <code>topicName</code>.txt.
+     * Replaces the stored <code>CS2040CFile</code> named <code>name</code> of <code>oldTopicName</code> with
+     * <code>cs2040cFile</code>, which may be tagged to a different <code>Topic</code>.
      *
-     * @param topicName The name of the .txt file being emptied.
+     * @param name The name of the <code>CS2040CFile</code>.
+     * @param oldTopicName The name of the <code>Topic</code> the <code>CS2040CFile</code> is stored under.
+     * @param cs2040cFile The changed <code>CS2040CFile</code>.
+     * @return true if executed successfully and false if execution failed.
+     */
+    public boolean updateEntry(String name, String oldTopicName, CS2040CFile cs2040cFile) {
+        return engine.updateEntry(name, oldTopicName, cs2040cFile);
+    }
+
+    /**
+     * Deletes all stored raw data of <code>topicName</code>.
+     *
+     * @param topicName The name of the <code>Topic</code> being emptied.
      */
     public void deleteAllEntry(String topicName) {
-        topicRawData.get(topicName).clearFile();
+        engine.deleteAllEntry(topicName);
     }
 
     /**
-     * Reads all the raw data stored in this object and returns a <code>HashMap</code> of <code>Topics</code> that is
-     * processed.
+     * Reads all the raw data stored in the <code>StorageEngine</code> and returns a <code>HashMap</code> of
+     * <code>Topics</code> that is processed.
      *
      * @return Returns the initialized <code>HashMap</code> of <code>CS2040CFiles</code>.
      */
     public HashMap<String, Topic> decodeAll() {
-        HashMap<String, Topic> topics = new HashMap<>();
-        for (String s: topicRawData.keySet()) {
-            topics.put(s, topicRawData.get(s).convertFileToTopic());
+        return engine.decodeAll();
+    }
+
+    /**
+     * Stores the data of test mode in a <code>StorageEngine</code> of the same kind as outside test mode, in a folder
+     * meant to store testdata, instead of only in memory. Takes effect from the next start of test mode.
+     */
+    public void persistTestMode() {
+        isTestModePersisted = true;
+    }
+
+    /**
+     * Writes every change made outside test mode that has not been written yet, so that none of them is lost if the
+     * application stops while in test mode.
+     *
+     * @return false if test mode is already on, in which case nothing is done.
+     */
+    private boolean prepareTestMode() {
+        if (engineOutsideTestMode != null) {
+            return false;
         }
-        return topics;
+        engine.drainWrites();
+        engine.commitAll();
+        return true;
     }
 
     /**
-     * Changes the folder location to a new folder meant to store testdata. Remembers state of
-     * <code>topicRawData</code> before start of test mode.
+     * Switches to a new, empty <code>StorageEngine</code> for test mode, which is a <code>MemoryStorageEngine</code>
+     * unless test mode is persisted. Remembers the <code>StorageEngine</code> from before the start of test mode,
+     * after writing every change made to it.
+     *
+     * @return false if test mode is already on, in which case nothing is done.
      */
-    public void testMode() {
-        this.path = testModePath;
-        this.topicRawDataOutsideTestMode = this.topicRawData;
-        this.topicRawData = new HashMap<>();
-        initialize();
+    public boolean testMode() {
+        if (!prepareTestMode()) {
+            return false;
+        }
+        engineOutsideTestMode = engine;
+        switchToTestModeContentIndex();
+        if (!isTestModePersisted) {
+            engine = new MemoryStorageEngine(topicNames);
+            engine.initialize();
+            return true;
+        }
+        engine = engineFactory.apply(testModePath);
+        engine.setDurabilityPolicy(durabilityPolicy);
+        engine.useDiskNameIndex(nameIndexCacheBytes);
+        if (isWriteBehind) {
+            engine.startWriteBehind();
+        }
+        engine.initialize();
+        return true;
     }
 
     /**
-     * Exits test mode and deletes all the files in the folder storing testdata. Retrieves and restores state of object
-     * to before test mode start.
+     * Switches to a <code>MemoryStorageEngine</code> for test mode which starts out with the same
+     * <code>CS2040CFiles</code> as outside test mode, without copying them. Changes in test mode are never written
+     * to the disk, even if test mode is persisted. Remembers the <code>StorageEngine</code> from before the start of
+     * test mode, after writing every change made to it. The full-text index of test mode starts out as a copy of the
+     * one from outside test mode.
+     *
+     * @return false if test mode is already on, in which case nothing is done.
+     */
+    public boolean forkTestMode() {
+        if (!prepareTestMode()) {
+            return false;
+        }
+        engineOutsideTestMode = engine;
+        contentIndexOutsideTestMode = getContentIndex();
+        contentIndex = contentIndexOutsideTestMode.copy();
+        engine = new MemoryStorageEngine(topicNames, engineOutsideTestMode);
+        engine.initialize();
+        return true;
+    }
+
+    /**
+     * Exits test mode and deletes everything stored by the <code>StorageEngine</code> of test mode. Restores the
+     * <code>StorageEngine</code> from before the start of test mode.
      */
     public void exitTestMode() {
-        this.path = initialPath;
-        this.topicRawData = topicRawDataOutsideTestMode;
-        deleteTestData();
+        engine.drainWrites();
+        engine.close();
+        engine.deleteStorage();
+        engine = engineOutsideTestMode;
+        engineOutsideTestMode = null;
+        contentIndex = contentIndexOutsideTestMode;
+        contentIndexOutsideTestMode = null;
     }
 
     /**
-     * Deletes folder at <code>.\\testdata</code> and all the files within.
+     * Switches to an empty full-text index kept only in memory for test mode, remembering the index from before the
+     * start of test mode.
      */
-    public void deleteTestData() {
-        File pathToFolder = new File(testModePath);
-        try {
-            File[] files = pathToFolder.listFiles();
-            if (files != null) {
-                for (File f : files) {
-                    if (!f.delete()) {
-                        ui.printFileDeleteFail();
-                    }
-                }
-            }
-            if (!pathToFolder.delete()) {
-                ui.printFileDeleteFail();
-            } else {
-                ui.printFileDeleteSuccess();
-            }
-        } catch (SecurityException e) {
-            ui.printSecurityDenied();
-        }
+    private void switchToTestModeContentIndex() {
+        contentIndexOutsideTestMode = contentIndex;
+        contentIndex = new ContentIndex(null);
     }
 
     /**
      * Recreates the data folder and all the files within for those which are missing.
      */
     public void recreateAll() {
-        if (!new File(path).exists()) {
-            createFolder();
-        }
-        for (SingleFile singleFile: topicRawData.values()) {
-            singleFile.recreateFile();
-        }
+        engine.recreateAll();
     }
 }
+//@@author
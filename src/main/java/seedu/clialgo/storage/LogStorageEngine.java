@@ -0,0 +1,709 @@
+package seedu.clialgo.storage;
+
+import seedu.clialgo.logic.Topic;
+import seedu.clialgo.Ui;
+import seedu.clialgo.file.CS2040CFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <code>StorageEngine</code> which stores the <code>CS2040CFiles</code> of each <code>Topic</code> in its own data
+ * file, kept as an append-only log by a <code>SingleFile</code>. The data files are named in the convention of
+ * <code>topicName</code> followed by the file extension of the <code>RecordCodec</code> used, which decides whether
+ * the records are stored as text or in binary.
+ */
+public class LogStorageEngine implements StorageEngine {
+    private static final String FILE_DIVIDER = "/";
+    private final RecordCodec codec;
+    private final String path;
+    private final ArrayList<String> topicNames;
+    private final Ui ui;
+    private HashMap<String, SingleFile> topicRawData;
+    private Map<String, String> nameIndex;
+    private NameDirectory nameDirectory;
+    /** The lowercase names of the CS2040CFiles of each Topic not loaded yet, as saved in the NameDirectory. */
+    private ConcurrentHashMap<String, ArrayList<String>> directoryNames;
+    /** The loaded Topics whose names in nameIndex still have to be corrected, as they were loaded for a fork. */
+    private final Set<String> uncorrectedTopicNames;
+    private long nameIndexCacheBytes;
+    private BPlusTreeIndex diskNameIndex;
+    private final CopyOnWriteArrayList<SingleFile> openFiles;
+    private DurabilityPolicy durabilityPolicy;
+    private ScheduledExecutorService commitScheduler;
+    private PersistenceWorker persistenceWorker;
+    private boolean isClosed;
+    private Snapshot snapshot;
+    private LinkedHashMap<String, Long> loadTimes;
+
+    /**
+     * Constructor for the <code>LogStorageEngine</code> object.
+     *
+     * @param path The folder which holds the data files.
+     * @param topicNames The names of all valid topics.
+     * @param codec The <code>RecordCodec</code> used to encode the data files.
+     */
+    public LogStorageEngine(String path, ArrayList<String> topicNames, RecordCodec codec) {
+        this.path = path;
+        this.ui = new Ui();
+        this.topicRawData = new HashMap<>();
+        this.topicNames = topicNames;
+        this.codec = codec;
+        this.nameIndex = new ConcurrentHashMap<>();
+        this.directoryNames = new ConcurrentHashMap<>();
+        this.uncorrectedTopicNames = ConcurrentHashMap.newKeySet();
+        this.loadTimes = new LinkedHashMap<>();
+        this.openFiles = new CopyOnWriteArrayList<>();
+        this.durabilityPolicy = DurabilityPolicy.everyCommand(false);
+    }
+
+    /**
+     * Creates a <code>SingleFile</code> object and creates a data file if the data file does not exist.
+     *
+     * @param name Name of the data file, without the extension.
+     * @return The SingleFile object created.
+     */
+    public SingleFile createSingleFile(String name) {
+        String pathToFile = path + FILE_DIVIDER + name + codec.getFileExtension();
+        File file = new File(pathToFile);
+        SingleFile newFile = new SingleFile(file, name, codec.copy());
+        newFile.setDurabilityPolicy(durabilityPolicy);
+        newFile.setPersistenceWorker(persistenceWorker);
+        openFiles.add(newFile);
+        try {
+            if (file.createNewFile()) {
+                newFile.setFile(file);
+            }
+        } catch (IOException e) {
+            ui.printFileWriteError();
+        } catch (SecurityException e) {
+            ui.printSecurityDenied();
+        }
+        return newFile;
+    }
+
+    /**
+     * Migrates the data file of a <code>Topic</code> written in the original text format to the format of
+     * <code>codec</code>, if <code>codec</code> uses a different format and the data file has not been migrated yet.
+     * The text data file is deleted once it has been migrated.
+     *
+     * @param topicName The name of the <code>Topic</code>.
+     */
+    private void migrateTextFile(String topicName) {
+        File textFile = new File(path + FILE_DIVIDER + topicName + TextCodec.FILE_EXTENSION);
+        File targetFile = new File(path + FILE_DIVIDER + topicName + codec.getFileExtension());
+        if (textFile.equals(targetFile) || !textFile.isFile() || targetFile.exists()) {
+            return;
+        }
+        SingleFile textSingleFile = new SingleFile(textFile, topicName, new TextCodec(FileManager.SEPARATOR));
+        try {
+            textSingleFile.readFile();
+            textSingleFile.convertTo(targetFile, codec.copy());
+            if (!textFile.delete()) {
+                ui.printFileDeleteFail();
+            }
+        } catch (IOException e) {
+            ui.printFileWriteError();
+        } catch (SecurityException e) {
+            ui.printSecurityDenied();
+        }
+    }
+
+    /**
+     * Creates and reads the <code>SingleFile</code> of a single <code>Topic</code>, then adds the names of its
+     * <code>CS2040CFiles</code> to <code>nameIndex</code>. The data file is first migrated if it is in the original
+     * text format, and a blank data file is created if it does not exist.
+     *
+     * @param topicName The name of the <code>Topic</code>.
+     * @return The <code>SingleFile</code> of the <code>Topic</code>.
+     */
+    private SingleFile loadSingleFile(String topicName) {
+        migrateTextFile(topicName);
+        SingleFile singleFile = createSingleFile(topicName);
+        singleFile.load();
+        singleFile.addNamesTo(nameIndex);
+        return singleFile;
+    }
+
+    /**
+     * Creates all the <code>SingleFiles</code> corresponding to each valid <code>Topic</code> and reads the
+     * <code>File</code> corresponding to each of them. The <code>SingleFiles</code> are loaded concurrently, one
+     * task per <code>Topic</code>, and the names of all <code>CS2040CFiles</code> are indexed as each
+     * <code>SingleFile</code> is read.
+     */
+    @Override
+    public void initialize() {
+        createFolder();
+        nameDirectory = null;
+        directoryNames = new ConcurrentHashMap<>();
+        uncorrectedTopicNames.clear();
+        nameIndex = openDiskNameIndex() ? diskNameIndex : new ConcurrentHashMap<>();
+        nameIndex.clear();
+        loadTimes = new LinkedHashMap<>();
+        ArrayList<Callable<SingleFile>> tasks = new ArrayList<>();
+        for (String topicName : topicNames) {
+            tasks.add(() -> loadSingleFile(topicName));
+        }
+        int threadCount = Math.max(1, Math.min(topicNames.size(), Runtime.getRuntime().availableProcessors()));
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            for (Future<SingleFile> loadedFile : executor.invokeAll(tasks)) {
+                SingleFile singleFile = loadedFile.get();
+                topicRawData.put(singleFile.getName(), singleFile);
+                loadTimes.put(singleFile.getName(), singleFile.getReadTime());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Creates all the <code>SingleFiles</code> corresponding to each valid <code>Topic</code> without reading them,
+     * and loads the index of all <code>CS2040CFile</code> names from the <code>NameDirectory</code> saved by the
+     * last call to <code>close</code>. Each <code>SingleFile</code> is then only read when its <code>Topic</code> is
+     * loaded with <code>loadTopic</code>. If the <code>NameDirectory</code> is missing or no longer matches the data
+     * files, falls back to reading every <code>SingleFile</code> with <code>initialize</code>.
+     * <p>
+     * If the <code>Snapshot</code> is enabled, every <code>SingleFile</code> is instead restored from the
+     * <code>Snapshot</code> at once, falling back to <code>initialize</code> if it is missing or stale.
+     * <p>
+     * If the name index is kept on the disk, the <code>BPlusTreeIndex</code> is used instead of both the
+     * <code>NameDirectory</code> and the <code>Snapshot</code>, since restoring every <code>Topic</code> at once
+     * would defeat its heap budget.
+     */
+    @Override
+    public void initializeLazily() {
+        createFolder();
+        loadTimes = new LinkedHashMap<>();
+        HashMap<String, SingleFile> singleFiles = new HashMap<>();
+        for (String topicName : topicNames) {
+            migrateTextFile(topicName);
+            singleFiles.put(topicName, createSingleFile(topicName));
+        }
+        if (openDiskNameIndex()) {
+            snapshot = null;
+            if (!diskNameIndex.isValidFor(NameDirectory.fingerprint(getDataFiles(singleFiles)))) {
+                openFiles.removeAll(singleFiles.values());
+                initialize();
+                return;
+            }
+            topicRawData = singleFiles;
+            nameIndex = diskNameIndex;
+            return;
+        }
+        NameDirectory savedDirectory = new NameDirectory(new File(path + FILE_DIVIDER + NameDirectory.FILE_NAME));
+        ConcurrentHashMap<String, ArrayList<String>> savedDirectoryNames = new ConcurrentHashMap<>();
+        ConcurrentHashMap<String, String> savedNameIndex = snapshot != null
+                ? loadSnapshot(singleFiles)
+                : savedDirectory.load(getDataFiles(singleFiles), savedDirectoryNames);
+        if (savedNameIndex == null) {
+            openFiles.removeAll(singleFiles.values());
+            initialize();
+            nameDirectory = savedDirectory;
+            return;
+        }
+        topicRawData = singleFiles;
+        nameIndex = savedNameIndex;
+        directoryNames = savedDirectoryNames;
+        uncorrectedTopicNames.clear();
+        nameDirectory = savedDirectory;
+        // The data files are about to change, so the saved directory must not be trusted if the program crashes
+        nameDirectory.invalidate();
+    }
+
+    /**
+     * Keeps the index of all <code>CS2040CFile</code> names in a <code>BPlusTreeIndex</code> on the disk instead of
+     * on the heap. Must be called before <code>initialize</code> or <code>initializeLazily</code>.
+     *
+     * @param cacheBytes The largest number of bytes of index pages to keep in memory.
+     */
+    @Override
+    public void useDiskNameIndex(long cacheBytes) {
+        nameIndexCacheBytes = cacheBytes;
+    }
+
+    /**
+     * Opens the <code>BPlusTreeIndex</code> if the name index is kept on the disk and it is not open yet. The name
+     * index is kept on the heap instead if the index file cannot be opened.
+     *
+     * @return true if the <code>BPlusTreeIndex</code> is open and false otherwise.
+     */
+    private boolean openDiskNameIndex() {
+        if (diskNameIndex != null || nameIndexCacheBytes <= 0) {
+            return diskNameIndex != null;
+        }
+        try {
+            diskNameIndex = new BPlusTreeIndex(new File(path + FILE_DIVIDER + BPlusTreeIndex.FILE_NAME),
+                    nameIndexCacheBytes);
+        } catch (IOException e) {
+            ui.printFileWriteError();
+            nameIndexCacheBytes = 0;
+        } catch (SecurityException e) {
+            ui.printSecurityDenied();
+            nameIndexCacheBytes = 0;
+        }
+        return diskNameIndex != null;
+    }
+
+    /**
+     * Saves every <code>Topic</code> to a <code>Snapshot</code> when this object is closed, and restores every
+     * <code>Topic</code> from it in the next call to <code>initializeLazily</code>. Must be called before
+     * <code>initializeLazily</code>.
+     */
+    @Override
+    public void enableSnapshot() {
+        snapshot = new Snapshot(new File(path + FILE_DIVIDER + Snapshot.FILE_NAME));
+    }
+
+    /**
+     * Restores every <code>SingleFile</code> from the <code>Snapshot</code>, recording the time taken to load it.
+     *
+     * @param singleFiles The <code>SingleFile</code> of each <code>Topic</code>, none of which have been loaded.
+     * @return The index of all <code>CS2040CFile</code> names, or null if the <code>Snapshot</code> is missing,
+     *         corrupted or stale.
+     */
+    private ConcurrentHashMap<String, String> loadSnapshot(HashMap<String, SingleFile> singleFiles) {
+        long startTime = System.nanoTime();
+        ConcurrentHashMap<String, String> savedNameIndex = new ConcurrentHashMap<>();
+        if (!snapshot.load(singleFiles, savedNameIndex, codec.getFileExtension())) {
+            return null;
+        }
+        loadTimes.put(Snapshot.FILE_NAME, System.nanoTime() - startTime);
+        // Like the NameDirectory, the snapshot must not be trusted if the program crashes after this point
+        snapshot.invalidate();
+        return savedNameIndex;
+    }
+
+    /**
+     * Gets the data file of each <code>SingleFile</code>.
+     *
+     * @param singleFiles The <code>SingleFile</code> of each <code>Topic</code>.
+     * @return The data file of each <code>Topic</code>.
+     */
+    private HashMap<String, File> getDataFiles(HashMap<String, SingleFile> singleFiles) {
+        HashMap<String, File> dataFiles = new HashMap<>();
+        for (Map.Entry<String, SingleFile> entry : singleFiles.entrySet()) {
+            dataFiles.put(entry.getKey(), entry.getValue().getFile());
+        }
+        return dataFiles;
+    }
+
+    /**
+     * Reads the data file of the <code>Topic</code> named <code>topicName</code> if it has not been read yet and
+     * returns the <code>Topic</code>. If corrupted records were discarded while reading it, the names of the
+     * <code>Topic</code> in <code>nameIndex</code> are corrected to match the data file.
+     *
+     * @param topicName The name of the <code>Topic</code> to load.
+     * @return The loaded <code>Topic</code>.
+     */
+    @Override
+    public Topic loadTopic(String topicName) {
+        return loadTopic(topicName, nameIndex);
+    }
+
+    /**
+     * Reads the data file of the <code>Topic</code> named <code>topicName</code> if it has not been read yet and
+     * returns the <code>Topic</code>. If corrupted records were discarded while reading it, the names of the
+     * <code>Topic</code> in <code>forkedNameIndex</code> are corrected to match the data file. Those in
+     * <code>nameIndex</code> are only corrected once the <code>Topic</code> is loaded with <code>nameIndex</code>
+     * itself, after the fork has ended.
+     *
+     * @param topicName The name of the <code>Topic</code> to load.
+     * @param forkedNameIndex The name index to correct.
+     * @return The loaded <code>Topic</code>.
+     */
+    @Override
+    public Topic loadTopic(String topicName, Map<String, String> forkedNameIndex) {
+        SingleFile singleFile = topicRawData.get(topicName);
+        if (!singleFile.isLoaded()) {
+            singleFile.load();
+            loadTimes.put(topicName, singleFile.getReadTime());
+            if (singleFile.isSalvaged()) {
+                uncorrectedTopicNames.add(topicName);
+            } else {
+                directoryNames.remove(topicName);
+            }
+        }
+        if (uncorrectedTopicNames.contains(topicName)) {
+            correctIndexedNames(forkedNameIndex, topicName, directoryNames.get(topicName),
+                    singleFile.getLowercaseNames());
+            if (forkedNameIndex == nameIndex) {
+                uncorrectedTopicNames.remove(topicName);
+                directoryNames.remove(topicName);
+            }
+        }
+        return singleFile.convertFileToTopic();
+    }
+
+    /**
+     * Removes the names of the <code>Topic</code> named <code>topicName</code> which are no longer in its data file
+     * from <code>names</code>, and adds the names which are missing from it. Only the names which differ are
+     * changed.
+     *
+     * @param names The name index to correct.
+     * @param topicName The name of the <code>Topic</code>.
+     * @param indexedNames The lowercase names of the <code>Topic</code> saved in the <code>NameDirectory</code>, or
+     *                     null if they are not known, in which case every name in <code>names</code> is checked.
+     * @param loadedNames The lowercase names read from the data file.
+     */
+    private static void correctIndexedNames(Map<String, String> names, String topicName,
+            ArrayList<String> indexedNames, HashSet<String> loadedNames) {
+        if (indexedNames == null) {
+            names.entrySet().removeIf(entry -> topicName.equals(entry.getValue())
+                    && !loadedNames.contains(entry.getKey()));
+        } else {
+            for (String name : indexedNames) {
+                if (!loadedNames.contains(name)) {
+                    names.remove(name, topicName);
+                }
+            }
+        }
+        for (String name : loadedNames) {
+            if (!topicName.equals(names.get(name))) {
+                names.put(name, topicName);
+            }
+        }
+    }
+
+    /**
+     * Sets when the records appended to each data file are committed. If records are committed once every interval,
+     * a background thread is started to commit them even when no further commands are entered.
+     *
+     * @param durabilityPolicy The <code>DurabilityPolicy</code> used for all data files.
+     */
+    @Override
+    public void setDurabilityPolicy(DurabilityPolicy durabilityPolicy) {
+        this.durabilityPolicy = durabilityPolicy;
+        for (SingleFile singleFile : openFiles) {
+            singleFile.setDurabilityPolicy(durabilityPolicy);
+        }
+        stopCommitScheduler();
+        if (durabilityPolicy.getMode() != DurabilityPolicy.Mode.INTERVAL) {
+            return;
+        }
+        commitScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "commit-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = durabilityPolicy.getIntervalMillis();
+        commitScheduler.scheduleAtFixedRate(this::commitAll, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Starts a dedicated persistence thread which commits the records appended to every data file, so that adding
+     * and removing <code>CS2040CFiles</code> only waits for the in-memory changes. Errors while committing are
+     * printed by the persistence thread once they happen.
+     */
+    @Override
+    public void startWriteBehind() {
+        if (persistenceWorker != null) {
+            return;
+        }
+        persistenceWorker = new PersistenceWorker();
+        for (SingleFile singleFile : openFiles) {
+            singleFile.setPersistenceWorker(persistenceWorker);
+        }
+    }
+
+    /**
+     * Waits until the persistence thread, if any, has committed every record appended so far.
+     */
+    @Override
+    public void drainWrites() {
+        if (persistenceWorker != null) {
+            persistenceWorker.drain();
+        }
+    }
+
+    private void stopCommitScheduler() {
+        if (commitScheduler != null) {
+            commitScheduler.shutdown();
+            commitScheduler = null;
+        }
+    }
+
+    /**
+     * Verifies every record of the data file of <code>topicName</code>. If the <code>Topic</code> has been loaded,
+     * its data file is also compacted and repaired, and the .txt and .cpp files of its <code>CS2040CFiles</code> are
+     * checked. <code>Topics</code> which have not been loaded are not read into memory, as their data files are
+     * repaired when they are first read anyway.
+     */
+    @Override
+    public void scrub(String topicName, MaintenanceReport report) {
+        SingleFile singleFile = topicRawData.get(topicName);
+        try {
+            singleFile.scrub(report);
+        } catch (IOException | SecurityException e) {
+            report.addFailedTopic(topicName);
+            return;
+        }
+        if (singleFile.isLoaded()) {
+            report.checkReferencedFiles(singleFile.convertFileToTopic());
+        }
+    }
+
+    /**
+     * Commits the uncommitted records of every data file.
+     */
+    @Override
+    public void commitAll() {
+        for (SingleFile singleFile : openFiles) {
+            try {
+                singleFile.commit();
+            } catch (IOException e) {
+                ui.printFileWriteError();
+            } catch (SecurityException e) {
+                ui.printSecurityDenied();
+            }
+        }
+    }
+
+    /**
+     * Commits the uncommitted records of each <code>SingleFile</code> and closes its data file.
+     *
+     * @param singleFiles The <code>SingleFiles</code> to close.
+     */
+    private void closeAll(Iterable<SingleFile> singleFiles) {
+        for (SingleFile singleFile : singleFiles) {
+            try {
+                singleFile.close();
+            } catch (IOException e) {
+                ui.printFileWriteError();
+            } catch (SecurityException e) {
+                ui.printSecurityDenied();
+            }
+            openFiles.remove(singleFile);
+        }
+    }
+
+    /**
+     * Writes the <code>BPlusTreeIndex</code>, if used, back to its index file and closes it, recording the data files
+     * it now matches. Must be called after the data files are closed, as closing them may change their size.
+     */
+    private void closeDiskNameIndex() {
+        if (diskNameIndex == null) {
+            return;
+        }
+        try {
+            diskNameIndex.close(NameDirectory.fingerprint(getDataFiles(topicRawData)));
+        } catch (IOException e) {
+            ui.printFileWriteError();
+        } catch (SecurityException e) {
+            ui.printSecurityDenied();
+        }
+        diskNameIndex = null;
+    }
+
+    /**
+     * Stops the persistence thread once it has committed every queued record, commits the uncommitted records of
+     * every data file and closes them, then saves the <code>NameDirectory</code>, and the <code>Snapshot</code> if
+     * it is enabled, so that the next call to <code>initializeLazily</code> does not need to read every data file.
+     * The <code>NameDirectory</code> is not saved if the data files were not loaded with
+     * <code>initializeLazily</code>. The <code>BPlusTreeIndex</code>, if used, is always closed together with the
+     * data files it indexes. Only the first call has any effect.
+     */
+    @Override
+    public synchronized void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        stopCommitScheduler();
+        if (persistenceWorker != null) {
+            persistenceWorker.stop();
+        }
+        if (snapshot != null) {
+            for (SingleFile singleFile : topicRawData.values()) {
+                singleFile.load();
+            }
+        }
+        closeAll(openFiles);
+        closeDiskNameIndex();
+        if (nameDirectory == null) {
+            return;
+        }
+        try {
+            nameDirectory.save(nameIndex, getDataFiles(topicRawData));
+            if (snapshot != null) {
+                snapshot.save(topicRawData, nameIndex, codec.getFileExtension());
+            }
+        } catch (IOException e) {
+            ui.printFileWriteError();
+        } catch (SecurityException e) {
+            ui.printSecurityDenied();
+        }
+    }
+
+    @Override
+    public Map<String, String> getNameIndex() {
+        return nameIndex;
+    }
+
+    @Override
+    public LinkedHashMap<String, Long> getLoadTimes() {
+        return loadTimes;
+    }
+
+    /**
+     * Creates a folder at <code>path</code>.
+     */
+    public void createFolder() {
+        try {
+            Path directory = Paths.get(path);
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            ui.printFolderCreateError();
+        } catch (SecurityException e) {
+            ui.printSecurityDenied();
+        }
+    }
+
+    /**
+     * Process a <code>CS2040CFile</code> and add it to the stored data in the <code>SingleFile</code> object and
+     * append the processed <code>CS2040CFile</code> as a record to the data file. If the file does not
+     * exist, <code>IOException</code> is caught and the file would be recreated from the existing data .
+     * The name of the <code>CS2040CFile</code> is also added to <code>nameIndex</code>.
+     *
+     * @param name The name of the CS2040CFile.
+     * @param cs2040cFile The <code>CS2040CFile</code> being added.
+     * @return true if executed successfully and false if execution failed.
+     */
+    @Override
+    public boolean addEntry(String name, CS2040CFile cs2040cFile) {
+        SingleFile singleFile = topicRawData.get(cs2040cFile.getTopic());
+        singleFile.load();
+        try {
+            singleFile.writeCS2040CFileToFile(name, cs2040cFile);
+            nameIndex.put(name.toLowerCase(), cs2040cFile.getTopic());
+        } catch (IOException e) {
+            ui.printFileWriteError();
+            singleFile.recreateFile();
+            return false;
+        } catch (SecurityException e) {
+            ui.printSecurityDenied();
+        }
+        return true;
+    }
+
+    /**
+     * Deletes <code>CS2040CFile</code> with <code>cs2040cFileName</code> in the data file of
+     * <code>topicName</code> by appending a tombstone to the data file. If the file does not exist,
+     * <code>IOException</code> is caught and the file would be recreated. The name of the <code>CS2040CFile</code> is
+     * also removed from <code>nameIndex</code>.
+     *
+     * @param cs2040cFileName The name of the <code>CS2040CFile</code> being deleted.
+     * @return true if executed successfully and false if execution failed.
+     */
+    @Override
+    public boolean deleteEntry(String cs2040cFileName, String topicName) {
+        SingleFile singleFile = topicRawData.get(topicName);
+        singleFile.load();
+        try {
+            singleFile.deleteEntry(cs2040cFileName);
+            nameIndex.remove(cs2040cFileName.toLowerCase());
+        } catch (IOException e) {
+            ui.printFileWriteError();
+            singleFile.recreateFile();
+            return false;
+        } catch (SecurityException e) {
+            ui.printSecurityDenied();
+        }
+        return true;
+    }
+
+    /**
+     * Deletes all stored raw data in the data file of <code>topicName</code>.
+     *
+     * @param topicName The name of the data file being emptied.
+     */
+    @Override
+    public void deleteAllEntry(String topicName) {
+        topicRawData.get(topicName).clearFile();
+    }
+
+    /**
+     * Reads all the raw data stored in this object and returns a <code>HashMap</code> of <code>Topics</code> that is
+     * processed.
+     *
+     * @return Returns the initialized <code>HashMap</code> of <code>CS2040CFiles</code>.
+     */
+    @Override
+    public HashMap<String, Topic> decodeAll() {
+        HashMap<String, Topic> topics = new HashMap<>();
+        for (String s: topicRawData.keySet()) {
+            topicRawData.get(s).load();
+            topics.put(s, topicRawData.get(s).convertFileToTopic());
+        }
+        return topics;
+    }
+
+    /**
+     * Deletes the folder at <code>path</code> and all the files within.
+     */
+    @Override
+    public void deleteStorage() {
+        deleteFolder(new File(path), ui);
+    }
+
+    /**
+     * Deletes <code>pathToFolder</code> and all the files within, printing whether it succeeded.
+     *
+     * @param pathToFolder The folder to delete.
+     * @param ui The <code>Ui</code> used to print the result.
+     */
+    static void deleteFolder(File pathToFolder, Ui ui) {
+        try {
+            File[] files = pathToFolder.listFiles();
+            if (files != null) {
+                for (File f : files) {
+                    if (!f.delete()) {
+                        ui.printFileDeleteFail();
+                    }
+                }
+            }
+            if (!pathToFolder.delete()) {
+                ui.printFileDeleteFail();
+            } else {
+                ui.printFileDeleteSuccess();
+            }
+        } catch (SecurityException e) {
+            ui.printSecurityDenied();
+        }
+    }
+
+    /**
+     * Recreates the data folder and all the files within for those which are missing.
+     */
+    @Override
+    public void recreateAll() {
+        if (!new File(path).exists()) {
+            createFolder();
+        }
+        for (SingleFile singleFile: topicRawData.values()) {
+            singleFile.recreateFile();
+        }
+    }
+}
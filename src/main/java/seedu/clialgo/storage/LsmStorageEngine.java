@@ -0,0 +1,779 @@
+package seedu.clialgo.storage;
+
+import seedu.clialgo.Ui;
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.Topic;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * <code>StorageEngine</code> which stores the <code>CS2040CFiles</code> of every <code>Topic</code> in a
+ * log-structured merge tree, so that catalogs far larger than memory can be stored without rewriting whole data files.
+ * <p>
+ * Changes are appended to a log and kept in a sorted memtable. Once the memtable grows past
+ * <code>MEMTABLE_FLUSH_BYTES</code>, it is written as an immutable, sorted <code>Segment</code> and the log is
+ * emptied. Whenever <code>MERGE_FAN_IN</code> segments of the same level exist, a background thread merges them into
+ * a single segment of the next level, so that every entry is only rewritten once per level.
+ * <p>
+ * Each <code>CS2040CFile</code> is stored under two keys: its record, under the name of its <code>Topic</code> so
+ * that a <code>Topic</code> is loaded with a single range scan, and its lowercase name, mapped to the name of its
+ * <code>Topic</code>, which backs the name index. Looking up a name checks the <code>BloomFilter</code> of each
+ * segment first, so names which are not stored rarely read the disk.
+ */
+public class LsmStorageEngine implements StorageEngine {
+    public static final String LOG_FILE_NAME = "memtable.log";
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_EXTENSION = ".lsm";
+    private static final String TEMPORARY_EXTENSION = ".tmp";
+    private static final String NAME_KEY_PREFIX = "n:";
+    private static final String RECORD_KEY_PREFIX = "r:";
+    private static final char KEY_DIVIDER = ':';
+    private static final long MEMTABLE_FLUSH_BYTES = 1 << 20;
+    private static final int MERGE_FAN_IN = 4;
+    private static final long MERGE_TIMEOUT_SECONDS = 60;
+    private static final int TOMBSTONE_LENGTH = -1;
+
+    private final String path;
+    private final ArrayList<String> topicNames;
+    private final RecordCodec codec;
+    private final Ui ui;
+    private final TreeMap<String, byte[]> memtable;
+    private final long memtableFlushBytes;
+    private long memtableBytes;
+
+    /** The segments, from the oldest to the newest. */
+    private final ArrayList<Segment> segments;
+    private long nextSequence;
+    private FileChannel log;
+    private ExecutorService mergeExecutor;
+    private boolean isMerging;
+    private boolean isClosed;
+    private DurabilityPolicy durabilityPolicy;
+    private final LinkedHashMap<String, Long> loadTimes;
+    private final NameIndex nameIndex;
+
+    /**
+     * Constructor for the <code>LsmStorageEngine</code> object.
+     *
+     * @param path The folder which holds the log and the segment files.
+     * @param topicNames The names of all valid topics.
+     */
+    public LsmStorageEngine(String path, ArrayList<String> topicNames) {
+        this(path, topicNames, MEMTABLE_FLUSH_BYTES);
+    }
+
+    /**
+     * Constructor for the <code>LsmStorageEngine</code> object which flushes the memtable at a different size.
+     *
+     * @param path The folder which holds the log and the segment files.
+     * @param topicNames The names of all valid topics.
+     * @param memtableFlushBytes The approximate size in bytes at which the memtable is written as a segment.
+     */
+    LsmStorageEngine(String path, ArrayList<String> topicNames, long memtableFlushBytes) {
+        this.path = path;
+        this.memtableFlushBytes = memtableFlushBytes;
+        this.topicNames = topicNames;
+        this.codec = new BinaryCodec(topicNames);
+        this.ui = new Ui();
+        this.memtable = new TreeMap<>();
+        this.segments = new ArrayList<>();
+        this.nextSequence = 1;
+        this.durabilityPolicy = DurabilityPolicy.everyCommand(false);
+        this.loadTimes = new LinkedHashMap<>();
+        this.nameIndex = new NameIndex();
+    }
+
+    private static String nameKey(String name) {
+        return NAME_KEY_PREFIX + name.toLowerCase();
+    }
+
+    private static String recordPrefix(String topicName) {
+        return RECORD_KEY_PREFIX + topicName + KEY_DIVIDER;
+    }
+
+    private File getSegmentFile(long firstSequence, long lastSequence) {
+        return new File(path, SEGMENT_PREFIX + firstSequence + "-" + lastSequence + SEGMENT_EXTENSION);
+    }
+
+    /**
+     * Reads the range of flush sequence numbers covered by a segment file from its name.
+     *
+     * @param file The segment file.
+     * @return The first and last sequence numbers, or null if <code>file</code> is not named like a segment file.
+     */
+    private static long[] getSequenceRange(File file) {
+        String name = file.getName();
+        if (!name.startsWith(SEGMENT_PREFIX) || !name.endsWith(SEGMENT_EXTENSION)) {
+            return null;
+        }
+        String[] range = name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_EXTENSION.length())
+                .split("-");
+        try {
+            return range.length == 2 ? new long[]{Long.parseLong(range[0]), Long.parseLong(range[1])} : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Opens the segment files and replays the log into the memtable. Segment files left behind by a merge that was
+     * interrupted are deleted, and corrupted segment files are moved aside.
+     */
+    @Override
+    public synchronized void initialize() {
+        File folder = new File(path);
+        try {
+            Files.createDirectories(folder.toPath());
+            openSegments(folder);
+            replayLog();
+        } catch (IOException e) {
+            ui.printFileWriteError();
+        } catch (SecurityException e) {
+            ui.printSecurityDenied();
+        }
+        mergeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "lsm-merge");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduleMergeIfNeeded();
+    }
+
+    /**
+     * Opens every segment file in <code>folder</code>, in the order they were written.
+     *
+     * @param folder The folder holding the segment files.
+     */
+    private void openSegments(File folder) {
+        File[] files = folder.listFiles();
+        if (files == null) {
+            return;
+        }
+        ArrayList<File> segmentFiles = new ArrayList<>();
+        for (File file : files) {
+            if (file.getName().endsWith(TEMPORARY_EXTENSION)) {
+                deleteFile(file);
+            } else if (getSequenceRange(file) != null) {
+                segmentFiles.add(file);
+            }
+        }
+        segmentFiles.sort(Comparator.comparingLong(file -> getSequenceRange(file)[1]));
+        for (File file : segmentFiles) {
+            long[] range = getSequenceRange(file);
+            nextSequence = Math.max(nextSequence, range[1] + 1);
+            // The inputs of a merge are only deleted after the merged segment file is complete
+            if (isCoveredByOtherSegment(file, range, segmentFiles)) {
+                deleteFile(file);
+                continue;
+            }
+            try {
+                segments.add(Segment.open(file));
+            } catch (IOException e) {
+                File quarantineFile = new File(file.getPath() + SingleFile.QUARANTINE_EXTENSION);
+                if (file.renameTo(quarantineFile)) {
+                    ui.printCorruptedSegmentQuarantined(file.getName(), quarantineFile.getName());
+                }
+            }
+        }
+    }
+
+    private static boolean isCoveredByOtherSegment(File file, long[] range, List<File> segmentFiles) {
+        for (File otherFile : segmentFiles) {
+            long[] otherRange = getSequenceRange(otherFile);
+            if (!otherFile.equals(file) && otherRange[0] <= range[0] && range[1] <= otherRange[1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void deleteFile(File file) {
+        if (!file.delete()) {
+            ui.printFileDeleteFail();
+        }
+    }
+
+    /**
+     * Reads every intact entry of the log into the memtable and cuts off anything after the first damaged entry,
+     * which can only be an entry whose write was interrupted.
+     *
+     * @throws IOException Thrown when the log cannot be read or written.
+     */
+    private void replayLog() throws IOException {
+        log = FileChannel.open(new File(path, LOG_FILE_NAME).toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ByteBuffer contents = ByteBuffer.allocate((int) log.size());
+        while (contents.hasRemaining() && log.read(contents) >= 0) {
+            continue;
+        }
+        contents.flip();
+        int validLength = 0;
+        while (contents.hasRemaining()) {
+            try {
+                byte[] key = readLengthPrefixed(contents);
+                byte[] value = readLengthPrefixed(contents);
+                int checksum = contents.getInt();
+                if (checksum != checksumOf(contents, validLength, contents.position() - Integer.BYTES)) {
+                    break;
+                }
+                putInMemtable(new String(key, StandardCharsets.UTF_8), value == null ? Segment.TOMBSTONE : value);
+                validLength = contents.position();
+            } catch (RuntimeException e) {
+                break;
+            }
+        }
+        log.truncate(validLength);
+        log.position(validLength);
+    }
+
+    private static byte[] readLengthPrefixed(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == TOMBSTONE_LENGTH) {
+            return null;
+        }
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static int checksumOf(ByteBuffer buffer, int start, int end) {
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.duplicate().limit(end).position(start));
+        return (int) checksum.getValue();
+    }
+
+    private void putInMemtable(String key, byte[] value) {
+        memtable.put(key, value);
+        memtableBytes += key.length() + value.length;
+    }
+
+    /**
+     * Appends a change to the log, then applies it to the memtable.
+     *
+     * @param key The key changed.
+     * @param value The new value of <code>key</code>, or <code>Segment.TOMBSTONE</code> if it is deleted.
+     * @throws IOException Thrown when the log cannot be written.
+     */
+    private void put(String key, byte[] value) throws IOException {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        boolean isTombstone = value == Segment.TOMBSTONE;
+        ByteBuffer entry = ByteBuffer.allocate(3 * Integer.BYTES + keyBytes.length + value.length);
+        entry.putInt(keyBytes.length).put(keyBytes);
+        entry.putInt(isTombstone ? TOMBSTONE_LENGTH : value.length).put(value);
+        entry.putInt(checksumOf(entry, 0, entry.position()));
+        entry.flip();
+        while (entry.hasRemaining()) {
+            log.write(entry);
+        }
+        if (durabilityPolicy.isSynced() && durabilityPolicy.getMode() == DurabilityPolicy.Mode.EVERY_COMMAND) {
+            log.force(false);
+        }
+        putInMemtable(key, value);
+    }
+
+    /**
+     * Writes the memtable as a new segment of level 0 once it has grown past <code>memtableFlushBytes</code>.
+     *
+     * @throws IOException Thrown when the segment file cannot be written.
+     */
+    private void flushIfNeeded() throws IOException {
+        if (memtableBytes >= memtableFlushBytes) {
+            flushMemtable();
+        }
+    }
+
+    /**
+     * Writes the memtable as a new segment of level 0, then empties the memtable and the log.
+     *
+     * @throws IOException Thrown when the segment file cannot be written.
+     */
+    private void flushMemtable() throws IOException {
+        if (memtable.isEmpty()) {
+            return;
+        }
+        long sequence = nextSequence;
+        File file = getSegmentFile(sequence, sequence);
+        writeSegment(file, 0, memtable.entrySet().iterator(), memtable.size());
+        segments.add(Segment.open(file));
+        nextSequence += 1;
+        memtable.clear();
+        memtableBytes = 0;
+        log.truncate(0);
+        log.position(0);
+        scheduleMergeIfNeeded();
+    }
+
+    /**
+     * Writes a segment file under a temporary name, then renames it, so that a segment file is never seen half
+     * written.
+     */
+    private static void writeSegment(File file, int level, Iterator<Map.Entry<String, byte[]>> entries,
+            int expectedEntryCount) throws IOException {
+        File temporaryFile = new File(file.getPath() + TEMPORARY_EXTENSION);
+        Segment.write(temporaryFile, level, entries, expectedEntryCount);
+        Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Starts merging the segments of the lowest level which has at least <code>MERGE_FAN_IN</code> segments on the
+     * background thread, unless a merge is already running.
+     */
+    private void scheduleMergeIfNeeded() {
+        if (isMerging || isClosed || mergeExecutor == null) {
+            return;
+        }
+        HashMap<Integer, Integer> levelCounts = new HashMap<>();
+        int mergedLevel = Integer.MAX_VALUE;
+        for (Segment segment : segments) {
+            int count = levelCounts.merge(segment.getLevel(), 1, Integer::sum);
+            if (count >= MERGE_FAN_IN) {
+                mergedLevel = Math.min(mergedLevel, segment.getLevel());
+            }
+        }
+        if (mergedLevel == Integer.MAX_VALUE) {
+            return;
+        }
+        int first = -1;
+        int last = -1;
+        for (int i = 0; i < segments.size(); i++) {
+            if (segments.get(i).getLevel() == mergedLevel) {
+                first = first < 0 ? i : first;
+                last = i;
+            }
+        }
+        List<Segment> inputs = new ArrayList<>(segments.subList(first, last + 1));
+        int level = mergedLevel + 1;
+        // Deleted keys can only be forgotten once no older segment can still hold them
+        boolean isTombstoneDropped = first == 0;
+        isMerging = true;
+        mergeExecutor.execute(() -> merge(inputs, level, isTombstoneDropped));
+    }
+
+    /**
+     * Merges <code>inputs</code> into a single segment of <code>level</code> and replaces them with it. The inputs
+     * are immutable, so they are read without holding the lock of this object.
+     *
+     * @param inputs The segments to merge, which must be adjacent, from the oldest to the newest.
+     * @param level The level of the merged segment.
+     * @param isTombstoneDropped Whether keys marked as deleted are left out of the merged segment.
+     */
+    private void merge(List<Segment> inputs, int level, boolean isTombstoneDropped) {
+        long firstSequence = getSequenceRange(inputs.get(0).getFile())[0];
+        long lastSequence = getSequenceRange(inputs.get(inputs.size() - 1).getFile())[1];
+        File file = getSegmentFile(firstSequence, lastSequence);
+        List<Iterator<Map.Entry<String, byte[]>>> sources = new ArrayList<>();
+        int expectedEntryCount = 0;
+        for (int i = inputs.size() - 1; i >= 0; i--) {
+            sources.add(inputs.get(i).iterator(""));
+            expectedEntryCount += inputs.get(i).getEntryCount();
+        }
+        Segment merged = null;
+        try {
+            writeSegment(file, level, new MergingIterator(sources, isTombstoneDropped), expectedEntryCount);
+            merged = Segment.open(file);
+        } catch (IOException | UncheckedIOException e) {
+            ui.printFileWriteError();
+        }
+        synchronized (this) {
+            // The segments are all replaced when the folder is recreated while merging
+            if (merged != null && !segments.containsAll(inputs)) {
+                merged.close();
+                deleteFile(file);
+                merged = null;
+            }
+            if (merged != null) {
+                int index = segments.indexOf(inputs.get(0));
+                segments.removeAll(inputs);
+                segments.add(index, merged);
+                for (Segment input : inputs) {
+                    input.close();
+                    deleteFile(input.getFile());
+                }
+            }
+            isMerging = false;
+            if (merged != null) {
+                scheduleMergeIfNeeded();
+            }
+            notifyAll();
+        }
+    }
+
+    /**
+     * Looks up the value of <code>key</code> in the memtable, then in the segments from the newest to the oldest.
+     *
+     * @param key The key to look up.
+     * @return The value of <code>key</code>, or null if it is not stored or marked as deleted.
+     */
+    private synchronized byte[] get(String key) {
+        byte[] value = memtable.get(key);
+        for (int i = segments.size() - 1; value == null && i >= 0; i--) {
+            try {
+                value = segments.get(i).get(key);
+            } catch (IOException e) {
+                ui.printCorruptedSegmentBlock(segments.get(i).getFile().getName());
+            }
+        }
+        return value == Segment.TOMBSTONE ? null : value;
+    }
+
+    /**
+     * Collects the stored entries whose keys start with <code>prefix</code>.
+     *
+     * @param prefix The prefix of the keys.
+     * @param limit The largest number of entries to collect.
+     * @return The entries collected, sorted by key.
+     */
+    private synchronized TreeMap<String, byte[]> scan(String prefix, int limit) {
+        List<Iterator<Map.Entry<String, byte[]>>> sources = new ArrayList<>();
+        sources.add(memtable.tailMap(prefix).entrySet().iterator());
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            sources.add(segments.get(i).iterator(prefix));
+        }
+        TreeMap<String, byte[]> entries = new TreeMap<>();
+        try {
+            Iterator<Map.Entry<String, byte[]>> iterator = new MergingIterator(sources, true);
+            while (entries.size() < limit && iterator.hasNext()) {
+                Map.Entry<String, byte[]> entry = iterator.next();
+                if (!entry.getKey().startsWith(prefix)) {
+                    break;
+                }
+                entries.put(entry.getKey(), entry.getValue());
+            }
+        } catch (UncheckedIOException e) {
+            ui.printCorruptedSegmentBlock(e.getMessage());
+        }
+        return entries;
+    }
+
+    @Override
+    public synchronized Topic loadTopic(String topicName) {
+        long startTime = System.nanoTime();
+        String prefix = recordPrefix(topicName);
+        HashMap<String, CS2040CFile> cs2040cFiles = new HashMap<>();
+        for (byte[] record : scan(prefix, Integer.MAX_VALUE).values()) {
+            if (codec.readRecord(ByteBuffer.wrap(record), topicName) == RecordCodec.RecordStatus.RECORD) {
+                cs2040cFiles.put(codec.decodedName(), codec.processedCS2040CFile());
+            }
+        }
+        loadTimes.put(topicName, System.nanoTime() - startTime);
+        return new Topic(topicName, cs2040cFiles);
+    }
+
+    @Override
+    public synchronized boolean addEntry(String name, CS2040CFile cs2040cFile) {
+        String topicName = cs2040cFile.getTopic();
+        try {
+            put(recordPrefix(topicName) + name, codec.encodeRecord(name, cs2040cFile));
+            put(nameKey(name), topicName.getBytes(StandardCharsets.UTF_8));
+            flushIfNeeded();
+        } catch (IOException e) {
+            ui.printFileWriteError();
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized boolean deleteEntry(String cs2040cFileName, String topicName) {
+        try {
+            put(recordPrefix(topicName) + cs2040cFileName, Segment.TOMBSTONE);
+            put(nameKey(cs2040cFileName), Segment.TOMBSTONE);
+            flushIfNeeded();
+        } catch (IOException e) {
+            ui.printFileWriteError();
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized void deleteAllEntry(String topicName) {
+        String prefix = recordPrefix(topicName);
+        try {
+            for (String key : scan(prefix, Integer.MAX_VALUE).keySet()) {
+                put(key, Segment.TOMBSTONE);
+                put(nameKey(key.substring(prefix.length())), Segment.TOMBSTONE);
+            }
+            flushIfNeeded();
+        } catch (IOException e) {
+            ui.printFileWriteError();
+        }
+    }
+
+    @Override
+    public HashMap<String, Topic> decodeAll() {
+        HashMap<String, Topic> topics = new HashMap<>();
+        for (String topicName : topicNames) {
+            topics.put(topicName, loadTopic(topicName));
+        }
+        return topics;
+    }
+
+    @Override
+    public Map<String, String> getNameIndex() {
+        return nameIndex;
+    }
+
+    @Override
+    public LinkedHashMap<String, Long> getLoadTimes() {
+        return loadTimes;
+    }
+
+    @Override
+    public void setDurabilityPolicy(DurabilityPolicy durabilityPolicy) {
+        this.durabilityPolicy = durabilityPolicy;
+    }
+
+    @Override
+    public synchronized void commitAll() {
+        try {
+            if (log != null && durabilityPolicy.isSynced()) {
+                log.force(false);
+            }
+        } catch (IOException e) {
+            ui.printFileWriteError();
+        }
+    }
+
+    /**
+     * Recreates the folder, the log and the segment files if the folder has gone missing, writing every stored
+     * entry back from the segments which are still open.
+     */
+    @Override
+    public synchronized void recreateAll() {
+        if (log == null || new File(path).exists()) {
+            return;
+        }
+        try {
+            Files.createDirectories(new File(path).toPath());
+            log.close();
+            log = FileChannel.open(new File(path, LOG_FILE_NAME).toPath(), StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            if (segments.isEmpty() && memtable.isEmpty()) {
+                return;
+            }
+            TreeMap<String, byte[]> entries = scan("", Integer.MAX_VALUE);
+            File file = getSegmentFile(nextSequence, nextSequence);
+            writeSegment(file, 0, entries.entrySet().iterator(), entries.size());
+            for (Segment segment : segments) {
+                segment.close();
+            }
+            segments.clear();
+            segments.add(Segment.open(file));
+            nextSequence += 1;
+            memtable.clear();
+            memtableBytes = 0;
+        } catch (IOException e) {
+            ui.printFileWriteError();
+        } catch (SecurityException e) {
+            ui.printSecurityDenied();
+        }
+    }
+
+    /**
+     * Waits for the running merge and the merges it leads to, if any, to finish, then writes the memtable as a
+     * segment and closes every file. Waits at most <code>MERGE_TIMEOUT_SECONDS</code> in total for the merges.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            // Each merge schedules the next one when it finishes, which it can no longer do once closed
+            long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(MERGE_TIMEOUT_SECONDS);
+            long remainingMillis = TimeUnit.SECONDS.toMillis(MERGE_TIMEOUT_SECONDS);
+            while (isMerging && remainingMillis > 0) {
+                try {
+                    wait(remainingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                remainingMillis = deadline - System.currentTimeMillis();
+            }
+            isClosed = true;
+        }
+        if (mergeExecutor != null) {
+            mergeExecutor.shutdown();
+            try {
+                mergeExecutor.awaitTermination(MERGE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            try {
+                if (log != null) {
+                    flushMemtable();
+                    log.close();
+                }
+            } catch (IOException e) {
+                ui.printFileWriteError();
+            }
+            for (Segment segment : segments) {
+                segment.close();
+            }
+        }
+    }
+
+    @Override
+    public void deleteStorage() {
+        LogStorageEngine.deleteFolder(new File(path), ui);
+    }
+
+    /**
+     * Iterates over several sorted sources of entries as a single sorted source. When a key is held by more than one
+     * source, only the entry of the source that comes first is kept, so the sources must be given from the newest to
+     * the oldest.
+     */
+    private static class MergingIterator implements Iterator<Map.Entry<String, byte[]>> {
+        private final PriorityQueue<Source> sources;
+        private final boolean isTombstoneDropped;
+        private Map.Entry<String, byte[]> next;
+
+        private MergingIterator(List<Iterator<Map.Entry<String, byte[]>>> iterators, boolean isTombstoneDropped) {
+            this.sources = new PriorityQueue<>(Comparator.comparing((Source source) -> source.current.getKey())
+                    .thenComparingInt(source -> source.rank));
+            this.isTombstoneDropped = isTombstoneDropped;
+            for (int i = 0; i < iterators.size(); i++) {
+                Source source = new Source(i, iterators.get(i));
+                if (source.advance()) {
+                    sources.add(source);
+                }
+            }
+        }
+
+        private void advance(Source source) {
+            if (source.advance()) {
+                sources.add(source);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && !sources.isEmpty()) {
+                Source newest = sources.poll();
+                Map.Entry<String, byte[]> entry = newest.current;
+                advance(newest);
+                while (!sources.isEmpty() && sources.peek().current.getKey().equals(entry.getKey())) {
+                    advance(sources.poll());
+                }
+                if (!isTombstoneDropped || entry.getValue() != Segment.TOMBSTONE) {
+                    next = entry;
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<String, byte[]> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<String, byte[]> entry = next;
+            next = null;
+            return entry;
+        }
+    }
+
+    /** A source of entries of a <code>MergingIterator</code> with the entry it is positioned at. */
+    private static class Source {
+        private final int rank;
+        private final Iterator<Map.Entry<String, byte[]>> iterator;
+        private Map.Entry<String, byte[]> current;
+
+        private Source(int rank, Iterator<Map.Entry<String, byte[]>> iterator) {
+            this.rank = rank;
+            this.iterator = iterator;
+        }
+
+        private boolean advance() {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            current = iterator.next();
+            return true;
+        }
+    }
+
+    /**
+     * The index of the lowercase names of all <code>CS2040CFiles</code>, read from the stored name keys. It is only
+     * changed by <code>addEntry</code>, <code>deleteEntry</code> and <code>deleteAllEntry</code>, so changes made
+     * through the <code>Map</code> itself are ignored.
+     */
+    private class NameIndex extends AbstractMap<String, String> {
+        @Override
+        public String get(Object key) {
+            if (!(key instanceof String)) {
+                return null;
+            }
+            byte[] topicName = LsmStorageEngine.this.get(NAME_KEY_PREFIX + key);
+            return topicName == null ? null : new String(topicName, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public String put(String key, String value) {
+            return get(key);
+        }
+
+        @Override
+        public String remove(Object key) {
+            return get(key);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return scan(NAME_KEY_PREFIX, 1).isEmpty();
+        }
+
+        @Override
+        public int size() {
+            return scan(NAME_KEY_PREFIX, Integer.MAX_VALUE).size();
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            HashMap<String, String> names = new HashMap<>();
+            for (Map.Entry<String, byte[]> entry : scan(NAME_KEY_PREFIX, Integer.MAX_VALUE).entrySet()) {
+                names.put(entry.getKey().substring(NAME_KEY_PREFIX.length()),
+                        new String(entry.getValue(), StandardCharsets.UTF_8));
+            }
+            return Collections.unmodifiableMap(names).entrySet();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package seedu.clialgo.storage;
+
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.file.ReferencedFileVerifier;
+import seedu.clialgo.logic.Topic;
+
+import java.util.ArrayList;
+
+/**
+ * Object recording what one pass of the <code>MaintenanceScheduler</code> found and did: the data files compacted
+ * and the bytes reclaimed, the damaged records found and repaired, the <code>CS2040CFiles</code> whose .txt or .cpp
+ * file no longer exists and the <code>Topics</code> which could not be checked. A report is only changed by the
+ * maintenance thread, and is published once its pass has finished.
+ */
+public class MaintenanceReport {
+    private final long startMillis;
+    private long finishMillis;
+    private int topicCount;
+    private int compactedFileCount;
+    private long reclaimedBytes;
+    private long scannedBytes;
+    private int corruptedRecordCount;
+    private int repairedRecordCount;
+    private final ArrayList<String> missingFiles;
+    private final ArrayList<String> failedTopics;
+
+    /**
+     * Constructor for the <code>MaintenanceReport</code> of a pass starting now.
+     */
+    public MaintenanceReport() {
+        this.startMillis = System.currentTimeMillis();
+        this.missingFiles = new ArrayList<>();
+        this.failedTopics = new ArrayList<>();
+    }
+
+    /**
+     * Records that a data file was compacted.
+     *
+     * @param reclaimedBytes The number of bytes the data file shrank by.
+     */
+    public void addCompaction(long reclaimedBytes) {
+        compactedFileCount += 1;
+        this.reclaimedBytes += Math.max(0, reclaimedBytes);
+    }
+
+    /**
+     * Records the number of bytes read from the disk, which the <code>MaintenanceScheduler</code> uses to throttle
+     * the pass.
+     *
+     * @param scannedBytes The number of bytes read.
+     */
+    public void addScannedBytes(long scannedBytes) {
+        this.scannedBytes += scannedBytes;
+    }
+
+    /**
+     * Records damaged records found in a data file.
+     *
+     * @param corruptedRecordCount The number of damaged records found.
+     * @param isRepaired Whether the damaged records were rewritten from the records kept in memory.
+     */
+    public void addCorruptedRecords(int corruptedRecordCount, boolean isRepaired) {
+        this.corruptedRecordCount += corruptedRecordCount;
+        if (isRepaired) {
+            repairedRecordCount += corruptedRecordCount;
+        }
+    }
+
+    /**
+     * Records the name of every <code>CS2040CFile</code> of <code>topic</code> whose .txt or .cpp file no longer
+     * exists, and marks those <code>CS2040CFiles</code> as dangling.
+     *
+     * @param topic The <code>Topic</code> to check.
+     */
+    public void checkReferencedFiles(Topic topic) {
+        ReferencedFileVerifier verifier = ReferencedFileVerifier.getInstance();
+        for (CS2040CFile cs2040cFile : verifier.verify(topic.getC2040CFiles().values())) {
+            missingFiles.add(cs2040cFile.getName());
+        }
+    }
+
+    /**
+     * Records that a <code>Topic</code> could not be checked, such as when its data file cannot be read.
+     *
+     * @param topicName The name of the <code>Topic</code>.
+     */
+    public void addFailedTopic(String topicName) {
+        failedTopics.add(topicName);
+    }
+
+    /** Records that a <code>Topic</code> has been checked. */
+    public void finishTopic() {
+        topicCount += 1;
+    }
+
+    /** Records that the pass has finished. */
+    public void finish() {
+        finishMillis = System.currentTimeMillis();
+    }
+
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    public long getFinishMillis() {
+        return finishMillis;
+    }
+
+    public int getTopicCount() {
+        return topicCount;
+    }
+
+    public int getCompactedFileCount() {
+        return compactedFileCount;
+    }
+
+    public long getReclaimedBytes() {
+        return reclaimedBytes;
+    }
+
+    public long getScannedBytes() {
+        return scannedBytes;
+    }
+
+    public int getCorruptedRecordCount() {
+        return corruptedRecordCount;
+    }
+
+    public int getRepairedRecordCount() {
+        return repairedRecordCount;
+    }
+
+    public ArrayList<String> getMissingFiles() {
+        return missingFiles;
+    }
+
+    public ArrayList<String> getFailedTopics() {
+        return failedTopics;
+    }
+}
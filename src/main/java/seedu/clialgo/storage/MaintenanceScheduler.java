@@ -0,0 +1,238 @@
+package seedu.clialgo.storage;
+
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Object which periodically compacts and verifies the stored data on a low-priority background thread, one
+ * <code>Topic</code> at a time. Each pass scrubs every <code>Topic</code> in turn and records what it found in a
+ * <code>MaintenanceReport</code>, which is only ever shown through the status command.
+ * <p>
+ * A pass never runs alongside a command. A step only starts once no command has run for
+ * <code>stepPauseMillis</code>, and a command that starts while a step is running waits for that single step to
+ * finish. After each step, the pass sleeps long enough to keep the rate at which it reads the disk below
+ * <code>MAX_BYTES_PER_SECOND</code>.
+ */
+public class MaintenanceScheduler {
+    /**
+     * The launch option used to turn the passes on and set the number of seconds between them. No pass is run unless
+     * it is given with a number of seconds above 0.
+     */
+    public static final String OPTION_PREFIX = "--maintenance-interval=";
+
+    /** The pause after each step, and the time without commands needed before a step starts. */
+    public static final long DEFAULT_STEP_PAUSE_MILLIS = 200;
+
+    private static final long MAX_BYTES_PER_SECOND = 4L << 20;
+    private static final long STOP_TIMEOUT_SECONDS = 5;
+
+    private final ArrayList<String> topicNames;
+    private final BiConsumer<String, MaintenanceReport> scrubber;
+    private final long stepPauseMillis;
+    private final ScheduledExecutorService executor;
+    private final Object gate;
+    private int runningCommandCount;
+    private long lastCommandMillis;
+    private boolean isStepRunning;
+    private boolean isStopped;
+    private volatile boolean isPassRunning;
+    private volatile int checkedTopicCount;
+    private volatile int passCount;
+    private volatile MaintenanceReport lastReport;
+
+    /**
+     * Constructor for the <code>MaintenanceScheduler</code> object. No pass is run until <code>start</code> is
+     * called.
+     *
+     * @param topicNames The names of all the <code>Topics</code> to scrub.
+     * @param scrubber Scrubs the <code>Topic</code> of the given name, recording what it finds in the given
+     *                 <code>MaintenanceReport</code>.
+     * @param stepPauseMillis The pause after each step.
+     */
+    public MaintenanceScheduler(ArrayList<String> topicNames, BiConsumer<String, MaintenanceReport> scrubber,
+            long stepPauseMillis) {
+        this.topicNames = topicNames;
+        this.scrubber = scrubber;
+        this.stepPauseMillis = stepPauseMillis;
+        this.gate = new Object();
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "maintenance-scheduler");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    /**
+     * Runs a pass every <code>intervalMillis</code>, counted from the end of the previous pass.
+     *
+     * @param intervalMillis The time between passes in milliseconds.
+     */
+    public void start(long intervalMillis) {
+        executor.scheduleWithFixedDelay(this::runPass, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Scrubs every <code>Topic</code> once, one step at a time. The <code>MaintenanceReport</code> of the pass is
+     * only published if the pass is not stopped part way.
+     */
+    void runPass() {
+        isPassRunning = true;
+        checkedTopicCount = 0;
+        MaintenanceReport report = new MaintenanceReport();
+        try {
+            for (String topicName : topicNames) {
+                if (!startStep()) {
+                    return;
+                }
+                long scannedBytes = report.getScannedBytes();
+                try {
+                    scrubber.accept(topicName, report);
+                    report.finishTopic();
+                } catch (RuntimeException e) {
+                    // A failure in the background must not end the thread, so the Topic is retried in the next pass
+                    report.addFailedTopic(topicName);
+                } finally {
+                    endStep();
+                }
+                checkedTopicCount += 1;
+                if (!pauseAfterStep(report.getScannedBytes() - scannedBytes)) {
+                    return;
+                }
+            }
+            report.finish();
+            lastReport = report;
+            passCount += 1;
+        } finally {
+            isPassRunning = false;
+        }
+    }
+
+    /**
+     * Waits until no command is running and none has run for <code>stepPauseMillis</code>, then marks a step as
+     * running.
+     *
+     * @return true if the step can start and false if the scheduler has been stopped.
+     */
+    private boolean startStep() {
+        synchronized (gate) {
+            try {
+                long idleMillis = System.currentTimeMillis() - lastCommandMillis;
+                while (!isStopped && (runningCommandCount > 0 || idleMillis < stepPauseMillis)) {
+                    gate.wait(runningCommandCount > 0 ? 0 : stepPauseMillis - idleMillis);
+                    idleMillis = System.currentTimeMillis() - lastCommandMillis;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            isStepRunning = !isStopped;
+            return isStepRunning;
+        }
+    }
+
+    private void endStep() {
+        synchronized (gate) {
+            isStepRunning = false;
+            gate.notifyAll();
+        }
+    }
+
+    /**
+     * Waits after a step for at least <code>stepPauseMillis</code>, and for longer if needed to keep the rate at
+     * which the pass reads the disk below <code>MAX_BYTES_PER_SECOND</code>.
+     *
+     * @param scannedBytes The number of bytes read during the step.
+     * @return true if the pass can continue and false if the scheduler has been stopped.
+     */
+    private boolean pauseAfterStep(long scannedBytes) {
+        long pauseMillis = Math.max(stepPauseMillis, scannedBytes * 1000 / MAX_BYTES_PER_SECOND);
+        long endMillis = System.currentTimeMillis() + pauseMillis;
+        synchronized (gate) {
+            try {
+                long remainingMillis = pauseMillis;
+                while (!isStopped && remainingMillis > 0) {
+                    gate.wait(remainingMillis);
+                    remainingMillis = endMillis - System.currentTimeMillis();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            return !isStopped;
+        }
+    }
+
+    /**
+     * Marks the start of a command, waiting for the step running, if any, to finish. No step starts until the
+     * matching call to <code>endCommand</code>.
+     */
+    public void beginCommand() {
+        synchronized (gate) {
+            runningCommandCount += 1;
+            try {
+                while (isStepRunning) {
+                    gate.wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Marks the end of a command started with <code>beginCommand</code>.
+     */
+    public void endCommand() {
+        synchronized (gate) {
+            runningCommandCount -= 1;
+            lastCommandMillis = System.currentTimeMillis();
+            gate.notifyAll();
+        }
+    }
+
+    /**
+     * Stops the passes, waiting for the step running, if any, to finish. The maintenance thread is never
+     * interrupted, as interrupting a thread reading a data file closes the channel it reads from.
+     */
+    public void stop() {
+        synchronized (gate) {
+            isStopped = true;
+            gate.notifyAll();
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isPassRunning() {
+        return isPassRunning;
+    }
+
+    public int getCheckedTopicCount() {
+        return checkedTopicCount;
+    }
+
+    public int getTopicCount() {
+        return topicNames.size();
+    }
+
+    public int getPassCount() {
+        return passCount;
+    }
+
+    /**
+     * Gets the <code>MaintenanceReport</code> of the last pass which finished.
+     *
+     * @return The <code>MaintenanceReport</code>, or null if no pass has finished yet.
+     */
+    public MaintenanceReport getLastReport() {
+        return lastReport;
+    }
+}
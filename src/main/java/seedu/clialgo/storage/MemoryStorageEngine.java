@@ -0,0 +1,160 @@
+package seedu.clialgo.storage;
+
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.ForkedMap;
+import seedu.clialgo.logic.Topic;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <code>StorageEngine</code> which only keeps the <code>CS2040CFiles</code> of each <code>Topic</code> in memory,
+ * without reading from or writing to the disk. Everything stored is lost once CLIAlgo exits.
+ * <p>
+ * A <code>MemoryStorageEngine</code> may also be forked from another <code>StorageEngine</code>, in which case it
+ * starts out with the same <code>CS2040CFiles</code> and reads them from there. The <code>CS2040CFiles</code> of a
+ * <code>Topic</code> are only copied when that <code>Topic</code> is first changed, and the other
+ * <code>StorageEngine</code> is never changed, not even its name index when it corrects the names of a
+ * <code>Topic</code> loaded for the first time. This is the only place a forked <code>Topic</code> is copied, as
+ * the <code>TopicManager</code> changes the copy returned by <code>loadTopicToModify</code>.
+ */
+public class MemoryStorageEngine implements StorageEngine {
+    private final ArrayList<String> topicNames;
+    private final HashMap<String, Topic> topicFiles;
+    private final Map<String, String> nameIndex;
+    private final LinkedHashMap<String, Long> loadTimes;
+
+    /** The <code>StorageEngine</code> this object was forked from, or null if it started out empty. */
+    private final StorageEngine base;
+
+    /**
+     * Constructor for the <code>MemoryStorageEngine</code> object.
+     *
+     * @param topicNames The names of all valid topics.
+     */
+    public MemoryStorageEngine(ArrayList<String> topicNames) {
+        this.topicNames = topicNames;
+        this.topicFiles = new HashMap<>();
+        this.nameIndex = new ConcurrentHashMap<>();
+        this.loadTimes = new LinkedHashMap<>();
+        this.base = null;
+    }
+
+    /**
+     * Constructor for a <code>MemoryStorageEngine</code> object forked from <code>base</code>, which takes constant
+     * time as nothing is copied from <code>base</code> yet.
+     *
+     * @param topicNames The names of all valid topics.
+     * @param base The initialized <code>StorageEngine</code> to fork, which must not be changed while this object is
+     *             in use.
+     */
+    public MemoryStorageEngine(ArrayList<String> topicNames, StorageEngine base) {
+        this.topicNames = topicNames;
+        this.topicFiles = new HashMap<>();
+        this.nameIndex = new ForkedMap<>(base.getNameIndex());
+        this.loadTimes = new LinkedHashMap<>();
+        this.base = base;
+    }
+
+    /**
+     * Creates an empty <code>Topic</code> for each topic name that does not have one yet, unless this object was
+     * forked, in which case each <code>Topic</code> is read from the <code>StorageEngine</code> it was forked from.
+     */
+    @Override
+    public void initialize() {
+        if (base != null) {
+            return;
+        }
+        for (String topicName : topicNames) {
+            topicFiles.putIfAbsent(topicName, new Topic(topicName));
+        }
+    }
+
+    @Override
+    public Topic loadTopic(String topicName) {
+        if (base != null && !topicFiles.containsKey(topicName)) {
+            return base.loadTopic(topicName, nameIndex);
+        }
+        return topicFiles.get(topicName);
+    }
+
+    /**
+     * Gets the <code>CS2040CFiles</code> of <code>topicName</code> to be changed, copying them from the
+     * <code>StorageEngine</code> this object was forked from if they have not been changed before.
+     *
+     * @param topicName The name of the <code>Topic</code>.
+     * @return The <code>Topic</code> of <code>topicName</code> which only this object uses.
+     */
+    @Override
+    public Topic loadTopicToModify(String topicName) {
+        if (base == null) {
+            return topicFiles.get(topicName);
+        }
+        return topicFiles.computeIfAbsent(topicName,
+                name -> new Topic(name, new HashMap<>(base.loadTopic(name, nameIndex).getC2040CFiles())));
+    }
+
+    @Override
+    public boolean addEntry(String name, CS2040CFile cs2040cFile) {
+        loadTopicToModify(cs2040cFile.getTopic()).addCS2040CFile(name, cs2040cFile);
+        nameIndex.put(name.toLowerCase(), cs2040cFile.getTopic());
+        return true;
+    }
+
+    @Override
+    public boolean deleteEntry(String cs2040cFileName, String topicName) {
+        loadTopicToModify(topicName).removeCS2040CFile(cs2040cFileName);
+        nameIndex.remove(cs2040cFileName.toLowerCase());
+        return true;
+    }
+
+    @Override
+    public void deleteAllEntry(String topicName) {
+        Topic topic = loadTopicToModify(topicName);
+        for (String cs2040cFileName : new ArrayList<>(topic.getC2040CFiles().keySet())) {
+            nameIndex.remove(cs2040cFileName.toLowerCase());
+            topic.removeCS2040CFile(cs2040cFileName);
+        }
+    }
+
+    @Override
+    public HashMap<String, Topic> decodeAll() {
+        HashMap<String, Topic> topics = new HashMap<>();
+        for (String topicName : base == null ? topicFiles.keySet() : topicNames) {
+            topics.put(topicName, loadTopic(topicName));
+        }
+        return topics;
+    }
+
+    @Override
+    public Map<String, String> getNameIndex() {
+        return nameIndex;
+    }
+
+    @Override
+    public LinkedHashMap<String, Long> getLoadTimes() {
+        return loadTimes;
+    }
+
+    @Override
+    public void recreateAll() {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public boolean isDiskBacked() {
+        return false;
+    }
+
+    @Override
+    public void deleteStorage() {
+        topicFiles.clear();
+        nameIndex.clear();
+    }
+}
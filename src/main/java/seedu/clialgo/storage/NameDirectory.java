@@ -0,0 +1,165 @@
+package seedu.clialgo.storage;
+
+import seedu.clialgo.Ui;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Object representing the directory file which maps the lowercase name of every <code>CS2040CFile</code> to the name
+ * of its <code>Topic</code>. The directory also stores the size and last modified time of every data file at the time
+ * it was saved, so that a directory which no longer matches the data files can be detected and ignored.
+ */
+public class NameDirectory {
+    public static final String FILE_NAME = "directory.bin";
+    private static final int FORMAT_VERSION = 1;
+
+    private final File file;
+
+    /**
+     * Constructor for the <code>NameDirectory</code> object.
+     *
+     * @param file The directory file.
+     */
+    public NameDirectory(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Saves the directory file.
+     *
+     * @param nameIndex The lowercase names of all <code>CS2040CFiles</code> mapped to the name of their
+     *                  <code>Topic</code>.
+     * @param dataFiles The data file of each <code>Topic</code>.
+     * @throws IOException Thrown when the directory file cannot be written.
+     */
+    public void save(Map<String, String> nameIndex, Map<String, File> dataFiles) throws IOException {
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            output.writeInt(FORMAT_VERSION);
+            output.writeInt(dataFiles.size());
+            for (Map.Entry<String, File> entry : dataFiles.entrySet()) {
+                output.writeUTF(entry.getKey());
+                output.writeLong(entry.getValue().length());
+                output.writeLong(entry.getValue().lastModified());
+            }
+            output.writeInt(nameIndex.size());
+            for (Map.Entry<String, String> entry : nameIndex.entrySet()) {
+                output.writeUTF(entry.getKey());
+                output.writeUTF(entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Loads the directory file if it still matches the data files.
+     *
+     * @param dataFiles The data file of each <code>Topic</code>.
+     * @return The lowercase names of all <code>CS2040CFiles</code> mapped to the name of their <code>Topic</code>, or
+     *         null if the directory file is missing, corrupted or does not match the data files.
+     */
+    public ConcurrentHashMap<String, String> load(Map<String, File> dataFiles) {
+        return load(dataFiles, null);
+    }
+
+    /**
+     * Loads the directory file if it still matches the data files, also grouping the names by their
+     * <code>Topic</code>.
+     *
+     * @param dataFiles The data file of each <code>Topic</code>.
+     * @param namesByTopic The map to add the lowercase names of the <code>CS2040CFiles</code> of each
+     *                     <code>Topic</code> to, or null if they are not needed.
+     * @return The lowercase names of all <code>CS2040CFiles</code> mapped to the name of their <code>Topic</code>, or
+     *         null if the directory file is missing, corrupted or does not match the data files.
+     */
+    public ConcurrentHashMap<String, String> load(Map<String, File> dataFiles,
+            Map<String, ArrayList<String>> namesByTopic) {
+        if (!file.isFile()) {
+            return null;
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (input.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            int dataFileCount = input.readInt();
+            HashMap<String, long[]> savedAttributes = new HashMap<>();
+            for (int i = 0; i < dataFileCount; i++) {
+                savedAttributes.put(input.readUTF(), new long[]{input.readLong(), input.readLong()});
+            }
+            if (!isMatchingDataFiles(savedAttributes, dataFiles)) {
+                return null;
+            }
+            int nameCount = input.readInt();
+            ConcurrentHashMap<String, String> nameIndex = new ConcurrentHashMap<>(Math.max(16, nameCount * 2));
+            for (int i = 0; i < nameCount; i++) {
+                String name = input.readUTF();
+                String topicName = input.readUTF();
+                nameIndex.put(name, topicName);
+                if (namesByTopic != null) {
+                    namesByTopic.computeIfAbsent(topicName, key -> new ArrayList<>()).add(name);
+                }
+            }
+            return nameIndex;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks if the size and last modified time of every data file are the same as when the directory was saved.
+     *
+     * @param savedAttributes The size and last modified time of each data file stored in the directory file.
+     * @param dataFiles The data file of each <code>Topic</code>.
+     * @return true if all the data files are unchanged and false otherwise.
+     */
+    private boolean isMatchingDataFiles(HashMap<String, long[]> savedAttributes, Map<String, File> dataFiles) {
+        if (savedAttributes.size() != dataFiles.size()) {
+            return false;
+        }
+        for (Map.Entry<String, File> entry : dataFiles.entrySet()) {
+            long[] attributes = savedAttributes.get(entry.getKey());
+            File dataFile = entry.getValue();
+            if (attributes == null || attributes[0] != dataFile.length()
+                    || attributes[1] != dataFile.lastModified()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Combines the name, size and last modified time of every data file into a single number, which changes when any
+     * of the data files does.
+     *
+     * @param dataFiles The data file of each <code>Topic</code>.
+     * @return The fingerprint of the data files.
+     */
+    public static long fingerprint(Map<String, File> dataFiles) {
+        long fingerprint = dataFiles.size();
+        for (Map.Entry<String, File> entry : new TreeMap<>(dataFiles).entrySet()) {
+            fingerprint = fingerprint * 31 + entry.getKey().hashCode();
+            fingerprint = fingerprint * 31 + entry.getValue().length();
+            fingerprint = fingerprint * 31 + entry.getValue().lastModified();
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Deletes the directory file so that it cannot be used once the data files change.
+     */
+    public void invalidate() {
+        if (file.exists() && !file.delete()) {
+            Ui.printDeleteFail();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.clialgo.storage;
+
+import seedu.clialgo.Ui;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Object which commits the records appended to <code>SingleFiles</code> on a dedicated persistence thread, so that
+ * commands only wait for in-memory work. Commits are queued in a bounded queue; once the queue is full, the thread
+ * appending records waits until the persistence thread catches up.
+ */
+public class PersistenceWorker {
+    /** The launch option used to commit records on the persistence thread. */
+    public static final String OPTION = "--write-behind";
+
+    private static final int QUEUE_CAPACITY = 1024;
+
+    private final ArrayBlockingQueue<Runnable> tasks;
+    private final Thread thread;
+    private final Ui ui;
+    private volatile boolean isStopped;
+
+    /**
+     * Constructor for the <code>PersistenceWorker</code> object, which starts the persistence thread.
+     */
+    public PersistenceWorker() {
+        this.tasks = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        this.ui = new Ui();
+        this.isStopped = false;
+        this.thread = new Thread(this::run, "persistence-worker");
+        // The thread never prevents CLIAlgo from exiting, as the queue is drained on exit instead
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /** Runs the queued tasks one at a time, in the order they were queued, until the worker is stopped. */
+    private void run() {
+        while (!isStopped) {
+            try {
+                tasks.take().run();
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Queues a task, waiting for space in the queue if it is full. If the worker has been stopped or the waiting
+     * thread is interrupted, the task is run on the calling thread instead so that it is never lost.
+     *
+     * @param task The task to run on the persistence thread.
+     */
+    private void submit(Runnable task) {
+        if (isStopped) {
+            task.run();
+            return;
+        }
+        try {
+            tasks.put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            task.run();
+        }
+    }
+
+    /**
+     * Queues a commit of the uncommitted records of <code>singleFile</code>.
+     *
+     * @param singleFile The <code>SingleFile</code> to commit.
+     */
+    public void submitCommit(SingleFile singleFile) {
+        submit(() -> {
+            try {
+                singleFile.commit();
+            } catch (IOException e) {
+                synchronized (System.out) {
+                    ui.printFileWriteError();
+                }
+            } catch (SecurityException e) {
+                synchronized (System.out) {
+                    ui.printSecurityDenied();
+                }
+            }
+        });
+    }
+
+    /**
+     * Waits until every task queued before this call has been run.
+     */
+    public void drain() {
+        if (isStopped || Thread.currentThread() == thread) {
+            return;
+        }
+        CountDownLatch latch = new CountDownLatch(1);
+        submit(latch::countDown);
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs every queued task and then stops the persistence thread. Tasks submitted afterwards are run on the
+     * thread submitting them.
+     */
+    public void stop() {
+        if (isStopped) {
+            return;
+        }
+        submit(() -> isStopped = true);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Tasks queued while the persistence thread was stopping are run here instead
+        Runnable task = tasks.poll();
+        while (task != null) {
+            task.run();
+            task = tasks.poll();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.clialgo.storage;
+
+import seedu.clialgo.file.CS2040CFile;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Interface for objects which convert <code>CS2040CFiles</code> to and from the records stored in the data files.
+ * Like <code>FileDecoder</code>, a <code>RecordCodec</code> stores the result of the last record read so that it can
+ * be retrieved with <code>decodedName</code> and <code>processedCS2040CFile</code>.
+ */
+public interface RecordCodec {
+
+    /** The kinds of results that reading a single record from a data file can produce. */
+    enum RecordStatus {
+        RECORD, TOMBSTONE, CORRUPTED, END
+    }
+
+    /**
+     * Creates a new <code>RecordCodec</code> of the same format as this one. As a <code>RecordCodec</code> stores the
+     * result of the last record read, each data file that is read concurrently needs its own copy.
+     *
+     * @return A <code>RecordCodec</code> which does not share any state with this one.
+     */
+    RecordCodec copy();
+
+    /**
+     * Gets the extension of the data files written with this <code>RecordCodec</code>.
+     *
+     * @return The file extension, including the leading ".".
+     */
+    String getFileExtension();
+
+    /**
+     * Encodes the header that is written at the start of every data file.
+     *
+     * @return The encoded header, which may be empty.
+     */
+    byte[] encodeHeader();
+
+    /**
+     * Reads and checks the header at the start of a data file. An empty data file has a valid header.
+     *
+     * @param buffer The contents of the data file, positioned at its start.
+     * @return true if the header is valid and false if the data file is corrupted or of an unsupported version.
+     */
+    boolean isValidHeader(ByteBuffer buffer);
+
+    /**
+     * Checks if the data file whose header was last read with <code>isValidHeader</code> is of an older version than
+     * the one this <code>RecordCodec</code> writes, in which case it has to be rewritten before records are appended.
+     *
+     * @return true if the data file has to be rewritten and false otherwise.
+     */
+    boolean isUpgradeNeeded();
+
+    /**
+     * Encodes a <code>CS2040CFile</code> into a record.
+     *
+     * @param name The name of the <code>CS2040CFile</code>.
+     * @param cs2040cFile The <code>CS2040CFile</code> object processed.
+     * @return The encoded record.
+     */
+    byte[] encodeRecord(String name, CS2040CFile cs2040cFile);
+
+    /**
+     * Encodes a tombstone marking the <code>CS2040CFile</code> named <code>name</code> as deleted.
+     *
+     * @param name The name of the deleted <code>CS2040CFile</code>.
+     * @return The encoded tombstone.
+     */
+    byte[] encodeTombstone(String name);
+
+    /**
+     * Reads the next record from <code>buffer</code> and moves the position of <code>buffer</code> past it. If a
+     * record or tombstone is read, its name can be retrieved with <code>decodedName</code> and the
+     * <code>CS2040CFile</code> of a record with <code>processedCS2040CFile</code>.
+     *
+     * @param buffer The contents of the data file, positioned at the start of the next record.
+     * @param topicName The name of the <code>Topic</code> which the data file belongs to.
+     * @return The <code>RecordStatus</code> describing what was read.
+     */
+    RecordStatus readRecord(ByteBuffer buffer, String topicName);
+
+    /**
+     * Gets the last record read by <code>readRecord</code> as it would be written by <code>encodeRecord</code>, so
+     * that it can be kept and written back without encoding the <code>CS2040CFile</code> again.
+     *
+     * @return The encoded record.
+     */
+    byte[] encodedRecord();
+
+    String decodedName();
+
+    CS2040CFile processedCS2040CFile();
+}
@@ -0,0 +1,342 @@
+package seedu.clialgo.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.zip.CRC32;
+
+/**
+ * Object representing an immutable segment file of the <code>LsmStorageEngine</code>, which holds entries sorted by
+ * key. Entries are stored in blocks of up to <code>BLOCK_ENTRY_COUNT</code> entries, each with its own checksum. The
+ * first key of every block and a <code>BloomFilter</code> of all keys are kept in memory, so that looking up a key
+ * reads at most one block from the disk, and keys which are not in the segment are usually not read at all.
+ * <p>
+ * A segment file consists of a header, the blocks, a footer listing the blocks, and a trailer holding the position
+ * and checksum of the footer.
+ */
+public class Segment {
+    /** The value of an entry which marks its key as deleted. */
+    public static final byte[] TOMBSTONE = new byte[0];
+
+    private static final byte[] MAGIC = {'C', 'L', 'S', 'M'};
+    private static final byte FORMAT_VERSION = 1;
+    private static final int HEADER_LENGTH = MAGIC.length + 2;
+    private static final int TRAILER_LENGTH = Long.BYTES + Integer.BYTES;
+    private static final int BLOCK_ENTRY_COUNT = 64;
+    private static final int TOMBSTONE_LENGTH = -1;
+
+    private final File file;
+    private final RandomAccessFile input;
+    private final int level;
+    private final int entryCount;
+    private final String[] firstKeys;
+    private final long[] blockOffsets;
+    private final int[] blockLengths;
+    private final int[] blockChecksums;
+    private final BloomFilter bloomFilter;
+
+    private Segment(File file, RandomAccessFile input, int level, int entryCount, String[] firstKeys,
+            long[] blockOffsets, int[] blockLengths, int[] blockChecksums, BloomFilter bloomFilter) {
+        this.file = file;
+        this.input = input;
+        this.level = level;
+        this.entryCount = entryCount;
+        this.firstKeys = firstKeys;
+        this.blockOffsets = blockOffsets;
+        this.blockLengths = blockLengths;
+        this.blockChecksums = blockChecksums;
+        this.bloomFilter = bloomFilter;
+    }
+
+    private static int checksumOf(byte[] bytes, int length) {
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes, 0, length);
+        return (int) checksum.getValue();
+    }
+
+    private static int checksumOf(int blockCount, byte[] footer) {
+        CRC32 checksum = new CRC32();
+        checksum.update(ByteBuffer.allocate(Integer.BYTES).putInt(0, blockCount));
+        checksum.update(footer, 0, footer.length);
+        return (int) checksum.getValue();
+    }
+
+    /**
+     * Writes a segment file holding <code>entries</code>, then syncs it to the disk.
+     *
+     * @param file The segment file to write, which is replaced if it exists.
+     * @param level The level of the segment, which is 0 for a flushed memtable and one more than the level of the
+     *              segments merged otherwise.
+     * @param entries The entries to write, sorted by key, where a value of <code>TOMBSTONE</code> marks a deleted
+     *                key.
+     * @param expectedEntryCount The number of entries expected, used to size the <code>BloomFilter</code>.
+     * @throws IOException Thrown when the segment file cannot be written.
+     */
+    public static void write(File file, int level, Iterator<Map.Entry<String, byte[]>> entries,
+            int expectedEntryCount) throws IOException {
+        BloomFilter bloomFilter = new BloomFilter(expectedEntryCount);
+        ByteArrayOutputStream footer = new ByteArrayOutputStream();
+        DataOutputStream footerOutput = new DataOutputStream(footer);
+        ByteArrayOutputStream block = new ByteArrayOutputStream();
+        DataOutputStream blockOutput = new DataOutputStream(block);
+        int entryCount = 0;
+        int blockCount = 0;
+        try (FileOutputStream fileOutput = new FileOutputStream(file);
+                DataOutputStream output = new DataOutputStream(new BufferedOutputStream(fileOutput))) {
+            output.write(MAGIC);
+            output.writeByte(FORMAT_VERSION);
+            output.writeByte(level);
+            long offset = HEADER_LENGTH;
+            while (entries.hasNext()) {
+                Map.Entry<String, byte[]> entry = entries.next();
+                if (block.size() == 0) {
+                    footerOutput.writeUTF(entry.getKey());
+                }
+                blockOutput.writeUTF(entry.getKey());
+                byte[] value = entry.getValue();
+                if (value == TOMBSTONE) {
+                    blockOutput.writeInt(TOMBSTONE_LENGTH);
+                } else {
+                    blockOutput.writeInt(value.length);
+                    blockOutput.write(value);
+                }
+                bloomFilter.add(entry.getKey());
+                entryCount += 1;
+                if (entryCount % BLOCK_ENTRY_COUNT == 0 || !entries.hasNext()) {
+                    byte[] blockBytes = block.toByteArray();
+                    output.write(blockBytes);
+                    footerOutput.writeLong(offset);
+                    footerOutput.writeInt(blockBytes.length);
+                    footerOutput.writeInt(checksumOf(blockBytes, blockBytes.length));
+                    offset += blockBytes.length;
+                    blockCount += 1;
+                    block.reset();
+                }
+            }
+            footerOutput.writeInt(entryCount);
+            bloomFilter.writeTo(footerOutput);
+            byte[] footerBytes = footer.toByteArray();
+            output.writeInt(blockCount);
+            output.write(footerBytes);
+            output.writeLong(offset);
+            output.writeInt(checksumOf(blockCount, footerBytes));
+            output.flush();
+            fileOutput.getFD().sync();
+        }
+    }
+
+    /**
+     * Opens a segment file written with <code>write</code>, reading its footer into memory.
+     *
+     * @param file The segment file.
+     * @return The <code>Segment</code> opened.
+     * @throws IOException Thrown when the segment file cannot be read, or is truncated or corrupted.
+     */
+    public static Segment open(File file) throws IOException {
+        RandomAccessFile input = new RandomAccessFile(file, "r");
+        try {
+            long length = input.length();
+            if (length < HEADER_LENGTH + Integer.BYTES + TRAILER_LENGTH) {
+                throw new IOException("Truncated segment file");
+            }
+            byte[] header = new byte[HEADER_LENGTH];
+            input.readFully(header);
+            if (!Arrays.equals(Arrays.copyOf(header, MAGIC.length), MAGIC) || header[MAGIC.length] != FORMAT_VERSION) {
+                throw new IOException("Not a segment file");
+            }
+            input.seek(length - TRAILER_LENGTH);
+            long footerOffset = input.readLong();
+            int footerChecksum = input.readInt();
+            long footerEnd = length - TRAILER_LENGTH;
+            if (footerOffset < HEADER_LENGTH || footerOffset + Integer.BYTES > footerEnd) {
+                throw new IOException("Truncated segment file");
+            }
+            input.seek(footerOffset);
+            int blockCount = input.readInt();
+            byte[] footer = new byte[(int) (footerEnd - footerOffset - Integer.BYTES)];
+            input.readFully(footer);
+            if (checksumOf(blockCount, footer) != footerChecksum || blockCount < 0) {
+                throw new IOException("Corrupted segment footer");
+            }
+            DataInputStream footerInput = new DataInputStream(new ByteArrayInputStream(footer));
+            String[] firstKeys = new String[blockCount];
+            long[] blockOffsets = new long[blockCount];
+            int[] blockLengths = new int[blockCount];
+            int[] blockChecksums = new int[blockCount];
+            for (int i = 0; i < blockCount; i++) {
+                firstKeys[i] = footerInput.readUTF();
+                blockOffsets[i] = footerInput.readLong();
+                blockLengths[i] = footerInput.readInt();
+                blockChecksums[i] = footerInput.readInt();
+            }
+            int entryCount = footerInput.readInt();
+            BloomFilter bloomFilter = BloomFilter.readFrom(footerInput);
+            return new Segment(file, input, header[MAGIC.length + 1], entryCount, firstKeys, blockOffsets,
+                    blockLengths, blockChecksums, bloomFilter);
+        } catch (IOException e) {
+            input.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads and checks the block at <code>blockIndex</code>.
+     *
+     * @param blockIndex The index of the block.
+     * @return The entries of the block, in order.
+     * @throws IOException Thrown when the block cannot be read or is corrupted.
+     */
+    private synchronized ArrayList<Map.Entry<String, byte[]>> readBlock(int blockIndex) throws IOException {
+        byte[] block = new byte[blockLengths[blockIndex]];
+        input.seek(blockOffsets[blockIndex]);
+        input.readFully(block);
+        if (checksumOf(block, block.length) != blockChecksums[blockIndex]) {
+            throw new IOException("Corrupted block in " + file.getName());
+        }
+        ArrayList<Map.Entry<String, byte[]>> entries = new ArrayList<>();
+        DataInputStream blockInput = new DataInputStream(new ByteArrayInputStream(block));
+        while (blockInput.available() > 0) {
+            String key = blockInput.readUTF();
+            int valueLength = blockInput.readInt();
+            byte[] value = TOMBSTONE;
+            if (valueLength != TOMBSTONE_LENGTH) {
+                value = new byte[valueLength];
+                blockInput.readFully(value);
+            }
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(key, value));
+        }
+        return entries;
+    }
+
+    /**
+     * Finds the last block whose first key is not greater than <code>key</code>.
+     *
+     * @param key The key to find.
+     * @return The index of the block, or -1 if every key in the segment is greater than <code>key</code>.
+     */
+    private int findBlock(String key) {
+        int low = 0;
+        int high = firstKeys.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (firstKeys[middle].compareTo(key) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high;
+    }
+
+    /**
+     * Looks up the value of <code>key</code>.
+     *
+     * @param key The key to look up.
+     * @return The value of <code>key</code>, <code>TOMBSTONE</code> if it is marked as deleted, or null if the
+     *         segment does not hold <code>key</code>.
+     * @throws IOException Thrown when the block holding <code>key</code> cannot be read or is corrupted.
+     */
+    public byte[] get(String key) throws IOException {
+        if (!bloomFilter.mightContain(key)) {
+            return null;
+        }
+        int blockIndex = findBlock(key);
+        if (blockIndex < 0) {
+            return null;
+        }
+        for (Map.Entry<String, byte[]> entry : readBlock(blockIndex)) {
+            int comparison = entry.getKey().compareTo(key);
+            if (comparison == 0) {
+                return entry.getValue();
+            } else if (comparison > 0) {
+                break;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Iterates over the entries of the segment in order, starting from the first key not less than
+     * <code>fromKey</code>. A block which cannot be read is reported with an <code>UncheckedIOException</code>.
+     *
+     * @param fromKey The smallest key to iterate over.
+     * @return The iterator over the entries.
+     */
+    public Iterator<Map.Entry<String, byte[]>> iterator(String fromKey) {
+        return new Iterator<>() {
+            private int nextBlockIndex = Math.max(0, findBlock(fromKey));
+            private Iterator<Map.Entry<String, byte[]>> blockEntries = null;
+            private Map.Entry<String, byte[]> next = null;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null) {
+                    if (blockEntries == null || !blockEntries.hasNext()) {
+                        if (nextBlockIndex >= firstKeys.length) {
+                            return false;
+                        }
+                        try {
+                            blockEntries = readBlock(nextBlockIndex).iterator();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(file.getName(), e);
+                        }
+                        nextBlockIndex += 1;
+                        continue;
+                    }
+                    Map.Entry<String, byte[]> entry = blockEntries.next();
+                    if (entry.getKey().compareTo(fromKey) >= 0) {
+                        next = entry;
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public Map.Entry<String, byte[]> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Map.Entry<String, byte[]> entry = next;
+                next = null;
+                return entry;
+            }
+        };
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Closes the segment file.
+     */
+    public synchronized void close() {
+        try {
+            input.close();
+        } catch (IOException e) {
+            // Nothing is written to a segment file once it is opened, so there is nothing to lose
+        }
+    }
+}
@@ -4,114 +4,568 @@ import seedu.clialgo.logic.Topic;
 import seedu.clialgo.Ui;
 import seedu.clialgo.file.CS2040CFile;
 
-import java.io.BufferedWriter;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.HashMap;
-import java.util.Scanner;
+import java.util.HashSet;
+import java.util.Map;
 
+/**
+ * Object representing a single data file which stores the <code>CS2040CFiles</code> of one <code>Topic</code>, with
+ * each record encoded by a <code>RecordCodec</code>. The data file is treated as an append-only log: additions and
+ * replacements are appended as records and removals are appended as tombstones. The log is only rewritten (compacted)
+ * once the proportion of dead records in it grows past <code>COMPACTION_THRESHOLD</code>. Appended records are
+ * collected in memory and committed to the data file through a single open channel, at the moments chosen by the
+ * <code>DurabilityPolicy</code> of this object.
+ */
 public class SingleFile {
+    /** Fraction of dead records in the data file above which the file is compacted. */
+    private static final double COMPACTION_THRESHOLD = 0.5;
+
+    /** Minimum number of dead records in the data file before a compaction is considered. */
+    private static final int MIN_DEAD_RECORDS_TO_COMPACT = 32;
+
+    /** Extension added to the name of the data file to form the name of its quarantine file. */
+    public static final String QUARANTINE_EXTENSION = ".quarantine";
+
+    /**
+     * Frees the mapping of a data file at once, or null if the JVM offers no way to do so. Data files are only mapped
+     * if the mapping can be freed, as some platforms refuse to rewrite or delete a file while it is mapped.
+     */
+    private static final Unmapper UNMAPPER = Unmapper.find();
 
     private File file;
     private final String name;
     private final Ui ui;
-    private final HashMap<String, String> storedRawData;
-    private final HashMap<String, CS2040CFile> cs2040cFiles;
-    private final FileDecoder decoder;
-
+    private final HashMap<String, byte[]> storedRawData;
+    private final Topic topic;
+    private final RecordCodec codec;
+    private int deadRecordCount;
+    private long readTime;
+    private boolean isLoaded;
+    private boolean isSalvaged;
+    private final ByteArrayOutputStream pendingRecords;
+    private long firstPendingMillis;
+    private FileChannel appendChannel;
+    private DurabilityPolicy durabilityPolicy;
+    private PersistenceWorker persistenceWorker;
 
-    public SingleFile (File file, String name, FileDecoder decoder) {
+    public SingleFile (File file, String name, RecordCodec codec) {
         this.file = file;
         this.name = name;
         this.ui = new Ui();
-        this.decoder = decoder;
+        this.codec = codec;
         this.storedRawData  = new HashMap<>();
-        this.cs2040cFiles = new HashMap<>();
+        this.topic = new Topic(name);
+        this.deadRecordCount = 0;
+        this.isLoaded = false;
+        this.pendingRecords = new ByteArrayOutputStream();
+        this.durabilityPolicy = DurabilityPolicy.everyCommand(false);
     }
     //@@author lohjooh
+    /** Frees a mapping without waiting for the garbage collector. */
+    private interface Unmapper {
+        void unmap(ByteBuffer buffer) throws ReflectiveOperationException;
+
+        /**
+         * Finds <code>sun.misc.Unsafe.invokeCleaner</code>, which frees a mapping on Java 9 and later.
+         *
+         * @return The <code>Unmapper</code>, or null if it is not available.
+         */
+        static Unmapper find() {
+            try {
+                Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                Field unsafeField = unsafeClass.getDeclaredField("theUnsafe");
+                unsafeField.setAccessible(true);
+                Object unsafe = unsafeField.get(null);
+                Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+                return buffer -> invokeCleaner.invoke(unsafe, buffer);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Maps the whole data file into a <code>ByteBuffer</code>, so that the records are decoded straight from the page
+     * cache without being copied. The buffer must be freed with <code>releaseContents</code> once the records have
+     * been decoded, and must not be used after that. If mappings cannot be freed, the data file is read into a
+     * <code>ByteBuffer</code> on the heap with a single call instead.
+     *
+     * @param channel The channel of the data file.
+     * @return The contents of the data file, positioned at its start.
+     * @throws IOException Thrown when the data file cannot be read.
+     */
+    private ByteBuffer readContents(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            // A single buffer cannot hold the file, and treating it as corrupted would rewrite it without its records
+            throw new IllegalStateException("Data file " + file.getPath() + " is larger than 2 GiB");
+        }
+        if (UNMAPPER != null) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        int bytesRead = 0;
+        while (buffer.hasRemaining() && bytesRead >= 0) {
+            bytesRead = channel.read(buffer);
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Frees the mapping of the data file made by <code>readContents</code>, if any, so that the data file can be
+     * rewritten or deleted straight after it has been read. If the mapping cannot be freed, it is left to the garbage
+     * collector.
+     *
+     * @param contents The buffer returned by <code>readContents</code>, or null if none was returned.
+     */
+    private static void releaseContents(ByteBuffer contents) {
+        if (contents == null || !contents.isDirect()) {
+            return;
+        }
+        try {
+            UNMAPPER.unmap(contents);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // The mapping is freed by the garbage collector instead
+        }
+    }
+
     /**
-     * Reads data from the .txt file and stores it in this object. If the file is corrupted, after reading in the
-     * non-corrupted data, overwrites the data file with the non-corrupted data while purging the corrupted data.
+     * Reads data from the data file and stores it in this object by replaying the records and tombstones in the order
+     * they were appended, in a single pass over the data file. Damaged records are skipped without stopping the
+     * read, and their bytes are moved to the quarantine file with <code>quarantine</code>. If the file is corrupted,
+     * after reading in the non-corrupted data, overwrites the data file with the non-corrupted data.
      *
-     * @throws FileNotFoundException Thrown when the .txt file does not exist.
+     * @throws FileNotFoundException Thrown when the data file does not exist.
      */
     public void readFile() throws FileNotFoundException {
-        Scanner scanner = new Scanner(file);
+        long startTime = System.nanoTime();
+        isLoaded = true;
+        FileInputStream inputStream = new FileInputStream(file);
         boolean isFileCorrupted = false;
         int corruptCount = 0;
-        while (scanner.hasNext()) {
-            String rawData = scanner.nextLine();
-            boolean isCorrupted = decoder.decodeString(rawData, name);
-            if (isCorrupted) {
-                isFileCorrupted = true;
-                corruptCount += 1;
-                break;
+        ByteArrayOutputStream corruptedBytes = new ByteArrayOutputStream();
+        ByteBuffer contents = null;
+        try (FileChannel channel = inputStream.getChannel()) {
+            contents = readContents(channel);
+            // A damaged header is set aside together with the damaged bytes that follow it
+            isFileCorrupted = !codec.isValidHeader(contents);
+            int recordStart = contents.position();
+            RecordCodec.RecordStatus status = codec.readRecord(contents, name);
+            while (status != RecordCodec.RecordStatus.END) {
+                if (status == RecordCodec.RecordStatus.CORRUPTED) {
+                    isFileCorrupted = true;
+                    corruptCount += 1;
+                    copyBytes(contents, recordStart, corruptedBytes);
+                } else if (status == RecordCodec.RecordStatus.TOMBSTONE) {
+                    replayTombstone(codec.decodedName());
+                } else {
+                    replayRecord(codec.decodedName(), codec.processedCS2040CFile(), codec.encodedRecord());
+                }
+                recordStart = contents.position();
+                status = codec.readRecord(contents, name);
             }
-            this.storedRawData.put(decoder.decodedName(), rawData);
-            this.cs2040cFiles.put(decoder.decodedName(), decoder.processedCS2040CFile());
+        } catch (IOException e) {
+            isFileCorrupted = true;
+            corruptCount += 1;
+        } finally {
+            // Freed before the data file may be rewritten below, and no decoded record refers to it
+            releaseContents(contents);
         }
-        scanner.close();
+        readTime = System.nanoTime() - startTime;
+        isSalvaged = isFileCorrupted;
         if (isFileCorrupted) {
             try {
+                quarantine(corruptedBytes);
                 overwriteFile();
-                ui.printCorruptedFileDiscarded(corruptCount, name);
+                // Data files may be read concurrently, so the message is printed while holding the lock on System.out
+                synchronized (System.out) {
+                    ui.printCorruptedRecordsQuarantined(corruptCount, name, codec.getFileExtension(),
+                            getQuarantineFile().getName());
+                }
             } catch (IOException e) {
                 ui.printFileWriteError();
             } catch (SecurityException e) {
                 ui.printSecurityDenied();
             }
+            return;
+        }
+        if (codec.isUpgradeNeeded()) {
+            upgradeFile();
+            return;
         }
+        compactIfNeeded();
     }
 
     /**
-     * Writes a single <code>CS2040CFile</code> encoded as a <code>String</code> to the .txt file.
-     * If the file does not exist
-     * during method call, recreate the file with <code>recreateFile</code>.
+     * Copies the bytes of <code>contents</code> from <code>start</code> up to its position into
+     * <code>output</code>, without moving its position.
+     */
+    private static void copyBytes(ByteBuffer contents, int start, ByteArrayOutputStream output) {
+        int length = contents.position() - start;
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = contents.get(start + i);
+        }
+        output.write(bytes, 0, length);
+    }
+
+    /**
+     * Appends the bytes of the damaged records found by <code>readFile</code> to the quarantine file, so that they
+     * can be inspected or recovered by hand once the data file has been rewritten without them.
+     *
+     * @param corruptedBytes The bytes of the damaged records, in the order they appeared in the data file.
+     * @throws IOException Thrown when the quarantine file cannot be written.
+     */
+    private void quarantine(ByteArrayOutputStream corruptedBytes) throws IOException {
+        if (corruptedBytes.size() == 0) {
+            return;
+        }
+        try (OutputStream output = new FileOutputStream(getQuarantineFile(), true)) {
+            corruptedBytes.writeTo(output);
+        }
+    }
+
+    public File getQuarantineFile() {
+        return new File(file.getPath() + QUARANTINE_EXTENSION);
+    }
+
+    /**
+     * Reads the data file with <code>readFile</code> if it has not been read yet. If the data file does not exist, it
+     * is recreated instead.
+     */
+    public void load() {
+        if (isLoaded) {
+            return;
+        }
+        try {
+            readFile();
+        } catch (FileNotFoundException e) {
+            isSalvaged = true;
+            recreateFile();
+        }
+    }
+
+    /**
+     * Rewrites the data file in the current version of the format of the <code>RecordCodec</code>.
+     */
+    private void upgradeFile() {
+        try {
+            overwriteFile();
+        } catch (IOException e) {
+            ui.printFileWriteError();
+        } catch (SecurityException e) {
+            ui.printSecurityDenied();
+        }
+    }
+
+    /**
+     * Applies a record read from the data file to the data stored in this object.
+     *
+     * @param name The name of the <code>CS2040CFile</code> in the record.
+     * @param cs2040cFile The <code>CS2040CFile</code> in the record.
+     * @param encodedRecord The record encoded by the <code>RecordCodec</code> of this object.
+     */
+    private void replayRecord(String name, CS2040CFile cs2040cFile, byte[] encodedRecord) {
+        if (storedRawData.put(name, encodedRecord) != null) {
+            deadRecordCount += 1;
+        }
+        topic.addCS2040CFile(name, cs2040cFile);
+    }
+
+    /**
+     * Applies a tombstone read from the data file to the data stored in this object.
+     *
+     * @param name The name of the <code>CS2040CFile</code> which the tombstone removes.
+     */
+    private void replayTombstone(String name) {
+        if (storedRawData.remove(name) != null) {
+            // Both the removed record and the tombstone itself are now dead
+            deadRecordCount += 2;
+        } else {
+            deadRecordCount += 1;
+        }
+        topic.removeCS2040CFile(name);
+    }
+
+    /**
+     * Appends a single encoded record to the end of the data file, preceded by the header of the
+     * <code>RecordCodec</code> if the data file is empty. The record is committed to the data file together with
+     * any other uncommitted records once the <code>DurabilityPolicy</code> requires it, on the persistence thread if
+     * this object has a <code>PersistenceWorker</code>. If the file does not exist during method call, recreate the
+     * file with <code>recreateFile</code>.
+     *
+     * @param encodedRecord The record to append.
+     * @throws IOException Throws an exception if the file write fails.
+     * @throws SecurityException Throws an exception if the security manager denies permission.
+     */
+    private void appendRecord(byte[] encodedRecord) throws IOException, SecurityException {
+        // The commit is queued without holding the lock on this object, which the persistence thread needs to commit
+        if (!stageRecord(encodedRecord)) {
+            return;
+        }
+        if (persistenceWorker == null) {
+            commitOrWithdraw(encodedRecord.length);
+        } else {
+            persistenceWorker.submitCommit(this);
+        }
+    }
+
+    /**
+     * Commits the uncommitted records for the command which appended the last <code>recordLength</code> bytes of
+     * them. If the commit fails, that record is withdrawn so that the command can report the failure, while the
+     * records of earlier commands are kept to be retried by the next commit.
+     *
+     * @param recordLength The length of the record appended by the command.
+     * @throws IOException Throws an exception if the file write fails.
+     */
+    private synchronized void commitOrWithdraw(int recordLength) throws IOException {
+        try {
+            commit();
+        } catch (IOException e) {
+            byte[] records = pendingRecords.toByteArray();
+            pendingRecords.reset();
+            // The record may already have been committed by the commit scheduler before the failure
+            pendingRecords.write(records, 0, Math.max(0, records.length - recordLength));
+            if (pendingRecords.size() == 0) {
+                firstPendingMillis = 0;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Adds a single encoded record to the uncommitted records, preceded by the header of the <code>RecordCodec</code>
+     * if the data file is empty.
+     *
+     * @param encodedRecord The record to append.
+     * @return true if the uncommitted records have to be committed now and false otherwise.
+     * @throws IOException Throws an exception if the data file has to be recreated and the file write fails.
+     */
+    private synchronized boolean stageRecord(byte[] encodedRecord) throws IOException {
+        if (!file.exists()) {
+            closeChannel();
+            recreateFile();
+        }
+        boolean isEmptyFile = file.length() == 0 && pendingRecords.size() == 0;
+        if (isEmptyFile) {
+            pendingRecords.write(codec.encodeHeader());
+        }
+        pendingRecords.write(encodedRecord);
+        long currentMillis = System.currentTimeMillis();
+        if (firstPendingMillis == 0) {
+            firstPendingMillis = currentMillis;
+        }
+        return durabilityPolicy.isCommitDue(firstPendingMillis, currentMillis);
+    }
+
+    /**
+     * Writes all the uncommitted records to the data file in a single write through the append channel of this
+     * object, which is opened on the first commit and kept open. The data file is then synced to the disk if the
+     * <code>DurabilityPolicy</code> requires it. If the write fails, any part of it which reached the data file is
+     * cut off again and the uncommitted records are kept, so that the next commit retries them.
+     *
+     * @throws IOException Throws an exception if the file write fails.
+     */
+    public synchronized void commit() throws IOException {
+        if (pendingRecords.size() == 0) {
+            return;
+        }
+        long committedLength = -1;
+        try {
+            if (appendChannel == null || !appendChannel.isOpen()) {
+                appendChannel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND);
+            }
+            committedLength = appendChannel.size();
+            ByteBuffer buffer = ByteBuffer.wrap(pendingRecords.toByteArray());
+            while (buffer.hasRemaining()) {
+                appendChannel.write(buffer);
+            }
+            if (durabilityPolicy.isSynced()) {
+                appendChannel.force(false);
+            }
+        } catch (IOException e) {
+            truncateChannel(committedLength);
+            closeChannel();
+            throw e;
+        }
+        pendingRecords.reset();
+        firstPendingMillis = 0;
+    }
+
+    /**
+     * Cuts the data file back to <code>length</code> through the append channel, removing the part of a failed
+     * commit which was written. If this fails as well, the torn record is quarantined when the data file is next
+     * read.
+     *
+     * @param length The length of the data file before the commit, or -1 if it is not known.
+     */
+    private void truncateChannel(long length) {
+        if (length < 0 || appendChannel == null || !appendChannel.isOpen()) {
+            return;
+        }
+        try {
+            appendChannel.truncate(length);
+        } catch (IOException e) {
+            ui.printFileWriteError();
+        }
+    }
+
+    /**
+     * Closes the append channel of this object without committing the uncommitted records. The channel is opened
+     * again on the next commit.
+     */
+    private synchronized void closeChannel() {
+        if (appendChannel == null) {
+            return;
+        }
+        try {
+            appendChannel.close();
+        } catch (IOException e) {
+            ui.printFileWriteError();
+        }
+        appendChannel = null;
+    }
+
+    /**
+     * Commits all the uncommitted records and closes the append channel of this object.
      *
-     * @param encodedCS2040CFile The <code>CS2040CFile</code> encoded as a <code>String</code>.
      * @throws IOException Throws an exception if the file write fails.
+     */
+    public synchronized void close() throws IOException {
+        try {
+            commit();
+        } finally {
+            closeChannel();
+        }
+    }
+
+    /**
+     * Compacts the data file by rewriting only the live records if the proportion of dead records in the file has
+     * crossed <code>COMPACTION_THRESHOLD</code>. Otherwise, does nothing.
+     */
+    private void compactIfNeeded() {
+        int totalRecordCount = deadRecordCount + storedRawData.size();
+        boolean isAboveMinimum = deadRecordCount >= MIN_DEAD_RECORDS_TO_COMPACT;
+        if (!isAboveMinimum || deadRecordCount < COMPACTION_THRESHOLD * totalRecordCount) {
+            return;
+        }
+        upgradeFile();
+    }
+
+    /**
+     * Reads the data file again to verify every record in it, without changing the records stored in this object.
+     * If this object has been loaded, the damaged records are moved to the quarantine file and the data file is
+     * rewritten from the records in memory, which also compacts it. Data files with dead records are compacted even
+     * if they are below <code>COMPACTION_THRESHOLD</code>. If this object has not been loaded, damaged records are
+     * only counted, as they are quarantined when the data file is first read.
+     *
+     * @param report The <code>MaintenanceReport</code> to record the results in.
+     * @throws IOException Throws an exception if the data file cannot be read or rewritten.
      * @throws SecurityException Throws an exception if the security manager denies permission.
      */
-    public void writeCS2040CFileToFile(String fileName, String encodedCS2040CFile, CS2040CFile cs2040cFile)
+    public synchronized void scrub(MaintenanceReport report) throws IOException, SecurityException {
+        if (!file.exists()) {
+            return;
+        }
+        RecordCodec verifyingCodec = codec.copy();
+        boolean isDamaged;
+        int corruptCount = 0;
+        ByteArrayOutputStream corruptedBytes = new ByteArrayOutputStream();
+        long length;
+        ByteBuffer contents = null;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            contents = readContents(channel);
+            length = contents.limit();
+            report.addScannedBytes(length);
+            isDamaged = !verifyingCodec.isValidHeader(contents);
+            int recordStart = contents.position();
+            RecordCodec.RecordStatus status = verifyingCodec.readRecord(contents, name);
+            while (status != RecordCodec.RecordStatus.END) {
+                if (status == RecordCodec.RecordStatus.CORRUPTED) {
+                    isDamaged = true;
+                    corruptCount += 1;
+                    copyBytes(contents, recordStart, corruptedBytes);
+                }
+                recordStart = contents.position();
+                status = verifyingCodec.readRecord(contents, name);
+            }
+        } finally {
+            releaseContents(contents);
+        }
+        if (!isLoaded || (!isDamaged && deadRecordCount == 0)) {
+            report.addCorruptedRecords(corruptCount, false);
+            return;
+        }
+        boolean hasDeadRecords = deadRecordCount > 0;
+        quarantine(corruptedBytes);
+        overwriteFile();
+        report.addCorruptedRecords(corruptCount, true);
+        if (hasDeadRecords) {
+            report.addCompaction(length - file.length());
+        }
+    }
+
+    /**
+     * Encodes a single <code>CS2040CFile</code> and appends it to the data file. If a <code>CS2040CFile</code> of the
+     * same name is already stored, the appended record replaces it. If the file does not exist during method call,
+     * recreate the file with <code>recreateFile</code>.
+     *
+     * @param fileName The name of the <code>CS2040CFile</code>.
+     * @param cs2040cFile The <code>CS2040CFile</code> being written.
+     * @throws IOException Throws an exception if the file write fails.
+     * @throws SecurityException Throws an exception if the security manager denies permission.
+     */
+    public void writeCS2040CFileToFile(String fileName, CS2040CFile cs2040cFile)
             throws IOException, SecurityException {
-        assert encodedCS2040CFile != null : "Empty string";
+        byte[] encodedCS2040CFile = codec.encodeRecord(fileName, cs2040cFile);
         try {
-            if (!file.exists()) {
-                recreateFile();
+            appendRecord(encodedCS2040CFile);
+            if (this.storedRawData.put(fileName, encodedCS2040CFile) != null) {
+                deadRecordCount += 1;
             }
-            FileWriter fileWriter = new FileWriter(file, true);
-            BufferedWriter bufferedWriter = new BufferedWriter(fileWriter);
-            bufferedWriter.write(encodedCS2040CFile);
-            bufferedWriter.newLine();
-            bufferedWriter.close();
-            fileWriter.close();
-            this.storedRawData.put(fileName, encodedCS2040CFile);
-            this.cs2040cFiles.put(fileName, cs2040cFile);
+            this.topic.addCS2040CFile(fileName, cs2040cFile);
         } catch (IOException e) {
             throw new IOException();
         } catch (SecurityException e) {
             throw new SecurityException();
         }
+        compactIfNeeded();
     }
 
     /**
-     * Writes all the stored raw data into the .txt file, overwriting all the existing data stored in the .txt file.
+     * Writes all the stored raw data into the data file, overwriting all the existing data stored in the data file.
+     * As only live records are written, this also compacts the data file.
      *
      * @throws IOException Throws an exception if the file write fails.
      * @throws SecurityException Throws an exception if the security manager denies permission.
      */
-    public void overwriteFile() throws IOException, SecurityException {
-        try {
-            FileWriter fileWriter = new FileWriter(file, false);
-            BufferedWriter bufferedWriter = new BufferedWriter(fileWriter);
-            for (String string : storedRawData.values()) {
-                bufferedWriter.write(string);
-                bufferedWriter.newLine();
+    public synchronized void overwriteFile() throws IOException, SecurityException {
+        // Every live record is rewritten below, so the uncommitted records no longer need to be appended
+        pendingRecords.reset();
+        firstPendingMillis = 0;
+        closeChannel();
+        try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file, false))) {
+            outputStream.write(codec.encodeHeader());
+            for (byte[] encodedRecord : storedRawData.values()) {
+                outputStream.write(encodedRecord);
             }
-            bufferedWriter.close();
-            fileWriter.close();
+            deadRecordCount = 0;
         } catch (IOException e) {
             throw new IOException();
         } catch (SecurityException e) {
@@ -120,36 +574,41 @@ public class SingleFile {
     }
 
     /**
-     * Deletes a single <code>CS2040CFile</code> and updates the .txt file. If the file does not exist
+     * Deletes a single <code>CS2040CFile</code> by appending a tombstone to the data file. If the file does not exist
      * during method call, recreate the file with <code>recreateFile</code>.
      *
      * @param name The name of the <code>CS2040CFile</code> being deleted.
      * @throws IOException Throws an exception if the file write fails.
      * @throws SecurityException Throws an exception if the security manager denies permission.
      */
-    public void deleteEntry(String name) throws IOException,SecurityException {
+    public void deleteEntry(String name) throws IOException, SecurityException {
         if (!this.storedRawData.containsKey(name)) {
             return;
         }
-        storedRawData.remove(name);
         try {
-            if (!file.exists()) {
-                recreateFile();
-            }
-            overwriteFile();
+            appendRecord(codec.encodeTombstone(name));
         } catch (IOException e) {
             throw new IOException();
         } catch (SecurityException e) {
             throw new SecurityException();
         }
-        cs2040cFiles.remove(name);
+        storedRawData.remove(name);
+        topic.removeCS2040CFile(name);
+        // Both the removed record and the tombstone are now dead
+        deadRecordCount += 2;
+        compactIfNeeded();
     }
 
     /**
-     * Recreates the data file with all the entries reset based on the current data stored in this object.
+     * Recreates the data file, and the folder containing it if it is missing, with all the entries reset based on the
+     * current data stored in this object.
      */
     public void recreateFile() {
         try {
+            File parentFolder = file.getParentFile();
+            if (parentFolder != null && !parentFolder.exists()) {
+                Files.createDirectories(parentFolder.toPath());
+            }
             if (file.createNewFile()) {
                 overwriteFile();
             }
@@ -160,8 +619,111 @@ public class SingleFile {
         }
     }
 
+    /**
+     * Writes all the <code>CS2040CFiles</code> stored in this object to <code>targetFile</code>, encoded with
+     * <code>targetCodec</code>. Used to migrate a data file from one format to another.
+     *
+     * @param targetFile The data file to write to.
+     * @param targetCodec The <code>RecordCodec</code> used to encode the data in <code>targetFile</code>.
+     * @return The <code>SingleFile</code> representing <code>targetFile</code>.
+     * @throws IOException Throws an exception if the file write fails.
+     */
+    public SingleFile convertTo(File targetFile, RecordCodec targetCodec) throws IOException {
+        SingleFile convertedFile = new SingleFile(targetFile, name, targetCodec);
+        for (Map.Entry<String, CS2040CFile> entry : topic.getC2040CFiles().entrySet()) {
+            String cs2040cFileName = entry.getKey();
+            CS2040CFile cs2040cFile = entry.getValue();
+            convertedFile.replayRecord(cs2040cFileName, cs2040cFile,
+                    targetCodec.encodeRecord(cs2040cFileName, cs2040cFile));
+        }
+        convertedFile.overwriteFile();
+        return convertedFile;
+    }
+
+    /**
+     * Adds the lowercase names of all the <code>CS2040CFiles</code> stored in this object to
+     * <code>nameIndex</code>, mapped to the name of the <code>Topic</code> of this object.
+     *
+     * @param nameIndex The index of all <code>CS2040CFile</code> names to add to.
+     */
+    public void addNamesTo(Map<String, String> nameIndex) {
+        for (String cs2040cFileName : topic.getC2040CFiles().keySet()) {
+            nameIndex.put(cs2040cFileName.toLowerCase(), name);
+        }
+    }
+
+    /**
+     * Gets the lowercase names of all the <code>CS2040CFiles</code> stored in this object.
+     *
+     * @return The lowercase names.
+     */
+    public HashSet<String> getLowercaseNames() {
+        HashSet<String> names = new HashSet<>();
+        for (String cs2040cFileName : topic.getC2040CFiles().keySet()) {
+            names.add(cs2040cFileName.toLowerCase());
+        }
+        return names;
+    }
+
+    /**
+     * Restores the data stored in this object from a <code>Snapshot</code> instead of reading the data file, which
+     * must be unchanged since the <code>Snapshot</code> was saved.
+     *
+     * @param cs2040cFiles The <code>CS2040CFiles</code> stored in the data file.
+     * @param encodedRecords The encoded record of each <code>CS2040CFile</code>.
+     * @param deadRecordCount The number of dead records in the data file.
+     */
+    public void restore(Map<String, CS2040CFile> cs2040cFiles, Map<String, byte[]> encodedRecords,
+            int deadRecordCount) {
+        for (Map.Entry<String, CS2040CFile> entry : cs2040cFiles.entrySet()) {
+            topic.addCS2040CFile(entry.getKey(), entry.getValue());
+        }
+        this.storedRawData.putAll(encodedRecords);
+        this.deadRecordCount = deadRecordCount;
+        this.isLoaded = true;
+    }
+
+    public Map<String, byte[]> getEncodedRecords() {
+        return storedRawData;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public boolean isLoaded() {
+        return isLoaded;
+    }
+
+    /**
+     * Checks if corrupted records were discarded, or the data file was missing, when it was last read, in which case
+     * the <code>CS2040CFiles</code> read may differ from those indexed before.
+     *
+     * @return true if records were discarded or the data file was missing and false otherwise.
+     */
+    public boolean isSalvaged() {
+        return isSalvaged;
+    }
+
+    /**
+     * Gets the time taken by the last call to <code>readFile</code>.
+     *
+     * @return The time taken in nanoseconds.
+     */
+    public long getReadTime() {
+        return readTime;
+    }
+
+    public int getDeadRecordCount() {
+        return deadRecordCount;
+    }
+
     public Topic convertFileToTopic () {
-        return new Topic(name, cs2040cFiles);
+        return topic;
     }
 
     public void clearFile() {
@@ -171,4 +733,12 @@ public class SingleFile {
     public void setFile(File file) {
         this.file = file;
     }
+
+    public void setDurabilityPolicy(DurabilityPolicy durabilityPolicy) {
+        this.durabilityPolicy = durabilityPolicy;
+    }
+
+    public void setPersistenceWorker(PersistenceWorker persistenceWorker) {
+        this.persistenceWorker = persistenceWorker;
+    }
 }
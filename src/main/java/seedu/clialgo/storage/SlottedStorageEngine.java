@@ -0,0 +1,552 @@
+package seedu.clialgo.storage;
+
+import seedu.clialgo.Ui;
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.file.Code;
+import seedu.clialgo.file.Note;
+import seedu.clialgo.logic.Topic;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * <code>StorageEngine</code> which stores the <code>CS2040CFiles</code> of every <code>Topic</code> in a single slot
+ * file made up of fixed-width slots, one per <code>CS2040CFile</code>. As every slot is at a known offset, changing
+ * the importance or the <code>Topic</code> of a <code>CS2040CFile</code> is a single positioned write of the bytes
+ * changed, and removing a <code>CS2040CFile</code> only marks its slot as free. Free slots are kept in a free list and
+ * reused by the next additions, so the slot file never has to be rewritten.
+ * <p>
+ * A slot starts with its state, the index of its topic in <code>topicNames</code> and its importance, followed by the
+ * type of the <code>CS2040CFile</code>, the size and last modified time of its file and its name, and ends with the
+ * CRC32 checksum of the bytes after the importance. The first three bytes are left out of the checksum so that they
+ * can be patched in place. A write of a single byte cannot be torn by a crash, so they are only checked to be in
+ * range when the slot file is read.
+ */
+public class SlottedStorageEngine implements StorageEngine {
+    public static final String FILE_NAME = "catalog";
+    public static final String FILE_EXTENSION = ".slots";
+    public static final int SLOT_SIZE = 256;
+    private static final byte[] MAGIC = {'C', 'L', 'S', 'F'};
+    private static final byte FORMAT_VERSION = 1;
+    private static final int HEADER_LENGTH = 8;
+    private static final byte FREE = 0;
+    private static final byte USED = 1;
+    private static final byte NOTE_TAG = 1;
+    private static final byte CODE_TAG = 2;
+    private static final int TOPIC_OFFSET = 1;
+    private static final int IMPORTANCE_OFFSET = 2;
+    private static final int TAG_OFFSET = 3;
+    private static final int NAME_OFFSET = TAG_OFFSET + 1 + 2 * Long.BYTES;
+    private static final int CHECKSUM_OFFSET = SLOT_SIZE - Integer.BYTES;
+    private static final int MIN_IMPORTANCE = 1;
+    private static final int MAX_IMPORTANCE = 10;
+    private static final String NOTE_FILE_EXTENSION = ".txt";
+    private static final String CODE_FILE_EXTENSION = ".cpp";
+
+    /** The largest number of bytes the name of a <code>CS2040CFile</code> can take up in UTF-8. */
+    public static final int MAX_NAME_BYTES = CHECKSUM_OFFSET - NAME_OFFSET - Short.BYTES;
+
+    private final String path;
+    private final ArrayList<String> topicNames;
+    private final Ui ui;
+    private final HashMap<String, Topic> topicFiles;
+    private final HashMap<String, Slot> slots;
+    private final ArrayDeque<Integer> freeSlots;
+    private final ConcurrentHashMap<String, String> nameIndex;
+    private final LinkedHashMap<String, Long> loadTimes;
+    private int slotCount;
+    private RandomAccessFile slotFile;
+    private DurabilityPolicy durabilityPolicy;
+    private boolean isClosed;
+
+    /** The slot of a stored <code>CS2040CFile</code>, together with the <code>CS2040CFile</code> written to it. */
+    private static class Slot {
+        private final int index;
+        private CS2040CFile cs2040cFile;
+
+        private Slot(int index, CS2040CFile cs2040cFile) {
+            this.index = index;
+            this.cs2040cFile = cs2040cFile;
+        }
+    }
+
+    /**
+     * Constructor for the <code>SlottedStorageEngine</code> object.
+     *
+     * @param path The folder which holds the slot file.
+     * @param topicNames The names of all valid topics. The index of a topic in this list is stored in place of its
+     *                   name, so the order of this list must not change between runs.
+     */
+    public SlottedStorageEngine(String path, ArrayList<String> topicNames) {
+        assert topicNames.size() <= 0xFF : "Topic id must fit in a byte";
+        this.path = path;
+        this.topicNames = topicNames;
+        this.ui = new Ui();
+        this.topicFiles = new HashMap<>();
+        this.slots = new HashMap<>();
+        this.freeSlots = new ArrayDeque<>();
+        this.nameIndex = new ConcurrentHashMap<>();
+        this.loadTimes = new LinkedHashMap<>();
+        this.durabilityPolicy = DurabilityPolicy.everyCommand(false);
+    }
+
+    private File getFile() {
+        return new File(path, FILE_NAME + FILE_EXTENSION);
+    }
+
+    private static long getOffset(int slotIndex) {
+        return HEADER_LENGTH + (long) slotIndex * SLOT_SIZE;
+    }
+
+    /**
+     * Opens the slot file and reads every slot in it. A slot file with a damaged header is moved aside, and damaged
+     * slots are copied to the quarantine file and freed.
+     */
+    @Override
+    public synchronized void initialize() {
+        long startTime = System.nanoTime();
+        for (String topicName : topicNames) {
+            topicFiles.putIfAbsent(topicName, new Topic(topicName));
+        }
+        try {
+            Files.createDirectories(new File(path).toPath());
+            slotFile = new RandomAccessFile(getFile(), "rw");
+            readSlots();
+        } catch (IOException e) {
+            ui.printFileWriteError();
+        } catch (SecurityException e) {
+            ui.printSecurityDenied();
+        }
+        loadTimes.put(FILE_NAME + FILE_EXTENSION, System.nanoTime() - startTime);
+    }
+
+    /**
+     * Reads every slot of the slot file, filling the free list with the free slots.
+     *
+     * @throws IOException Thrown when the slot file cannot be read or written.
+     */
+    private void readSlots() throws IOException {
+        FileChannel channel = slotFile.getChannel();
+        if (channel.size() > Integer.MAX_VALUE) {
+            throw new IOException("Slot file is too large");
+        }
+        ByteBuffer contents = ByteBuffer.allocate((int) channel.size());
+        while (contents.hasRemaining() && channel.read(contents, contents.position()) >= 0) {
+            continue;
+        }
+        contents.flip();
+        if (!isValidHeader(contents)) {
+            if (contents.hasRemaining()) {
+                quarantineSlotFile();
+            }
+            writeAt(encodeHeader(), 0);
+            return;
+        }
+        slotCount = (contents.limit() - HEADER_LENGTH) / SLOT_SIZE;
+        // A slot cut short can only be an addition whose write was interrupted
+        channel.truncate(getOffset(slotCount));
+        int corruptCount = 0;
+        ByteBuffer corruptedSlots = ByteBuffer.allocate(slotCount * SLOT_SIZE);
+        for (int i = 0; i < slotCount; i++) {
+            int offset = (int) getOffset(i);
+            if (contents.get(offset) == FREE) {
+                freeSlots.add(i);
+                continue;
+            }
+            CS2040CFile cs2040cFile = decodeSlot(contents, offset);
+            if (cs2040cFile == null || slots.containsKey(cs2040cFile.getName())) {
+                corruptCount += 1;
+                corruptedSlots.put(contents.duplicate().limit(offset + SLOT_SIZE).position(offset));
+                freeSlot(i);
+                continue;
+            }
+            storeInMemory(new Slot(i, cs2040cFile));
+        }
+        if (corruptCount > 0) {
+            File quarantineFile = new File(getFile().getPath() + SingleFile.QUARANTINE_EXTENSION);
+            try (OutputStream output = new FileOutputStream(quarantineFile, true)) {
+                output.write(corruptedSlots.array(), 0, corruptedSlots.position());
+            }
+            ui.printCorruptedRecordsQuarantined(corruptCount, FILE_NAME, FILE_EXTENSION, quarantineFile.getName());
+        }
+    }
+
+    private static ByteBuffer encodeHeader() {
+        return ByteBuffer.allocate(HEADER_LENGTH).put(MAGIC).put(FORMAT_VERSION).clear();
+    }
+
+    private static boolean isValidHeader(ByteBuffer contents) {
+        if (contents.remaining() < HEADER_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (contents.get(i) != MAGIC[i]) {
+                return false;
+            }
+        }
+        return contents.get(MAGIC.length) == FORMAT_VERSION;
+    }
+
+    /**
+     * Moves a slot file whose header is damaged aside and starts an empty slot file in its place.
+     *
+     * @throws IOException Thrown when the slot file cannot be moved or opened.
+     */
+    private void quarantineSlotFile() throws IOException {
+        slotFile.close();
+        File file = getFile();
+        File quarantineFile = new File(file.getPath() + SingleFile.QUARANTINE_EXTENSION);
+        Files.move(file.toPath(), quarantineFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        ui.printCorruptedSegmentQuarantined(file.getName(), quarantineFile.getName());
+        slotFile = new RandomAccessFile(file, "rw");
+    }
+
+    /**
+     * Decodes the used slot starting at <code>offset</code>.
+     *
+     * @param contents The contents of the slot file.
+     * @param offset The offset of the slot in <code>contents</code>.
+     * @return The <code>CS2040CFile</code> stored in the slot, or null if the slot is damaged.
+     */
+    private CS2040CFile decodeSlot(ByteBuffer contents, int offset) {
+        int topicId = contents.get(offset + TOPIC_OFFSET) & 0xFF;
+        int importance = contents.get(offset + IMPORTANCE_OFFSET);
+        boolean isInRange = contents.get(offset) == USED && topicId < topicNames.size()
+                && importance >= MIN_IMPORTANCE && importance <= MAX_IMPORTANCE;
+        if (!isInRange || checksumOf(contents, offset) != contents.getInt(offset + CHECKSUM_OFFSET)) {
+            return null;
+        }
+        byte tag = contents.get(offset + TAG_OFFSET);
+        int nameLength = contents.getShort(offset + NAME_OFFSET) & 0xFFFF;
+        if (nameLength > MAX_NAME_BYTES || (tag != NOTE_TAG && tag != CODE_TAG)) {
+            return null;
+        }
+        byte[] nameBytes = new byte[nameLength];
+        contents.duplicate().position(offset + NAME_OFFSET + Short.BYTES).get(nameBytes);
+        String name = new String(nameBytes, StandardCharsets.UTF_8);
+        String topicName = topicNames.get(topicId);
+        CS2040CFile cs2040cFile = tag == NOTE_TAG
+                ? new Note(name, name + NOTE_FILE_EXTENSION, topicName, importance)
+                : new Code(name, name + CODE_FILE_EXTENSION, topicName, importance);
+        cs2040cFile.setFileAttributes(contents.getLong(offset + TAG_OFFSET + 1),
+                contents.getLong(offset + TAG_OFFSET + 1 + Long.BYTES));
+        return cs2040cFile;
+    }
+
+    private static int checksumOf(ByteBuffer slot, int offset) {
+        CRC32 checksum = new CRC32();
+        checksum.update(slot.duplicate().limit(offset + CHECKSUM_OFFSET).position(offset + TAG_OFFSET));
+        return (int) checksum.getValue();
+    }
+
+    /**
+     * Encodes <code>cs2040cFile</code> into a slot.
+     *
+     * @param name The name of the <code>CS2040CFile</code>.
+     * @param cs2040cFile The <code>CS2040CFile</code> to encode.
+     * @return The slot, or null if the name is longer than <code>MAX_NAME_BYTES</code>.
+     */
+    private ByteBuffer encodeSlot(String name, CS2040CFile cs2040cFile) {
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        if (nameBytes.length > MAX_NAME_BYTES) {
+            return null;
+        }
+        int topicId = topicNames.indexOf(cs2040cFile.getTopic());
+        assert topicId >= 0 : "Topic must be a valid topic";
+        ByteBuffer slot = ByteBuffer.allocate(SLOT_SIZE);
+        slot.put(USED).put((byte) topicId).put((byte) cs2040cFile.getImportance());
+        slot.put(cs2040cFile instanceof Code ? CODE_TAG : NOTE_TAG);
+        slot.putLong(cs2040cFile.getFileSize()).putLong(cs2040cFile.getLastModified());
+        slot.putShort((short) nameBytes.length).put(nameBytes);
+        slot.putInt(CHECKSUM_OFFSET, checksumOf(slot, 0));
+        return slot.clear();
+    }
+
+    /**
+     * Writes <code>bytes</code> at <code>position</code> in the slot file with a single positioned write, syncing it
+     * to the disk if the <code>DurabilityPolicy</code> requires it.
+     *
+     * @throws IOException Thrown when the slot file cannot be written.
+     */
+    private void writeAt(ByteBuffer bytes, long position) throws IOException {
+        FileChannel channel = slotFile.getChannel();
+        long currentPosition = position;
+        while (bytes.hasRemaining()) {
+            currentPosition += channel.write(bytes, currentPosition);
+        }
+        if (durabilityPolicy.isSynced() && durabilityPolicy.getMode() == DurabilityPolicy.Mode.EVERY_COMMAND) {
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Marks the slot at <code>slotIndex</code> as free and adds it to the free list.
+     *
+     * @throws IOException Thrown when the slot file cannot be written.
+     */
+    private void freeSlot(int slotIndex) throws IOException {
+        writeAt(ByteBuffer.wrap(new byte[]{FREE}), getOffset(slotIndex));
+        freeSlots.push(slotIndex);
+    }
+
+    private void storeInMemory(Slot slot) {
+        String name = slot.cs2040cFile.getName();
+        String topicName = slot.cs2040cFile.getTopic();
+        slots.put(name, slot);
+        topicFiles.get(topicName).addCS2040CFile(name, slot.cs2040cFile);
+        nameIndex.put(name.toLowerCase(), topicName);
+    }
+
+    @Override
+    public synchronized Topic loadTopic(String topicName) {
+        return topicFiles.get(topicName);
+    }
+
+    /**
+     * Writes <code>cs2040cFile</code> to the slot of the <code>CS2040CFile</code> it replaces, or else to a slot
+     * taken from the free list, or else to a new slot at the end of the slot file.
+     */
+    @Override
+    public synchronized boolean addEntry(String name, CS2040CFile cs2040cFile) {
+        ByteBuffer encodedSlot = encodeSlot(name, cs2040cFile);
+        if (encodedSlot == null) {
+            ui.printNameTooLong(name, MAX_NAME_BYTES);
+            return false;
+        }
+        Slot oldSlot = slots.get(name);
+        int slotIndex = oldSlot != null ? oldSlot.index : freeSlots.isEmpty() ? slotCount : freeSlots.peek();
+        try {
+            writeAt(encodedSlot, getOffset(slotIndex));
+        } catch (IOException e) {
+            ui.printFileWriteError();
+            return false;
+        }
+        if (oldSlot != null) {
+            topicFiles.get(oldSlot.cs2040cFile.getTopic()).removeCS2040CFile(name);
+        } else if (slotIndex == slotCount) {
+            slotCount += 1;
+        } else {
+            freeSlots.pop();
+        }
+        storeInMemory(new Slot(slotIndex, cs2040cFile));
+        return true;
+    }
+
+    @Override
+    public synchronized boolean deleteEntry(String cs2040cFileName, String topicName) {
+        Slot slot = slots.get(cs2040cFileName);
+        if (slot != null) {
+            try {
+                freeSlot(slot.index);
+            } catch (IOException e) {
+                ui.printFileWriteError();
+                return false;
+            }
+            slots.remove(cs2040cFileName);
+        }
+        topicFiles.get(topicName).removeCS2040CFile(cs2040cFileName);
+        nameIndex.remove(cs2040cFileName.toLowerCase());
+        return true;
+    }
+
+    /**
+     * Patches the topic and importance bytes of the slot of the <code>CS2040CFile</code> in place if nothing else
+     * about it changed, writing only the bytes which changed. Otherwise, the whole slot is written again.
+     */
+    @Override
+    public synchronized boolean updateEntry(String name, String oldTopicName, CS2040CFile cs2040cFile) {
+        Slot slot = slots.get(name);
+        if (slot == null || !isOnlyTopicOrImportanceChanged(slot.cs2040cFile, cs2040cFile)) {
+            return StorageEngine.super.updateEntry(name, oldTopicName, cs2040cFile);
+        }
+        int topicId = topicNames.indexOf(cs2040cFile.getTopic());
+        boolean isTopicChanged = !slot.cs2040cFile.getTopic().equals(cs2040cFile.getTopic());
+        boolean isImportanceChanged = slot.cs2040cFile.getImportance() != cs2040cFile.getImportance();
+        ByteBuffer patch = ByteBuffer.allocate(2).put((byte) topicId).put((byte) cs2040cFile.getImportance());
+        patch.limit(isImportanceChanged ? 2 : 1).position(isTopicChanged ? 0 : 1);
+        try {
+            writeAt(patch, getOffset(slot.index) + (isTopicChanged ? TOPIC_OFFSET : IMPORTANCE_OFFSET));
+        } catch (IOException e) {
+            ui.printFileWriteError();
+            return false;
+        }
+        topicFiles.get(oldTopicName).removeCS2040CFile(name);
+        slot.cs2040cFile = cs2040cFile;
+        storeInMemory(slot);
+        return true;
+    }
+
+    private static boolean isOnlyTopicOrImportanceChanged(CS2040CFile stored, CS2040CFile changed) {
+        return stored.getClass() == changed.getClass() && stored.getName().equals(changed.getName())
+                && stored.getFileSize() == changed.getFileSize()
+                && stored.getLastModified() == changed.getLastModified();
+    }
+
+    /**
+     * Reads the slot of every <code>CS2040CFile</code> of <code>topicName</code> again, and writes a slot back from
+     * memory if it is damaged or no longer matches the <code>CS2040CFile</code> in memory. Free slots at the end of
+     * the slot file are then cut off, and the .txt and .cpp files of the <code>CS2040CFiles</code> are checked.
+     */
+    @Override
+    public synchronized void scrub(String topicName, MaintenanceReport report) {
+        if (slotFile == null || isClosed) {
+            return;
+        }
+        int repairCount = 0;
+        try {
+            FileChannel channel = slotFile.getChannel();
+            ByteBuffer storedSlot = ByteBuffer.allocate(SLOT_SIZE);
+            for (CS2040CFile cs2040cFile : topicFiles.get(topicName).getC2040CFiles().values()) {
+                Slot slot = slots.get(cs2040cFile.getName());
+                storedSlot.clear();
+                while (storedSlot.hasRemaining()
+                        && channel.read(storedSlot, getOffset(slot.index) + storedSlot.position()) >= 0) {
+                    continue;
+                }
+                report.addScannedBytes(SLOT_SIZE);
+                CS2040CFile storedCS2040CFile = storedSlot.hasRemaining() ? null : decodeSlot(storedSlot, 0);
+                if (!isSameSlot(storedCS2040CFile, cs2040cFile)) {
+                    repairCount += 1;
+                    writeAt(encodeSlot(cs2040cFile.getName(), cs2040cFile), getOffset(slot.index));
+                }
+            }
+            report.addCorruptedRecords(repairCount, true);
+            truncateFreeSlots(report);
+        } catch (IOException e) {
+            report.addFailedTopic(topicName);
+            return;
+        }
+        report.checkReferencedFiles(loadTopic(topicName));
+    }
+
+    private static boolean isSameSlot(CS2040CFile stored, CS2040CFile expected) {
+        return stored != null && stored.getTopic().equals(expected.getTopic())
+                && stored.getImportance() == expected.getImportance()
+                && isOnlyTopicOrImportanceChanged(stored, expected);
+    }
+
+    /**
+     * Cuts the free slots at the end of the slot file off, removing them from the free list.
+     *
+     * @param report The <code>MaintenanceReport</code> to record the bytes reclaimed in.
+     * @throws IOException Thrown when the slot file cannot be truncated.
+     */
+    private void truncateFreeSlots(MaintenanceReport report) throws IOException {
+        int usedSlotCount = slots.values().stream().mapToInt(slot -> slot.index + 1).max().orElse(0);
+        if (usedSlotCount == slotCount) {
+            return;
+        }
+        slotFile.getChannel().truncate(getOffset(usedSlotCount));
+        freeSlots.removeIf(slotIndex -> slotIndex >= usedSlotCount);
+        report.addCompaction((long) (slotCount - usedSlotCount) * SLOT_SIZE);
+        slotCount = usedSlotCount;
+    }
+
+    @Override
+    public synchronized void deleteAllEntry(String topicName) {
+        for (String cs2040cFileName : new ArrayList<>(topicFiles.get(topicName).getC2040CFiles().keySet())) {
+            deleteEntry(cs2040cFileName, topicName);
+        }
+    }
+
+    @Override
+    public synchronized HashMap<String, Topic> decodeAll() {
+        HashMap<String, Topic> topics = new HashMap<>();
+        for (String topicName : topicNames) {
+            topics.put(topicName, loadTopic(topicName));
+        }
+        return topics;
+    }
+
+    @Override
+    public Map<String, String> getNameIndex() {
+        return nameIndex;
+    }
+
+    @Override
+    public LinkedHashMap<String, Long> getLoadTimes() {
+        return loadTimes;
+    }
+
+    @Override
+    public void setDurabilityPolicy(DurabilityPolicy durabilityPolicy) {
+        this.durabilityPolicy = durabilityPolicy;
+    }
+
+    @Override
+    public synchronized void commitAll() {
+        try {
+            if (slotFile != null && durabilityPolicy.isSynced()) {
+                slotFile.getChannel().force(false);
+            }
+        } catch (IOException e) {
+            ui.printFileWriteError();
+        }
+    }
+
+    /**
+     * Recreates the folder and the slot file if they have gone missing, writing every stored
+     * <code>CS2040CFile</code> back to consecutive slots.
+     */
+    @Override
+    public synchronized void recreateAll() {
+        if (slotFile == null || getFile().exists()) {
+            return;
+        }
+        try {
+            Files.createDirectories(new File(path).toPath());
+            slotFile.close();
+            slotFile = new RandomAccessFile(getFile(), "rw");
+            writeAt(encodeHeader(), 0);
+            ArrayList<Slot> storedSlots = new ArrayList<>(slots.values());
+            slots.clear();
+            freeSlots.clear();
+            slotCount = 0;
+            for (Slot slot : storedSlots) {
+                writeAt(encodeSlot(slot.cs2040cFile.getName(), slot.cs2040cFile), getOffset(slotCount));
+                slots.put(slot.cs2040cFile.getName(), new Slot(slotCount, slot.cs2040cFile));
+                slotCount += 1;
+            }
+        } catch (IOException e) {
+            ui.printFileWriteError();
+        } catch (SecurityException e) {
+            ui.printSecurityDenied();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (isClosed || slotFile == null) {
+            return;
+        }
+        isClosed = true;
+        try {
+            if (durabilityPolicy.isSynced()) {
+                slotFile.getChannel().force(false);
+            }
+            slotFile.close();
+        } catch (IOException e) {
+            ui.printFileWriteError();
+        }
+    }
+
+    @Override
+    public void deleteStorage() {
+        LogStorageEngine.deleteFolder(new File(path), ui);
+    }
+}
@@ -0,0 +1,253 @@
+package seedu.clialgo.storage;
+
+import seedu.clialgo.Ui;
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.file.Code;
+import seedu.clialgo.file.Note;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Object representing the snapshot file, which stores every <code>Topic</code> with its <code>CS2040CFiles</code>, the
+ * encoded record of each <code>CS2040CFile</code> and the index of all <code>CS2040CFile</code> names in a single file
+ * that can be loaded without replaying the records and tombstones of each data file. The snapshot starts with
+ * <code>MAGIC</code>, a version and a CRC32 checksum of the rest of the file, and stores the size and last modified
+ * time of every data file so that a snapshot which no longer matches the data files is ignored.
+ */
+public class Snapshot {
+    public static final String FILE_NAME = "snapshot.bin";
+
+    /** The launch option used to load from and save to the snapshot file. */
+    public static final String OPTION = "--snapshot";
+
+    private static final byte[] MAGIC = {'C', 'L', 'I', 'S'};
+    private static final int FORMAT_VERSION = 1;
+    private static final byte NOTE_TAG = 1;
+    private static final byte CODE_TAG = 2;
+
+    private final File file;
+
+    /**
+     * Constructor for the <code>Snapshot</code> object.
+     *
+     * @param file The snapshot file.
+     */
+    public Snapshot(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Saves every <code>SingleFile</code>, all of which must have been loaded, to the snapshot file.
+     *
+     * @param singleFiles The <code>SingleFile</code> of each <code>Topic</code>.
+     * @param nameIndex The lowercase names of all <code>CS2040CFiles</code> mapped to the name of their
+     *                  <code>Topic</code>.
+     * @param fileExtension The extension of the data files, which determines the format of the encoded records.
+     * @throws IOException Thrown when the snapshot file cannot be written.
+     */
+    public void save(Map<String, SingleFile> singleFiles, Map<String, String> nameIndex, String fileExtension)
+            throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(body);
+        output.writeUTF(fileExtension);
+        output.writeInt(singleFiles.size());
+        for (SingleFile singleFile : singleFiles.values()) {
+            assert singleFile.isLoaded() : "Only loaded data files can be saved to the snapshot";
+            output.writeUTF(singleFile.getName());
+            output.writeLong(singleFile.getFile().length());
+            output.writeLong(singleFile.getFile().lastModified());
+        }
+        for (SingleFile singleFile : singleFiles.values()) {
+            writeTopic(output, singleFile);
+        }
+        output.writeInt(nameIndex.size());
+        for (Map.Entry<String, String> entry : nameIndex.entrySet()) {
+            output.writeUTF(entry.getKey());
+            output.writeUTF(entry.getValue());
+        }
+        output.flush();
+
+        CRC32 checksum = new CRC32();
+        byte[] bodyBytes = body.toByteArray();
+        checksum.update(bodyBytes);
+        try (DataOutputStream fileOutput = new DataOutputStream(new FileOutputStream(file))) {
+            fileOutput.write(MAGIC);
+            fileOutput.writeInt(FORMAT_VERSION);
+            fileOutput.writeLong(checksum.getValue());
+            fileOutput.write(bodyBytes);
+        }
+    }
+
+    /**
+     * Writes the <code>CS2040CFiles</code> stored in a data file, each followed by its encoded record. Records whose
+     * <code>CS2040CFile</code> has already been removed from the <code>Topic</code> are left out.
+     *
+     * @param output The stream to write to.
+     * @param singleFile The <code>SingleFile</code> of the data file.
+     * @throws IOException Thrown when the stream cannot be written to.
+     */
+    private void writeTopic(DataOutputStream output, SingleFile singleFile) throws IOException {
+        Map<String, byte[]> encodedRecords = singleFile.getEncodedRecords();
+        Map<String, CS2040CFile> cs2040cFiles = singleFile.convertFileToTopic().getC2040CFiles();
+        output.writeUTF(singleFile.getName());
+        output.writeInt(singleFile.getDeadRecordCount());
+        ArrayList<Map.Entry<String, byte[]>> liveRecords = new ArrayList<>();
+        for (Map.Entry<String, byte[]> entry : encodedRecords.entrySet()) {
+            if (cs2040cFiles.containsKey(entry.getKey())) {
+                liveRecords.add(entry);
+            }
+        }
+        output.writeInt(liveRecords.size());
+        for (Map.Entry<String, byte[]> entry : liveRecords) {
+            CS2040CFile cs2040cFile = cs2040cFiles.get(entry.getKey());
+            output.writeByte(cs2040cFile instanceof Code ? CODE_TAG : NOTE_TAG);
+            output.writeUTF(entry.getKey());
+            output.writeUTF(cs2040cFile.getPath());
+            output.writeInt(cs2040cFile.getImportance());
+            output.writeLong(cs2040cFile.getFileSize());
+            output.writeLong(cs2040cFile.getLastModified());
+            output.writeInt(entry.getValue().length);
+            output.write(entry.getValue());
+        }
+    }
+
+    /**
+     * Loads the snapshot file into <code>singleFiles</code> and <code>nameIndex</code> if its checksum is valid and
+     * it still matches the data files. Otherwise, neither is changed.
+     *
+     * @param singleFiles The <code>SingleFile</code> of each <code>Topic</code>, none of which have been loaded.
+     * @param nameIndex The index to add the lowercase names of all <code>CS2040CFiles</code> to.
+     * @param fileExtension The extension of the data files, which determines the format of the encoded records.
+     * @return true if the snapshot was loaded and false if it is missing, corrupted or stale.
+     */
+    public boolean load(Map<String, SingleFile> singleFiles, ConcurrentHashMap<String, String> nameIndex,
+            String fileExtension) {
+        if (!file.isFile()) {
+            return false;
+        }
+        try {
+            byte[] contents = Files.readAllBytes(file.toPath());
+            int headerLength = MAGIC.length + Integer.BYTES + Long.BYTES;
+            if (contents.length < headerLength || !Arrays.equals(contents, 0, MAGIC.length, MAGIC, 0, MAGIC.length)) {
+                return false;
+            }
+            DataInputStream input = new DataInputStream(new ByteArrayInputStream(contents));
+            input.skipBytes(MAGIC.length);
+            if (input.readInt() != FORMAT_VERSION) {
+                return false;
+            }
+            long expectedChecksum = input.readLong();
+            CRC32 checksum = new CRC32();
+            checksum.update(contents, headerLength, contents.length - headerLength);
+            if (checksum.getValue() != expectedChecksum) {
+                return false;
+            }
+            if (!input.readUTF().equals(fileExtension) || !isMatchingDataFiles(input, singleFiles)) {
+                return false;
+            }
+            return readTopics(input, singleFiles, nameIndex);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks if the size and last modified time of every data file are the same as when the snapshot was saved.
+     *
+     * @param input The stream positioned at the start of the stored data file attributes.
+     * @param singleFiles The <code>SingleFile</code> of each <code>Topic</code>.
+     * @return true if all the data files are unchanged and false otherwise.
+     * @throws IOException Thrown when the snapshot is truncated.
+     */
+    private boolean isMatchingDataFiles(DataInputStream input, Map<String, SingleFile> singleFiles)
+            throws IOException {
+        int dataFileCount = input.readInt();
+        if (dataFileCount != singleFiles.size()) {
+            return false;
+        }
+        for (int i = 0; i < dataFileCount; i++) {
+            SingleFile singleFile = singleFiles.get(input.readUTF());
+            long length = input.readLong();
+            long lastModified = input.readLong();
+            if (singleFile == null || singleFile.getFile().length() != length
+                    || singleFile.getFile().lastModified() != lastModified) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads every <code>Topic</code> and the name index from the snapshot, then restores them into
+     * <code>singleFiles</code> and <code>nameIndex</code> once everything has been read.
+     *
+     * @return true if the snapshot was restored and false if it holds a <code>Topic</code> that is not valid.
+     * @throws IOException Thrown when the snapshot is truncated.
+     */
+    private boolean readTopics(DataInputStream input, Map<String, SingleFile> singleFiles,
+            ConcurrentHashMap<String, String> nameIndex) throws IOException {
+        HashMap<String, HashMap<String, CS2040CFile>> topicFiles = new HashMap<>();
+        HashMap<String, HashMap<String, byte[]>> topicRecords = new HashMap<>();
+        HashMap<String, Integer> deadRecordCounts = new HashMap<>();
+        for (int topicCount = 0; topicCount < singleFiles.size(); topicCount++) {
+            String topicName = input.readUTF();
+            if (!singleFiles.containsKey(topicName) || topicFiles.containsKey(topicName)) {
+                return false;
+            }
+            deadRecordCounts.put(topicName, input.readInt());
+            int recordCount = input.readInt();
+            HashMap<String, CS2040CFile> cs2040cFiles = new HashMap<>(recordCount * 2);
+            HashMap<String, byte[]> encodedRecords = new HashMap<>(recordCount * 2);
+            for (int i = 0; i < recordCount; i++) {
+                byte tag = input.readByte();
+                String name = input.readUTF();
+                String path = input.readUTF();
+                int importance = input.readInt();
+                CS2040CFile cs2040cFile = tag == CODE_TAG
+                        ? new Code(name, path, topicName, importance)
+                        : new Note(name, path, topicName, importance);
+                cs2040cFile.setFileAttributes(input.readLong(), input.readLong());
+                byte[] encodedRecord = new byte[input.readInt()];
+                input.readFully(encodedRecord);
+                cs2040cFiles.put(name, cs2040cFile);
+                encodedRecords.put(name, encodedRecord);
+            }
+            topicFiles.put(topicName, cs2040cFiles);
+            topicRecords.put(topicName, encodedRecords);
+        }
+        int nameCount = input.readInt();
+        HashMap<String, String> savedNameIndex = new HashMap<>(nameCount * 2);
+        for (int i = 0; i < nameCount; i++) {
+            savedNameIndex.put(input.readUTF(), input.readUTF());
+        }
+        for (Map.Entry<String, SingleFile> entry : singleFiles.entrySet()) {
+            String topicName = entry.getKey();
+            entry.getValue().restore(topicFiles.get(topicName), topicRecords.get(topicName),
+                    deadRecordCounts.get(topicName));
+        }
+        nameIndex.putAll(savedNameIndex);
+        return true;
+    }
+
+    /**
+     * Deletes the snapshot file so that it cannot be used once the data files change.
+     */
+    public void invalidate() {
+        if (file.exists() && !file.delete()) {
+            Ui.printDeleteFail();
+        }
+    }
+}
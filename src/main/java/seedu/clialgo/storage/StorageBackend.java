@@ -0,0 +1,74 @@
+package seedu.clialgo.storage;
+
+import java.util.ArrayList;
+
+/**
+ * The kinds of <code>StorageEngine</code> that CLIAlgo can be launched with, chosen with the
+ * <code>OPTION_PREFIX</code> launch option, for example <code>--storage=memory</code>.
+ */
+public enum StorageBackend {
+    /** Keeps everything in memory only, without any disk I/O. */
+    MEMORY("memory"),
+
+    /** Keeps a data file of readable text records for each <code>Topic</code>. */
+    TEXT("text"),
+
+    /**
+     * Keeps a data file of compact binary records for each <code>Topic</code>. This is the default. A changed
+     * <code>CS2040CFile</code> is appended as a new record with a tombstone for the old one, which compaction later
+     * drops, so only <code>SLOTTED</code> changes a record in place.
+     */
+    BINARY("binary"),
+
+    /** Keeps sorted, immutable segment files of binary records shared by all <code>Topics</code>. */
+    LSM("lsm"),
+
+    /** Keeps a single file of fixed-width slots, which are changed in place. */
+    SLOTTED("slotted");
+
+    /** The launch option used to choose the <code>StorageBackend</code>. */
+    public static final String OPTION_PREFIX = "--storage=";
+
+    private final String optionValue;
+
+    StorageBackend(String optionValue) {
+        this.optionValue = optionValue;
+    }
+
+    /**
+     * Finds the <code>StorageBackend</code> described by the value of the <code>OPTION_PREFIX</code> launch option.
+     *
+     * @param value The value of the launch option, without <code>OPTION_PREFIX</code>.
+     * @return The <code>StorageBackend</code> described, or null if <code>value</code> is invalid.
+     */
+    public static StorageBackend parse(String value) {
+        for (StorageBackend backend : values()) {
+            if (backend.optionValue.equals(value)) {
+                return backend;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Creates a <code>StorageEngine</code> of this kind.
+     *
+     * @param path The folder which holds the data files, if any.
+     * @param topicNames The names of all valid topics.
+     * @return The <code>StorageEngine</code> created, which has not been initialized.
+     */
+    public StorageEngine createEngine(String path, ArrayList<String> topicNames) {
+        switch (this) {
+        case MEMORY:
+            return new MemoryStorageEngine(topicNames);
+        case TEXT:
+            return new LogStorageEngine(path, topicNames, new TextCodec(FileManager.SEPARATOR));
+        case LSM:
+            return new LsmStorageEngine(path, topicNames);
+        case SLOTTED:
+            return new SlottedStorageEngine(path, topicNames);
+        default:
+            return new LogStorageEngine(path, topicNames, new BinaryCodec(topicNames));
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package seedu.clialgo.storage;
+
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.Topic;
+import seedu.clialgo.logic.TopicLoader;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Interface for the objects which store the <code>CS2040CFiles</code> of every <code>Topic</code> on behalf of the
+ * <code>FileManager</code>. Each <code>StorageEngine</code> decides where and in which format the
+ * <code>CS2040CFiles</code> are kept, and which of the tuning options of the <code>FileManager</code> apply to it.
+ */
+public interface StorageEngine extends TopicLoader {
+
+    /**
+     * Loads the <code>CS2040CFiles</code> of every <code>Topic</code> and indexes their names.
+     */
+    void initialize();
+
+    /**
+     * Loads the index of all <code>CS2040CFile</code> names, leaving each <code>Topic</code> to be loaded with
+     * <code>loadTopic</code> when it is first needed. Engines which cannot load a single <code>Topic</code> at a time
+     * load every <code>Topic</code> with <code>initialize</code> instead.
+     */
+    default void initializeLazily() {
+        initialize();
+    }
+
+    /**
+     * Loads the <code>Topic</code> named <code>topicName</code> for a <code>StorageEngine</code> forked from this
+     * one. Any correction of the names of the <code>Topic</code> found while loading it is made in
+     * <code>forkedNameIndex</code> rather than in the name index of this object, which must not change while it is
+     * forked. By default, the <code>Topic</code> is loaded with <code>loadTopic</code>, which corrects no names.
+     *
+     * @param topicName The name of the <code>Topic</code> to load.
+     * @param forkedNameIndex The name index of the forked <code>StorageEngine</code>.
+     * @return The loaded <code>Topic</code>.
+     */
+    default Topic loadTopic(String topicName, Map<String, String> forkedNameIndex) {
+        return loadTopic(topicName);
+    }
+
+    /**
+     * Stores a <code>CS2040CFile</code>, replacing any <code>CS2040CFile</code> with the same name in its
+     * <code>Topic</code>, and adds its name to the name index.
+     *
+     * @param name The name of the <code>CS2040CFile</code>.
+     * @param cs2040cFile The <code>CS2040CFile</code> being added.
+     * @return true if executed successfully and false if execution failed.
+     */
+    boolean addEntry(String name, CS2040CFile cs2040cFile);
+
+    /**
+     * Removes a <code>CS2040CFile</code> from a <code>Topic</code> and its name from the name index.
+     *
+     * @param cs2040cFileName The name of the <code>CS2040CFile</code> being deleted.
+     * @param topicName The name of the <code>Topic</code> of the <code>CS2040CFile</code>.
+     * @return true if executed successfully and false if execution failed.
+     */
+    boolean deleteEntry(String cs2040cFileName, String topicName);
+
+    /**
+     * Replaces a stored <code>CS2040CFile</code> with a changed copy, which may be tagged to a different
+     * <code>Topic</code>. By default, the <code>CS2040CFile</code> is stored again with <code>addEntry</code>, after
+     * removing it from <code>oldTopicName</code> if its <code>Topic</code> changed.
+     *
+     * @param name The name of the <code>CS2040CFile</code>.
+     * @param oldTopicName The name of the <code>Topic</code> the <code>CS2040CFile</code> is stored under.
+     * @param cs2040cFile The changed <code>CS2040CFile</code>.
+     * @return true if executed successfully and false if execution failed.
+     */
+    default boolean updateEntry(String name, String oldTopicName, CS2040CFile cs2040cFile) {
+        if (!oldTopicName.equals(cs2040cFile.getTopic()) && !deleteEntry(name, oldTopicName)) {
+            return false;
+        }
+        return addEntry(name, cs2040cFile);
+    }
+
+    /**
+     * Deletes all the <code>CS2040CFiles</code> stored for <code>topicName</code>.
+     *
+     * @param topicName The name of the <code>Topic</code> being emptied.
+     */
+    void deleteAllEntry(String topicName);
+
+    /**
+     * Loads every <code>Topic</code> that has not been loaded yet and returns all of them.
+     *
+     * @return The <code>Topic</code> of each topic name.
+     */
+    HashMap<String, Topic> decodeAll();
+
+    /**
+     * Gets the index of the lowercase names of all <code>CS2040CFiles</code>, mapped to the name of their
+     * <code>Topic</code>.
+     *
+     * @return The index of all <code>CS2040CFile</code> names.
+     */
+    Map<String, String> getNameIndex();
+
+    /**
+     * Gets the time taken to load each <code>Topic</code> that has been loaded.
+     *
+     * @return The time taken in nanoseconds for each <code>Topic</code>, in the order they were loaded.
+     */
+    LinkedHashMap<String, Long> getLoadTimes();
+
+    /**
+     * Recreates any part of the storage that has gone missing since it was loaded.
+     */
+    void recreateAll();
+
+    /**
+     * Writes every change that has not been written yet and releases the storage. Only the first call has any effect.
+     */
+    void close();
+
+    /**
+     * Deletes everything this engine has stored. Must only be called once the engine has been closed.
+     */
+    void deleteStorage();
+
+    /**
+     * Checks if this engine keeps its data on the disk, so that the files kept next to it should be written too.
+     *
+     * @return true if the data is stored on the disk and false if it is only kept in memory.
+     */
+    default boolean isDiskBacked() {
+        return true;
+    }
+
+    /**
+     * Sets when changes are written to the storage. Engines which do not write to the disk ignore it.
+     *
+     * @param durabilityPolicy The <code>DurabilityPolicy</code> to use.
+     */
+    default void setDurabilityPolicy(DurabilityPolicy durabilityPolicy) {
+    }
+
+    /**
+     * Writes changes to the storage on a dedicated persistence thread. Engines which do not write to the disk ignore
+     * it.
+     */
+    default void startWriteBehind() {
+    }
+
+    /**
+     * Waits until every change queued on the persistence thread, if any, has been written.
+     */
+    default void drainWrites() {
+    }
+
+    /**
+     * Writes every change that has not been written yet, without closing the storage.
+     */
+    default void commitAll() {
+    }
+
+    /**
+     * Saves every <code>Topic</code> to a <code>Snapshot</code> when closed and restores it from there in the next
+     * call to <code>initializeLazily</code>. Engines which can already be loaded at once ignore it.
+     */
+    default void enableSnapshot() {
+    }
+
+    /**
+     * Keeps the index of all <code>CS2040CFile</code> names on the disk, with at most <code>cacheBytes</code> of it in
+     * memory. Engines which do not keep the name index on the heap ignore it.
+     *
+     * @param cacheBytes The largest number of bytes of the name index to keep in memory.
+     */
+    default void useDiskNameIndex(long cacheBytes) {
+    }
+
+    /**
+     * Compacts and verifies the stored data of <code>topicName</code> on behalf of the
+     * <code>MaintenanceScheduler</code>, recording what is found in <code>report</code>. Errors are recorded rather
+     * than printed, as this runs in the background. By default, only the .txt and .cpp files of its
+     * <code>CS2040CFiles</code> are checked.
+     *
+     * @param topicName The name of the <code>Topic</code> to scrub.
+     * @param report The <code>MaintenanceReport</code> of the current pass.
+     */
+    default void scrub(String topicName, MaintenanceReport report) {
+        report.checkReferencedFiles(loadTopic(topicName));
+    }
+}
@@ -0,0 +1,261 @@
+package seedu.clialgo.storage;
+
+import seedu.clialgo.file.CS2040CFile;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * <code>RecordCodec</code> which stores each record as a line of text with the fields separated by a
+ * <code>separator</code>. This is the original format of the data files. Lines are found with a byte-level search
+ * for the line terminator and passed to the <code>FileDecoder</code> as bytes, without being converted to
+ * <code>Strings</code>.
+ * <p>
+ * Each line ends with a final field made up of <code>CHECKSUM_MARKER</code> and the CRC32 checksum of the rest of
+ * the line in hexadecimal, so that a damaged line is detected even if it can still be decoded. Lines written before
+ * checksums were added are still read, and cause the data file to be rewritten with checksums.
+ */
+public class TextCodec implements RecordCodec {
+    public static final String FILE_EXTENSION = ".txt";
+    private static final byte NEW_LINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final int INITIAL_LINE_CAPACITY = 256;
+    private static final byte CHECKSUM_MARKER = '~';
+    private static final int CHECKSUM_DIGITS = 8;
+
+    private final String separator;
+    private final FileEncoder encoder;
+    private final FileDecoder decoder;
+    private String currentName;
+    private CS2040CFile currentCS2040CFile;
+    private final byte[] lineSeparator;
+    private final byte[] separatorBytes;
+    private final CRC32 checksum;
+    private byte[] line;
+    private int lineLength;
+    private boolean isCurrentLineChecked;
+    private boolean hasUncheckedLine;
+
+    /**
+     * Constructor for the <code>TextCodec</code> object.
+     *
+     * @param separator The <code>String</code> which separates each form of data stored in each record.
+     */
+    public TextCodec(String separator) {
+        this.separator = separator;
+        this.encoder = new FileEncoder(separator);
+        this.decoder = new FileDecoder(separator);
+        this.lineSeparator = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+        this.separatorBytes = separator.getBytes(StandardCharsets.UTF_8);
+        this.checksum = new CRC32();
+        this.line = new byte[INITIAL_LINE_CAPACITY];
+    }
+
+    @Override
+    public RecordCodec copy() {
+        return new TextCodec(separator);
+    }
+
+    @Override
+    public String getFileExtension() {
+        return FILE_EXTENSION;
+    }
+
+    @Override
+    public byte[] encodeHeader() {
+        return new byte[0];
+    }
+
+    @Override
+    public boolean isValidHeader(ByteBuffer buffer) {
+        hasUncheckedLine = false;
+        return true;
+    }
+
+    @Override
+    public boolean isUpgradeNeeded() {
+        return hasUncheckedLine;
+    }
+
+    private long computeChecksum(byte[] bytes, int length) {
+        checksum.reset();
+        checksum.update(bytes, 0, length);
+        return checksum.getValue();
+    }
+
+    /**
+     * Adds the checksum field and the line terminator to the first <code>length</code> bytes of
+     * <code>encodedRecord</code>.
+     *
+     * @return The complete line.
+     */
+    private byte[] toLine(byte[] encodedRecord, int length) {
+        String checksumField = String.format("%0" + CHECKSUM_DIGITS + "x", computeChecksum(encodedRecord, length));
+        ByteArrayOutputStream output = new ByteArrayOutputStream(length + separatorBytes.length + 1
+                + CHECKSUM_DIGITS + lineSeparator.length);
+        output.write(encodedRecord, 0, length);
+        output.write(separatorBytes, 0, separatorBytes.length);
+        output.write(CHECKSUM_MARKER);
+        byte[] checksumBytes = checksumField.getBytes(StandardCharsets.US_ASCII);
+        output.write(checksumBytes, 0, checksumBytes.length);
+        output.write(lineSeparator, 0, lineSeparator.length);
+        return output.toByteArray();
+    }
+
+    private byte[] toLine(String encodedRecord) {
+        byte[] encodedBytes = encodedRecord.getBytes(StandardCharsets.UTF_8);
+        return toLine(encodedBytes, encodedBytes.length);
+    }
+
+    @Override
+    public byte[] encodeRecord(String name, CS2040CFile cs2040cFile) {
+        return toLine(encoder.encodeCS2040CFile(name, cs2040cFile));
+    }
+
+    @Override
+    public byte[] encodeTombstone(String name) {
+        return toLine(encoder.encodeTombstone(name));
+    }
+
+    /**
+     * Finds the index of the next line terminator in <code>buffer</code>, searching from <code>start</code>.
+     *
+     * @return The index of the next <code>NEW_LINE</code> or the limit of <code>buffer</code> if there is none.
+     */
+    private static int indexOfNewLine(ByteBuffer buffer, int start) {
+        int limit = buffer.limit();
+        for (int i = start; i < limit; i++) {
+            if (buffer.get(i) == NEW_LINE) {
+                return i;
+            }
+        }
+        return limit;
+    }
+
+    private static boolean isBlank(ByteBuffer buffer, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!Character.isWhitespace(buffer.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public RecordStatus readRecord(ByteBuffer buffer, String topicName) {
+        int lineStart = buffer.position();
+        while (lineStart < buffer.limit()) {
+            int lineEnd = indexOfNewLine(buffer, lineStart);
+            int nextLineStart = Math.min(lineEnd + 1, buffer.limit());
+            if (lineEnd > lineStart && buffer.get(lineEnd - 1) == CARRIAGE_RETURN) {
+                lineEnd -= 1;
+            }
+            if (!isBlank(buffer, lineStart, lineEnd)) {
+                // The position of the buffer always moves past the whole line, even if the line is corrupted
+                int length = lineEnd - lineStart;
+                if (line.length < length) {
+                    line = new byte[Math.max(length, line.length * 2)];
+                }
+                buffer.position(lineStart);
+                buffer.get(line, 0, length);
+                buffer.position(nextLineStart);
+                lineLength = length;
+                return decodeLine(length, topicName);
+            }
+            lineStart = nextLineStart;
+        }
+        buffer.position(buffer.limit());
+        return RecordStatus.END;
+    }
+
+    private static int hexValue(byte digit) {
+        if (digit >= '0' && digit <= '9') {
+            return digit - '0';
+        }
+        if (digit >= 'a' && digit <= 'f') {
+            return digit - 'a' + 10;
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the checksum field at the end of the line of <code>length</code> bytes stored at the start of
+     * <code>line</code>.
+     *
+     * @return The stored checksum, or -1 if the line does not end with a checksum field.
+     */
+    private long findChecksum(int length) {
+        int fieldStart = length - CHECKSUM_DIGITS - 1 - separatorBytes.length;
+        if (fieldStart < 0 || line[fieldStart + separatorBytes.length] != CHECKSUM_MARKER) {
+            return -1;
+        }
+        for (int i = 0; i < separatorBytes.length; i++) {
+            if (line[fieldStart + i] != separatorBytes[i]) {
+                return -1;
+            }
+        }
+        long storedChecksum = 0;
+        for (int i = length - CHECKSUM_DIGITS; i < length; i++) {
+            int digit = hexValue(line[i]);
+            if (digit < 0) {
+                return -1;
+            }
+            storedChecksum = (storedChecksum << 4) | digit;
+        }
+        return storedChecksum;
+    }
+
+    /**
+     * Checks the checksum of the line of <code>length</code> bytes stored at the start of <code>line</code>, then
+     * decodes the line without its checksum field.
+     *
+     * @return The <code>RecordStatus</code> describing the line.
+     */
+    private RecordStatus decodeLine(int length, String topicName) {
+        long storedChecksum = findChecksum(length);
+        isCurrentLineChecked = storedChecksum >= 0;
+        if (isCurrentLineChecked) {
+            length -= separatorBytes.length + 1 + CHECKSUM_DIGITS;
+            if (computeChecksum(line, length) != storedChecksum) {
+                return RecordStatus.CORRUPTED;
+            }
+        } else {
+            hasUncheckedLine = true;
+        }
+        if (decoder.isTombstone(line, 0, length)) {
+            currentName = decoder.decodeTombstone(line, 0, length);
+            currentCS2040CFile = null;
+            return RecordStatus.TOMBSTONE;
+        }
+        if (decoder.decodeBytes(line, 0, length, topicName)) {
+            return RecordStatus.CORRUPTED;
+        }
+        currentName = decoder.decodedName();
+        currentCS2040CFile = decoder.processedCS2040CFile();
+        return RecordStatus.RECORD;
+    }
+
+    @Override
+    public byte[] encodedRecord() {
+        // Lines written before checksums were added are given one, so that they are written back with it
+        if (!isCurrentLineChecked) {
+            return toLine(line, lineLength);
+        }
+        byte[] encodedLine = Arrays.copyOf(line, lineLength + lineSeparator.length);
+        System.arraycopy(lineSeparator, 0, encodedLine, lineLength, lineSeparator.length);
+        return encodedLine;
+    }
+
+    @Override
+    public String decodedName() {
+        return currentName;
+    }
+
+    @Override
+    public CS2040CFile processedCS2040CFile() {
+        return currentCS2040CFile;
+    }
+}
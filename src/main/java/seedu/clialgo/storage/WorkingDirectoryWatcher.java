@@ -0,0 +1,220 @@
+package seedu.clialgo.storage;
+
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.logic.TopicManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Object which watches the working directory with a <code>WatchService</code> and keeps a live table of the .txt
+ * and .cpp files in it, without polling the file system. The table is only changed by the watching thread, which
+ * also records the name of every file created or deleted since the changes were last applied.
+ * <p>
+ * <code>TopicManager</code> is not thread-safe, so the changes are applied to it by the thread running the
+ * commands, with <code>applyChanges</code>. A <code>CS2040CFile</code> whose file has disappeared is then marked as
+ * dangling, and a new file which is not in CLIAlgo yet is offered to the user to be added.
+ */
+public class WorkingDirectoryWatcher {
+    /** The launch option used to watch the working directory. */
+    public static final String OPTION = "--watch";
+
+    private static final String NOTE_FILE_EXTENSION = ".txt";
+    private static final String CODE_FILE_EXTENSION = ".cpp";
+
+    private final Path directory;
+    private final Set<String> presentFiles;
+    private final Set<String> changedFiles;
+    private final LinkedHashSet<String> newFiles;
+    private WatchService watchService;
+
+    /**
+     * Constructor for the <code>WorkingDirectoryWatcher</code> object. The directory is not watched until
+     * <code>start</code> is called.
+     *
+     * @param directory The directory to watch.
+     */
+    public WorkingDirectoryWatcher(Path directory) {
+        this.directory = directory;
+        this.presentFiles = ConcurrentHashMap.newKeySet();
+        this.changedFiles = ConcurrentHashMap.newKeySet();
+        this.newFiles = new LinkedHashSet<>();
+    }
+
+    /**
+     * Starts watching the directory on a daemon thread. The table of present files is filled with a single listing
+     * of the directory, taken after the watch is registered so that no change is missed in between.
+     *
+     * @throws IOException If the directory cannot be watched.
+     */
+    public void start() throws IOException {
+        watchService = directory.getFileSystem().newWatchService();
+        try {
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException | RuntimeException e) {
+            watchService.close();
+            throw e;
+        }
+        relist();
+        changedFiles.clear();
+        Thread thread = new Thread(this::watch, "directory-watcher");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * Waits for the changes to the directory and records them until the <code>WatchService</code> is closed.
+     */
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    recordEvent(event);
+                }
+                if (!key.reset()) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // The watcher has been stopped
+        }
+    }
+
+    /**
+     * Updates the table of present files with one event of the <code>WatchService</code>.
+     *
+     * @param event The event.
+     */
+    void recordEvent(WatchEvent<?> event) {
+        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+            // Events were lost, so every file which was or is now present may have changed
+            changedFiles.addAll(presentFiles);
+            relist();
+            changedFiles.addAll(presentFiles);
+            return;
+        }
+        String fileName = event.context().toString();
+        if (!isTracked(fileName)) {
+            return;
+        }
+        if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+            presentFiles.add(fileName);
+        } else if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+            presentFiles.remove(fileName);
+        }
+        changedFiles.add(fileName);
+    }
+
+    /**
+     * Fills the table of present files with a single listing of the directory.
+     */
+    private void relist() {
+        String[] fileNames = directory.toFile().list();
+        HashSet<String> listedFiles = new HashSet<>();
+        if (fileNames != null) {
+            for (String fileName : fileNames) {
+                if (isTracked(fileName)) {
+                    listedFiles.add(fileName);
+                }
+            }
+        }
+        // Updated in place, so that a file present all along is never missing from the table
+        presentFiles.retainAll(listedFiles);
+        presentFiles.addAll(listedFiles);
+    }
+
+    private static boolean isTracked(String fileName) {
+        return fileName.endsWith(NOTE_FILE_EXTENSION) || fileName.endsWith(CODE_FILE_EXTENSION);
+    }
+
+    private static String removeExtension(String fileName) {
+        return fileName.substring(0, fileName.lastIndexOf('.'));
+    }
+
+    /**
+     * Applies the changes recorded since the last call to <code>topicManager</code>. The
+     * <code>CS2040CFile</code> of each deleted file is marked as dangling, and that of each created file is marked
+     * as present again. A created file which is not in <code>topicManager</code> is remembered to be offered by
+     * <code>takeNewFiles</code>. Must be called by the thread running the commands.
+     *
+     * @param topicManager The <code>TopicManager</code> containing the <code>CS2040CFiles</code>.
+     */
+    public void applyChanges(TopicManager topicManager) {
+        Iterator<String> iterator = changedFiles.iterator();
+        while (iterator.hasNext()) {
+            String fileName = iterator.next();
+            iterator.remove();
+            boolean isPresent = presentFiles.contains(fileName);
+            String name = removeExtension(fileName);
+            CS2040CFile cs2040cFile = topicManager.getCS2040CFile(name);
+            if (cs2040cFile != null && new File(cs2040cFile.getPath()).getName().equals(fileName)) {
+                cs2040cFile.setDangling(!isPresent);
+            } else if (cs2040cFile == null && isPresent) {
+                newFiles.add(fileName);
+            } else {
+                newFiles.remove(fileName);
+            }
+        }
+    }
+
+    /**
+     * Gets the new files found by <code>applyChanges</code> which are still present and not in
+     * <code>topicManager</code>, and forgets them so that each is only offered once.
+     *
+     * @param topicManager The <code>TopicManager</code> containing the <code>CS2040CFiles</code>.
+     * @return The names of the new files, in the order they were found.
+     */
+    public ArrayList<String> takeNewFiles(TopicManager topicManager) {
+        ArrayList<String> offeredFiles = new ArrayList<>();
+        for (String fileName : newFiles) {
+            String name = removeExtension(fileName);
+            if (presentFiles.contains(fileName) && !topicManager.isRepeatedCS2040CFile(name)) {
+                offeredFiles.add(fileName);
+            }
+        }
+        newFiles.clear();
+        return offeredFiles;
+    }
+
+    /**
+     * Checks if a .txt or .cpp file is in the directory, according to the live table.
+     *
+     * @param fileName The name of the file with its extension.
+     * @return true if the file is present and false otherwise.
+     */
+    boolean isPresent(String fileName) {
+        return presentFiles.contains(fileName);
+    }
+
+    /**
+     * Stops watching the directory. Only the first call has any effect.
+     */
+    public void stop() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            // The watching thread is a daemon, so it cannot keep CLIAlgo from exiting
+        }
+        watchService = null;
+    }
+}
@@ -0,0 +1,344 @@
+package seedu.clialgo.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * Object representing the manifest file, which stores the size, last modified time and SHA-256 hash of every .txt
+ * and .cpp file referenced by the <code>CS2040CFiles</code>, much like the index of git. A file is only read again
+ * if its size or last modified time no longer match the manifest, so checking every referenced file takes one stat
+ * call for each file plus work proportional to the files which actually changed.
+ * <p>
+ * An entry recorded within <code>RACY_MILLIS</code> of the last modified time of its file is always hashed again,
+ * as the file could have been changed again within the same tick of a coarse file system clock. The manifest starts
+ * with <code>MAGIC</code>, a version and a CRC32 checksum of the rest of the file, and is ignored if any of them do
+ * not match.
+ */
+public class WorkspaceManifest {
+    public static final String FILE_NAME = "manifest.bin";
+
+    /** The state of a referenced file compared with its entry in the manifest. */
+    public enum Status {
+        /** The size and last modified time match the manifest, so the file was not read. */
+        UNCHANGED,
+        /** The size or last modified time changed, but the file was read and has the same contents. */
+        TOUCHED,
+        /** The file was read and its contents changed. */
+        CHANGED,
+        /** The file was not in the manifest yet. */
+        ADDED,
+        /** The file does not exist or cannot be read. */
+        MISSING
+    }
+
+    static final long RACY_MILLIS = 2000;
+
+    private static final byte[] MAGIC = {'C', 'L', 'I', 'M'};
+    private static final int FORMAT_VERSION = 1;
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int HASH_LENGTH = 32;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final File file;
+    private final HashMap<String, Entry> entries;
+    private final HashMap<String, Status> unreportedStatuses;
+    private boolean isChanged;
+    private long hashedBytes;
+
+    /**
+     * The size, last modified time and hash of a referenced file, and when they were recorded.
+     */
+    public static class Entry {
+        private final long size;
+        private final long lastModified;
+        private final long recordedMillis;
+        private final byte[] hash;
+
+        private Entry(long size, long lastModified, long recordedMillis, byte[] hash) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.recordedMillis = recordedMillis;
+            this.hash = hash;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        private boolean isRacy() {
+            return recordedMillis - lastModified < RACY_MILLIS;
+        }
+    }
+
+    /**
+     * Constructor for the <code>WorkspaceManifest</code> object. The manifest file is not read until
+     * <code>load</code> is called.
+     *
+     * @param file The manifest file, or null if the manifest is only kept in memory.
+     */
+    public WorkspaceManifest(File file) {
+        this.file = file;
+        this.entries = new HashMap<>();
+        this.unreportedStatuses = new HashMap<>();
+    }
+
+    /**
+     * Converts the path of a referenced file to the key of its entry, so that paths such as "./a.txt" and "a.txt"
+     * share an entry.
+     */
+    private static String toKey(String path) {
+        return Paths.get(path).normalize().toString();
+    }
+
+    /**
+     * Loads the manifest file if its checksum is valid. Otherwise, the manifest is left empty and every referenced
+     * file is hashed again.
+     *
+     * @return true if the manifest file was loaded and false if it is missing or corrupted.
+     */
+    public boolean load() {
+        entries.clear();
+        unreportedStatuses.clear();
+        if (file == null || !file.isFile()) {
+            return false;
+        }
+        try {
+            DataInputStream input = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file.toPath())));
+            byte[] magic = new byte[MAGIC.length];
+            input.readFully(magic);
+            if (!Arrays.equals(magic, MAGIC) || input.readInt() != FORMAT_VERSION) {
+                return false;
+            }
+            long expectedChecksum = input.readLong();
+            byte[] body = input.readAllBytes();
+            CRC32 checksum = new CRC32();
+            checksum.update(body);
+            if (checksum.getValue() != expectedChecksum) {
+                return false;
+            }
+            readEntries(new DataInputStream(new ByteArrayInputStream(body)));
+            return true;
+        } catch (IOException | RuntimeException e) {
+            entries.clear();
+            return false;
+        }
+    }
+
+    private void readEntries(DataInputStream input) throws IOException {
+        int entryCount = input.readInt();
+        for (int i = 0; i < entryCount; i += 1) {
+            String key = input.readUTF();
+            long size = input.readLong();
+            long lastModified = input.readLong();
+            long recordedMillis = input.readLong();
+            byte[] hash = new byte[HASH_LENGTH];
+            input.readFully(hash);
+            entries.put(key, new Entry(size, lastModified, recordedMillis, hash));
+        }
+    }
+
+    /**
+     * Saves the manifest to the manifest file if it has changed since it was loaded or last saved.
+     *
+     * @throws IOException Thrown when the manifest file cannot be written.
+     */
+    public void save() throws IOException {
+        if (file == null || !isChanged) {
+            return;
+        }
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(body);
+        output.writeInt(entries.size());
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            output.writeUTF(entry.getKey());
+            output.writeLong(entry.getValue().size);
+            output.writeLong(entry.getValue().lastModified);
+            output.writeLong(entry.getValue().recordedMillis);
+            output.write(entry.getValue().hash);
+        }
+        output.flush();
+
+        CRC32 checksum = new CRC32();
+        byte[] bodyBytes = body.toByteArray();
+        checksum.update(bodyBytes);
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            Files.createDirectories(parent.toPath());
+        }
+        try (DataOutputStream fileOutput = new DataOutputStream(new FileOutputStream(file))) {
+            fileOutput.write(MAGIC);
+            fileOutput.writeInt(FORMAT_VERSION);
+            fileOutput.writeLong(checksum.getValue());
+            fileOutput.write(bodyBytes);
+        }
+        isChanged = false;
+    }
+
+    /**
+     * Compares the referenced file at <code>path</code> with its entry, hashing it only if its size or last
+     * modified time changed or its entry is racy, and records the result in the manifest. The entry of a missing
+     * file is kept, so that a file which comes back unchanged does not count as changed. A file found to have
+     * changed by <code>refreshAll</code> is reported as such by the next call for it, even though its entry is
+     * already up to date.
+     *
+     * @param path The path to the referenced file.
+     * @return The <code>Status</code> of the file.
+     */
+    public Status refresh(String path) {
+        String key = toKey(path);
+        Status status = compare(key);
+        Status unreportedStatus = unreportedStatuses.remove(key);
+        if (status == Status.UNCHANGED && unreportedStatus != null) {
+            return unreportedStatus;
+        }
+        return status;
+    }
+
+    private Status compare(String key) {
+        Path filePath = Paths.get(key);
+        Entry entry = entries.get(key);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return Status.MISSING;
+            }
+            long size = attributes.size();
+            long lastModified = attributes.lastModifiedTime().toMillis();
+            if (entry != null && entry.size == size && entry.lastModified == lastModified && !entry.isRacy()) {
+                return Status.UNCHANGED;
+            }
+            byte[] hash = hash(filePath);
+            entries.put(key, new Entry(size, lastModified, System.currentTimeMillis(), hash));
+            isChanged = true;
+            if (entry == null) {
+                return Status.ADDED;
+            }
+            return Arrays.equals(entry.hash, hash) ? Status.TOUCHED : Status.CHANGED;
+        } catch (IOException | SecurityException e) {
+            // Includes the file not existing
+            return Status.MISSING;
+        }
+    }
+
+    /**
+     * Refreshes every file in the manifest, without needing to know which <code>CS2040CFiles</code> reference them.
+     * The files found to have changed are remembered until they are refreshed again with <code>refresh</code>.
+     *
+     * @return The number of files which were read because their size or last modified time changed.
+     */
+    public int refreshAll() {
+        int rehashedCount = 0;
+        for (String key : new ArrayList<>(entries.keySet())) {
+            Status status = compare(key);
+            if (status == Status.TOUCHED || status == Status.CHANGED) {
+                unreportedStatuses.merge(key, status, (oldStatus, newStatus) ->
+                        oldStatus == Status.CHANGED ? oldStatus : newStatus);
+                rehashedCount += 1;
+            }
+        }
+        return rehashedCount;
+    }
+
+    /**
+     * Removes the entries of all the files which are no longer referenced.
+     *
+     * @param paths The paths to every referenced file.
+     * @return The number of entries removed.
+     */
+    public int retainAll(Collection<String> paths) {
+        Set<String> keys = new HashSet<>();
+        for (String path : paths) {
+            keys.add(toKey(path));
+        }
+        int entryCount = entries.size();
+        entries.keySet().retainAll(keys);
+        unreportedStatuses.keySet().retainAll(keys);
+        int removedCount = entryCount - entries.size();
+        isChanged |= removedCount > 0;
+        return removedCount;
+    }
+
+    /**
+     * Checks if <code>copy</code> is an up-to-date copy of the referenced file at <code>path</code>, made with its
+     * attributes. This is the case if the file still matches its entry, which is not racy, and the copy has the
+     * same size and last modified time as the entry.
+     *
+     * @param path The path to the referenced file.
+     * @param copy The copy of the referenced file.
+     * @return true if the copy is up to date and false if it has to be made again.
+     */
+    public boolean isCopyUpToDate(String path, File copy) {
+        Entry entry = entries.get(toKey(path));
+        if (entry == null || refresh(path) != Status.UNCHANGED) {
+            return false;
+        }
+        return copy.isFile() && copy.length() == entry.size && copy.lastModified() == entry.lastModified;
+    }
+
+    /**
+     * Gets the entry of the referenced file at <code>path</code>.
+     *
+     * @param path The path to the referenced file.
+     * @return The entry, or null if the file is not in the manifest.
+     */
+    public Entry getEntry(String path) {
+        return entries.get(toKey(path));
+    }
+
+    public int getEntryCount() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the number of bytes read to hash referenced files since this object was created.
+     *
+     * @return The number of bytes hashed.
+     */
+    public long getHashedBytes() {
+        return hashedBytes;
+    }
+
+    private byte[] hash(Path filePath) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream input = Files.newInputStream(filePath)) {
+            int readCount = input.read(buffer);
+            while (readCount >= 0) {
+                digest.update(buffer, 0, readCount);
+                hashedBytes += readCount;
+                readCount = input.read(buffer);
+            }
+        }
+        return digest.digest();
+    }
+}
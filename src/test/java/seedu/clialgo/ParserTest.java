@@ -7,14 +7,20 @@ import seedu.clialgo.command.ExitCommand;
 import seedu.clialgo.command.ExitTestModeCommand;
 import seedu.clialgo.command.ExportCommand;
 import seedu.clialgo.command.FilterCommand;
+import seedu.clialgo.command.FindCommand;
 import seedu.clialgo.command.HelpCommand;
 import seedu.clialgo.command.InvalidCommand;
 import seedu.clialgo.command.InvalidImportanceCommand;
 import seedu.clialgo.command.InvalidTopicCommand;
 import seedu.clialgo.command.ListCommand;
+import seedu.clialgo.command.MoveCommand;
 import seedu.clialgo.command.RemoveCommand;
+import seedu.clialgo.command.RescanCommand;
+import seedu.clialgo.command.SearchCommand;
+import seedu.clialgo.command.StatusCommand;
 import seedu.clialgo.command.TestModeCommand;
 import seedu.clialgo.command.TopoCommand;
+import seedu.clialgo.command.UpdateCommand;
 import seedu.clialgo.logic.TopicManager;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -192,6 +198,12 @@ class ParserTest {
         Command actualStartTestOutput = parser.parse(startTestInput, topics);
         assertTrue(correctStartTestOutput.equals(actualStartTestOutput));
 
+        String forkTestInput = "fork-test-mode";
+        TestModeCommand correctForkTestOutput = new TestModeCommand(true);
+        Command actualForkTestOutput = parser.parse(forkTestInput, topics);
+        assertTrue(correctForkTestOutput.equals(actualForkTestOutput));
+        assertFalse(correctStartTestOutput.equals(actualForkTestOutput));
+
         String exitTestInput = "exit-test-mode";
         ExitTestModeCommand correctExitTestOutput = new ExitTestModeCommand();
         Command actualExitTestOutput = parser.parse(exitTestInput, topics);
@@ -438,4 +450,104 @@ class ParserTest {
             assertTrue(expectedOutput.equals(actualOutput));
         }
     }
+
+    //@@author
+    @Test
+    void parse_validUpdateAndMove_expectEditCommandObjects() {
+        Parser parser = new Parser();
+        TopicManager topics = new TopicManager();
+
+        UpdateCommand expectedUpdateOutput = new UpdateCommand("quick sort", 9);
+        assertTrue(expectedUpdateOutput.equals(parser.parse("update n/quick sort i/9", topics)));
+        assertFalse(expectedUpdateOutput.equals(parser.parse("update n/quick sort i/8", topics)));
+
+        MoveCommand expectedMoveOutput = new MoveCommand("quick sort", "GRAPH_TRAVERSAL");
+        assertTrue(expectedMoveOutput.equals(parser.parse("move n/quick sort t/GRAPH_TRAVERSAL", topics)));
+    }
+
+    @Test
+    void parse_invalidUpdateAndMove_expectInvalidCommandObjects() {
+        Parser parser = new Parser();
+        TopicManager topics = new TopicManager();
+        InvalidCommand expectedOutput = new InvalidCommand();
+
+        ArrayList<String> inputs = new ArrayList<>(
+                Arrays.asList("update", "update n/quick sort", "update k/quick sort i/9", "update n/ i/9",
+                        "move", "move n/quick sort", "move k/quick sort t/SORTING", "move n/ t/SORTING")
+        );
+        for (String input : inputs) {
+            assertTrue(expectedOutput.equals(parser.parse(input, topics)));
+        }
+
+        Command actualImportanceOutput = parser.parse("update n/quick sort i/11", topics);
+        assertTrue(new InvalidImportanceCommand("11").equals(actualImportanceOutput));
+        Command actualNonNumericOutput = parser.parse("update n/quick sort i/high", topics);
+        assertTrue(new InvalidImportanceCommand("high").equals(actualNonNumericOutput));
+        Command actualTopicOutput = parser.parse("move n/quick sort t/QUEUE", topics);
+        assertTrue(new InvalidTopicCommand("QUEUE").equals(actualTopicOutput));
+    }
+
+    @Test
+    void parse_status_expectStatusCommandObject() {
+        Parser parser = new Parser();
+        TopicManager topics = new TopicManager();
+        assertTrue(new StatusCommand().equals(parser.parse("status", topics)));
+        assertTrue(new InvalidCommand().equals(parser.parse("status now", topics)));
+    }
+
+    @Test
+    void parse_rescan_expectRescanCommandObject() {
+        Parser parser = new Parser();
+        TopicManager topics = new TopicManager();
+        assertTrue(new RescanCommand().equals(parser.parse("rescan", topics)));
+        assertTrue(new InvalidCommand().equals(parser.parse("rescan all", topics)));
+    }
+
+    @Test
+    void parse_find_expectFindCommandObject() {
+        Parser parser = new Parser();
+        TopicManager topics = new TopicManager();
+        assertTrue(new FindCommand("quick").equals(parser.parse("find n/quick", topics)));
+        assertTrue(new InvalidCommand().equals(parser.parse("find quick", topics)));
+        assertTrue(new InvalidCommand().equals(parser.parse("find n/", topics)));
+        assertTrue(new InvalidCommand().equals(parser.parse("find", topics)));
+    }
+
+    @Test
+    void parse_search_expectSearchCommandObject() {
+        Parser parser = new Parser();
+        TopicManager topics = new TopicManager();
+        assertTrue(new SearchCommand("heap OR \"priority queue\"")
+                .equals(parser.parse("search q/heap OR \"priority queue\"", topics)));
+        assertTrue(new InvalidCommand().equals(parser.parse("search heap", topics)));
+        assertTrue(new InvalidCommand().equals(parser.parse("search q/ ", topics)));
+        assertTrue(new InvalidCommand().equals(parser.parse("search", topics)));
+    }
+
+    @Test
+    void parse_filterImportanceRangeAndLimit_expectFilterCommandObject() {
+        Parser parser = new Parser();
+        TopicManager topics = new TopicManager();
+        assertTrue(new FilterCommand("importance", null, 8, 10, Integer.MAX_VALUE)
+                .equals(parser.parse("filter k/importance i/8-10", topics)));
+        assertTrue(new FilterCommand("importance", "GRAPH_TRAVERSAL", 1, 10, 20)
+                .equals(parser.parse("filter k/importance t/GRAPH_TRAVERSAL top/20", topics)));
+        assertTrue(new FilterCommand("importance", "SORTING", 7, 7, 3)
+                .equals(parser.parse("filter k/importance t/SORTING i/7 top/3", topics)));
+        assertFalse(new FilterCommand("importance", null)
+                .equals(parser.parse("filter k/importance i/8-10", topics)));
+    }
+
+    @Test
+    void parse_filterInvalidRangeOrLimit_expectInvalidCommandObjects() {
+        Parser parser = new Parser();
+        TopicManager topics = new TopicManager();
+        assertTrue(new InvalidImportanceCommand("10-8").equals(parser.parse("filter k/importance i/10-8", topics)));
+        assertTrue(new InvalidImportanceCommand("8-11").equals(parser.parse("filter k/importance i/8-11", topics)));
+        assertTrue(new InvalidImportanceCommand("8-").equals(parser.parse("filter k/importance i/8-", topics)));
+        assertTrue(new InvalidCommand().equals(parser.parse("filter k/importance top/0", topics)));
+        assertTrue(new InvalidCommand().equals(parser.parse("filter k/importance top/many", topics)));
+        assertTrue(new InvalidCommand().equals(parser.parse("filter k/topic top/5", topics)));
+    }
+    //@@author
 }
@@ -98,4 +98,26 @@ class AddNoteCommandTest {
         assertTrue(topicManager.getAllFilesAsFiles().contains(new Note("queue", "queue.txt", "LINKED_LIST", 10)));
         FileManager.deleteAll(new File(testDataPath));
     }
+
+    @Test
+    void execute_addNoteWithTopicsLoadedLazily_expectCS2040CFileInsideTopicManager() {
+        TopicManager topicManager = new TopicManager();
+
+        String testDataPath = "./testdata";
+        Ui ui = new Ui();
+        FileManager fileManager = new FileManager(testDataPath, topicManager.getTopicNames());
+        fileManager.initializeLazily();
+        topicManager.initialize(fileManager, fileManager.getNameIndex());
+        Buffer buffer = Buffer.getInstance();
+
+        ByteArrayOutputStream actualOutput = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(actualOutput));
+
+        new AddNoteCommand("queue", "LINKED_LIST", 10).execute(topicManager, ui, fileManager, buffer);
+
+        assertEquals("", actualOutput.toString());
+        assertTrue(topicManager.getAllFilesAsFiles().contains(new Note("queue", "queue.txt", "LINKED_LIST", 10)));
+        assertEquals("LINKED_LIST", fileManager.getNameIndex().get("queue"));
+        FileManager.deleteAll(new File(testDataPath));
+    }
 }
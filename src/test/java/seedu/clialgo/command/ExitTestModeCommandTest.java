@@ -15,6 +15,7 @@ import java.io.PrintStream;
 import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 public class ExitTestModeCommandTest {
     private static final String PATH = "./testdata";
@@ -69,6 +70,7 @@ public class ExitTestModeCommandTest {
      */
     @Test
     public void isRunSuccessfully_expectTrue() {
+        fileManager.persistTestMode();
         String input = "start-test-mode";
         Command command = parser.parse(input, topicManager);
         command.execute(topicManager, ui, fileManager, buffer);
@@ -113,4 +115,25 @@ public class ExitTestModeCommandTest {
         }
         assertEquals(expectedOutput, outputStream.toString());
     }
+
+    /**
+     * Check if exiting test mode kept in memory prints no message about deleting the test data.
+     */
+    @Test
+    public void isRunSuccessfully_inMemoryTestMode_expectTrue() {
+        Command command = parser.parse("start-test-mode", topicManager);
+        command.execute(topicManager, ui, fileManager, buffer);
+        command = parser.parse("exit-test-mode", topicManager);
+        command.execute(topicManager, ui, fileManager, buffer);
+
+        String lineSeparator = System.lineSeparator();
+        String expectedOutput = "======================================================" + lineSeparator
+                + "Starting test mode." + lineSeparator
+                + "======================================================" + lineSeparator
+                + "======================================================" + lineSeparator
+                + "Ending test mode." + lineSeparator
+                + "======================================================" + lineSeparator;
+        assertEquals(expectedOutput, outputStream.toString());
+        assertFalse(new File(PATH).exists());
+    }
 }
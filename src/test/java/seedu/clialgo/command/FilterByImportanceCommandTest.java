@@ -235,4 +235,190 @@ class FilterByImportanceCommandTest {
         assertEquals(expectedOutput, actualOutput.toString());
         FileManager.deleteAll(new File(testDataPath));
     }
+
+    @Test
+    void execute_importanceRangeAllTopics_expectPrintFilesInRangeByTopicThenName() {
+        TopicManager topicManager = new TopicManager();
+        topicManager.addCS2040CFile("queue", "LINKED_LIST", new Code("queue", "queue.cpp", "LINKED_LIST", 10));
+        topicManager.addCS2040CFile("stack", "LINKED_LIST", new Note("stack", "stack.txt", "LINKED_LIST", 7));
+        topicManager.addCS2040CFile("heap", "BINARY_HEAP", new Note("heap", "heap.txt", "BINARY_HEAP", 7));
+        topicManager.addCS2040CFile("merge", "SORTING", new Code("merge", "merge.cpp", "SORTING", 7));
+        topicManager.addCS2040CFile("bubble", "SORTING", new Note("bubble", "bubble.txt", "SORTING", 5));
+        topicManager.addCS2040CFile("insertion", "SORTING", new Note("insertion", "insertion.txt", "SORTING", 7));
+        topicManager.addCS2040CFile("counting", "SORTING", new Note("counting", "counting.txt", "SORTING", 3));
+
+        String testDataPath = "./testdata";
+        Ui ui = new Ui();
+        FileManager fileManager = new FileManager(testDataPath, topicManager.getTopicNames());
+        fileManager.initialize();
+        Buffer buffer = Buffer.getInstance();
+
+        ByteArrayOutputStream actualOutput = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(actualOutput));
+
+        new FilterByImportanceCommand("importance", null, 5, 9, Integer.MAX_VALUE)
+                .execute(topicManager, ui, fileManager, buffer);
+
+        String os = System.getProperty("os.name");
+        String expectedOutput = "";
+
+        if (os.contains("Windows")) {
+            expectedOutput = "======================================================\r\n" +
+                    "Here are the filtered CS2040CFiles:\r\n" +
+                    "======================================================\r\n" +
+                    "1. [NOTE] insertion [7]\r\n" +
+                    "2. [CODE] merge [7]\r\n" +
+                    "3. [NOTE] stack [7]\r\n" +
+                    "4. [NOTE] heap [7]\r\n" +
+                    "5. [NOTE] bubble [5]\r\n" +
+                    "======================================================\r\n";
+        } else {
+            expectedOutput = "======================================================\n" +
+                    "Here are the filtered CS2040CFiles:\n" +
+                    "======================================================\n" +
+                    "1. [NOTE] insertion [7]\n" +
+                    "2. [CODE] merge [7]\n" +
+                    "3. [NOTE] stack [7]\n" +
+                    "4. [NOTE] heap [7]\n" +
+                    "5. [NOTE] bubble [5]\n" +
+                    "======================================================\n";
+        }
+
+        assertEquals(expectedOutput, actualOutput.toString());
+        FileManager.deleteAll(new File(testDataPath));
+    }
+
+    @Test
+    void execute_topKAllTopics_expectPrintMostImportantFilesUpToLimit() {
+        TopicManager topicManager = new TopicManager();
+        topicManager.addCS2040CFile("queue", "LINKED_LIST", new Code("queue", "queue.cpp", "LINKED_LIST", 10));
+        topicManager.addCS2040CFile("stack", "LINKED_LIST", new Note("stack", "stack.txt", "LINKED_LIST", 7));
+        topicManager.addCS2040CFile("heap", "BINARY_HEAP", new Note("heap", "heap.txt", "BINARY_HEAP", 7));
+        topicManager.addCS2040CFile("merge", "SORTING", new Code("merge", "merge.cpp", "SORTING", 7));
+        topicManager.addCS2040CFile("bubble", "SORTING", new Note("bubble", "bubble.txt", "SORTING", 5));
+        topicManager.addCS2040CFile("insertion", "SORTING", new Note("insertion", "insertion.txt", "SORTING", 7));
+        topicManager.addCS2040CFile("counting", "SORTING", new Note("counting", "counting.txt", "SORTING", 3));
+
+        String testDataPath = "./testdata";
+        Ui ui = new Ui();
+        FileManager fileManager = new FileManager(testDataPath, topicManager.getTopicNames());
+        fileManager.initialize();
+        Buffer buffer = Buffer.getInstance();
+
+        ByteArrayOutputStream actualOutput = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(actualOutput));
+
+        new FilterByImportanceCommand("importance", null, 1, 10, 3).execute(topicManager, ui, fileManager, buffer);
+
+        String os = System.getProperty("os.name");
+        String expectedOutput = "";
+
+        if (os.contains("Windows")) {
+            expectedOutput = "======================================================\r\n" +
+                    "Here are the filtered CS2040CFiles:\r\n" +
+                    "======================================================\r\n" +
+                    "1. [CODE] queue [10]\r\n" +
+                    "2. [NOTE] insertion [7]\r\n" +
+                    "3. [CODE] merge [7]\r\n" +
+                    "======================================================\r\n";
+        } else {
+            expectedOutput = "======================================================\n" +
+                    "Here are the filtered CS2040CFiles:\n" +
+                    "======================================================\n" +
+                    "1. [CODE] queue [10]\n" +
+                    "2. [NOTE] insertion [7]\n" +
+                    "3. [CODE] merge [7]\n" +
+                    "======================================================\n";
+        }
+
+        assertEquals(expectedOutput, actualOutput.toString());
+        FileManager.deleteAll(new File(testDataPath));
+    }
+
+    @Test
+    void execute_importanceRangeAndTopKSingleTopic_expectPrintFilesOfTopicUpToLimit() {
+        TopicManager topicManager = new TopicManager();
+        topicManager.addCS2040CFile("queue", "LINKED_LIST", new Code("queue", "queue.cpp", "LINKED_LIST", 10));
+        topicManager.addCS2040CFile("stack", "LINKED_LIST", new Note("stack", "stack.txt", "LINKED_LIST", 7));
+        topicManager.addCS2040CFile("heap", "BINARY_HEAP", new Note("heap", "heap.txt", "BINARY_HEAP", 7));
+        topicManager.addCS2040CFile("merge", "SORTING", new Code("merge", "merge.cpp", "SORTING", 7));
+        topicManager.addCS2040CFile("bubble", "SORTING", new Note("bubble", "bubble.txt", "SORTING", 5));
+        topicManager.addCS2040CFile("insertion", "SORTING", new Note("insertion", "insertion.txt", "SORTING", 7));
+        topicManager.addCS2040CFile("counting", "SORTING", new Note("counting", "counting.txt", "SORTING", 3));
+
+        String testDataPath = "./testdata";
+        Ui ui = new Ui();
+        FileManager fileManager = new FileManager(testDataPath, topicManager.getTopicNames());
+        fileManager.initialize();
+        Buffer buffer = Buffer.getInstance();
+
+        ByteArrayOutputStream actualOutput = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(actualOutput));
+
+        new FilterByImportanceCommand("importance", "SORTING", 4, 10, 2).execute(topicManager, ui, fileManager, buffer);
+
+        String os = System.getProperty("os.name");
+        String expectedOutput = "";
+
+        if (os.contains("Windows")) {
+            expectedOutput = "======================================================\r\n" +
+                    "Here are the filtered CS2040CFiles:\r\n" +
+                    "======================================================\r\n" +
+                    "[SORTING]\r\n" +
+                    "1. [NOTE] insertion [7]\r\n" +
+                    "2. [CODE] merge [7]\r\n" +
+                    "======================================================\r\n";
+        } else {
+            expectedOutput = "======================================================\n" +
+                    "Here are the filtered CS2040CFiles:\n" +
+                    "======================================================\n" +
+                    "[SORTING]\n" +
+                    "1. [NOTE] insertion [7]\n" +
+                    "2. [CODE] merge [7]\n" +
+                    "======================================================\n";
+        }
+
+        assertEquals(expectedOutput, actualOutput.toString());
+        FileManager.deleteAll(new File(testDataPath));
+    }
+
+    @Test
+    void execute_importanceRangeWithoutFiles_expectPrintNoMatchingImportance() {
+        TopicManager topicManager = new TopicManager();
+        topicManager.addCS2040CFile("queue", "LINKED_LIST", new Code("queue", "queue.cpp", "LINKED_LIST", 10));
+        topicManager.addCS2040CFile("stack", "LINKED_LIST", new Note("stack", "stack.txt", "LINKED_LIST", 7));
+        topicManager.addCS2040CFile("heap", "BINARY_HEAP", new Note("heap", "heap.txt", "BINARY_HEAP", 7));
+        topicManager.addCS2040CFile("merge", "SORTING", new Code("merge", "merge.cpp", "SORTING", 7));
+        topicManager.addCS2040CFile("bubble", "SORTING", new Note("bubble", "bubble.txt", "SORTING", 5));
+        topicManager.addCS2040CFile("insertion", "SORTING", new Note("insertion", "insertion.txt", "SORTING", 7));
+        topicManager.addCS2040CFile("counting", "SORTING", new Note("counting", "counting.txt", "SORTING", 3));
+
+        String testDataPath = "./testdata";
+        Ui ui = new Ui();
+        FileManager fileManager = new FileManager(testDataPath, topicManager.getTopicNames());
+        fileManager.initialize();
+        Buffer buffer = Buffer.getInstance();
+
+        ByteArrayOutputStream actualOutput = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(actualOutput));
+
+        new FilterByImportanceCommand("importance", "LINKED_LIST", 1, 6, Integer.MAX_VALUE)
+                .execute(topicManager, ui, fileManager, buffer);
+
+        String os = System.getProperty("os.name");
+        String expectedOutput = "";
+
+        if (os.contains("Windows")) {
+            expectedOutput = "======================================================\r\n" +
+                    "There are no files with an importance from 1 to 6!\r\n" +
+                    "======================================================\r\n";
+        } else {
+            expectedOutput = "======================================================\n" +
+                    "There are no files with an importance from 1 to 6!\n" +
+                    "======================================================\n";
+        }
+
+        assertEquals(expectedOutput, actualOutput.toString());
+        FileManager.deleteAll(new File(testDataPath));
+    }
 }
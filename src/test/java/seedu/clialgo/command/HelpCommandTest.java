@@ -35,10 +35,16 @@ class HelpCommandTest {
                     "\r\n" +
                     "[add]: add CS2040CFile\r\n" +
                     "[remove]: remove CS2040CFile\r\n" +
+                    "[update]: change the importance of a CS2040CFile\r\n" +
+                    "[move]: tag a CS2040CFile to another topic\r\n" +
                     "[list]: displays all CS2040CFiles\r\n" +
+                    "[find]: finds CS2040CFiles by the start of their name\r\n" +
+                    "[search]: finds CS2040CFiles by the contents of their .txt/.cpp file\r\n" +
                     "[filter]: filters CS2040CFiles by topic\r\n" +
                     "[topo]: displays all CS2040CFiles before the selected topic\r\n" +
                     "[export]: places CS2040CFiles sorted by filter/topo in a file\r\n" +
+                    "[status]: shows what the background maintenance has found\r\n" +
+                    "[rescan]: checks which .txt/.cpp files have changed\r\n" +
                     "[exit]: close the application\r\n" +
                     "\r\n" +
                     "For more help on a specific command, type `help c/COMMAND_TYPE`.\r\n" +
@@ -49,10 +55,16 @@ class HelpCommandTest {
                     "\n" +
                     "[add]: add CS2040CFile\n" +
                     "[remove]: remove CS2040CFile\n" +
+                    "[update]: change the importance of a CS2040CFile\n" +
+                    "[move]: tag a CS2040CFile to another topic\n" +
                     "[list]: displays all CS2040CFiles\n" +
+                    "[find]: finds CS2040CFiles by the start of their name\n" +
+                    "[search]: finds CS2040CFiles by the contents of their .txt/.cpp file\n" +
                     "[filter]: filters CS2040CFiles by topic\n" +
                     "[topo]: displays all CS2040CFiles before the selected topic\n" +
                     "[export]: places CS2040CFiles sorted by filter/topo in a file\n" +
+                    "[status]: shows what the background maintenance has found\n" +
+                    "[rescan]: checks which .txt/.cpp files have changed\n" +
                     "[exit]: close the application\n" +
                     "\n" +
                     "For more help on a specific command, type `help c/COMMAND_TYPE`.\n" +
@@ -173,9 +185,12 @@ class HelpCommandTest {
                     "Filter by topic/importance and topic name using:\r\n" +
                     "\r\n" +
                     "    `filter k/KEYWORD [t/TOPIC]`\r\n" +
+                    "    `filter k/importance [t/TOPIC] [i/MIN-MAX] [top/COUNT]`\r\n" +
                     "\r\n" +
                     "KEYWORD: String keyword has to be either `topic` or `importance`.\r\n" +
                     "TOPIC: String topic chosen from list below (optional field).\r\n" +
+                    "MIN-MAX: Importance range from 1 to 10, such as `8-10` or `8` (optional field).\r\n" +
+                    "COUNT: Positive integer number of most important files shown (optional field).\r\n" +
                     "\r\n" +
                     "Valid TOPIC's are 'SORTING', 'LINKED_LIST', 'GRAPH_STRUCTURES',\r\n" +
                     "'BINARY_HEAP', 'HASH_TABLE', 'GRAPH_TRAVERSAL', 'BINARY_SEARCH_TREE',\r\n" +
@@ -186,9 +201,12 @@ class HelpCommandTest {
                     "Filter by topic/importance and topic name using:\n" +
                     "\n" +
                     "    `filter k/KEYWORD [t/TOPIC]`\n" +
+                    "    `filter k/importance [t/TOPIC] [i/MIN-MAX] [top/COUNT]`\n" +
                     "\n" +
                     "KEYWORD: String keyword has to be either `topic` or `importance`.\n" +
                     "TOPIC: String topic chosen from list below (optional field).\n" +
+                    "MIN-MAX: Importance range from 1 to 10, such as `8-10` or `8` (optional field).\n" +
+                    "COUNT: Positive integer number of most important files shown (optional field).\n" +
                     "\n" +
                     "Valid TOPIC's are 'SORTING', 'LINKED_LIST', 'GRAPH_STRUCTURES',\n" +
                     "'BINARY_HEAP', 'HASH_TABLE', 'GRAPH_TRAVERSAL', 'BINARY_SEARCH_TREE',\n" +
@@ -0,0 +1,57 @@
+package seedu.clialgo.command;
+
+import org.junit.jupiter.api.Test;
+import seedu.clialgo.Buffer;
+import seedu.clialgo.Ui;
+import seedu.clialgo.logic.TopicManager;
+import seedu.clialgo.storage.FileManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MoveCommandTest {
+    @Test
+    void equals_checkEqualMoveCommand_expectTrue() {
+        assertTrue(new MoveCommand("dummyName", "SORTING").equals(new MoveCommand("dummyName", "SORTING")));
+    }
+
+    @Test
+    void equals_checkUnequalMoveCommand_expectFalse() {
+        assertFalse(new MoveCommand("dummyName", "SORTING").equals(new MoveCommand("dummyName", "HASH_TABLE")));
+        assertFalse(new MoveCommand("dummyName", "SORTING").equals(new UpdateCommand("dummyName", 3)));
+    }
+
+    @Test
+    void execute_storedName_expectMovedToNewTopic() throws IOException {
+        String testDataPath = "./testdata";
+        new File("./queue.txt").createNewFile();
+        TopicManager topicManager = new TopicManager();
+        Ui ui = new Ui();
+        FileManager fileManager = new FileManager(testDataPath, topicManager.getTopicNames());
+        Buffer buffer = Buffer.getInstance();
+        new TestModeCommand().execute(topicManager, ui, fileManager, buffer);
+
+        ByteArrayOutputStream actualOutput = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(actualOutput));
+        fileManager.initialize();
+        new AddCommand("queue", "LINKED_LIST").execute(topicManager, ui, fileManager, buffer);
+        actualOutput.reset();
+
+        new MoveCommand("queue", "HASH_TABLE").execute(topicManager, ui, fileManager, buffer);
+
+        String expectedOutput = "======================================================" + System.lineSeparator()
+                + "Successfully moved queue into HASH_TABLE." + System.lineSeparator()
+                + "======================================================" + System.lineSeparator();
+        assertEquals(expectedOutput, actualOutput.toString());
+        assertEquals("HASH_TABLE", topicManager.getTopicOfCS2040CFile("queue"));
+        assertFalse(topicManager.getOneTopic("LINKED_LIST").isInsideTopic("queue"));
+        assertTrue(topicManager.getOneTopic("HASH_TABLE").isInsideTopic("queue"));
+        FileManager.deleteAll(new File(testDataPath));
+    }
+}
@@ -70,5 +70,22 @@ public class NameNotFoundCommandTest {
         }
         assertEquals(expectedOutput, outputStream.toString());
     }
-}
 
+    @Test
+    void execute_nameWithTypo_expectSimilarNamesSuggested() {
+        topicManager.addCS2040CFile("Quick Sort", "SORTING", new Note("Quick Sort", "path", "SORTING"));
+        topicManager.addCS2040CFile("merge sort", "SORTING", new Note("merge sort", "path", "SORTING"));
+        new NameNotFoundCommand("quik sorr").execute(topicManager, ui, fileManager, buffer);
+
+        String expectedOutput = "======================================================\n" +
+                "Unsuccessful! A CS2040CFile of that name does not exist.\n" +
+                "Only CS2040CFiles in your list can be removed.\n" +
+                "Type 'list' to see CS2040CFiles you can remove.\n" +
+                "======================================================\n" +
+                "======================================================\n" +
+                "Did you mean:\n" +
+                "remove n/Quick Sort\n" +
+                "======================================================\n";
+        assertEquals(expectedOutput, outputStream.toString().replace("\r\n", "\n"));
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.clialgo.command;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.clialgo.Buffer;
+import seedu.clialgo.Ui;
+import seedu.clialgo.file.Note;
+import seedu.clialgo.logic.TopicManager;
+import seedu.clialgo.storage.FileManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RescanCommandTest {
+    private static final String PATH = "./testdata";
+    private static final String HEAP_PATH = PATH + "/heap.txt";
+    private static final String SORT_PATH = PATH + "/sort.txt";
+    private static final ArrayList<String> TOPICS = new ArrayList<>(Arrays.asList("BINARY_HEAP", "SORTING"));
+
+    private void deleteAll() {
+        File[] files = new File(PATH).listFiles();
+        if (files != null) {
+            for (File f : files) {
+                f.delete();
+            }
+        }
+        new File(PATH).delete();
+    }
+
+    /**
+     * Writes <code>contents</code> to the file at <code>path</code>, with a last modified time far enough in the
+     * past for its manifest entry not to be racy.
+     */
+    private static void writeFile(String path, String contents, long secondsAgo) throws IOException {
+        File file = new File(path);
+        Files.write(file.toPath(), contents.getBytes(StandardCharsets.UTF_8));
+        assertTrue(file.setLastModified((System.currentTimeMillis() / 1000 - secondsAgo) * 1000));
+    }
+
+    /**
+     * Runs before each test, storing one CS2040CFile in each of two <code>Topics</code> and closing CLIAlgo.
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        deleteAll();
+        new File(PATH).mkdirs();
+        writeFile(HEAP_PATH, "A binary heap is a complete binary tree.", 60);
+        writeFile(SORT_PATH, "Merge sort is stable.", 60);
+        FileManager fileManager = new FileManager(PATH, TOPICS);
+        fileManager.initializeLazily();
+        fileManager.loadWorkspaceManifest();
+        fileManager.addEntry("heap", new Note("heap", HEAP_PATH, "BINARY_HEAP"));
+        fileManager.indexContents("heap", HEAP_PATH);
+        fileManager.addEntry("sort", new Note("sort", SORT_PATH, "SORTING"));
+        fileManager.indexContents("sort", SORT_PATH);
+        fileManager.saveWorkspaceManifest();
+        fileManager.close();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        deleteAll();
+    }
+
+    /**
+     * Check if rescanning only loads the <code>Topic</code> of the file which changed.
+     */
+    @Test
+    public void execute_oneFileChanged_expectOnlyItsTopicLoaded() throws IOException {
+        FileManager fileManager = new FileManager(PATH, TOPICS);
+        fileManager.initializeLazily();
+        TopicManager topicManager = new TopicManager();
+        topicManager.initialize(fileManager, fileManager.getNameIndex());
+        fileManager.loadWorkspaceManifest();
+        writeFile(HEAP_PATH, "A binomial heap is a forest of trees.", 30);
+
+        new RescanCommand().execute(topicManager, new Ui(), fileManager, Buffer.getInstance());
+        assertEquals(new ArrayList<>(Arrays.asList("BINARY_HEAP")),
+                new ArrayList<>(fileManager.getLoadTimes().keySet()));
+        assertEquals(new File(HEAP_PATH).length(), topicManager.getCS2040CFile("heap").getFileSize());
+        assertEquals(1, fileManager.getContentIndex().search("binomial").size());
+        fileManager.close();
+    }
+
+    /**
+     * Check if rescanning marks the CS2040CFile of a deleted file as dangling.
+     */
+    @Test
+    public void execute_fileDeleted_expectDangling() {
+        FileManager fileManager = new FileManager(PATH, TOPICS);
+        fileManager.initializeLazily();
+        TopicManager topicManager = new TopicManager();
+        topicManager.initialize(fileManager, fileManager.getNameIndex());
+        fileManager.loadWorkspaceManifest();
+        assertTrue(new File(SORT_PATH).delete());
+
+        new RescanCommand().execute(topicManager, new Ui(), fileManager, Buffer.getInstance());
+        assertEquals(new ArrayList<>(Arrays.asList("SORTING")), new ArrayList<>(fileManager.getLoadTimes().keySet()));
+        assertTrue(topicManager.getCS2040CFile("sort").isDangling());
+        assertFalse(topicManager.getCS2040CFile("heap").isDangling());
+        fileManager.close();
+    }
+}
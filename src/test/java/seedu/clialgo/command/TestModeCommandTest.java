@@ -0,0 +1,73 @@
+package seedu.clialgo.command;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.clialgo.Buffer;
+import seedu.clialgo.Parser;
+import seedu.clialgo.logic.TopicManager;
+import seedu.clialgo.Ui;
+import seedu.clialgo.file.Note;
+import seedu.clialgo.storage.FileManager;
+import seedu.clialgo.storage.StorageBackend;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestModeCommandTest {
+    private static final String PATH = "./testdata";
+    private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    private Ui ui;
+    private TopicManager topicManager;
+    private Parser parser;
+    private FileManager fileManager;
+    private Buffer buffer;
+
+    /**
+     * Runs before each test, initializes  <code>Ui</code>, <code>TopicManager</code>, <code>Parser</code> and
+     * <code>FileManager</code>.
+     */
+    @BeforeEach
+    public void setUp() {
+        System.setOut(new PrintStream(outputStream));
+        parser = new Parser();
+        topicManager = new TopicManager();
+        ui = new Ui();
+        fileManager = new FileManager(PATH, new ArrayList<>(Arrays.asList("SORTING")), StorageBackend.MEMORY);
+        fileManager.initialize();
+        buffer = Buffer.getInstance();
+        outputStream.reset();
+    }
+
+    /**
+     * Check if starting test mode while it is already on prints an error and keeps the data from outside test mode.
+     */
+    @Test
+    public void execute_testModeStartedTwice_expectErrorAndDataOutsideTestModeKept() {
+        Note note = new Note("a", "a.txt", "SORTING");
+        topicManager.addCS2040CFile("a", "SORTING", note);
+        fileManager.addEntry("a", note);
+
+        parser.parse("start-test-mode", topicManager).execute(topicManager, ui, fileManager, buffer);
+        parser.parse("start-test-mode", topicManager).execute(topicManager, ui, fileManager, buffer);
+        parser.parse("exit-test-mode", topicManager).execute(topicManager, ui, fileManager, buffer);
+
+        String lineSeparator = System.lineSeparator();
+        String expectedOutput = "======================================================" + lineSeparator
+                + "Starting test mode." + lineSeparator
+                + "======================================================" + lineSeparator
+                + "======================================================" + lineSeparator
+                + "Unsuccessful, test mode has already been started." + lineSeparator
+                + "======================================================" + lineSeparator
+                + "======================================================" + lineSeparator
+                + "Ending test mode." + lineSeparator
+                + "======================================================" + lineSeparator;
+        assertEquals(expectedOutput, outputStream.toString());
+        assertTrue(topicManager.isRepeatedCS2040CFile("a"));
+        assertTrue(fileManager.decodeAll().get("SORTING").isInsideTopic("a"));
+    }
+}
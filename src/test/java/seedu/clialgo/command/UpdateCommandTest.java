@@ -0,0 +1,79 @@
+package seedu.clialgo.command;
+
+import org.junit.jupiter.api.Test;
+import seedu.clialgo.Buffer;
+import seedu.clialgo.Ui;
+import seedu.clialgo.logic.TopicManager;
+import seedu.clialgo.storage.FileManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UpdateCommandTest {
+    @Test
+    void equals_checkEqualUpdateCommand_expectTrue() {
+        assertTrue(new UpdateCommand("dummyName", 3).equals(new UpdateCommand("dummyName", 3)));
+    }
+
+    @Test
+    void equals_checkUnequalUpdateCommand_expectFalse() {
+        assertFalse(new UpdateCommand("dummyName", 3).equals(new UpdateCommand("dummyName", 4)));
+        assertFalse(new UpdateCommand("dummyName", 3).equals(new RemoveCommand("dummyName")));
+    }
+
+    @Test
+    void execute_storedName_expectImportanceChanged() throws IOException {
+        String testDataPath = "./testdata";
+        new File("./queue.txt").createNewFile();
+        TopicManager topicManager = new TopicManager();
+        Ui ui = new Ui();
+        FileManager fileManager = new FileManager(testDataPath, topicManager.getTopicNames());
+        Buffer buffer = Buffer.getInstance();
+        new TestModeCommand().execute(topicManager, ui, fileManager, buffer);
+
+        ByteArrayOutputStream actualOutput = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(actualOutput));
+        fileManager.initialize();
+        new AddCommand("queue", "LINKED_LIST", 2).execute(topicManager, ui, fileManager, buffer);
+        actualOutput.reset();
+
+        new UpdateCommand("queue", 7).execute(topicManager, ui, fileManager, buffer);
+
+        String expectedOutput = "======================================================" + System.lineSeparator()
+                + "Successfully changed the importance of queue to 7." + System.lineSeparator()
+                + "======================================================" + System.lineSeparator();
+        assertEquals(expectedOutput, actualOutput.toString());
+        assertEquals(7, topicManager.getCS2040CFile("queue").getImportance());
+        FileManager.deleteAll(new File(testDataPath));
+    }
+
+    @Test
+    void execute_missingName_expectNameNotFoundMessage() {
+        String testDataPath = "./testdata";
+        TopicManager topicManager = new TopicManager();
+        Ui ui = new Ui();
+        FileManager fileManager = new FileManager(testDataPath, topicManager.getTopicNames());
+        Buffer buffer = Buffer.getInstance();
+        new TestModeCommand().execute(topicManager, ui, fileManager, buffer);
+
+        ByteArrayOutputStream actualOutput = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(actualOutput));
+        fileManager.initialize();
+        actualOutput.reset();
+
+        new UpdateCommand("stack", 7).execute(topicManager, ui, fileManager, buffer);
+
+        String expectedOutput = "======================================================" + System.lineSeparator()
+                + "Unsuccessful! A CS2040CFile of that name does not exist." + System.lineSeparator()
+                + "Type 'list' to see the CS2040CFiles you can change." + System.lineSeparator()
+                + "======================================================" + System.lineSeparator();
+        assertEquals(expectedOutput, actualOutput.toString());
+        FileManager.deleteAll(new File(testDataPath));
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.clialgo.file;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.clialgo.FileType;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReferencedFileVerifierTest {
+    private static final File FOLDER = new File("./verifiertest");
+
+    private void deleteAll() {
+        File[] files = FOLDER.listFiles();
+        if (files != null) {
+            for (File f : files) {
+                f.delete();
+            }
+        }
+        FOLDER.delete();
+    }
+
+    /**
+     * Moves the last modified time of the folder far enough into the past for its listing to be cached.
+     */
+    private void ageFolder() {
+        assertTrue(FOLDER.setLastModified(System.currentTimeMillis() - 10 * ReferencedFileVerifier.RACY_MILLIS));
+    }
+
+    @BeforeEach
+    public void setUp() {
+        deleteAll();
+        FOLDER.mkdirs();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        deleteAll();
+    }
+
+    @Test
+    void getFileType_txtAndCppFiles_expectCorrectFileType() throws IOException {
+        new File(FOLDER, "queue.txt").createNewFile();
+        new File(FOLDER, "stack.cpp").createNewFile();
+        ReferencedFileVerifier verifier = new ReferencedFileVerifier();
+        assertEquals(FileType.TXT, verifier.getFileType(FOLDER.getPath(), "queue"));
+        assertEquals(FileType.CPP, verifier.getFileType(FOLDER.getPath(), "stack"));
+        assertEquals(FileType.DOESNOTEXIST, verifier.getFileType(FOLDER.getPath(), "heap"));
+    }
+
+    @Test
+    void exists_unchangedFolder_expectListedOnce() throws IOException {
+        new File(FOLDER, "queue.txt").createNewFile();
+        ageFolder();
+        ReferencedFileVerifier verifier = new ReferencedFileVerifier();
+        assertTrue(verifier.exists(FOLDER.getPath() + "/queue.txt"));
+        assertFalse(verifier.exists(FOLDER.getPath() + "/stack.cpp"));
+        assertEquals(1, verifier.getListingCount());
+
+        new File(FOLDER, "stack.cpp").createNewFile();
+        assertTrue(verifier.exists(FOLDER.getPath() + "/stack.cpp"));
+        assertEquals(2, verifier.getListingCount());
+    }
+
+    @Test
+    void exists_racyListing_expectListedAgain() throws IOException {
+        ReferencedFileVerifier verifier = new ReferencedFileVerifier();
+        assertFalse(verifier.exists(FOLDER.getPath() + "/queue.txt"));
+        long lastModified = FOLDER.lastModified();
+        new File(FOLDER, "queue.txt").createNewFile();
+        // Hides the change from the last modified time, as a file system with a coarse clock would
+        FOLDER.setLastModified(lastModified);
+        assertTrue(verifier.exists(FOLDER.getPath() + "/queue.txt"));
+    }
+
+    @Test
+    void verify_missingFiles_expectMarkedDanglingWithOneListing() throws IOException {
+        new File(FOLDER, "queue.txt").createNewFile();
+        ageFolder();
+        Note queue = new Note("queue", FOLDER.getPath() + "/queue.txt", "LINKED_LIST");
+        Note heap = new Note("heap", FOLDER.getPath() + "/heap.txt", "BINARY_HEAP");
+        Code stack = new Code("stack", FOLDER.getPath() + "/stack.cpp", "LINKED_LIST");
+        stack.setDangling(false);
+        queue.setDangling(true);
+
+        ReferencedFileVerifier verifier = new ReferencedFileVerifier();
+        List<CS2040CFile> danglingFiles = verifier.verify(Arrays.asList(queue, heap, stack));
+        assertEquals(Arrays.asList(heap, stack), danglingFiles);
+        assertFalse(queue.isDangling());
+        assertTrue(heap.isDangling());
+        assertTrue(stack.isDangling());
+        assertTrue(stack.copy().isDangling());
+        assertEquals(1, verifier.getListingCount());
+    }
+}
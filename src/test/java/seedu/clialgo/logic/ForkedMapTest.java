@@ -0,0 +1,63 @@
+package seedu.clialgo.logic;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ForkedMapTest {
+    private HashMap<String, String> base;
+    private ForkedMap<String, String> forkedMap;
+
+    @BeforeEach
+    public void setUp() {
+        base = new HashMap<>(Map.of("quick sort", "SORTING", "dfs", "GRAPH_TRAVERSAL"));
+        forkedMap = new ForkedMap<>(base);
+    }
+
+    @Test
+    void get_unchangedFork_expectSameAsBase() {
+        assertEquals(base, forkedMap);
+        assertEquals("SORTING", forkedMap.get("quick sort"));
+        assertEquals(2, forkedMap.size());
+    }
+
+    @Test
+    void putAndRemove_changedFork_expectBaseUnchanged() {
+        assertNull(forkedMap.put("heap", "BINARY_HEAP"));
+        assertEquals("SORTING", forkedMap.put("quick sort", "LINKED_LIST"));
+        assertEquals("GRAPH_TRAVERSAL", forkedMap.remove("dfs"));
+        assertNull(forkedMap.remove("dfs"));
+
+        assertEquals(Map.of("quick sort", "LINKED_LIST", "heap", "BINARY_HEAP"), forkedMap);
+        assertEquals(2, forkedMap.size());
+        assertFalse(forkedMap.containsKey("dfs"));
+        assertEquals(Map.of("quick sort", "SORTING", "dfs", "GRAPH_TRAVERSAL"), base);
+    }
+
+    @Test
+    void clear_changedFork_expectEmptyAndBaseUnchanged() {
+        forkedMap.put("heap", "BINARY_HEAP");
+        forkedMap.clear();
+        assertTrue(forkedMap.isEmpty());
+        assertEquals(2, base.size());
+
+        forkedMap.put("dfs", "GRAPH_TRAVERSAL");
+        assertEquals(Map.of("dfs", "GRAPH_TRAVERSAL"), forkedMap);
+    }
+
+    @Test
+    void removeIf_iteratedValues_expectOnlyForkChanged() {
+        forkedMap.put("heap", "BINARY_HEAP");
+        forkedMap.values().removeIf(topicName -> !topicName.equals("SORTING"));
+
+        assertEquals(Map.of("quick sort", "SORTING"), forkedMap);
+        assertEquals(2, base.size());
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.clialgo.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NameBkTreeTest {
+    @Test
+    void getDistance_variousStrings_expectLevenshteinDistance() {
+        assertEquals(0, NameBkTree.getDistance("queue", "queue"));
+        assertEquals(3, NameBkTree.getDistance("kitten", "sitting"));
+        assertEquals(5, NameBkTree.getDistance("", "queue"));
+        assertEquals(1, NameBkTree.getDistance("quick sort", "quick sor"));
+    }
+
+    @Test
+    void getValuesWithinDistance_namesRemovedAndAddedAgain_expectClosestLiveNamesFirst() {
+        NameBkTree tree = new NameBkTree();
+        for (String name : List.of("queue", "quick sort", "quick sorts", "merge sort", "heap")) {
+            tree.put(name, name.toUpperCase());
+        }
+        assertEquals(List.of("QUICK SORT", "QUICK SORTS"), tree.getValuesWithinDistance("quick sort", 2, 3));
+        assertEquals(List.of("QUICK SORT"), tree.getValuesWithinDistance("quick sort", 2, 1));
+        assertTrue(tree.getValuesWithinDistance("stack", 2, 3).isEmpty());
+
+        assertTrue(tree.remove("quick sort"));
+        assertFalse(tree.remove("quick sort"));
+        assertEquals(List.of("QUICK SORTS"), tree.getValuesWithinDistance("quick sort", 2, 3));
+        tree.put("quick sort", "Quick Sort");
+        assertEquals(List.of("Quick Sort", "QUICK SORTS"), tree.getValuesWithinDistance("quick sort", 2, 3));
+        assertEquals(5, tree.size());
+    }
+
+    @Test
+    void getValuesWithinDistance_randomNamesAfterRebuilds_expectSameAsComparingEveryName() {
+        Random random = new Random(2040);
+        NameBkTree tree = new NameBkTree();
+        TreeMap<String, String> names = new TreeMap<>();
+        for (int i = 0; i < 3000; i += 1) {
+            String name = createRandomName(random);
+            if (random.nextInt(2) == 0) {
+                assertEquals(names.remove(name) != null, tree.remove(name));
+            } else {
+                names.put(name, name);
+                tree.put(name, name);
+            }
+            assertEquals(names.size(), tree.size());
+        }
+        for (int i = 0; i < 50; i += 1) {
+            String query = createRandomName(random);
+            ArrayList<String> expected = new ArrayList<>();
+            for (String name : names.keySet()) {
+                if (NameBkTree.getDistance(query, name) <= 2) {
+                    expected.add(name);
+                }
+            }
+            expected.sort(Comparator.comparingInt((String name) -> NameBkTree.getDistance(query, name))
+                    .thenComparing(Comparator.naturalOrder()));
+            assertEquals(expected, tree.getValuesWithinDistance(query, 2, Integer.MAX_VALUE));
+        }
+    }
+
+    private static String createRandomName(Random random) {
+        StringBuilder name = new StringBuilder();
+        int length = 1 + random.nextInt(6);
+        for (int j = 0; j < length; j += 1) {
+            name.append((char) ('a' + random.nextInt(4)));
+        }
+        return name.toString();
+    }
+}
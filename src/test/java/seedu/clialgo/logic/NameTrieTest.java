@@ -0,0 +1,88 @@
+package seedu.clialgo.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NameTrieTest {
+    private static NameTrie createTrie(String... keys) {
+        NameTrie trie = new NameTrie();
+        for (String key : keys) {
+            trie.put(key, key.toUpperCase());
+        }
+        return trie;
+    }
+
+    @Test
+    void getKeysWithPrefix_prefixEndingInsideEdge_expectSortedMatchingKeys() {
+        NameTrie trie = createTrie("quick sort", "quickest path", "queue", "merge sort", "quick");
+        assertEquals(List.of("quick", "quick sort", "quickest path"), trie.getKeysWithPrefix("quic"));
+        assertEquals(List.of("queue", "quick", "quick sort", "quickest path"), trie.getKeysWithPrefix("qu"));
+        assertEquals(List.of("merge sort", "queue", "quick", "quick sort", "quickest path"),
+                trie.getKeysWithPrefix(""));
+        assertTrue(trie.getKeysWithPrefix("quicker").isEmpty());
+        assertTrue(trie.getKeysWithPrefix("bubble").isEmpty());
+        assertEquals(List.of("QUICK", "QUICK SORT"), trie.getValuesWithPrefix("quick", 2));
+    }
+
+    @Test
+    void remove_keysSharingPrefixes_expectOtherKeysKept() {
+        NameTrie trie = createTrie("quick sort", "quickest path", "quick");
+        assertTrue(trie.remove("quick"));
+        assertFalse(trie.remove("quick"));
+        assertFalse(trie.remove("quic"));
+        assertNull(trie.get("quick"));
+        assertEquals("QUICK SORT", trie.get("quick sort"));
+        assertEquals(List.of("quick sort", "quickest path"), trie.getKeysWithPrefix("q"));
+
+        assertTrue(trie.remove("quick sort"));
+        assertEquals(List.of("quickest path"), trie.getKeysWithPrefix("quick"));
+        assertEquals(1, trie.size());
+        trie.put("quick", "Quick");
+        assertEquals(List.of("Quick", "QUICKEST PATH"), trie.getValuesWithPrefix("qu", Integer.MAX_VALUE));
+    }
+
+    @Test
+    void put_randomKeysAddedAndRemoved_expectSameAsTreeMap() {
+        Random random = new Random(2040);
+        NameTrie trie = new NameTrie();
+        TreeMap<String, String> expected = new TreeMap<>();
+        for (int i = 0; i < 5000; i += 1) {
+            StringBuilder key = new StringBuilder();
+            int length = random.nextInt(6);
+            for (int j = 0; j < length; j += 1) {
+                key.append((char) ('a' + random.nextInt(3)));
+            }
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key.toString()) != null, trie.remove(key.toString()));
+            } else {
+                expected.put(key.toString(), "v" + i);
+                trie.put(key.toString(), "v" + i);
+            }
+            assertEquals(expected.size(), trie.size());
+        }
+        for (String prefix : Arrays.asList("", "a", "ab", "cab", "bbbb")) {
+            ArrayList<String> expectedKeys = new ArrayList<>();
+            for (String key : expected.keySet()) {
+                if (key.startsWith(prefix)) {
+                    expectedKeys.add(key);
+                }
+            }
+            Collections.sort(expectedKeys);
+            assertEquals(expectedKeys, trie.getKeysWithPrefix(prefix));
+        }
+        for (String key : expected.keySet()) {
+            assertEquals(expected.get(key), trie.get(key));
+        }
+    }
+}
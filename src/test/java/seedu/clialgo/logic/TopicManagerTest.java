@@ -10,10 +10,14 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 import seedu.clialgo.file.CS2040CFile;
 import seedu.clialgo.file.Note;
+import seedu.clialgo.storage.FileManager;
 import seedu.clialgo.storage.FileManagerStub;
+import seedu.clialgo.storage.MemoryStorageEngine;
+import seedu.clialgo.storage.StorageBackend;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TopicManagerTest {
@@ -340,4 +344,218 @@ class TopicManagerTest {
             assertTrue(fileManagerStub.isFileNamePresent(file.getName()));
         }
     }
+
+    //@@author
+    @Test
+    void testModeFork_changesInTestMode_expectDataOutsideTestModeUnchanged() {
+        TopicManager topicManager = new TopicManager();
+        topicManager.addCS2040CFile("bubble sort notes", "SORTING", new Note("bubble sort notes", "dummy", "SORTING"));
+        Topic linkedList = topicManager.getOneTopic("LINKED_LIST");
+
+        topicManager.testModeFork();
+        assertTrue(topicManager.isRepeatedCS2040CFile("bubble sort notes"));
+        assertTrue(topicManager.removeCS2040CFile("bubble sort notes", "SORTING"));
+        topicManager.addCS2040CFile("linked list notes", "LINKED_LIST",
+                new Note("linked list notes", "dummy", "LINKED_LIST"));
+        assertFalse(topicManager.isRepeatedCS2040CFile("bubble sort notes"));
+        assertTrue(topicManager.getOneTopic("LINKED_LIST").isInsideTopic("linked list notes"));
+        topicManager.testModeEnd();
+
+        assertTrue(topicManager.isRepeatedCS2040CFile("bubble sort notes"));
+        assertTrue(topicManager.getOneTopic("SORTING").isInsideTopic("bubble sort notes"));
+        assertFalse(topicManager.isRepeatedCS2040CFile("linked list notes"));
+        assertTrue(linkedList.isEmpty());
+    }
+
+    @Test
+    void testModeFork_unchangedTopic_expectTopicShared() {
+        TopicManager topicManager = new TopicManager();
+        Topic sorting = topicManager.getOneTopic("SORTING");
+
+        topicManager.testModeFork();
+        assertTrue(sorting == topicManager.getOneTopic("SORTING"));
+        topicManager.addCS2040CFile("bubble sort notes", "SORTING", new Note("bubble sort notes", "dummy", "SORTING"));
+        assertFalse(sorting == topicManager.getOneTopic("SORTING"));
+        assertTrue(sorting.isEmpty());
+    }
+
+    @Test
+    void testModeFork_topicChangedWithForkedStorage_expectCopiedOnceAndShared() {
+        FileManager fileManager = new FileManager("./testdata", new ArrayList<>(Arrays.asList("SORTING")),
+                StorageBackend.MEMORY);
+        fileManager.initialize();
+        TopicManager topicManager = new TopicManager();
+        topicManager.initialize(fileManager, fileManager.getNameIndex());
+        Note mergeSort = new Note("merge sort", "dummy", "SORTING");
+        topicManager.addCS2040CFile("merge sort", "SORTING", mergeSort);
+        fileManager.addEntry("merge sort", mergeSort);
+        Topic sorting = topicManager.getOneTopic("SORTING");
+
+        fileManager.forkTestMode();
+        topicManager.testModeFork(fileManager.getNameIndex());
+        Note quickSort = new Note("quick sort", "dummy", "SORTING");
+        topicManager.addCS2040CFile("quick sort", "SORTING", quickSort);
+        fileManager.addEntry("quick sort", quickSort);
+        // The copy made by the forked storage is the one changed, so the Topic is not copied a second time
+        assertTrue(topicManager.getOneTopic("SORTING") == fileManager.loadTopic("SORTING"));
+        assertTrue(topicManager.getOneTopic("SORTING").isInsideTopic("quick sort"));
+        assertFalse(sorting.isInsideTopic("quick sort"));
+        fileManager.exitTestMode();
+        topicManager.testModeEnd();
+
+        assertTrue(sorting == topicManager.getOneTopic("SORTING"));
+        assertFalse(topicManager.isRepeatedCS2040CFile("quick sort"));
+        assertEquals(1, fileManager.getNameIndex().size());
+    }
+
+    @Test
+    void getCS2040CFileNamesWithPrefix_mixedCasePrefix_expectSortedMatchingNames() {
+        TopicManager topicManager = new TopicManager();
+        topicManager.addCS2040CFile("Quick Sort", "SORTING", new Note("Quick Sort", "dummy", "SORTING"));
+        topicManager.addCS2040CFile("quickest path", "SS_SHORTEST_PATH",
+                new Note("quickest path", "dummy", "SS_SHORTEST_PATH"));
+        topicManager.addCS2040CFile("merge sort", "SORTING", new Note("merge sort", "dummy", "SORTING"));
+
+        assertEquals(new ArrayList<>(Arrays.asList("quick sort", "quickest path")),
+                topicManager.getCS2040CFileNamesWithPrefix("QUICK"));
+        assertTrue(topicManager.getCS2040CFileNamesWithPrefix("bubble").isEmpty());
+    }
+
+    @Test
+    void replaceCS2040CFile_differentTopic_expectMovedAndIndexUpdated() {
+        TopicManager topicManager = new TopicManager();
+        topicManager.addCS2040CFile("Quick Sort", "SORTING", new Note("Quick Sort", "dummy", "SORTING", 3));
+        CS2040CFile moved = topicManager.getCS2040CFile("Quick Sort").copy();
+        moved.setTopic("LINKED_LIST");
+        moved.setImportance(9);
+
+        assertTrue(topicManager.replaceCS2040CFile("Quick Sort", "SORTING", moved));
+        assertFalse(topicManager.getOneTopic("SORTING").isInsideTopic("Quick Sort"));
+        assertEquals(9, topicManager.getCS2040CFile("Quick Sort").getImportance());
+        assertEquals("LINKED_LIST", topicManager.getTopicOfCS2040CFile("Quick Sort"));
+        assertNull(topicManager.getCS2040CFile("merge sort"));
+    }
+
+    @Test
+    void getCS2040CFilesByImportance_filesReplaced_expectDecreasingImportanceWithinLimit() {
+        TopicManager topicManager = new TopicManager();
+        topicManager.addCS2040CFile("merge sort", "SORTING", new Note("merge sort", "dummy", "SORTING", 5));
+        topicManager.addCS2040CFile("queue", "LINKED_LIST", new Note("queue", "dummy", "LINKED_LIST", 8));
+        topicManager.addCS2040CFile("quick sort", "SORTING", new Note("quick sort", "dummy", "SORTING", 8));
+        assertEquals(Arrays.asList("quick sort", "queue", "merge sort"),
+                getNames(topicManager.getCS2040CFilesByImportance(null, 1, 10, Integer.MAX_VALUE)));
+
+        CS2040CFile changed = topicManager.getCS2040CFile("merge sort").copy();
+        changed.setImportance(10);
+        topicManager.replaceCS2040CFile("merge sort", "SORTING", changed);
+        assertEquals(Arrays.asList("merge sort", "quick sort"),
+                getNames(topicManager.getCS2040CFilesByImportance(null, 1, 10, 2)));
+        assertEquals(Arrays.asList("merge sort", "quick sort"),
+                getNames(topicManager.getCS2040CFilesByImportance("SORTING", 1, 10, Integer.MAX_VALUE)));
+    }
+
+    @Test
+    void getCS2040CFilesByImportance_sameNameReplacedInStorageEngine_expectNewImportance() {
+        MemoryStorageEngine engine = new MemoryStorageEngine(new ArrayList<>(Arrays.asList("SORTING")));
+        engine.initialize();
+        engine.addEntry("merge sort", new Note("merge sort", "dummy", "SORTING", 5));
+        engine.addEntry("quick sort", new Note("quick sort", "dummy", "SORTING", 8));
+        TopicManager topicManager = new TopicManager();
+        topicManager.initialize(engine::loadTopic, engine.getNameIndex());
+        assertEquals(Arrays.asList("quick sort", "merge sort"),
+                getNames(topicManager.getCS2040CFilesByImportance("SORTING", 1, 10, Integer.MAX_VALUE)));
+
+        // The Topic held by TopicManager is changed by the storage engine, with the number of CS2040CFiles unchanged
+        engine.addEntry("merge sort", new Note("merge sort", "dummy", "SORTING", 10));
+        assertEquals(Arrays.asList("merge sort", "quick sort"),
+                getNames(topicManager.getCS2040CFilesByImportance("SORTING", 1, 10, Integer.MAX_VALUE)));
+        assertEquals(Arrays.asList("merge sort"),
+                getNames(topicManager.getCS2040CFilesByImportance("SORTING", 10, 10, Integer.MAX_VALUE)));
+    }
+
+    @Test
+    void getCS2040CFilesByImportance_importanceRange_expectOnlyFilesInRange() {
+        TopicManager topicManager = new TopicManager();
+        for (int importance = 1; importance <= 10; importance += 1) {
+            String name = "note " + importance;
+            topicManager.addCS2040CFile(name, "HASH_TABLE", new Note(name, "dummy", "HASH_TABLE", importance));
+        }
+        assertEquals(Arrays.asList("note 10", "note 9", "note 8"),
+                getNames(topicManager.getCS2040CFilesByImportance(null, 8, 10, Integer.MAX_VALUE)));
+        assertEquals(Arrays.asList("note 7", "note 6"),
+                getNames(topicManager.getCS2040CFilesByImportance("HASH_TABLE", 3, 7, 2)));
+        assertTrue(topicManager.getCS2040CFilesByImportance("SORTING", 1, 10, Integer.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    void getCS2040CFileNamesStartingWith_namesAddedAndRemoved_expectOriginalNamesInOrder() {
+        TopicManager topicManager = new TopicManager();
+        topicManager.addCS2040CFile("Quick Sort", "SORTING", new Note("Quick Sort", "dummy", "SORTING"));
+        topicManager.addCS2040CFile("quickest path", "SS_SHORTEST_PATH",
+                new Note("quickest path", "dummy", "SS_SHORTEST_PATH"));
+        assertEquals(Arrays.asList("Quick Sort", "quickest path"),
+                topicManager.getCS2040CFileNamesStartingWith("QUICK", Integer.MAX_VALUE));
+
+        topicManager.addCS2040CFile("Queue", "LINKED_LIST", new Note("Queue", "dummy", "LINKED_LIST"));
+        topicManager.removeCS2040CFile("Quick Sort", "SORTING");
+        assertEquals(Arrays.asList("Queue", "quickest path"),
+                topicManager.getCS2040CFileNamesStartingWith("qu", Integer.MAX_VALUE));
+        assertEquals(Arrays.asList("Queue"), topicManager.getCS2040CFileNamesStartingWith("qu", 1));
+
+        topicManager.testModeStart();
+        assertTrue(topicManager.getCS2040CFileNamesStartingWith("qu", Integer.MAX_VALUE).isEmpty());
+        topicManager.testModeEnd();
+        assertEquals(Arrays.asList("Queue", "quickest path"),
+                topicManager.getCS2040CFileNamesStartingWith("qu", Integer.MAX_VALUE));
+    }
+
+    @Test
+    void getSimilarCS2040CFileNames_namesAddedAndRemoved_expectNamesWithinDistance() {
+        TopicManager topicManager = new TopicManager();
+        topicManager.addCS2040CFile("Quick Sort", "SORTING", new Note("Quick Sort", "dummy", "SORTING"));
+        topicManager.addCS2040CFile("quick sorts", "SORTING", new Note("quick sorts", "dummy", "SORTING"));
+        topicManager.addCS2040CFile("merge sort", "SORTING", new Note("merge sort", "dummy", "SORTING"));
+        assertEquals(Arrays.asList("Quick Sort", "quick sorts"),
+                topicManager.getSimilarCS2040CFileNames("QUICK SORT", 2, 3));
+        assertEquals(Arrays.asList("Quick Sort"), topicManager.getSimilarCS2040CFileNames("quik sort", 1, 3));
+
+        topicManager.removeCS2040CFile("Quick Sort", "SORTING");
+        topicManager.addCS2040CFile("heap sort", "BINARY_HEAP", new Note("heap sort", "dummy", "BINARY_HEAP"));
+        assertEquals(Arrays.asList("quick sorts"), topicManager.getSimilarCS2040CFileNames("quik sort", 2, 3));
+        assertEquals(Arrays.asList("heap sort"), topicManager.getSimilarCS2040CFileNames("heep sort", 2, 3));
+    }
+
+    @Test
+    void getCS2040CFileNames_topicsLoadedLazily_expectOnlyTopicsOfNamesFoundLoaded() {
+        MemoryStorageEngine engine = new MemoryStorageEngine(new ArrayList<>(
+                Arrays.asList("SORTING", "LINKED_LIST", "BINARY_HEAP")));
+        engine.initialize();
+        engine.addEntry("Quick Sort", new Note("Quick Sort", "dummy", "SORTING"));
+        engine.addEntry("Queue", new Note("Queue", "dummy", "LINKED_LIST"));
+        engine.addEntry("Heap Sort", new Note("Heap Sort", "dummy", "BINARY_HEAP"));
+        ArrayList<String> loadedTopicNames = new ArrayList<>();
+        TopicManager topicManager = new TopicManager();
+        topicManager.initialize(topicName -> {
+            loadedTopicNames.add(topicName);
+            return engine.loadTopic(topicName);
+        }, engine.getNameIndex());
+
+        assertTrue(topicManager.getCS2040CFileNamesStartingWith("stack", Integer.MAX_VALUE).isEmpty());
+        assertTrue(topicManager.getSimilarCS2040CFileNames("stack", 1, 3).isEmpty());
+        assertTrue(loadedTopicNames.isEmpty());
+
+        assertEquals(Arrays.asList("Quick Sort"), topicManager.getCS2040CFileNamesStartingWith("QUICK", 3));
+        assertEquals(Arrays.asList("SORTING"), loadedTopicNames);
+        assertEquals(Arrays.asList("Queue"), topicManager.getSimilarCS2040CFileNames("queues", 1, 3));
+        assertEquals(Arrays.asList("SORTING", "LINKED_LIST"), loadedTopicNames);
+    }
+
+    private static ArrayList<String> getNames(ArrayList<CS2040CFile> cs2040cFiles) {
+        ArrayList<String> names = new ArrayList<>();
+        for (CS2040CFile cs2040cFile : cs2040cFiles) {
+            names.add(cs2040cFile.getName());
+        }
+        return names;
+    }
+    //@@author
 }
@@ -0,0 +1,84 @@
+package seedu.clialgo.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BPlusTreeIndexTest {
+    private static final File INDEX_FILE = new File("./" + BPlusTreeIndex.FILE_NAME);
+    private static final long FINGERPRINT = 42;
+
+    @AfterEach
+    public void tearDown() {
+        INDEX_FILE.delete();
+    }
+
+    @Test
+    void put_moreNamesThanCached_expectSameAsTreeMap() throws IOException {
+        BPlusTreeIndex index = new BPlusTreeIndex(INDEX_FILE, 0);
+        TreeMap<String, String> expected = new TreeMap<>();
+        for (int i = 0; i < 20000; i++) {
+            String name = "note " + (i * 7919 % 20000);
+            String topic = i % 2 == 0 ? "SORTING" : "GRAPH_TRAVERSAL";
+            index.put(name, topic);
+            expected.put(name, topic);
+        }
+        for (int i = 0; i < 20000; i += 3) {
+            assertEquals(expected.remove("note " + i), index.remove("note " + i));
+        }
+        assertNull(index.remove("note 0"));
+        assertEquals(expected.size(), index.size());
+        assertEquals(expected, new TreeMap<>(index));
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(index.keySet()));
+        index.close(FINGERPRINT);
+
+        BPlusTreeIndex reopenedIndex = new BPlusTreeIndex(INDEX_FILE, 0);
+        assertTrue(reopenedIndex.isValidFor(FINGERPRINT));
+        assertEquals(expected, new TreeMap<>(reopenedIndex));
+        assertEquals("GRAPH_TRAVERSAL", reopenedIndex.get("note " + 7919));
+        assertFalse(reopenedIndex.containsKey("note 3"));
+        reopenedIndex.close(FINGERPRINT);
+    }
+
+    @Test
+    void getKeysWithPrefix_multipleLeaves_expectOnlyMatchingKeys() throws IOException {
+        BPlusTreeIndex index = new BPlusTreeIndex(INDEX_FILE, 0);
+        for (int i = 0; i < 3000; i++) {
+            index.put("note " + i, "SORTING");
+        }
+        index.put("quick sort", "SORTING");
+        index.put("quicker sort", "SORTING");
+        assertEquals(Arrays.asList("quick sort", "quicker sort"), index.getKeysWithPrefix("quick"));
+        assertEquals(1111, index.getKeysWithPrefix("note 2").size());
+        assertEquals("note 2999", index.getKeysWithPrefix("note 2999").get(0));
+        assertTrue(index.getKeysWithPrefix("merge").isEmpty());
+        index.close(FINGERPRINT);
+    }
+
+    @Test
+    void isValidFor_changedAfterClose_expectFalse() throws IOException {
+        BPlusTreeIndex index = new BPlusTreeIndex(INDEX_FILE, 0);
+        index.put("quick sort", "SORTING");
+        index.close(FINGERPRINT);
+        assertFalse(new BPlusTreeIndex(INDEX_FILE, 0).isValidFor(FINGERPRINT + 1));
+
+        BPlusTreeIndex crashedIndex = new BPlusTreeIndex(INDEX_FILE, 0);
+        crashedIndex.put("merge sort", "SORTING");
+        BPlusTreeIndex reopenedIndex = new BPlusTreeIndex(INDEX_FILE, 0);
+        assertFalse(reopenedIndex.isValidFor(FINGERPRINT));
+        crashedIndex.close(FINGERPRINT);
+        reopenedIndex.clear();
+        assertTrue(reopenedIndex.isEmpty());
+        reopenedIndex.close(FINGERPRINT);
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.clialgo.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.clialgo.file.Code;
+import seedu.clialgo.file.Note;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BinaryCodecTest {
+    private static final String TOPIC = "SORTING";
+    private static final ArrayList<String> TOPIC_NAMES = new ArrayList<>(Arrays.asList("LINKED_LIST", TOPIC));
+
+    private BinaryCodec codec;
+
+    @BeforeEach
+    public void setUp() {
+        codec = new BinaryCodec(TOPIC_NAMES);
+    }
+
+    @Test
+    void decodeRecord_noteAndCode_expectSameFiles() throws IOException {
+        Note note = new Note("quick&@sort", "quick&@sort.txt", TOPIC, 7);
+        Code code = new Code("merge sort", "merge sort.cpp", TOPIC, 10);
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        data.write(codec.encodeHeader());
+        data.write(codec.encodeRecord(note.getName(), note));
+        data.write(codec.encodeRecord(code.getName(), code));
+        data.write(codec.encodeTombstone(note.getName()));
+
+        ByteBuffer input = ByteBuffer.wrap(data.toByteArray());
+        assertTrue(codec.isValidHeader(input));
+        assertEquals(RecordCodec.RecordStatus.RECORD, codec.readRecord(input, TOPIC));
+        assertEquals(note, codec.processedCS2040CFile());
+        assertEquals(RecordCodec.RecordStatus.RECORD, codec.readRecord(input, TOPIC));
+        assertEquals(code, codec.processedCS2040CFile());
+        assertEquals(RecordCodec.RecordStatus.TOMBSTONE, codec.readRecord(input, TOPIC));
+        assertEquals(note.getName(), codec.decodedName());
+        assertEquals(RecordCodec.RecordStatus.END, codec.readRecord(input, TOPIC));
+    }
+
+    @Test
+    void decodeRecord_truncatedRecord_expectCorrupted() {
+        Note note = new Note("note", "note.txt", TOPIC, 1);
+        byte[] record = codec.encodeRecord(note.getName(), note);
+        ByteBuffer input = ByteBuffer.wrap(Arrays.copyOf(record, record.length - 1));
+        assertEquals(RecordCodec.RecordStatus.CORRUPTED, codec.readRecord(input, TOPIC));
+    }
+
+    @Test
+    void decodeRecord_wrongTopic_expectCorrupted() {
+        Note note = new Note("note", "note.txt", TOPIC, 1);
+        ByteBuffer input = ByteBuffer.wrap(codec.encodeRecord(note.getName(), note));
+        assertEquals(RecordCodec.RecordStatus.CORRUPTED, codec.readRecord(input, "LINKED_LIST"));
+    }
+
+    @Test
+    void isValidHeader_textData_expectFalse() {
+        ByteBuffer input = ByteBuffer.wrap("note&@note.txt&@SORTING&@1".getBytes());
+        assertFalse(codec.isValidHeader(input));
+    }
+
+    @Test
+    void decodeRecord_fileAttributes_expectSameAttributes() {
+        Code code = new Code("code", "code.cpp", TOPIC, 2);
+        code.setFileAttributes(1234, 5678);
+        ByteBuffer input = ByteBuffer.wrap(codec.encodeRecord(code.getName(), code));
+        assertEquals(RecordCodec.RecordStatus.RECORD, codec.readRecord(input, TOPIC));
+        assertEquals(1234, codec.processedCS2040CFile().getFileSize());
+        assertEquals(5678, codec.processedCS2040CFile().getLastModified());
+    }
+
+    @Test
+    void isUpgradeNeeded_firstVersionHeader_expectTrue() {
+        byte[] header = codec.encodeHeader();
+        header[header.length - 1] = 1;
+        assertTrue(codec.isValidHeader(ByteBuffer.wrap(header)));
+        assertTrue(codec.isUpgradeNeeded());
+        assertTrue(codec.isValidHeader(ByteBuffer.wrap(codec.encodeHeader())));
+        assertFalse(codec.isUpgradeNeeded());
+    }
+
+    @Test
+    void decodeRecord_longNonAsciiName_expectSameName() {
+        String name = "\u6392\u5e8f".repeat(200);
+        Note note = new Note(name, name + ".txt", TOPIC, 1);
+        ByteBuffer input = ByteBuffer.wrap(codec.encodeRecord(name, note));
+        assertEquals(RecordCodec.RecordStatus.RECORD, codec.readRecord(input, TOPIC));
+        assertEquals(name, codec.decodedName());
+        assertEquals(RecordCodec.RecordStatus.END, codec.readRecord(input, TOPIC));
+    }
+
+    @Test
+    void decodeRecord_damagedRecord_expectCorruptedThenNextRecord() throws IOException {
+        Note note = new Note("note", "note.txt", TOPIC, 1);
+        Code code = new Code("code", "code.cpp", TOPIC, 2);
+        byte[] damagedRecord = codec.encodeRecord(note.getName(), note);
+        damagedRecord[damagedRecord.length - 5] ^= 1;
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        data.write(damagedRecord);
+        data.write(codec.encodeRecord(code.getName(), code));
+
+        ByteBuffer input = ByteBuffer.wrap(data.toByteArray());
+        assertEquals(RecordCodec.RecordStatus.CORRUPTED, codec.readRecord(input, TOPIC));
+        assertEquals(damagedRecord.length, input.position());
+        assertEquals(RecordCodec.RecordStatus.RECORD, codec.readRecord(input, TOPIC));
+        assertEquals(code, codec.processedCS2040CFile());
+        assertEquals(RecordCodec.RecordStatus.END, codec.readRecord(input, TOPIC));
+    }
+
+    @Test
+    void isValidHeader_damagedHeader_expectRecordsStillRead() throws IOException {
+        Note note = new Note("note", "note.txt", TOPIC, 1);
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        data.write("XXXXX".getBytes());
+        data.write(codec.encodeRecord(note.getName(), note));
+
+        ByteBuffer input = ByteBuffer.wrap(data.toByteArray());
+        assertFalse(codec.isValidHeader(input));
+        assertEquals(RecordCodec.RecordStatus.CORRUPTED, codec.readRecord(input, TOPIC));
+        assertEquals(RecordCodec.RecordStatus.RECORD, codec.readRecord(input, TOPIC));
+        assertEquals(note, codec.processedCS2040CFile());
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.clialgo.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BloomFilterTest {
+    @Test
+    void mightContain_addedAndOtherKeys_expectNoFalseNegativesAndFewFalsePositives() throws IOException {
+        BloomFilter bloomFilter = new BloomFilter(1000);
+        for (int i = 0; i < 1000; i++) {
+            bloomFilter.add("added " + i);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bloomFilter.writeTo(new DataOutputStream(bytes));
+        BloomFilter readFilter = BloomFilter.readFrom(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        int falsePositiveCount = 0;
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(readFilter.mightContain("added " + i));
+            if (readFilter.mightContain("other " + i)) {
+                falsePositiveCount += 1;
+            }
+        }
+        assertTrue(falsePositiveCount < 50);
+    }
+}
@@ -0,0 +1,238 @@
+package seedu.clialgo.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.file.Code;
+import seedu.clialgo.file.Note;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContentIndexTest {
+    private static final File FOLDER = new File("./contentindextest");
+    private static final File INDEX_FILE = new File(FOLDER, ContentIndex.FILE_NAME);
+    private static final File MANIFEST_FILE = new File(FOLDER, WorkspaceManifest.FILE_NAME);
+    private static final String HEAP_PATH = FOLDER.getPath() + "/heap.txt";
+    private static final String DIJKSTRA_PATH = FOLDER.getPath() + "/dijkstra.cpp";
+    private static final String UFDS_PATH = FOLDER.getPath() + "/ufds.txt";
+
+    private void deleteAll() {
+        File[] files = FOLDER.listFiles();
+        if (files != null) {
+            for (File f : files) {
+                f.delete();
+            }
+        }
+        FOLDER.delete();
+    }
+
+    /**
+     * Writes <code>contents</code> to the file at <code>path</code>, with a last modified time far enough in the
+     * past for its manifest entry not to be racy.
+     */
+    private static void writeFile(String path, String contents, long secondsAgo) throws IOException {
+        File file = new File(path);
+        Files.write(file.toPath(), contents.getBytes(StandardCharsets.UTF_8));
+        assertTrue(file.setLastModified((System.currentTimeMillis() / 1000 - secondsAgo) * 1000));
+    }
+
+    private static List<CS2040CFile> getCS2040CFiles() {
+        return List.of(new Note("Heap", HEAP_PATH, "BINARY_HEAP", 5),
+                new Code("Dijkstra", DIJKSTRA_PATH, "SS_SHORTEST_PATH", 8),
+                new Note("UFDS", UFDS_PATH, "UNION_FIND_DS", 3));
+    }
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        deleteAll();
+        FOLDER.mkdirs();
+        writeFile(HEAP_PATH, "A binary heap is a complete binary tree.\nIt backs a priority queue.", 60);
+        writeFile(DIJKSTRA_PATH, "// Dijkstra with a priority_queue\npriority_queue<pair<int, int>> pq;\n"
+                + "// Each vertex is popped from the priority queue once", 60);
+        writeFile(UFDS_PATH, "Union-find keeps a tree for each disjoint set. Union by rank, find with path "
+                + "compression.", 60);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        deleteAll();
+    }
+
+    @Test
+    void tokenize_mixedText_expectLowercaseTerms() {
+        assertEquals(List.of("union", "find", "priority_queue", "o", "log", "n"),
+                ContentIndex.tokenize("Union-Find, priority_queue: O(log N)!"));
+    }
+
+    @Test
+    void search_wordsAndPhrases_expectMatchingNames() {
+        ContentIndex index = new ContentIndex(null);
+        assertEquals(3, index.update(getCS2040CFiles(), new WorkspaceManifest(MANIFEST_FILE)));
+
+        // Every word has to be in the file, in any case
+        assertEquals(List.of("Heap"), index.search("BINARY tree"));
+        assertEquals(List.of("Heap", "UFDS"), index.search("tree"));
+        // A quoted phrase has to appear in order, so "queue priority" is not found
+        assertEquals(List.of("Dijkstra", "Heap"), index.search("\"priority queue\""));
+        assertEquals(new ArrayList<>(), index.search("\"queue priority\""));
+        // A word split into several terms is matched as a phrase
+        assertEquals(List.of("UFDS"), index.search("union-find"));
+        assertEquals(new ArrayList<>(), index.search("find-union"));
+        assertEquals(List.of("Dijkstra", "UFDS"), index.search("priority_queue OR compression"));
+        assertEquals(new ArrayList<>(), index.search("heap stack"));
+    }
+
+    @Test
+    void search_moreOccurrences_expectRankedFirst() {
+        ContentIndex index = new ContentIndex(null);
+        index.update(getCS2040CFiles(), new WorkspaceManifest(MANIFEST_FILE));
+        // Heap contains the words three times and Dijkstra once
+        assertEquals(List.of("Heap", "Dijkstra"), index.search("queue OR binary"));
+    }
+
+    @Test
+    void update_changedInManifest_expectReadAgain() throws IOException {
+        WorkspaceManifest manifest = new WorkspaceManifest(MANIFEST_FILE);
+        ContentIndex index = new ContentIndex(null);
+        for (CS2040CFile cs2040cFile : getCS2040CFiles()) {
+            manifest.refresh(cs2040cFile.getPath());
+        }
+        assertEquals(3, index.update(getCS2040CFiles(), manifest));
+        assertEquals(0, index.update(getCS2040CFiles(), manifest));
+
+        writeFile(HEAP_PATH, "A binomial heap is a forest of trees.", 30);
+        // Not read again until the manifest records the change
+        assertEquals(0, index.update(getCS2040CFiles(), manifest));
+        assertEquals(List.of("Heap"), index.search("complete"));
+        assertEquals(WorkspaceManifest.Status.CHANGED, manifest.refresh(HEAP_PATH));
+        assertEquals(1, index.update(getCS2040CFiles(), manifest));
+        assertEquals(new ArrayList<>(), index.search("complete"));
+        assertEquals(List.of("Heap"), index.search("binomial"));
+    }
+
+    @Test
+    void update_cs2040cFileRemoved_expectContentsRemoved() {
+        ContentIndex index = new ContentIndex(null);
+        WorkspaceManifest manifest = new WorkspaceManifest(MANIFEST_FILE);
+        index.update(getCS2040CFiles(), manifest);
+        int termCount = index.getTermCount();
+
+        assertEquals(0, index.update(getCS2040CFiles().subList(0, 2), manifest));
+        assertEquals(2, index.size());
+        assertTrue(index.getTermCount() < termCount);
+        assertEquals(new ArrayList<>(), index.search("union"));
+        assertTrue(index.remove("heap"));
+        assertFalse(index.remove("heap"));
+        assertEquals(new ArrayList<>(), index.search("binary"));
+    }
+
+    @Test
+    void save_thenLoad_expectSameResults() throws IOException {
+        ContentIndex index = new ContentIndex(INDEX_FILE);
+        WorkspaceManifest manifest = new WorkspaceManifest(MANIFEST_FILE);
+        index.update(getCS2040CFiles(), manifest);
+        index.save();
+
+        ContentIndex loadedIndex = new ContentIndex(INDEX_FILE);
+        assertTrue(loadedIndex.load());
+        assertEquals(3, loadedIndex.size());
+        assertEquals(index.getTermCount(), loadedIndex.getTermCount());
+        assertEquals(0, loadedIndex.update(getCS2040CFiles(), manifest));
+        assertEquals(List.of("Dijkstra", "Heap"), loadedIndex.search("\"priority queue\""));
+    }
+
+    @Test
+    void load_corruptedIndex_expectIgnored() throws IOException {
+        ContentIndex index = new ContentIndex(INDEX_FILE);
+        index.update(getCS2040CFiles(), new WorkspaceManifest(MANIFEST_FILE));
+        index.save();
+        try (RandomAccessFile indexFile = new RandomAccessFile(INDEX_FILE, "rw")) {
+            indexFile.seek(indexFile.length() - 1);
+            int value = indexFile.read();
+            indexFile.seek(indexFile.length() - 1);
+            indexFile.write(value ^ 0xFF);
+        }
+
+        ContentIndex loadedIndex = new ContentIndex(INDEX_FILE);
+        assertFalse(loadedIndex.load());
+        assertEquals(0, loadedIndex.size());
+    }
+
+    @Test
+    void refresh_changedInManifest_expectOnlyThatFileReadAgain() throws IOException {
+        WorkspaceManifest manifest = new WorkspaceManifest(MANIFEST_FILE);
+        ContentIndex index = new ContentIndex(null);
+        assertTrue(index.refresh("Heap", HEAP_PATH, manifest));
+        manifest.refresh(HEAP_PATH);
+        assertFalse(index.refresh("Heap", HEAP_PATH, manifest));
+
+        writeFile(HEAP_PATH, "A binomial heap is a forest of trees.", 30);
+        assertEquals(WorkspaceManifest.Status.CHANGED, manifest.refresh(HEAP_PATH));
+        assertTrue(index.refresh("Heap", HEAP_PATH, manifest));
+        assertEquals(List.of("Heap"), index.search("binomial"));
+    }
+
+    @Test
+    void refreshChanged_changedInManifest_expectOnlyIndexedChangedFileReadAgain() throws IOException {
+        WorkspaceManifest manifest = new WorkspaceManifest(MANIFEST_FILE);
+        ContentIndex index = new ContentIndex(null);
+        for (CS2040CFile cs2040cFile : getCS2040CFiles()) {
+            manifest.refresh(cs2040cFile.getPath());
+        }
+        index.update(getCS2040CFiles(), manifest);
+        assertEquals(0, index.refreshChanged(manifest));
+
+        writeFile(HEAP_PATH, "A binomial heap is a forest of trees.", 30);
+        assertEquals(1, manifest.refreshAll());
+        assertEquals(1, index.refreshChanged(manifest));
+        assertEquals(List.of("Heap"), index.search("binomial"));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void isRebuildNeeded_indexLoadedThenInvalidated_expectRebuildAfterCrash() throws IOException {
+        ContentIndex index = new ContentIndex(INDEX_FILE);
+        assertFalse(index.load());
+        assertTrue(index.isRebuildNeeded());
+        index.update(getCS2040CFiles(), new WorkspaceManifest(MANIFEST_FILE));
+        assertFalse(index.isRebuildNeeded());
+        index.save();
+
+        ContentIndex loadedIndex = new ContentIndex(INDEX_FILE);
+        assertTrue(loadedIndex.load());
+        assertFalse(loadedIndex.isRebuildNeeded());
+        loadedIndex.invalidate();
+        assertFalse(INDEX_FILE.exists());
+
+        // The index file is only written back at a clean exit
+        ContentIndex indexAfterCrash = new ContentIndex(INDEX_FILE);
+        assertFalse(indexAfterCrash.load());
+        assertTrue(indexAfterCrash.isRebuildNeeded());
+    }
+
+    @Test
+    void copy_copyChanged_expectOriginalUnchanged() {
+        ContentIndex index = new ContentIndex(null);
+        index.update(getCS2040CFiles(), new WorkspaceManifest(MANIFEST_FILE));
+        ContentIndex copiedIndex = index.copy();
+        assertTrue(copiedIndex.remove("heap"));
+        copiedIndex.index("UFDS", HEAP_PATH);
+
+        assertEquals(3, index.size());
+        assertEquals(List.of("Heap"), index.search("complete"));
+        assertEquals(List.of("UFDS"), index.search("disjoint"));
+        assertEquals(List.of("UFDS"), copiedIndex.search("complete"));
+        assertEquals(new ArrayList<>(), copiedIndex.search("disjoint"));
+    }
+}
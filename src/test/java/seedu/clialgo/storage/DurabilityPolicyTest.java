@@ -0,0 +1,37 @@
+package seedu.clialgo.storage;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DurabilityPolicyTest {
+
+    @Test
+    void parse_validValues_expectMatchingMode() {
+        assertEquals(DurabilityPolicy.Mode.EVERY_COMMAND, DurabilityPolicy.parse("command", false).getMode());
+        assertEquals(DurabilityPolicy.Mode.ON_EXIT, DurabilityPolicy.parse("exit", false).getMode());
+        DurabilityPolicy interval = DurabilityPolicy.parse("interval:250", true);
+        assertEquals(DurabilityPolicy.Mode.INTERVAL, interval.getMode());
+        assertEquals(250, interval.getIntervalMillis());
+        assertTrue(interval.isSynced());
+    }
+
+    @Test
+    void parse_invalidValues_expectNull() {
+        assertNull(DurabilityPolicy.parse("never", false));
+        assertNull(DurabilityPolicy.parse("interval:", false));
+        assertNull(DurabilityPolicy.parse("interval:0", false));
+        assertNull(DurabilityPolicy.parse("interval:abc", false));
+    }
+
+    @Test
+    void isCommitDue_eachMode_expectCorrectResult() {
+        assertTrue(DurabilityPolicy.everyCommand(false).isCommitDue(1000, 1000));
+        assertFalse(DurabilityPolicy.interval(100, false).isCommitDue(1000, 1099));
+        assertTrue(DurabilityPolicy.interval(100, false).isCommitDue(1000, 1100));
+        assertFalse(DurabilityPolicy.onExit(false).isCommitDue(1000, Long.MAX_VALUE));
+    }
+}
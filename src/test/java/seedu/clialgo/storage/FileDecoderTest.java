@@ -7,8 +7,11 @@ import seedu.clialgo.file.Note;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class FileDecoderTest {
     public static final String NOTE_FILE_EXTENSION = ".txt";
@@ -69,4 +72,64 @@ public class FileDecoderTest {
             System.out.println("ERROR 3");
         }
     }
+
+    @Test
+    void decodeString_missingSourceFile_expectDecodedWithAttributes() {
+        String path = "missing" + CODE_FILE_EXTENSION;
+        Code code = new Code("missing", path, TOPIC, IMPORTANCE);
+        code.setFileAttributes(42, 1000);
+        String encodedString = new FileEncoder(SEPARATOR).encodeCS2040CFile("missing", code);
+
+        assertFalse(new File(CURRENT_DIRECTORY_PATH + path).exists());
+        assertFalse(fileDecoder.decodeString(encodedString, TOPIC));
+        assertEquals(code, fileDecoder.processedCS2040CFile());
+        assertEquals(42, fileDecoder.processedCS2040CFile().getFileSize());
+        assertEquals(1000, fileDecoder.processedCS2040CFile().getLastModified());
+    }
+
+    @Test
+    void decodeString_legacyRecordWithMissingSourceFile_expectKindFromPath() {
+        String path = "missing" + NOTE_FILE_EXTENSION;
+        String encodedString = "missing" + SEPARATOR + path + SEPARATOR + TOPIC + SEPARATOR + IMPORTANCE;
+
+        assertFalse(fileDecoder.decodeString(encodedString, TOPIC));
+        assertEquals(new Note("missing", path, TOPIC, IMPORTANCE), fileDecoder.processedCS2040CFile());
+    }
+
+    @Test
+    void decodeString_unknownKind_expectCorrupted() {
+        String encodedString = "name" + SEPARATOR + "name.txt" + SEPARATOR + TOPIC + SEPARATOR + IMPORTANCE
+                + SEPARATOR + "VIDEO" + SEPARATOR + 0 + SEPARATOR + 0;
+        assertTrue(fileDecoder.decodeString(encodedString, TOPIC));
+    }
+
+    @Test
+    void decodeBytes_recordWithOffset_expectSameAsDecodeString() {
+        Code code = new Code("code", "code.cpp", TOPIC, 9);
+        code.setFileAttributes(42, 1000);
+        byte[] encodedBytes = ("xx" + new FileEncoder(SEPARATOR).encodeCS2040CFile("code", code) + "\r\n")
+                .getBytes(StandardCharsets.UTF_8);
+
+        assertFalse(fileDecoder.decodeBytes(encodedBytes, 2, encodedBytes.length - 4, TOPIC));
+        assertEquals("code", fileDecoder.decodedName());
+        assertEquals(code, fileDecoder.processedCS2040CFile());
+        assertEquals(42, fileDecoder.processedCS2040CFile().getFileSize());
+        assertEquals(1000, fileDecoder.processedCS2040CFile().getLastModified());
+    }
+
+    @Test
+    void decodeBytes_invalidNumbersOrTopic_expectCorrupted() {
+        String[] encodedStrings = {
+            "name" + SEPARATOR + "name.txt" + SEPARATOR + TOPIC + SEPARATOR + "1x",
+            "name" + SEPARATOR + "name.txt" + SEPARATOR + TOPIC + SEPARATOR + "99999999999",
+            "name" + SEPARATOR + "name.txt" + SEPARATOR + "other" + SEPARATOR + IMPORTANCE,
+            "name" + SEPARATOR + "name.txt" + SEPARATOR + TOPIC + SEPARATOR + IMPORTANCE + SEPARATOR + "NOTE"
+                    + SEPARATOR + 0 + SEPARATOR + 0 + SEPARATOR + 0,
+            "name" + SEPARATOR + "name.txt" + SEPARATOR + TOPIC,
+        };
+        for (String encodedString : encodedStrings) {
+            byte[] encodedBytes = encodedString.getBytes(StandardCharsets.UTF_8);
+            assertTrue(fileDecoder.decodeBytes(encodedBytes, 0, encodedBytes.length, TOPIC));
+        }
+    }
 }
@@ -6,11 +6,18 @@ import seedu.clialgo.Ui;
 import seedu.clialgo.file.Code;
 
 import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class FileManagerTest {
@@ -131,4 +138,330 @@ public class FileManagerTest {
         assertTrue(isSuccessful);
         deleteAll(new File(PATH));
     }
+
+    @Test
+    void isTextFileMigratedToBinary_expectTrue() throws IOException {
+        String topic = "SORTING";
+        ArrayList<String> topics = new ArrayList<>(Arrays.asList("LINKED_LIST", topic));
+        new File(PATH).mkdir();
+        File noteFile = new File("./migrated" + NOTE_FILE_EXTENSION);
+        noteFile.createNewFile();
+        File textFile = new File(PATH + FILE_DIVIDER + topic + NOTE_FILE_EXTENSION);
+        FileWriter fileWriter = new FileWriter(textFile);
+        fileWriter.write("migrated&@migrated.txt&@SORTING&@7" + System.lineSeparator());
+        fileWriter.close();
+
+        FileManager fm = new FileManager(PATH, topics, new BinaryCodec(topics));
+        fm.initialize();
+        Topic sorting = fm.decodeAll().get(topic);
+        assertTrue(sorting.isInsideTopic("migrated"));
+        assertEquals(7, sorting.getC2040CFiles().get("migrated").getImportance());
+        assertFalse(textFile.exists());
+        assertTrue(new File(PATH + FILE_DIVIDER + topic + BinaryCodec.FILE_EXTENSION).exists());
+        noteFile.delete();
+        deleteAll(new File(PATH));
+    }
+
+    @Test
+    void isNameIndexBuiltWhileLoading_multipleTopics_expectTrue() {
+        ArrayList<String> topics = new ArrayList<>(Arrays.asList("test1", "test2", "test3"));
+        FileManager fm = new FileManager(PATH, topics);
+        fm.initialize();
+        fm.addEntry("First Note", new Code("First Note", "First Note.cpp", "test1"));
+        fm.addEntry("Second Note", new Code("Second Note", "Second Note.cpp", "test3"));
+
+        FileManager reloadedFm = new FileManager(PATH, topics);
+        reloadedFm.initialize();
+        assertEquals("test1", reloadedFm.getNameIndex().get("first note"));
+        assertEquals("test3", reloadedFm.getNameIndex().get("second note"));
+        assertEquals(2, reloadedFm.getNameIndex().size());
+        assertEquals(topics.size(), reloadedFm.getLoadTimes().size());
+        deleteAll(new File(PATH));
+    }
+
+    @Test
+    void isTopicLoadedLazily_savedNameDirectory_expectTrue() {
+        ArrayList<String> topics = new ArrayList<>(Arrays.asList("test1", "test2"));
+        FileManager fm = new FileManager(PATH, topics);
+        fm.initializeLazily();
+        fm.addEntry("First Note", new Code("First Note", "First Note.cpp", "test1"));
+        fm.close();
+
+        FileManager reloadedFm = new FileManager(PATH, topics);
+        reloadedFm.initializeLazily();
+        assertEquals("test1", reloadedFm.getNameIndex().get("first note"));
+        assertTrue(reloadedFm.getLoadTimes().isEmpty());
+        assertTrue(reloadedFm.loadTopic("test1").isInsideTopic("First Note"));
+        assertEquals(1, reloadedFm.getLoadTimes().size());
+        deleteAll(new File(PATH));
+    }
+
+    @Test
+    void isContentIndexKeptWithoutLoadingTopics_entryAddedThenReloaded_expectTrue() throws IOException {
+        ArrayList<String> topics = new ArrayList<>(Arrays.asList("test1", "test2"));
+        FileManager fm = new FileManager(PATH, topics);
+        fm.initializeLazily();
+        File codeFile = new File(PATH + FILE_DIVIDER + "First Note" + CODE_FILE_EXTENSION);
+        Files.writeString(codeFile.toPath(), "// Kruskal with a union find");
+        fm.addEntry("First Note", new Code("First Note", codeFile.getPath(), "test1"));
+        fm.indexContents("First Note", codeFile.getPath());
+        fm.close();
+
+        FileManager reloadedFm = new FileManager(PATH, topics);
+        reloadedFm.initializeLazily();
+        assertEquals(1, reloadedFm.getContentIndex().search("kruskal").size());
+        assertFalse(reloadedFm.getContentIndex().isRebuildNeeded());
+        assertTrue(reloadedFm.getLoadTimes().isEmpty());
+        reloadedFm.close();
+        codeFile.delete();
+        deleteAll(new File(PATH));
+    }
+
+    @Test
+    void isNameIndexCorrected_recordCorruptedWithoutChangingDataFile_expectOnlyDiscardedNameRemoved()
+            throws IOException {
+        ArrayList<String> topics = new ArrayList<>(Arrays.asList("test1", "test2"));
+        FileManager fm = new FileManager(PATH, topics, new BinaryCodec(topics));
+        fm.initializeLazily();
+        fm.addEntry("First Note", new Code("First Note", "First Note.cpp", "test1"));
+        fm.addEntry("Last Note", new Code("Last Note", "Last Note.cpp", "test1"));
+        fm.addEntry("Other Note", new Code("Other Note", "Other Note.cpp", "test2"));
+        fm.close();
+
+        // Damages the last record in place, keeping the size and last modified time the directory checks
+        File dataFile = new File(PATH + FILE_DIVIDER + "test1" + BinaryCodec.FILE_EXTENSION);
+        long lastModified = dataFile.lastModified();
+        byte[] contents = Files.readAllBytes(dataFile.toPath());
+        contents[contents.length - 1] ^= 0x5A;
+        Files.write(dataFile.toPath(), contents);
+        assertTrue(dataFile.setLastModified(lastModified));
+
+        FileManager reloadedFm = new FileManager(PATH, topics, new BinaryCodec(topics));
+        reloadedFm.initializeLazily();
+        assertTrue(reloadedFm.getLoadTimes().isEmpty());
+        assertEquals("test1", reloadedFm.getNameIndex().get("last note"));
+        assertFalse(reloadedFm.loadTopic("test1").isInsideTopic("Last Note"));
+        assertNull(reloadedFm.getNameIndex().get("last note"));
+        assertEquals("test1", reloadedFm.getNameIndex().get("first note"));
+        assertEquals("test2", reloadedFm.getNameIndex().get("other note"));
+        reloadedFm.close();
+        deleteAll(new File(PATH));
+    }
+
+    @Test
+    void isNameIndexOutsideTestModeUnchanged_recordCorruptedAndTopicLoadedInForkTestMode_expectCorrectedAfterwards()
+            throws IOException {
+        ArrayList<String> topics = new ArrayList<>(Arrays.asList("test1", "test2"));
+        FileManager fm = new FileManager(PATH, topics, new BinaryCodec(topics));
+        fm.initializeLazily();
+        fm.addEntry("First Note", new Code("First Note", "First Note.cpp", "test1"));
+        fm.addEntry("Last Note", new Code("Last Note", "Last Note.cpp", "test1"));
+        fm.addEntry("Other Note", new Code("Other Note", "Other Note.cpp", "test2"));
+        fm.close();
+
+        // Damages the last record in place, keeping the size and last modified time the directory checks
+        File dataFile = new File(PATH + FILE_DIVIDER + "test1" + BinaryCodec.FILE_EXTENSION);
+        long lastModified = dataFile.lastModified();
+        byte[] contents = Files.readAllBytes(dataFile.toPath());
+        contents[contents.length - 1] ^= 0x5A;
+        Files.write(dataFile.toPath(), contents);
+        assertTrue(dataFile.setLastModified(lastModified));
+
+        FileManager reloadedFm = new FileManager(PATH, topics, new BinaryCodec(topics));
+        reloadedFm.initializeLazily();
+        Map<String, String> nameIndex = reloadedFm.getNameIndex();
+        assertTrue(reloadedFm.forkTestMode());
+        assertFalse(reloadedFm.loadTopic("test1").isInsideTopic("Last Note"));
+        assertNull(reloadedFm.getNameIndex().get("last note"));
+        assertEquals(2, reloadedFm.getNameIndex().size());
+        // The name index forked from is left as it was until test mode ends
+        assertEquals("test1", nameIndex.get("last note"));
+        assertEquals(3, nameIndex.size());
+        reloadedFm.exitTestMode();
+
+        assertFalse(reloadedFm.loadTopic("test1").isInsideTopic("Last Note"));
+        assertNull(nameIndex.get("last note"));
+        assertEquals(2, nameIndex.size());
+        reloadedFm.close();
+        deleteAll(new File(PATH));
+    }
+
+    @Test
+    void isNameIndexRebuilt_staleNameDirectory_expectTrue() {
+        ArrayList<String> topics = new ArrayList<>(Arrays.asList("test1", "test2"));
+        FileManager fm = new FileManager(PATH, topics);
+        fm.initializeLazily();
+        fm.close();
+        FileManager crashedFm = new FileManager(PATH, topics);
+        crashedFm.initializeLazily();
+        crashedFm.addEntry("First Note", new Code("First Note", "First Note.cpp", "test2"));
+
+        FileManager reloadedFm = new FileManager(PATH, topics);
+        reloadedFm.initializeLazily();
+        assertEquals("test2", reloadedFm.getNameIndex().get("first note"));
+        assertEquals(topics.size(), reloadedFm.getLoadTimes().size());
+        deleteAll(new File(PATH));
+    }
+
+    @Test
+    void isTopicLoadedLazily_diskNameIndex_expectTrue() {
+        ArrayList<String> topics = new ArrayList<>(Arrays.asList("test1", "test2"));
+        FileManager fm = new FileManager(PATH, topics);
+        fm.useDiskNameIndex(64 * 1024);
+        fm.initializeLazily();
+        fm.addEntry("First Note", new Code("First Note", "First Note.cpp", "test1"));
+        fm.addEntry("Second Note", new Code("Second Note", "Second Note.cpp", "test2"));
+        fm.close();
+        assertTrue(new File(PATH + FILE_DIVIDER + BPlusTreeIndex.FILE_NAME).exists());
+
+        FileManager reloadedFm = new FileManager(PATH, topics);
+        reloadedFm.useDiskNameIndex(64 * 1024);
+        reloadedFm.initializeLazily();
+        assertTrue(reloadedFm.getNameIndex() instanceof BPlusTreeIndex);
+        assertEquals("test1", reloadedFm.getNameIndex().get("first note"));
+        assertTrue(reloadedFm.getLoadTimes().isEmpty());
+        assertTrue(reloadedFm.loadTopic("test2").isInsideTopic("Second Note"));
+        assertEquals(2, reloadedFm.getNameIndex().size());
+        reloadedFm.close();
+        deleteAll(new File(PATH));
+    }
+
+    @Test
+    void isDiskNameIndexRebuilt_dataFileChanged_expectTrue() {
+        ArrayList<String> topics = new ArrayList<>(Arrays.asList("test1", "test2"));
+        FileManager fm = new FileManager(PATH, topics);
+        fm.useDiskNameIndex(64 * 1024);
+        fm.initializeLazily();
+        fm.close();
+        FileManager heapFm = new FileManager(PATH, topics);
+        heapFm.initialize();
+        heapFm.addEntry("First Note", new Code("First Note", "First Note.cpp", "test2"));
+        heapFm.close();
+
+        FileManager reloadedFm = new FileManager(PATH, topics);
+        reloadedFm.useDiskNameIndex(64 * 1024);
+        reloadedFm.initializeLazily();
+        assertEquals("test2", reloadedFm.getNameIndex().get("first note"));
+        assertEquals(topics.size(), reloadedFm.getLoadTimes().size());
+        reloadedFm.close();
+        deleteAll(new File(PATH));
+    }
+
+    @Test
+    void areWritesDrained_writeBehind_expectTrue() {
+        ArrayList<String> topics = new ArrayList<>(Arrays.asList("test1", "test2"));
+        FileManager fm = new FileManager(PATH, topics);
+        fm.initialize();
+        fm.startWriteBehind();
+        int entryCount = 2000;
+        for (int i = 0; i < entryCount; i++) {
+            String name = "Note " + i;
+            assertTrue(fm.addEntry(name, new Code(name, name + CODE_FILE_EXTENSION, "test1")));
+        }
+        assertTrue(fm.deleteEntry("Note 0", "test1"));
+        fm.close();
+
+        FileManager reloadedFm = new FileManager(PATH, topics);
+        reloadedFm.initialize();
+        Topic reloadedTopic = reloadedFm.decodeAll().get("test1");
+        assertEquals(entryCount - 1, reloadedTopic.getC2040CFiles().size());
+        assertFalse(reloadedTopic.isInsideTopic("Note 0"));
+        deleteAll(new File(PATH));
+    }
+
+    @Test
+    void isTestModeKeptInMemory_defaultTestMode_expectTrue() {
+        String path = "./testmodedata";
+        ArrayList<String> topics = new ArrayList<>(Arrays.asList("test1", "test2"));
+        FileManager fm = new FileManager(path, topics);
+        fm.initialize();
+        fm.testMode();
+        assertTrue(fm.addEntry("Test Note", new Code("Test Note", "Test Note" + CODE_FILE_EXTENSION, "test1")));
+        assertTrue(fm.decodeAll().get("test1").isInsideTopic("Test Note"));
+        assertFalse(new File(PATH).exists());
+        fm.exitTestMode();
+
+        assertFalse(fm.decodeAll().get("test1").isInsideTopic("Test Note"));
+        assertEquals(0, new File(path + FILE_DIVIDER + "test1" + NOTE_FILE_EXTENSION).length());
+        fm.close();
+        deleteAll(new File(path));
+    }
+
+    @Test
+    void isTestModeStoredOnDisk_persistedTestMode_expectTrue() {
+        String path = "./testmodedata";
+        ArrayList<String> topics = new ArrayList<>(Arrays.asList("test1", "test2"));
+        FileManager fm = new FileManager(path, topics);
+        fm.initialize();
+        fm.persistTestMode();
+        fm.testMode();
+        assertTrue(new File(PATH + FILE_DIVIDER + "test1" + NOTE_FILE_EXTENSION).exists());
+        fm.exitTestMode();
+
+        assertFalse(new File(PATH).exists());
+        fm.close();
+        deleteAll(new File(path));
+    }
+
+    @Test
+    void isTestModeStartRefused_testModeStartedTwice_expectChangesOutsideTestModeKept() {
+        String path = "./testmodedata";
+        ArrayList<String> topics = new ArrayList<>(Arrays.asList("test1", "test2"));
+        FileManager fm = new FileManager(path, topics);
+        fm.setDurabilityPolicy(DurabilityPolicy.onExit(false));
+        fm.initialize();
+        assertTrue(fm.addEntry("Before", new Code("Before", "Before" + CODE_FILE_EXTENSION, "test1")));
+        assertTrue(fm.testMode());
+        assertTrue(new File(path + FILE_DIVIDER + "test1" + NOTE_FILE_EXTENSION).length() > 0);
+        assertFalse(fm.testMode());
+        assertFalse(fm.forkTestMode());
+        fm.exitTestMode();
+        assertTrue(fm.addEntry("After", new Code("After", "After" + CODE_FILE_EXTENSION, "test1")));
+        fm.close();
+
+        FileManager reloadedFm = new FileManager(path, topics);
+        reloadedFm.initialize();
+        Topic reloadedTopic = reloadedFm.decodeAll().get("test1");
+        assertTrue(reloadedTopic.isInsideTopic("Before"));
+        assertTrue(reloadedTopic.isInsideTopic("After"));
+        reloadedFm.close();
+        deleteAll(new File(path));
+    }
+
+    @Test
+    void isNothingWritten_memoryStorage_expectNoFolder() throws IOException {
+        String path = "./memorydata";
+        String notePath = "memorynote" + NOTE_FILE_EXTENSION;
+        FileWriter writer = new FileWriter(notePath);
+        writer.write("A heap is a complete binary tree.");
+        writer.close();
+        ArrayList<String> topics = new ArrayList<>(Arrays.asList("test1", "test2"));
+        FileManager fm = new FileManager(path, topics, StorageBackend.MEMORY);
+        fm.initialize();
+        fm.loadWorkspaceManifest();
+        assertTrue(fm.addEntry("Test Note", new Code("Test Note", notePath, "test1")));
+        fm.indexContents("Test Note", notePath);
+        fm.close();
+
+        assertFalse(new File(path).exists());
+        assertTrue(new File(notePath).delete());
+    }
+
+    @Test
+    void isClosedOnce_closeCalledTwice_expectNothingWrittenAgain() throws IOException {
+        String notePath = "closednote" + NOTE_FILE_EXTENSION;
+        FileWriter writer = new FileWriter(notePath);
+        writer.write("A stack is last in, first out.");
+        writer.close();
+        ArrayList<String> topics = new ArrayList<>(Arrays.asList("test1", "test2"));
+        FileManager fm = new FileManager(PATH, topics);
+        fm.initialize();
+        fm.close();
+        deleteAll(new File(PATH));
+
+        fm.getWorkspaceManifest().refresh(notePath);
+        fm.close();
+        assertFalse(new File(PATH).exists());
+        assertTrue(new File(notePath).delete());
+    }
 }
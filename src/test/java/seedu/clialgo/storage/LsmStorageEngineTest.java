@@ -0,0 +1,132 @@
+package seedu.clialgo.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.clialgo.file.Code;
+import seedu.clialgo.file.Note;
+import seedu.clialgo.logic.Topic;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LsmStorageEngineTest {
+    private static final File FOLDER = new File("./lsmtest");
+    private static final String TOPIC = "SORTING";
+    private static final ArrayList<String> TOPIC_NAMES = new ArrayList<>(Arrays.asList(TOPIC, "LINKED_LIST"));
+
+    private void deleteAll() {
+        File[] files = FOLDER.listFiles();
+        if (files != null) {
+            for (File f : files) {
+                f.delete();
+            }
+        }
+        FOLDER.delete();
+    }
+
+    private int countSegmentFiles() {
+        File[] files = FOLDER.listFiles((folder, name) -> name.endsWith(".lsm"));
+        return files == null ? 0 : files.length;
+    }
+
+    private LsmStorageEngine openEngine(long memtableFlushBytes) {
+        LsmStorageEngine engine = new LsmStorageEngine(FOLDER.getPath(), TOPIC_NAMES, memtableFlushBytes);
+        engine.initialize();
+        return engine;
+    }
+
+    @BeforeEach
+    public void setUp() {
+        deleteAll();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        deleteAll();
+    }
+
+    @Test
+    void addEntry_reopenedFromLog_expectSameTopics() {
+        LsmStorageEngine engine = openEngine(1 << 20);
+        assertTrue(engine.addEntry("Quick Sort", new Note("Quick Sort", "Quick Sort.txt", TOPIC, 3)));
+        assertTrue(engine.addEntry("Linked List", new Code("Linked List", "Linked List.cpp", "LINKED_LIST", 5)));
+        assertTrue(engine.addEntry("Heap Sort", new Note("Heap Sort", "Heap Sort.txt", TOPIC, 1)));
+        assertTrue(engine.deleteEntry("Heap Sort", TOPIC));
+
+        // The log is replayed as the engine is not closed
+        LsmStorageEngine reopenedEngine = openEngine(1 << 20);
+        Topic sorting = reopenedEngine.loadTopic(TOPIC);
+        assertTrue(sorting.isInsideTopic("Quick Sort"));
+        assertFalse(sorting.isInsideTopic("Heap Sort"));
+        assertTrue(reopenedEngine.loadTopic("LINKED_LIST").getC2040CFiles().get("Linked List") instanceof Code);
+        assertEquals(TOPIC, reopenedEngine.getNameIndex().get("quick sort"));
+        assertNull(reopenedEngine.getNameIndex().get("heap sort"));
+        assertEquals(Map.of("quick sort", TOPIC, "linked list", "LINKED_LIST"), reopenedEngine.getNameIndex());
+        reopenedEngine.close();
+        engine.close();
+    }
+
+    @Test
+    void addEntry_manyEntries_expectFlushedAndMergedSegments() {
+        LsmStorageEngine engine = openEngine(512);
+        for (int i = 0; i < 400; i++) {
+            String name = "note " + i;
+            engine.addEntry(name, new Note(name, name + ".txt", TOPIC_NAMES.get(i % 2), i % 10 + 1));
+        }
+        for (int i = 0; i < 400; i += 4) {
+            engine.deleteEntry("note " + i, TOPIC_NAMES.get(i % 2));
+        }
+        engine.close();
+        assertTrue(countSegmentFiles() < 10);
+
+        LsmStorageEngine reopenedEngine = openEngine(512);
+        assertEquals(100, reopenedEngine.loadTopic(TOPIC).getC2040CFiles().size());
+        assertEquals(200, reopenedEngine.loadTopic("LINKED_LIST").getC2040CFiles().size());
+        assertEquals(300, reopenedEngine.getNameIndex().size());
+        assertTrue(reopenedEngine.getNameIndex().containsKey("note 399"));
+        assertFalse(reopenedEngine.getNameIndex().containsKey("note 396"));
+        assertFalse(reopenedEngine.getNameIndex().containsKey("missing note"));
+        reopenedEngine.close();
+    }
+
+    @Test
+    void deleteAllEntry_flushedTopic_expectTopicEmpty() {
+        LsmStorageEngine engine = openEngine(64);
+        engine.addEntry("Quick Sort", new Note("Quick Sort", "Quick Sort.txt", TOPIC, 3));
+        engine.addEntry("Linked List", new Note("Linked List", "Linked List.txt", "LINKED_LIST", 3));
+        engine.deleteAllEntry(TOPIC);
+
+        assertTrue(engine.loadTopic(TOPIC).isEmpty());
+        assertFalse(engine.getNameIndex().containsKey("quick sort"));
+        assertFalse(engine.getNameIndex().isEmpty());
+        engine.close();
+    }
+
+    @Test
+    void initialize_damagedLogTail_expectIntactEntriesKept() throws IOException {
+        LsmStorageEngine engine = openEngine(1 << 20);
+        engine.addEntry("Quick Sort", new Note("Quick Sort", "Quick Sort.txt", TOPIC, 3));
+        engine.addEntry("Heap Sort", new Note("Heap Sort", "Heap Sort.txt", TOPIC, 1));
+        try (RandomAccessFile log = new RandomAccessFile(new File(FOLDER, LsmStorageEngine.LOG_FILE_NAME), "rw")) {
+            log.setLength(log.length() - 1);
+        }
+
+        LsmStorageEngine reopenedEngine = openEngine(1 << 20);
+        assertTrue(reopenedEngine.loadTopic(TOPIC).isInsideTopic("Quick Sort"));
+        assertTrue(reopenedEngine.loadTopic(TOPIC).isInsideTopic("Heap Sort"));
+        // The name key of Heap Sort was the last entry written, so it is the one cut off
+        assertFalse(reopenedEngine.getNameIndex().containsKey("heap sort"));
+        reopenedEngine.close();
+        engine.close();
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.clialgo.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.clialgo.file.Note;
+import seedu.clialgo.logic.Topic;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MaintenanceSchedulerTest {
+    private static final ArrayList<String> TOPIC_NAMES = new ArrayList<>(Arrays.asList("SORTING", "LINKED_LIST"));
+
+    @Test
+    void runPass_everyTopicScrubbed_expectReportPublished() {
+        List<String> scrubbedTopics = new CopyOnWriteArrayList<>();
+        MaintenanceScheduler scheduler = new MaintenanceScheduler(TOPIC_NAMES, (topicName, report) -> {
+            scrubbedTopics.add(topicName);
+            report.addCompaction(10);
+        }, 0);
+        assertNull(scheduler.getLastReport());
+
+        scheduler.runPass();
+        assertEquals(TOPIC_NAMES, scrubbedTopics);
+        assertEquals(1, scheduler.getPassCount());
+        assertEquals(2, scheduler.getLastReport().getTopicCount());
+        assertEquals(20, scheduler.getLastReport().getReclaimedBytes());
+        assertFalse(scheduler.isPassRunning());
+        scheduler.stop();
+    }
+
+    @Test
+    void runPass_commandRunning_expectPassWaitsForCommand() throws InterruptedException {
+        List<String> events = new CopyOnWriteArrayList<>();
+        MaintenanceScheduler scheduler = new MaintenanceScheduler(TOPIC_NAMES,
+                (topicName, report) -> events.add(topicName), 0);
+        scheduler.beginCommand();
+        Thread passThread = new Thread(scheduler::runPass);
+        passThread.start();
+        Thread.sleep(100);
+        assertTrue(events.isEmpty());
+        assertTrue(scheduler.isPassRunning());
+
+        events.add("command");
+        scheduler.endCommand();
+        passThread.join(5000);
+        assertEquals(Arrays.asList("command", "SORTING", "LINKED_LIST"), events);
+        scheduler.stop();
+    }
+
+    @Test
+    void runPass_stoppedWhileWaiting_expectNoReport() throws InterruptedException {
+        MaintenanceScheduler scheduler = new MaintenanceScheduler(TOPIC_NAMES, (topicName, report) -> { }, 0);
+        scheduler.beginCommand();
+        Thread passThread = new Thread(scheduler::runPass);
+        passThread.start();
+        scheduler.stop();
+        passThread.join(5000);
+        assertFalse(passThread.isAlive());
+        assertNull(scheduler.getLastReport());
+    }
+
+    @Test
+    void runPass_failingTopicAndMissingFile_expectBothReported() throws IOException {
+        File existingFile = new File("./existing.txt");
+        existingFile.createNewFile();
+        HashMap<String, Topic> topics = new HashMap<>();
+        Topic sorting = new Topic("SORTING");
+        sorting.addCS2040CFile("existing", new Note("existing", existingFile.getPath(), "SORTING"));
+        sorting.addCS2040CFile("missing", new Note("missing", "./missing.txt", "SORTING"));
+        topics.put("SORTING", sorting);
+        MaintenanceScheduler scheduler = new MaintenanceScheduler(TOPIC_NAMES,
+                (topicName, report) -> report.checkReferencedFiles(topics.get(topicName)), 0);
+
+        scheduler.runPass();
+        MaintenanceReport report = scheduler.getLastReport();
+        assertEquals(Arrays.asList("missing"), report.getMissingFiles());
+        assertEquals(Arrays.asList("LINKED_LIST"), report.getFailedTopics());
+        assertEquals(1, report.getTopicCount());
+        scheduler.stop();
+        existingFile.delete();
+    }
+}
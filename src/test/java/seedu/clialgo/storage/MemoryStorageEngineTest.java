@@ -0,0 +1,100 @@
+package seedu.clialgo.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.clialgo.file.Code;
+import seedu.clialgo.file.Note;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MemoryStorageEngineTest {
+    private static final String TOPIC = "SORTING";
+    private static final ArrayList<String> TOPIC_NAMES = new ArrayList<>(Arrays.asList(TOPIC, "LINKED_LIST"));
+
+    private MemoryStorageEngine engine;
+
+    @BeforeEach
+    public void setUp() {
+        engine = new MemoryStorageEngine(TOPIC_NAMES);
+        engine.initialize();
+    }
+
+    @Test
+    void addEntry_noteAndCode_expectStoredAndIndexed() {
+        assertTrue(engine.addEntry("Quick Sort", new Note("Quick Sort", "Quick Sort.txt", TOPIC, 3)));
+        assertTrue(engine.addEntry("Heap Sort", new Code("Heap Sort", "Heap Sort.cpp", TOPIC, 5)));
+
+        assertTrue(engine.loadTopic(TOPIC).isInsideTopic("Quick Sort"));
+        assertTrue(engine.decodeAll().get(TOPIC).isInsideTopic("Heap Sort"));
+        assertEquals(TOPIC, engine.getNameIndex().get("quick sort"));
+        assertTrue(engine.decodeAll().get("LINKED_LIST").isEmpty());
+    }
+
+    @Test
+    void deleteEntry_addedNote_expectRemovedFromTopicAndIndex() {
+        engine.addEntry("Quick Sort", new Note("Quick Sort", "Quick Sort.txt", TOPIC, 3));
+        assertTrue(engine.deleteEntry("Quick Sort", TOPIC));
+
+        assertFalse(engine.loadTopic(TOPIC).isInsideTopic("Quick Sort"));
+        assertTrue(engine.getNameIndex().isEmpty());
+    }
+
+    @Test
+    void fileManager_memoryBackend_expectNoDataFolder() {
+        String path = "./memorytest";
+        FileManager fileManager = new FileManager(path, TOPIC_NAMES, StorageBackend.MEMORY);
+        fileManager.initializeLazily();
+        fileManager.addEntry("Quick Sort", new Note("Quick Sort", "Quick Sort.txt", TOPIC, 3));
+        fileManager.testMode();
+        assertFalse(fileManager.decodeAll().get(TOPIC).isInsideTopic("Quick Sort"));
+        fileManager.exitTestMode();
+        fileManager.close();
+
+        assertTrue(fileManager.decodeAll().get(TOPIC).isInsideTopic("Quick Sort"));
+        assertFalse(new File(path).exists());
+    }
+
+    @Test
+    void fork_changesInFork_expectBaseUnchanged() {
+        engine.addEntry("Quick Sort", new Note("Quick Sort", "Quick Sort.txt", TOPIC, 3));
+        MemoryStorageEngine fork = new MemoryStorageEngine(TOPIC_NAMES, engine);
+        fork.initialize();
+        assertTrue(fork.loadTopic(TOPIC).isInsideTopic("Quick Sort"));
+        assertEquals(TOPIC, fork.getNameIndex().get("quick sort"));
+
+        fork.deleteEntry("Quick Sort", TOPIC);
+        fork.addEntry("Heap Sort", new Code("Heap Sort", "Heap Sort.cpp", TOPIC, 5));
+        assertFalse(fork.decodeAll().get(TOPIC).isInsideTopic("Quick Sort"));
+        assertEquals(1, fork.getNameIndex().size());
+        fork.deleteStorage();
+
+        assertTrue(engine.loadTopic(TOPIC).isInsideTopic("Quick Sort"));
+        assertFalse(engine.loadTopic(TOPIC).isInsideTopic("Heap Sort"));
+        assertEquals(1, engine.getNameIndex().size());
+    }
+
+    @Test
+    void forkTestMode_textBackend_expectDataFilesUnchanged() {
+        String path = "./forktest";
+        FileManager fileManager = new FileManager(path, TOPIC_NAMES, StorageBackend.TEXT);
+        fileManager.initialize();
+        fileManager.addEntry("Quick Sort", new Note("Quick Sort", "Quick Sort.txt", TOPIC, 3));
+        fileManager.forkTestMode();
+        assertTrue(fileManager.decodeAll().get(TOPIC).isInsideTopic("Quick Sort"));
+        fileManager.deleteEntry("Quick Sort", TOPIC);
+        fileManager.exitTestMode();
+        fileManager.close();
+
+        FileManager reloadedFileManager = new FileManager(path, TOPIC_NAMES, StorageBackend.TEXT);
+        reloadedFileManager.initialize();
+        assertTrue(reloadedFileManager.decodeAll().get(TOPIC).isInsideTopic("Quick Sort"));
+        reloadedFileManager.close();
+        FileManager.deleteAll(new File(path));
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.clialgo.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class NameDirectoryTest {
+    private static final File DIRECTORY_FILE = new File("./" + NameDirectory.FILE_NAME);
+    private static final File DATA_FILE = new File("./SORTING.bin");
+
+    private HashMap<String, File> dataFiles;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        DATA_FILE.createNewFile();
+        dataFiles = new HashMap<>(Map.of("SORTING", DATA_FILE));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        DIRECTORY_FILE.delete();
+        DATA_FILE.delete();
+    }
+
+    @Test
+    void load_savedDirectory_expectSameNames() throws IOException {
+        HashMap<String, String> nameIndex = new HashMap<>(Map.of("quick sort", "SORTING", "merge sort", "SORTING"));
+        NameDirectory nameDirectory = new NameDirectory(DIRECTORY_FILE);
+        nameDirectory.save(nameIndex, dataFiles);
+        assertEquals(nameIndex, nameDirectory.load(dataFiles));
+    }
+
+    @Test
+    void load_dataFileChanged_expectNull() throws IOException {
+        NameDirectory nameDirectory = new NameDirectory(DIRECTORY_FILE);
+        nameDirectory.save(new HashMap<>(Map.of("quick sort", "SORTING")), dataFiles);
+        FileWriter fileWriter = new FileWriter(DATA_FILE, true);
+        fileWriter.write("changed");
+        fileWriter.close();
+        assertNull(nameDirectory.load(dataFiles));
+    }
+
+    @Test
+    void load_invalidatedDirectory_expectNull() throws IOException {
+        NameDirectory nameDirectory = new NameDirectory(DIRECTORY_FILE);
+        nameDirectory.save(new HashMap<>(), dataFiles);
+        nameDirectory.invalidate();
+        assertNull(nameDirectory.load(dataFiles));
+    }
+}
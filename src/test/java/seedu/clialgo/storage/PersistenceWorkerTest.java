@@ -0,0 +1,56 @@
+package seedu.clialgo.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import seedu.clialgo.file.Note;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PersistenceWorkerTest {
+    private static final String TOPIC = "test";
+    private static final File DATA_FILE = new File("./" + TOPIC + TextCodec.FILE_EXTENSION);
+
+    @AfterEach
+    public void tearDown() {
+        DATA_FILE.delete();
+    }
+
+    private SingleFile createSingleFile(PersistenceWorker persistenceWorker) throws IOException {
+        DATA_FILE.createNewFile();
+        SingleFile singleFile = new SingleFile(DATA_FILE, TOPIC, new TextCodec(FileManager.SEPARATOR));
+        singleFile.setPersistenceWorker(persistenceWorker);
+        return singleFile;
+    }
+
+    private void addNotes(SingleFile singleFile, int noteCount) throws IOException {
+        for (int i = 0; i < noteCount; i++) {
+            String name = "note" + i;
+            singleFile.writeCS2040CFileToFile(name, new Note(name, name + ".txt", TOPIC, 1));
+        }
+    }
+
+    @Test
+    void drain_queuedCommits_expectAllRecordsWritten() throws IOException {
+        PersistenceWorker persistenceWorker = new PersistenceWorker();
+        SingleFile singleFile = createSingleFile(persistenceWorker);
+        addNotes(singleFile, 50);
+        persistenceWorker.drain();
+        assertEquals(50, Files.readAllLines(DATA_FILE.toPath()).size());
+        persistenceWorker.stop();
+        singleFile.close();
+    }
+
+    @Test
+    void stop_commitsAfterStop_expectRunOnCallingThread() throws IOException {
+        PersistenceWorker persistenceWorker = new PersistenceWorker();
+        persistenceWorker.stop();
+        SingleFile singleFile = createSingleFile(persistenceWorker);
+        addNotes(singleFile, 3);
+        assertEquals(3, Files.readAllLines(DATA_FILE.toPath()).size());
+        singleFile.close();
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.clialgo.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SegmentTest {
+    private static final File FILE = new File("./segmenttest.lsm");
+
+    private TreeMap<String, byte[]> writeEntries(int count) throws IOException {
+        TreeMap<String, byte[]> entries = new TreeMap<>();
+        for (int i = 0; i < count; i++) {
+            entries.put(String.format("key %04d", i), ("value " + i).getBytes(StandardCharsets.UTF_8));
+        }
+        entries.put("key 0010", Segment.TOMBSTONE);
+        Segment.write(FILE, 2, entries.entrySet().iterator(), entries.size());
+        return entries;
+    }
+
+    @AfterEach
+    public void tearDown() {
+        FILE.delete();
+    }
+
+    @Test
+    void get_writtenSegment_expectSameValues() throws IOException {
+        TreeMap<String, byte[]> entries = writeEntries(200);
+        Segment segment = Segment.open(FILE);
+        assertEquals(2, segment.getLevel());
+        assertEquals(200, segment.getEntryCount());
+        for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+            assertArrayEquals(entry.getValue(), segment.get(entry.getKey()));
+        }
+        assertSame(Segment.TOMBSTONE, segment.get("key 0010"));
+        assertNull(segment.get("key 0200"));
+        assertNull(segment.get("a key before all others"));
+        segment.close();
+    }
+
+    @Test
+    void iterator_fromKey_expectFollowingEntriesInOrder() throws IOException {
+        writeEntries(200);
+        Segment segment = Segment.open(FILE);
+        Iterator<Map.Entry<String, byte[]>> iterator = segment.iterator("key 0150x");
+        for (int i = 151; i < 200; i++) {
+            assertEquals(String.format("key %04d", i), iterator.next().getKey());
+        }
+        assertFalse(iterator.hasNext());
+        segment.close();
+    }
+
+    @Test
+    void open_corruptedFooter_expectIOException() throws IOException {
+        writeEntries(10);
+        try (RandomAccessFile file = new RandomAccessFile(FILE, "rw")) {
+            file.seek(file.length() - 20);
+            int value = file.read();
+            file.seek(file.length() - 20);
+            file.write(value ^ 1);
+        }
+        assertThrows(IOException.class, () -> Segment.open(FILE));
+    }
+}
@@ -3,18 +3,29 @@ package seedu.clialgo.storage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import seedu.clialgo.Ui;
+import seedu.clialgo.file.Note;
 
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 public class SingleFileTest {
     private static final String PATH = "./test";
-    private FileDecoder fileDecoder;
+    private static final String SEPARATOR = "@&";
+    private static final String TOPIC = "test";
+    private RecordCodec codec;
     private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 
     /**
@@ -44,8 +55,7 @@ public class SingleFileTest {
     @BeforeEach
     public void setUp() {
         System.setOut(new PrintStream(outputStream));
-        String separator = "@&";
-        fileDecoder = new FileDecoder(separator);
+        codec = new TextCodec(SEPARATOR);
         deleteAll(new File(PATH));
         outputStream.reset();
     }
@@ -62,7 +72,7 @@ public class SingleFileTest {
             if (!file.createNewFile()) {
                 System.out.println("ERROR 2");
             }
-            SingleFile singleFile = new SingleFile(file, "test", fileDecoder);
+            SingleFile singleFile = new SingleFile(file, "test", codec);
             FileWriter fileWriter = new FileWriter(file);
             String corruptedString = "corrupted";
             fileWriter.write(corruptedString);
@@ -78,15 +88,252 @@ public class SingleFileTest {
         if (os.contains("Windows")) {
             expectedOutput = "======================================================\r\n" +
                     "1 corrupted save entry detected in test.txt.\r\n" +
-                    "Note that the corrupted entries are discarded!\r\n" +
+                    "All other entries were kept. The corrupted entries were moved to test.txt.quarantine.\r\n" +
                     "======================================================\r\n";
         } else {
             expectedOutput = "======================================================\n" +
                     "1 corrupted save entry detected in test.txt.\n" +
-                    "Note that the corrupted entries are discarded!\n" +
+                    "All other entries were kept. The corrupted entries were moved to test.txt.quarantine.\n" +
                     "======================================================\n";
         }
         assertEquals(expectedOutput, outputStream.toString());
         deleteAll(new File(PATH));
     }
+
+    /**
+     * Creates an empty .txt file for a <code>SingleFile</code> in <code>PATH</code>.
+     *
+     * @return The <code>File</code> created.
+     */
+    private File createTestFile() throws IOException {
+        Files.createDirectories(new File(PATH).toPath());
+        File file = new File(PATH + "/" + TOPIC + ".txt");
+        if (!file.createNewFile()) {
+            System.out.println("ERROR 1");
+        }
+        return file;
+    }
+
+    private void addNote(SingleFile singleFile, String name) throws IOException {
+        Note note = new Note(name, name + ".txt", TOPIC, 1);
+        singleFile.writeCS2040CFileToFile(name, note);
+    }
+
+    @Test
+    void isOnlyDamagedLineQuarantined_textCodec_expectTrue() throws IOException {
+        File file = createTestFile();
+        SingleFile singleFile = new SingleFile(file, TOPIC, codec);
+        addNote(singleFile, "first");
+        addNote(singleFile, "second");
+        addNote(singleFile, "third");
+        List<String> lines = Files.readAllLines(file.toPath());
+        String damagedLine = lines.get(1).replace("second", "sec0nd");
+        lines.set(1, damagedLine);
+        Files.write(file.toPath(), lines);
+
+        SingleFile reloadedFile = new SingleFile(file, TOPIC, codec);
+        reloadedFile.readFile();
+        assertTrue(reloadedFile.convertFileToTopic().isInsideTopic("first"));
+        assertFalse(reloadedFile.convertFileToTopic().isInsideTopic("sec0nd"));
+        assertTrue(reloadedFile.convertFileToTopic().isInsideTopic("third"));
+        assertEquals(2, Files.readAllLines(file.toPath()).size());
+        assertEquals(List.of(damagedLine), Files.readAllLines(reloadedFile.getQuarantineFile().toPath()));
+        deleteAll(new File(PATH));
+    }
+
+    @Test
+    void isOnlyDamagedRecordQuarantined_binaryCodec_expectTrue() throws IOException {
+        Files.createDirectories(new File(PATH).toPath());
+        File file = new File(PATH + "/" + TOPIC + BinaryCodec.FILE_EXTENSION);
+        RecordCodec binaryCodec = new BinaryCodec(new ArrayList<>(List.of(TOPIC)));
+        SingleFile singleFile = new SingleFile(file, TOPIC, binaryCodec);
+        singleFile.load();
+        addNote(singleFile, "first");
+        long damagedRecordStart = file.length();
+        addNote(singleFile, "second");
+        long damagedRecordEnd = file.length();
+        addNote(singleFile, "third");
+        singleFile.close();
+        try (RandomAccessFile dataFile = new RandomAccessFile(file, "rw")) {
+            dataFile.seek(damagedRecordEnd - 6);
+            dataFile.write('x');
+        }
+
+        SingleFile reloadedFile = new SingleFile(file, TOPIC, binaryCodec.copy());
+        reloadedFile.readFile();
+        assertTrue(reloadedFile.convertFileToTopic().isInsideTopic("first"));
+        assertFalse(reloadedFile.convertFileToTopic().isInsideTopic("second"));
+        assertTrue(reloadedFile.convertFileToTopic().isInsideTopic("third"));
+        assertEquals(damagedRecordEnd - damagedRecordStart, reloadedFile.getQuarantineFile().length());
+        deleteAll(new File(PATH));
+    }
+
+    @Test
+    void scrub_loadedFileWithDamagedLine_expectRepairedAndCompacted() throws IOException {
+        File file = createTestFile();
+        SingleFile singleFile = new SingleFile(file, TOPIC, codec);
+        singleFile.load();
+        addNote(singleFile, "first");
+        addNote(singleFile, "second");
+        addNote(singleFile, "third");
+        singleFile.deleteEntry("first");
+        List<String> lines = Files.readAllLines(file.toPath());
+        String damagedLine = lines.get(1).replace("second", "sec0nd");
+        lines.set(1, damagedLine);
+        Files.write(file.toPath(), lines);
+
+        // A SingleFile which has not been loaded only counts the damaged line
+        MaintenanceReport unloadedReport = new MaintenanceReport();
+        new SingleFile(file, TOPIC, codec).scrub(unloadedReport);
+        assertEquals(1, unloadedReport.getCorruptedRecordCount());
+        assertEquals(0, unloadedReport.getRepairedRecordCount());
+        assertEquals(4, Files.readAllLines(file.toPath()).size());
+
+        MaintenanceReport report = new MaintenanceReport();
+        singleFile.scrub(report);
+        assertEquals(1, report.getRepairedRecordCount());
+        assertEquals(1, report.getCompactedFileCount());
+        assertTrue(report.getReclaimedBytes() > 0);
+        assertEquals(0, singleFile.getDeadRecordCount());
+        assertEquals(2, Files.readAllLines(file.toPath()).size());
+        assertEquals(List.of(damagedLine), Files.readAllLines(singleFile.getQuarantineFile().toPath()));
+
+        SingleFile reloadedFile = new SingleFile(file, TOPIC, codec);
+        reloadedFile.readFile();
+        assertTrue(reloadedFile.convertFileToTopic().isInsideTopic("second"));
+        assertTrue(reloadedFile.convertFileToTopic().isInsideTopic("third"));
+        assertFalse(reloadedFile.convertFileToTopic().isInsideTopic("first"));
+        deleteAll(new File(PATH));
+    }
+
+    @Test
+    void isDeletedEntryAppendedAsTombstone_expectTrue() throws IOException {
+        File file = createTestFile();
+        SingleFile singleFile = new SingleFile(file, TOPIC, codec);
+        addNote(singleFile, "kept");
+        addNote(singleFile, "removed");
+        singleFile.deleteEntry("removed");
+
+        assertEquals(3, Files.readAllLines(file.toPath()).size());
+        SingleFile reloadedFile = new SingleFile(file, TOPIC, codec);
+        reloadedFile.readFile();
+        assertTrue(reloadedFile.convertFileToTopic().isInsideTopic("kept"));
+        assertFalse(reloadedFile.convertFileToTopic().isInsideTopic("removed"));
+        deleteAll(new File(PATH));
+    }
+
+    @Test
+    void isFileCompactedWhenMostlyDead_expectTrue() throws IOException {
+        File file = createTestFile();
+        SingleFile singleFile = new SingleFile(file, TOPIC, codec);
+        int entryCount = 100;
+        for (int i = 0; i < entryCount; i++) {
+            addNote(singleFile, "note" + i);
+        }
+        for (int i = 1; i < entryCount; i++) {
+            singleFile.deleteEntry("note" + i);
+        }
+
+        assertTrue(Files.readAllLines(file.toPath()).size() < entryCount);
+        assertTrue(singleFile.getDeadRecordCount() < entryCount);
+        assertTrue(singleFile.convertFileToTopic().isInsideTopic("note0"));
+        deleteAll(new File(PATH));
+    }
+
+    @Test
+    void areRecordsCommittedOnlyOnClose_onExitPolicy_expectTrue() throws IOException {
+        File file = createTestFile();
+        SingleFile singleFile = new SingleFile(file, TOPIC, codec);
+        singleFile.setDurabilityPolicy(DurabilityPolicy.onExit(false));
+        addNote(singleFile, "first");
+        addNote(singleFile, "second");
+        assertEquals(0, file.length());
+
+        singleFile.close();
+        assertEquals(2, Files.readAllLines(file.toPath()).size());
+        deleteAll(new File(PATH));
+    }
+
+    @Test
+    void areRecordsCommittedTogether_intervalPolicy_expectTrue() throws IOException {
+        File file = createTestFile();
+        SingleFile singleFile = new SingleFile(file, TOPIC, codec);
+        singleFile.setDurabilityPolicy(DurabilityPolicy.interval(60_000, true));
+        addNote(singleFile, "first");
+        singleFile.deleteEntry("first");
+        addNote(singleFile, "second");
+        assertEquals(0, file.length());
+
+        singleFile.commit();
+        singleFile.close();
+        SingleFile reloadedFile = new SingleFile(file, TOPIC, codec);
+        reloadedFile.readFile();
+        assertFalse(reloadedFile.convertFileToTopic().isInsideTopic("first"));
+        assertTrue(reloadedFile.convertFileToTopic().isInsideTopic("second"));
+        deleteAll(new File(PATH));
+    }
+
+    @Test
+    void areRecordsKept_commitFails_expectRetriedByNextCommit() throws IOException {
+        File file = createTestFile();
+        SingleFile singleFile = new SingleFile(file, TOPIC, codec);
+        singleFile.setDurabilityPolicy(DurabilityPolicy.interval(60_000, true));
+        addNote(singleFile, "first");
+        addNote(singleFile, "second");
+        // The data file cannot be opened for writing while a folder takes its place
+        assertTrue(file.delete());
+        assertTrue(file.mkdir());
+        assertThrows(IOException.class, singleFile::commit);
+
+        assertTrue(file.delete());
+        singleFile.commit();
+        singleFile.close();
+        SingleFile reloadedFile = new SingleFile(file, TOPIC, codec);
+        reloadedFile.readFile();
+        assertTrue(reloadedFile.convertFileToTopic().isInsideTopic("first"));
+        assertTrue(reloadedFile.convertFileToTopic().isInsideTopic("second"));
+        deleteAll(new File(PATH));
+    }
+
+    @Test
+    void isRecordWithdrawn_commitForCommandFails_expectExceptionAndRecordNotWritten() throws IOException {
+        File file = createTestFile();
+        SingleFile singleFile = new SingleFile(file, TOPIC, codec);
+        addNote(singleFile, "first");
+        singleFile.close();
+        File movedFile = new File(PATH + "/moved.txt");
+        assertTrue(file.renameTo(movedFile));
+        assertTrue(file.mkdir());
+        assertThrows(IOException.class, () -> addNote(singleFile, "second"));
+        assertFalse(singleFile.convertFileToTopic().isInsideTopic("second"));
+
+        assertTrue(file.delete());
+        assertTrue(movedFile.renameTo(file));
+        addNote(singleFile, "third");
+        singleFile.close();
+        SingleFile reloadedFile = new SingleFile(file, TOPIC, codec);
+        reloadedFile.readFile();
+        assertTrue(reloadedFile.convertFileToTopic().isInsideTopic("first"));
+        assertFalse(reloadedFile.convertFileToTopic().isInsideTopic("second"));
+        assertTrue(reloadedFile.convertFileToTopic().isInsideTopic("third"));
+        deleteAll(new File(PATH));
+    }
+
+    @Test
+    void isMappingFreed_dataFileReadAndScrubbed_expectDataFileNotMapped() throws IOException {
+        File mappings = new File("/proc/self/maps");
+        assumeTrue(mappings.canRead());
+        File file = createTestFile();
+        SingleFile singleFile = new SingleFile(file, TOPIC, codec);
+        addNote(singleFile, "first");
+        singleFile.close();
+
+        SingleFile reloadedFile = new SingleFile(file, TOPIC, codec);
+        reloadedFile.readFile();
+        reloadedFile.scrub(new MaintenanceReport());
+        assertTrue(reloadedFile.convertFileToTopic().isInsideTopic("first"));
+        String dataFilePath = file.getCanonicalPath();
+        assertFalse(Files.readAllLines(mappings.toPath()).stream().anyMatch(line -> line.endsWith(dataFilePath)));
+        deleteAll(new File(PATH));
+    }
 }
@@ -0,0 +1,187 @@
+package seedu.clialgo.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.clialgo.file.CS2040CFile;
+import seedu.clialgo.file.Code;
+import seedu.clialgo.file.Note;
+import seedu.clialgo.logic.Topic;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SlottedStorageEngineTest {
+    private static final File FOLDER = new File("./slottedtest");
+    private static final File SLOT_FILE = new File(FOLDER,
+            SlottedStorageEngine.FILE_NAME + SlottedStorageEngine.FILE_EXTENSION);
+    private static final String TOPIC = "SORTING";
+    private static final ArrayList<String> TOPIC_NAMES = new ArrayList<>(Arrays.asList(TOPIC, "LINKED_LIST"));
+
+    private void deleteAll() {
+        File[] files = FOLDER.listFiles();
+        if (files != null) {
+            for (File f : files) {
+                f.delete();
+            }
+        }
+        FOLDER.delete();
+    }
+
+    private SlottedStorageEngine openEngine() {
+        SlottedStorageEngine engine = new SlottedStorageEngine(FOLDER.getPath(), TOPIC_NAMES);
+        engine.initialize();
+        return engine;
+    }
+
+    @BeforeEach
+    public void setUp() {
+        deleteAll();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        deleteAll();
+    }
+
+    @Test
+    void addEntry_reopened_expectSameTopics() {
+        SlottedStorageEngine engine = openEngine();
+        assertTrue(engine.addEntry("Quick Sort", new Note("Quick Sort", "Quick Sort.txt", TOPIC, 3)));
+        assertTrue(engine.addEntry("Linked List", new Code("Linked List", "Linked List.cpp", "LINKED_LIST", 5)));
+        assertTrue(engine.addEntry("Heap Sort", new Note("Heap Sort", "Heap Sort.txt", TOPIC, 1)));
+        assertTrue(engine.deleteEntry("Heap Sort", TOPIC));
+        engine.close();
+
+        SlottedStorageEngine reopenedEngine = openEngine();
+        Topic sorting = reopenedEngine.loadTopic(TOPIC);
+        assertTrue(sorting.isInsideTopic("Quick Sort"));
+        assertFalse(sorting.isInsideTopic("Heap Sort"));
+        assertEquals(3, sorting.getC2040CFiles().get("Quick Sort").getImportance());
+        assertTrue(reopenedEngine.loadTopic("LINKED_LIST").getC2040CFiles().get("Linked List") instanceof Code);
+        assertEquals(Map.of("quick sort", TOPIC, "linked list", "LINKED_LIST"), reopenedEngine.getNameIndex());
+        reopenedEngine.close();
+    }
+
+    @Test
+    void deleteEntry_thenAddEntry_expectFreedSlotReused() {
+        SlottedStorageEngine engine = openEngine();
+        engine.addEntry("Quick Sort", new Note("Quick Sort", "Quick Sort.txt", TOPIC, 3));
+        engine.addEntry("Heap Sort", new Note("Heap Sort", "Heap Sort.txt", TOPIC, 1));
+        long length = SLOT_FILE.length();
+        engine.deleteEntry("Quick Sort", TOPIC);
+        engine.addEntry("Merge Sort", new Note("Merge Sort", "Merge Sort.txt", TOPIC, 2));
+        assertEquals(length, SLOT_FILE.length());
+        engine.addEntry("Bubble Sort", new Note("Bubble Sort", "Bubble Sort.txt", TOPIC, 2));
+        assertEquals(length + SlottedStorageEngine.SLOT_SIZE, SLOT_FILE.length());
+        engine.close();
+
+        SlottedStorageEngine reopenedEngine = openEngine();
+        assertEquals(3, reopenedEngine.loadTopic(TOPIC).getC2040CFiles().size());
+        assertFalse(reopenedEngine.loadTopic(TOPIC).isInsideTopic("Quick Sort"));
+        reopenedEngine.close();
+    }
+
+    @Test
+    void updateEntry_topicAndImportanceChanged_expectPatchedInPlace() {
+        SlottedStorageEngine engine = openEngine();
+        Note note = new Note("Quick Sort", "Quick Sort.txt", TOPIC, 3);
+        engine.addEntry("Quick Sort", note);
+        long length = SLOT_FILE.length();
+
+        CS2040CFile moved = note.copy();
+        moved.setTopic("LINKED_LIST");
+        moved.setImportance(9);
+        assertTrue(engine.updateEntry("Quick Sort", TOPIC, moved));
+        assertEquals(length, SLOT_FILE.length());
+        assertFalse(engine.loadTopic(TOPIC).isInsideTopic("Quick Sort"));
+        assertEquals("LINKED_LIST", engine.getNameIndex().get("quick sort"));
+        engine.close();
+
+        SlottedStorageEngine reopenedEngine = openEngine();
+        CS2040CFile reloaded = reopenedEngine.loadTopic("LINKED_LIST").getC2040CFiles().get("Quick Sort");
+        assertEquals(9, reloaded.getImportance());
+        assertTrue(reopenedEngine.loadTopic(TOPIC).isEmpty());
+        reopenedEngine.close();
+    }
+
+    @Test
+    void addEntry_nameTooLong_expectFalse() {
+        SlottedStorageEngine engine = openEngine();
+        String name = "a".repeat(SlottedStorageEngine.MAX_NAME_BYTES + 1);
+        assertFalse(engine.addEntry(name, new Note(name, name + ".txt", TOPIC, 3)));
+        assertTrue(engine.getNameIndex().isEmpty());
+        engine.close();
+    }
+
+    @Test
+    void initialize_corruptedSlot_expectSlotQuarantinedAndFreed() throws IOException {
+        SlottedStorageEngine engine = openEngine();
+        engine.addEntry("Quick Sort", new Note("Quick Sort", "Quick Sort.txt", TOPIC, 3));
+        engine.addEntry("Heap Sort", new Note("Heap Sort", "Heap Sort.txt", TOPIC, 1));
+        engine.close();
+        try (RandomAccessFile slotFile = new RandomAccessFile(SLOT_FILE, "rw")) {
+            // Flips a byte in the name of the second slot
+            long position = SLOT_FILE.length() - SlottedStorageEngine.SLOT_SIZE + 30;
+            slotFile.seek(position);
+            int value = slotFile.read();
+            slotFile.seek(position);
+            slotFile.write(value ^ 0xFF);
+            // Appends half a slot, as an interrupted addition would
+            slotFile.seek(slotFile.length());
+            slotFile.write(new byte[SlottedStorageEngine.SLOT_SIZE / 2]);
+        }
+        long length = SLOT_FILE.length() - SlottedStorageEngine.SLOT_SIZE / 2;
+
+        SlottedStorageEngine reopenedEngine = openEngine();
+        assertEquals(length, SLOT_FILE.length());
+        assertTrue(reopenedEngine.loadTopic(TOPIC).isInsideTopic("Quick Sort"));
+        assertFalse(reopenedEngine.loadTopic(TOPIC).isInsideTopic("Heap Sort"));
+        assertEquals(SlottedStorageEngine.SLOT_SIZE,
+                new File(SLOT_FILE.getPath() + SingleFile.QUARANTINE_EXTENSION).length());
+        reopenedEngine.addEntry("Heap Sort", new Note("Heap Sort", "Heap Sort.txt", TOPIC, 1));
+        assertEquals(length, SLOT_FILE.length());
+        reopenedEngine.close();
+    }
+
+    @Test
+    void scrub_damagedSlotAndFreeTail_expectRepairedAndTruncated() throws IOException {
+        SlottedStorageEngine engine = openEngine();
+        engine.addEntry("Quick Sort", new Note("Quick Sort", "Quick Sort.txt", TOPIC, 3));
+        engine.addEntry("Heap Sort", new Note("Heap Sort", "Heap Sort.txt", TOPIC, 1));
+        engine.addEntry("Merge Sort", new Note("Merge Sort", "Merge Sort.txt", TOPIC, 2));
+        engine.deleteEntry("Merge Sort", TOPIC);
+        long length = SLOT_FILE.length();
+        try (RandomAccessFile slotFile = new RandomAccessFile(SLOT_FILE, "rw")) {
+            // Changes the importance of the first slot behind the back of the engine
+            slotFile.seek(8 + 2);
+            slotFile.write(7);
+        }
+
+        MaintenanceReport report = new MaintenanceReport();
+        engine.scrub(TOPIC, report);
+        assertEquals(1, report.getRepairedRecordCount());
+        assertEquals(SlottedStorageEngine.SLOT_SIZE, report.getReclaimedBytes());
+        assertEquals(length - SlottedStorageEngine.SLOT_SIZE, SLOT_FILE.length());
+        assertEquals(Arrays.asList("Heap Sort", "Quick Sort"), sortedMissingFiles(report));
+        engine.close();
+
+        SlottedStorageEngine reopenedEngine = openEngine();
+        assertEquals(3, reopenedEngine.loadTopic(TOPIC).getC2040CFiles().get("Quick Sort").getImportance());
+        reopenedEngine.close();
+    }
+
+    private static ArrayList<String> sortedMissingFiles(MaintenanceReport report) {
+        ArrayList<String> missingFiles = new ArrayList<>(report.getMissingFiles());
+        missingFiles.sort(null);
+        return missingFiles;
+    }
+}
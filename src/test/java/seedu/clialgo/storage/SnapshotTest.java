@@ -0,0 +1,106 @@
+package seedu.clialgo.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.clialgo.file.Code;
+import seedu.clialgo.file.Note;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SnapshotTest {
+    private static final File FOLDER = new File("./snapshottest");
+    private static final File SNAPSHOT_FILE = new File(FOLDER, Snapshot.FILE_NAME);
+    private static final File DATA_FILE = new File(FOLDER, "SORTING.txt");
+    private static final String TOPIC = "SORTING";
+    private static final String SEPARATOR = "@&";
+
+    private HashMap<String, String> nameIndex;
+
+    private void deleteAll() {
+        File[] files = FOLDER.listFiles();
+        if (files != null) {
+            for (File f : files) {
+                f.delete();
+            }
+        }
+        FOLDER.delete();
+    }
+
+    /**
+     * Runs before each test, saving a data file with a <code>Note</code> and a <code>Code</code> to the snapshot.
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        deleteAll();
+        FOLDER.mkdir();
+        SingleFile singleFile = new SingleFile(DATA_FILE, TOPIC, new TextCodec(SEPARATOR));
+        singleFile.load();
+        singleFile.writeCS2040CFileToFile("quick sort", new Note("quick sort", "quick sort.txt", TOPIC, 3));
+        singleFile.writeCS2040CFileToFile("merge sort", new Code("merge sort", "merge sort.cpp", TOPIC, 8));
+        singleFile.close();
+        nameIndex = new HashMap<>(Map.of("quick sort", TOPIC, "merge sort", TOPIC));
+        new Snapshot(SNAPSHOT_FILE).save(Map.of(TOPIC, singleFile), nameIndex, ".txt");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        deleteAll();
+    }
+
+    @Test
+    void load_savedSnapshot_expectSameTopic() {
+        SingleFile singleFile = new SingleFile(DATA_FILE, TOPIC, new TextCodec(SEPARATOR));
+        ConcurrentHashMap<String, String> loadedNameIndex = new ConcurrentHashMap<>();
+        assertTrue(new Snapshot(SNAPSHOT_FILE).load(Map.of(TOPIC, singleFile), loadedNameIndex, ".txt"));
+        assertTrue(singleFile.isLoaded());
+        assertEquals(nameIndex, loadedNameIndex);
+
+        SingleFile readFile = new SingleFile(DATA_FILE, TOPIC, new TextCodec(SEPARATOR));
+        readFile.load();
+        assertEquals(readFile.convertFileToTopic().getC2040CFiles(),
+                singleFile.convertFileToTopic().getC2040CFiles());
+        assertEquals(2, singleFile.getEncodedRecords().size());
+        assertTrue(singleFile.convertFileToTopic().getC2040CFiles().get("merge sort") instanceof Code);
+    }
+
+    @Test
+    void load_dataFileChanged_expectFalse() throws IOException {
+        try (RandomAccessFile dataFile = new RandomAccessFile(DATA_FILE, "rw")) {
+            dataFile.seek(dataFile.length());
+            dataFile.write('\n');
+        }
+        SingleFile singleFile = new SingleFile(DATA_FILE, TOPIC, new TextCodec(SEPARATOR));
+        assertFalse(new Snapshot(SNAPSHOT_FILE).load(Map.of(TOPIC, singleFile), new ConcurrentHashMap<>(), ".txt"));
+        assertFalse(singleFile.isLoaded());
+    }
+
+    @Test
+    void load_corruptedSnapshot_expectFalse() throws IOException {
+        try (RandomAccessFile snapshotFile = new RandomAccessFile(SNAPSHOT_FILE, "rw")) {
+            snapshotFile.seek(snapshotFile.length() - 1);
+            int lastByte = snapshotFile.read();
+            snapshotFile.seek(snapshotFile.length() - 1);
+            snapshotFile.write(lastByte ^ 1);
+        }
+        SingleFile singleFile = new SingleFile(DATA_FILE, TOPIC, new TextCodec(SEPARATOR));
+        ConcurrentHashMap<String, String> loadedNameIndex = new ConcurrentHashMap<>();
+        assertFalse(new Snapshot(SNAPSHOT_FILE).load(Map.of(TOPIC, singleFile), loadedNameIndex, ".txt"));
+        assertTrue(loadedNameIndex.isEmpty());
+    }
+
+    @Test
+    void load_otherFileExtension_expectFalse() {
+        SingleFile singleFile = new SingleFile(DATA_FILE, TOPIC, new TextCodec(SEPARATOR));
+        assertFalse(new Snapshot(SNAPSHOT_FILE).load(Map.of(TOPIC, singleFile), new ConcurrentHashMap<>(), ".bin"));
+    }
+}
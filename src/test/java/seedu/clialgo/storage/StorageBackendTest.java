@@ -0,0 +1,38 @@
+package seedu.clialgo.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StorageBackendTest {
+    private static final ArrayList<String> TOPIC_NAMES = new ArrayList<>(Arrays.asList("SORTING"));
+
+    @Test
+    void parse_validValues_expectBackend() {
+        assertEquals(StorageBackend.MEMORY, StorageBackend.parse("memory"));
+        assertEquals(StorageBackend.TEXT, StorageBackend.parse("text"));
+        assertEquals(StorageBackend.BINARY, StorageBackend.parse("binary"));
+        assertEquals(StorageBackend.LSM, StorageBackend.parse("lsm"));
+        assertEquals(StorageBackend.SLOTTED, StorageBackend.parse("slotted"));
+    }
+
+    @Test
+    void parse_invalidValue_expectNull() {
+        assertNull(StorageBackend.parse("BINARY"));
+        assertNull(StorageBackend.parse(""));
+    }
+
+    @Test
+    void createEngine_eachBackend_expectMatchingEngine() {
+        assertTrue(StorageBackend.MEMORY.createEngine("./data", TOPIC_NAMES) instanceof MemoryStorageEngine);
+        assertTrue(StorageBackend.TEXT.createEngine("./data", TOPIC_NAMES) instanceof LogStorageEngine);
+        assertTrue(StorageBackend.BINARY.createEngine("./data", TOPIC_NAMES) instanceof LogStorageEngine);
+        assertTrue(StorageBackend.LSM.createEngine("./data", TOPIC_NAMES) instanceof LsmStorageEngine);
+        assertTrue(StorageBackend.SLOTTED.createEngine("./data", TOPIC_NAMES) instanceof SlottedStorageEngine);
+    }
+}
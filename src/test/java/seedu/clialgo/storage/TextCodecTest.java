@@ -0,0 +1,80 @@
+package seedu.clialgo.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.clialgo.file.Code;
+import seedu.clialgo.file.Note;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TextCodecTest {
+    private static final String TOPIC = "SORTING";
+
+    private final TextCodec codec = new TextCodec(FileManager.SEPARATOR);
+
+    @Test
+    void readRecord_blankLinesAndCarriageReturns_expectRecordsAndTombstone() {
+        Note note = new Note("bubble sort", "bubble sort.txt", TOPIC, 4);
+        Code code = new Code("heap sort", "heap sort.cpp", TOPIC, 6);
+        FileEncoder encoder = new FileEncoder(FileManager.SEPARATOR);
+        String data = encoder.encodeCS2040CFile(note.getName(), note) + "\r\n\r\n   \n"
+                + encoder.encodeTombstone(note.getName()) + "\n"
+                + encoder.encodeCS2040CFile(code.getName(), code);
+        ByteBuffer buffer = ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(RecordCodec.RecordStatus.RECORD, codec.readRecord(buffer, TOPIC));
+        assertEquals(note, codec.processedCS2040CFile());
+        assertEquals(RecordCodec.RecordStatus.TOMBSTONE, codec.readRecord(buffer, TOPIC));
+        assertEquals(note.getName(), codec.decodedName());
+        assertEquals(RecordCodec.RecordStatus.RECORD, codec.readRecord(buffer, TOPIC));
+        assertEquals(code, codec.processedCS2040CFile());
+        assertEquals(RecordCodec.RecordStatus.END, codec.readRecord(buffer, TOPIC));
+    }
+
+    @Test
+    void readRecord_longNonAsciiName_expectSameName() {
+        String name = "\u6392\u5e8f".repeat(200);
+        Note note = new Note(name, name + ".txt", TOPIC, 1);
+        ByteBuffer buffer = ByteBuffer.wrap(codec.encodeRecord(name, note));
+
+        assertEquals(RecordCodec.RecordStatus.RECORD, codec.readRecord(buffer, TOPIC));
+        assertEquals(name, codec.decodedName());
+    }
+
+    @Test
+    void readRecord_missingField_expectCorrupted() {
+        ByteBuffer buffer = ByteBuffer.wrap("name&@name.txt&@SORTING\n".getBytes(StandardCharsets.UTF_8));
+        assertEquals(RecordCodec.RecordStatus.CORRUPTED, codec.readRecord(buffer, TOPIC));
+    }
+
+    @Test
+    void readRecord_checksumMismatch_expectCorruptedThenNextRecord() {
+        Note note = new Note("bubble sort", "bubble sort.txt", TOPIC, 4);
+        String damagedLine = new String(codec.encodeRecord(note.getName(), note), StandardCharsets.UTF_8)
+                .replace("&@4&@", "&@5&@");
+        String data = damagedLine + new String(codec.encodeTombstone("heap sort"), StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(RecordCodec.RecordStatus.CORRUPTED, codec.readRecord(buffer, TOPIC));
+        assertEquals(RecordCodec.RecordStatus.TOMBSTONE, codec.readRecord(buffer, TOPIC));
+        assertEquals("heap sort", codec.decodedName());
+    }
+
+    @Test
+    void encodedRecord_lineWithoutChecksum_expectChecksumAddedAndUpgradeNeeded() {
+        Note note = new Note("bubble sort", "bubble sort.txt", TOPIC, 4);
+        String legacyLine = new FileEncoder(FileManager.SEPARATOR).encodeCS2040CFile(note.getName(), note);
+        ByteBuffer buffer = ByteBuffer.wrap(legacyLine.getBytes(StandardCharsets.UTF_8));
+
+        assertTrue(codec.isValidHeader(buffer));
+        assertFalse(codec.isUpgradeNeeded());
+        assertEquals(RecordCodec.RecordStatus.RECORD, codec.readRecord(buffer, TOPIC));
+        assertTrue(codec.isUpgradeNeeded());
+        assertArrayEquals(codec.encodeRecord(note.getName(), note), codec.encodedRecord());
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.clialgo.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.clialgo.file.Code;
+import seedu.clialgo.file.Note;
+import seedu.clialgo.logic.TopicManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WorkingDirectoryWatcherTest {
+    private static final File FOLDER = new File("./watchertest");
+    private static final long WAIT_MILLIS = 10000;
+
+    private void deleteAll() {
+        File[] files = FOLDER.listFiles();
+        if (files != null) {
+            for (File f : files) {
+                f.delete();
+            }
+        }
+        FOLDER.delete();
+    }
+
+    private static WatchEvent<Path> createEvent(WatchEvent.Kind<Path> kind, String fileName) {
+        return new WatchEvent<>() {
+            @Override
+            public Kind<Path> kind() {
+                return kind;
+            }
+
+            @Override
+            public int count() {
+                return 1;
+            }
+
+            @Override
+            public Path context() {
+                return Paths.get(fileName);
+            }
+        };
+    }
+
+    @BeforeEach
+    public void setUp() {
+        deleteAll();
+        FOLDER.mkdirs();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        deleteAll();
+    }
+
+    @Test
+    void applyChanges_deletedAndCreatedFiles_expectDanglingMarkedAndNewFileOffered() {
+        TopicManager topicManager = new TopicManager();
+        Note queue = new Note("queue", "queue.txt", "LINKED_LIST");
+        Code stack = new Code("stack", "stack.cpp", "LINKED_LIST");
+        topicManager.addCS2040CFile(queue.getName(), queue.getTopic(), queue);
+        topicManager.addCS2040CFile(stack.getName(), stack.getTopic(), stack);
+        stack.setDangling(true);
+
+        WorkingDirectoryWatcher watcher = new WorkingDirectoryWatcher(FOLDER.toPath());
+        watcher.recordEvent(createEvent(StandardWatchEventKinds.ENTRY_DELETE, "queue.txt"));
+        watcher.recordEvent(createEvent(StandardWatchEventKinds.ENTRY_CREATE, "stack.cpp"));
+        watcher.recordEvent(createEvent(StandardWatchEventKinds.ENTRY_CREATE, "heap.txt"));
+        watcher.recordEvent(createEvent(StandardWatchEventKinds.ENTRY_CREATE, "readme.md"));
+        watcher.applyChanges(topicManager);
+
+        assertTrue(queue.isDangling());
+        assertFalse(stack.isDangling());
+        assertEquals(List.of("heap.txt"), watcher.takeNewFiles(topicManager));
+        assertTrue(watcher.takeNewFiles(topicManager).isEmpty());
+    }
+
+    @Test
+    void takeNewFiles_fileAddedOrDeletedBeforeOffer_expectNotOffered() {
+        TopicManager topicManager = new TopicManager();
+        WorkingDirectoryWatcher watcher = new WorkingDirectoryWatcher(FOLDER.toPath());
+        watcher.recordEvent(createEvent(StandardWatchEventKinds.ENTRY_CREATE, "heap.txt"));
+        watcher.recordEvent(createEvent(StandardWatchEventKinds.ENTRY_CREATE, "trie.cpp"));
+        watcher.applyChanges(topicManager);
+
+        Note heap = new Note("heap", "heap.txt", "BINARY_HEAP");
+        topicManager.addCS2040CFile(heap.getName(), heap.getTopic(), heap);
+        watcher.recordEvent(createEvent(StandardWatchEventKinds.ENTRY_DELETE, "trie.cpp"));
+        assertTrue(watcher.takeNewFiles(topicManager).isEmpty());
+    }
+
+    @Test
+    void start_filesCreatedAndDeleted_expectTableUpdated() throws IOException, InterruptedException {
+        new File(FOLDER, "queue.txt").createNewFile();
+        WorkingDirectoryWatcher watcher = new WorkingDirectoryWatcher(FOLDER.toPath());
+        watcher.start();
+        try {
+            assertTrue(watcher.isPresent("queue.txt"));
+            new File(FOLDER, "stack.cpp").createNewFile();
+            new File(FOLDER, "queue.txt").delete();
+
+            long endMillis = System.currentTimeMillis() + WAIT_MILLIS;
+            while ((watcher.isPresent("queue.txt") || !watcher.isPresent("stack.cpp"))
+                    && System.currentTimeMillis() < endMillis) {
+                Thread.sleep(10);
+            }
+            assertFalse(watcher.isPresent("queue.txt"));
+            assertTrue(watcher.isPresent("stack.cpp"));
+        } finally {
+            watcher.stop();
+        }
+        TopicManager topicManager = new TopicManager();
+        watcher.applyChanges(topicManager);
+        assertEquals(List.of("stack.cpp"), watcher.takeNewFiles(topicManager));
+    }
+}
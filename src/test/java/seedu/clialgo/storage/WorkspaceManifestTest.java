@@ -0,0 +1,150 @@
+package seedu.clialgo.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WorkspaceManifestTest {
+    private static final File FOLDER = new File("./manifesttest");
+    private static final File MANIFEST_FILE = new File(FOLDER, WorkspaceManifest.FILE_NAME);
+    private static final String NOTE_PATH = FOLDER.getPath() + "/queue.txt";
+    private static final String CODE_PATH = FOLDER.getPath() + "/stack.cpp";
+
+    private void deleteAll() {
+        File[] files = FOLDER.listFiles();
+        if (files != null) {
+            for (File f : files) {
+                f.delete();
+            }
+        }
+        FOLDER.delete();
+    }
+
+    /**
+     * Writes <code>contents</code> to the file at <code>path</code>, with a last modified time far enough in the
+     * past for its entry not to be racy.
+     */
+    private static void writeFile(String path, String contents, long secondsAgo) throws IOException {
+        File file = new File(path);
+        Files.write(file.toPath(), contents.getBytes(StandardCharsets.UTF_8));
+        assertTrue(file.setLastModified((System.currentTimeMillis() / 1000 - secondsAgo) * 1000));
+    }
+
+    @BeforeEach
+    public void setUp() {
+        deleteAll();
+        FOLDER.mkdirs();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        deleteAll();
+    }
+
+    @Test
+    void refresh_fileChanges_expectOnlyChangedFilesRead() throws IOException {
+        writeFile(NOTE_PATH, "queue", 60);
+        WorkspaceManifest manifest = new WorkspaceManifest(MANIFEST_FILE);
+        assertEquals(WorkspaceManifest.Status.ADDED, manifest.refresh(NOTE_PATH));
+        long hashedBytes = manifest.getHashedBytes();
+
+        assertEquals(WorkspaceManifest.Status.UNCHANGED, manifest.refresh("./" + NOTE_PATH));
+        assertEquals(hashedBytes, manifest.getHashedBytes());
+
+        writeFile(NOTE_PATH, "queue", 30);
+        assertEquals(WorkspaceManifest.Status.TOUCHED, manifest.refresh(NOTE_PATH));
+        writeFile(NOTE_PATH, "deque", 20);
+        assertEquals(WorkspaceManifest.Status.CHANGED, manifest.refresh(NOTE_PATH));
+        assertEquals(WorkspaceManifest.Status.MISSING, manifest.refresh(CODE_PATH));
+    }
+
+    @Test
+    void refresh_racyEntry_expectReadAgain() throws IOException {
+        WorkspaceManifest manifest = new WorkspaceManifest(MANIFEST_FILE);
+        writeFile(NOTE_PATH, "queue", 0);
+        assertEquals(WorkspaceManifest.Status.ADDED, manifest.refresh(NOTE_PATH));
+        // Changes the contents without changing the size or the last modified time
+        long lastModified = new File(NOTE_PATH).lastModified();
+        Files.write(new File(NOTE_PATH).toPath(), "deque".getBytes(StandardCharsets.UTF_8));
+        new File(NOTE_PATH).setLastModified(lastModified);
+        assertEquals(WorkspaceManifest.Status.CHANGED, manifest.refresh(NOTE_PATH));
+    }
+
+    @Test
+    void save_thenLoad_expectSameEntries() throws IOException {
+        writeFile(NOTE_PATH, "queue", 60);
+        writeFile(CODE_PATH, "stack", 60);
+        WorkspaceManifest manifest = new WorkspaceManifest(MANIFEST_FILE);
+        manifest.refresh(NOTE_PATH);
+        manifest.refresh(CODE_PATH);
+        assertEquals(1, manifest.retainAll(List.of(NOTE_PATH)));
+        manifest.save();
+
+        WorkspaceManifest loadedManifest = new WorkspaceManifest(MANIFEST_FILE);
+        assertTrue(loadedManifest.load());
+        assertEquals(1, loadedManifest.getEntryCount());
+        assertEquals(0, loadedManifest.refreshAll());
+        assertEquals(WorkspaceManifest.Status.UNCHANGED, loadedManifest.refresh(NOTE_PATH));
+        assertEquals(0, loadedManifest.getHashedBytes());
+    }
+
+    @Test
+    void refreshAll_changedSinceSaved_expectChangeReportedOnce() throws IOException {
+        writeFile(NOTE_PATH, "queue", 60);
+        WorkspaceManifest manifest = new WorkspaceManifest(MANIFEST_FILE);
+        manifest.refresh(NOTE_PATH);
+        manifest.save();
+        writeFile(NOTE_PATH, "deque", 30);
+
+        WorkspaceManifest loadedManifest = new WorkspaceManifest(MANIFEST_FILE);
+        loadedManifest.load();
+        assertEquals(1, loadedManifest.refreshAll());
+        assertEquals(WorkspaceManifest.Status.CHANGED, loadedManifest.refresh(NOTE_PATH));
+        assertEquals(WorkspaceManifest.Status.UNCHANGED, loadedManifest.refresh(NOTE_PATH));
+    }
+
+    @Test
+    void load_corruptedManifest_expectIgnored() throws IOException {
+        writeFile(NOTE_PATH, "queue", 60);
+        WorkspaceManifest manifest = new WorkspaceManifest(MANIFEST_FILE);
+        manifest.refresh(NOTE_PATH);
+        manifest.save();
+        try (RandomAccessFile manifestFile = new RandomAccessFile(MANIFEST_FILE, "rw")) {
+            manifestFile.seek(manifestFile.length() - 1);
+            int value = manifestFile.read();
+            manifestFile.seek(manifestFile.length() - 1);
+            manifestFile.write(value ^ 0xFF);
+        }
+
+        WorkspaceManifest loadedManifest = new WorkspaceManifest(MANIFEST_FILE);
+        assertFalse(loadedManifest.load());
+        assertEquals(0, loadedManifest.getEntryCount());
+    }
+
+    @Test
+    void isCopyUpToDate_copyWithAttributes_expectTrueUntilFileChanges() throws IOException {
+        writeFile(NOTE_PATH, "queue", 60);
+        File copy = new File(FOLDER, "copy.txt");
+        WorkspaceManifest manifest = new WorkspaceManifest(MANIFEST_FILE);
+        assertFalse(manifest.isCopyUpToDate(NOTE_PATH, copy));
+
+        manifest.refresh(NOTE_PATH);
+        Files.copy(new File(NOTE_PATH).toPath(), copy.toPath(), StandardCopyOption.COPY_ATTRIBUTES);
+        assertTrue(manifest.isCopyUpToDate(NOTE_PATH, copy));
+
+        writeFile(NOTE_PATH, "deque", 30);
+        assertFalse(manifest.isCopyUpToDate(NOTE_PATH, copy));
+    }
+}